@@ -59,6 +59,162 @@ public interface ObjectPopulator {
    */
   public <T> List<T> populateSingle(Class<T> clazz, int instancesCount) throws ObjectPopulatorException;
 
+  /**
+   * Generates list of instances of the given <code>clazz</code> and populates all properties of
+   * <code>clazz</code> instances. The instances are generated in parallel by multiple threads, each
+   * of them with its own populating context. The order of returned instances is deterministic, but
+   * the instances found in global session by lazy populating strategies depend on the order in
+   * which the threads populate them.
+   *
+   * @param clazz the class type for which will be generated and populated.
+   * @param instancesCount the number of generated and populated instances.
+   * @return List of generated and populated instances of given class.
+   * @throws ObjectPopulatorException If some error occurs during generating or populating of
+   *           object.
+   */
+  public <T> List<T> populateInParallel(Class<T> clazz, int instancesCount) throws ObjectPopulatorException;
+
+  /**
+   * Generates list of instances of the given <code>clazz</code> which will have populated only
+   * properties which are not dependencies. The references to other (dependent) properties will be
+   * ignored (they will have default value or will be <code>null</code>). The instances are
+   * generated in parallel by multiple threads, each of them with its own populating context. The
+   * order of returned instances is deterministic.
+   *
+   * @param clazz the class type for which will be generated and populated.
+   * @param instancesCount the number of generated and populated instances.
+   * @return List of generated and populated instances of given class.
+   * @throws ObjectPopulatorException If some error occurs during generating or populating of
+   *           object.
+   */
+  public <T> List<T> populateSingleInParallel(Class<T> clazz, int instancesCount) throws ObjectPopulatorException;
+
+  /**
+   * Returns iterable of lazily generated instances of the given <code>clazz</code> with populated
+   * all properties. The instances are generated on demand during iteration, so only the instances
+   * which are referenced by caller are kept in memory. Each iterator returned by the iterable
+   * generates new instances.
+   * <p>
+   * The generated instances are not stored into global session of populated objects. The instances
+   * which were already stored in global session may be still used by lazy populating strategies.
+   * <p>
+   * If some error occurs during generating or populating of object, the iterator throws
+   * {@link ObjectPopulatorRuntimeException}.
+   *
+   * @param clazz the class type for which will be generated and populated.
+   * @param instancesCount the number of generated and populated instances (for practically
+   *          unlimited number of instances may be used {@link Long#MAX_VALUE}).
+   * @return Iterable of lazily generated and populated instances of given class.
+   * @throws ObjectPopulatorException If given class type is <code>null</code> or if given number
+   *           of instances is not greater than 0.
+   */
+  public <T> Iterable<T> populateIterable(Class<T> clazz, long instancesCount) throws ObjectPopulatorException;
+
+  /**
+   * Returns iterable of lazily generated instances of the given <code>clazz</code> which will have
+   * populated only properties which are not dependencies. The references to other (dependent)
+   * properties will be ignored (they will have default value or will be <code>null</code>). The
+   * instances are generated on demand during iteration and they are not stored into global session
+   * of populated objects. Each iterator returned by the iterable generates new instances.
+   * <p>
+   * If some error occurs during generating or populating of object, the iterator throws
+   * {@link ObjectPopulatorRuntimeException}.
+   *
+   * @param clazz the class type for which will be generated and populated.
+   * @param instancesCount the number of generated and populated instances (for practically
+   *          unlimited number of instances may be used {@link Long#MAX_VALUE}).
+   * @return Iterable of lazily generated and populated instances of given class.
+   * @throws ObjectPopulatorException If given class type is <code>null</code> or if given number
+   *           of instances is not greater than 0.
+   */
+  public <T> Iterable<T> populateSingleIterable(Class<T> clazz, long instancesCount) throws ObjectPopulatorException;
+
+  /**
+   * Generates the given number of instances of the given <code>clazz</code>, populates all
+   * properties of <code>clazz</code> instances and passes them in batches to the given sink. The
+   * batches are passed to the sink sequentially in the order of generation from the current thread.
+   * The batches may be generated in parallel, but only limited number of batches is generated
+   * ahead, so the population is slowed down by slow sink and the memory consumption is bounded by
+   * batch size.
+   * <p>
+   * The generated instances are stored into global session of populated objects.
+   *
+   * @param clazz the class type for which will be generated and populated.
+   * @param instancesCount the number of generated and populated instances.
+   * @param sink the sink which consumes batches of generated and populated instances.
+   * @throws ObjectPopulatorException If some error occurs during generating or populating of
+   *           object or if the sink failed to consume some batch.
+   */
+  public <T> void populate(Class<T> clazz, long instancesCount, PopulationSink<? super T> sink) throws ObjectPopulatorException;
+
+  /**
+   * Generates the given number of instances of the given <code>clazz</code> which will have
+   * populated only properties which are not dependencies and passes them in batches to the given
+   * sink. The references to other (dependent) properties will be ignored (they will have default
+   * value or will be <code>null</code>). The batches are passed to the sink sequentially in the
+   * order of generation from the current thread.
+   *
+   * @param clazz the class type for which will be generated and populated.
+   * @param instancesCount the number of generated and populated instances.
+   * @param sink the sink which consumes batches of generated and populated instances.
+   * @throws ObjectPopulatorException If some error occurs during generating or populating of
+   *           object or if the sink failed to consume some batch.
+   */
+  public <T> void populateSingle(Class<T> clazz, long instancesCount, PopulationSink<? super T> sink) throws ObjectPopulatorException;
+
+  /**
+   * Generates list of instances of the given <code>clazz</code> with the given indexes in run and
+   * populates all properties of <code>clazz</code> instances. If the seed of run is set, the
+   * instances are the same as the instances with the same indexes which were generated by any other
+   * method of this populator, so this method may be used for regeneration of part of the run.
+   * <p>
+   * The generated instances are stored into global session of populated objects and the index of
+   * next instance of run is not changed by this method.
+   * @param clazz the class type for which will be generated and populated.
+   * @param fromIndex the index of the first generated instance in run.
+   * @param instancesCount the number of generated and populated instances.
+   * @return List of generated and populated instances of given class.
+   * @throws ObjectPopulatorException If some error occurs during generating or populating of
+   *           object or if given index is negative.
+   */
+  public <T> List<T> populateRange(Class<T> clazz, long fromIndex, int instancesCount) throws ObjectPopulatorException;
+
+  /**
+   * Generates list of instances of the given <code>clazz</code> with the given indexes in run which
+   * will have populated only properties which are not dependencies. The references to other
+   * (dependent) properties will be ignored (they will have default value or will be
+   * <code>null</code>). If the seed of run is set, the instances are the same as the instances with
+   * the same indexes which were generated by any other method of this populator.
+   * @param clazz the class type for which will be generated and populated.
+   * @param fromIndex the index of the first generated instance in run.
+   * @param instancesCount the number of generated and populated instances.
+   * @return List of generated and populated instances of given class.
+   * @throws ObjectPopulatorException If some error occurs during generating or populating of
+   *           object or if given index is negative.
+   */
+  public <T> List<T> populateSingleRange(Class<T> clazz, long fromIndex, int instancesCount) throws ObjectPopulatorException;
+
+  /**
+   * Sets the seed of run and starts new run (the index of next generated instance is reset to 0).
+   * Each generated root instance obtains the index in run (in order of calls of populating methods)
+   * and its random generators are derived from the seed of run and from its index. So the instance
+   * with some index is the same independently on number of threads which generated the run and
+   * independently on JVM.
+   * <p>
+   * The instances which reference other instances found in global session of populated objects
+   * (for example by lazy populating strategies) depend on content of global session, so they are
+   * reproducible only if the global session has the same content. The random generators which were
+   * set explicitly into session of random generators are not affected by the seed.
+   * @param seed the seed of run or <code>null</code> for unseeded (non-reproducible) population.
+   */
+  public void setSeed(Long seed);
+
+  /**
+   * Returns the seed of run.
+   * @return The seed of run or <code>null</code> if the population is not seeded.
+   */
+  public Long getSeed();
+
   /**
    * Clears global session of all generated and populated objects.
    */
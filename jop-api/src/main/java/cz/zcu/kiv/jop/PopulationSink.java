@@ -0,0 +1,34 @@
+package cz.zcu.kiv.jop;
+
+import java.util.List;
+
+/**
+ * Common interface for consumers (sinks) of populated objects which receive the generated and
+ * populated objects in batches from {@link ObjectPopulator}. The batches are given to the sink
+ * sequentially in the order of generation from the thread which started the population. The next
+ * batches are not generated ahead without limit, so the slow sink slows down the population
+ * (back-pressure).
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @param <T> Class type of consumed objects.
+ */
+public interface PopulationSink<T> {
+
+  /**
+   * Returns the (maximal) number of objects in one batch. The last batch may contain less objects.
+   *
+   * @return The number of objects in one batch; has to be greater than 0.
+   */
+  public int getBatchSize();
+
+  /**
+   * Accepts (consumes) the given batch of generated and populated objects.
+   *
+   * @param batch the batch of generated and populated objects.
+   * @throws Exception If the sink cannot consume the batch. The population is stopped in that case.
+   */
+  public void accept(List<? extends T> batch) throws Exception;
+
+}
@@ -20,6 +20,13 @@ public enum AccessType {
    */
   PROPERTY,
 
+  /**
+   * <b>Fast field-based access</b> - direct access to field by its offset in memory of object
+   * without reflection checks. If the fast access is not possible in current JVM, the access
+   * behaves as {@link #FIELD}.
+   */
+  FAST_FIELD,
+
   /* Next field, */;
 
 }
@@ -101,6 +101,20 @@ public interface PopulatingContext {
    */
   public List<Object> getPopulatedInstances(boolean includeGlobalInstances);
 
+  /**
+   * Returns read-only list of populated (generated) instances which are assignable to given class
+   * type. The instances are in the same order as in the list returned by
+   * {@link #getPopulatedInstances(boolean)}. This method should be preferred for searching of
+   * instances of some type, because the implementations may obtain the instances from index instead
+   * of going through all populated instances.
+   *
+   * @param type the class type of requested instances.
+   * @param includeGlobalInstances information whether will be included instances from previous
+   *          calls of ObjectPopulator.
+   * @return Read-only list of populated instances which are assignable to given class type.
+   */
+  public List<Object> getPopulatedInstances(Class<?> type, boolean includeGlobalInstances);
+
   /**
    * Creates the construction context for given bean. The construction context should be created as
    * sub-context of this context (it should have shared graph, queue, session etc.) with given bean
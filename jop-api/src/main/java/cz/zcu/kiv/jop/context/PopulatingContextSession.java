@@ -30,6 +30,16 @@ public interface PopulatingContextSession extends PopulatingSession {
    */
   public List<Object> getPopulatedInstances();
 
+  /**
+   * Returns read-only list of instances populated only in scope of populating context which are
+   * assignable to given class type.
+   *
+   * @param type the class type of requested instances.
+   * @return Read-only list of populated instances within populating context which are assignable
+   *         to given class type.
+   */
+  public List<Object> getPopulatedInstances(Class<?> type);
+
   /**
    * {@inheritDoc}
    * <p>
@@ -2,6 +2,8 @@ package cz.zcu.kiv.jop.factory.binding;
 
 import java.lang.reflect.Constructor;
 
+import javax.inject.Provider;
+
 /**
  * This interface serves as builder for bindings between some annotation and some class. It supports
  * chaining of methods (Fluent interface). The binding builder should be generally created by
@@ -43,4 +45,14 @@ public interface BindingBuilder<T> extends ScopedBindingBuilder {
    */
   <S extends T> ScopedBindingBuilder toConstructor(Constructor<S> constructor);
 
+  /**
+   * Binds given provider to annotation for which was created binding which is builded by this
+   * binder. The instances of bound object are obtained from given provider without any reflection
+   * and without injection of dependencies.
+   *
+   * @param provider the provider of objects which will be bound to annotation.
+   * @return Instance of scoped binding builder which may set the scope of binding.
+   */
+  public ScopedBindingBuilder toProvider(Provider<? extends T> provider);
+
 }
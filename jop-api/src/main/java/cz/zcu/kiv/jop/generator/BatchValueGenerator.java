@@ -0,0 +1,33 @@
+package cz.zcu.kiv.jop.generator;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Extension of {@link ValueGenerator} interface for generators which are able to generate multiple
+ * values in one invocation. The values are generated in tight loop where the parameters are checked
+ * and the random generators are obtained only once for whole batch of values. The generated values
+ * have to be the same as values returned by the same number of invocations of method
+ * {@link #getValue(Annotation)} for the same state of random generators.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @param <T> Type of generated values.
+ * @param <P> Annotation type of generator parameters.
+ */
+public interface BatchValueGenerator<T, P extends Annotation> extends ValueGenerator<T, P> {
+
+  /**
+   * Fills given part of target array by values generated according to given parameters. The given
+   * part of array has to be valid (the caller is responsible for checking of bounds).
+   *
+   * @param params the parameters for generation of values.
+   * @param target the array which will be filled by generated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException if some error occurs during values generation or if given
+   *           parameters are not valid.
+   */
+  public void fill(P params, Object[] target, int offset, int length) throws ValueGeneratorException;
+
+}
@@ -0,0 +1,44 @@
+package cz.zcu.kiv.jop.generator;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Extension of {@link ValueGenerator} interface for generators of <code>int</code> values which
+ * are able to return generated value without wrapping into object. The method
+ * {@link #getValue(Annotation)} has to return the same value as {@link #getIntValue(Annotation)}
+ * would return for the same state of random generators.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @param <P> Annotation type of generator parameters.
+ */
+public interface IntValueGenerator<P extends Annotation> extends ValueGenerator<Integer, P> {
+
+  /**
+   * Returns generated <code>int</code> value according to given parameters.
+   *
+   * @param params the parameters for generation of value.
+   * @return Generated value.
+   * @throws ValueGeneratorException if some error occurs during value generation or if given
+   *           parameters are not valid.
+   */
+  public int getIntValue(P params) throws ValueGeneratorException;
+
+  /**
+   * Fills given part of target array by generated <code>int</code> values according to given
+   * parameters without wrapping of values into objects. The generated values have to be the same as
+   * values returned by the same number of invocations of method {@link #getIntValue(Annotation)}
+   * for the same state of random generators. The given part of array has to be valid (the caller is
+   * responsible for checking of bounds).
+   *
+   * @param params the parameters for generation of values.
+   * @param target the array which will be filled by generated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException if some error occurs during values generation or if given
+   *           parameters are not valid.
+   */
+  public void fill(P params, int[] target, int offset, int length) throws ValueGeneratorException;
+
+}
@@ -43,4 +43,86 @@ public interface ValueGeneratorInvoker {
    * @throws ValueGeneratorException If some error occurs during value generator invocation.
    */
   public Object[] getValue(Property<?> property, int count) throws ValueGeneratorException;
+
+  /**
+   * Analyzes annotations for given property and returns class type of values generated by the
+   * proper value generator. The value generator is not invoked.
+   *
+   * @param property the property for which will be returned class type of generated values.
+   * @return Class type of values generated by the proper value generator.
+   * @throws ValueGeneratorException If some error occurs during obtaining of value generator.
+   */
+  public Class<?> getValueType(Property<?> property) throws ValueGeneratorException;
+
+  /**
+   * Analyzes annotations for given property and then invokes the proper value generator. If the
+   * value generator implements interface {@link DoubleValueGenerator}, the value is generated
+   * without wrapping into object; otherwise the generated number is converted into
+   * <code>double</code>.
+   *
+   * @param property the property for which will be invoked the proper value generator.
+   * @return The result of value generator invocation.
+   * @throws ValueGeneratorException If some error occurs during value generator invocation or if
+   *           the generated value is not number.
+   */
+  public double getDoubleValue(Property<?> property) throws ValueGeneratorException;
+
+  /**
+   * Analyzes annotations for given property and then invokes the proper value generator. If the
+   * value generator implements interface {@link IntValueGenerator}, the value is generated without
+   * wrapping into object; otherwise the generated number is converted into <code>int</code>.
+   *
+   * @param property the property for which will be invoked the proper value generator.
+   * @return The result of value generator invocation.
+   * @throws ValueGeneratorException If some error occurs during value generator invocation or if
+   *           the generated value is not number.
+   */
+  public int getIntValue(Property<?> property) throws ValueGeneratorException;
+
+  /**
+   * Analyzes annotations for given property and then fills given part of target array by values
+   * generated by the proper value generator. If the value generator implements interface
+   * {@link BatchValueGenerator}, all values are generated by one invocation of value generator;
+   * otherwise the value generator is invoked for each element.
+   *
+   * @param property the property for which will be invoked the proper value generator.
+   * @param target the array which will be filled by generated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException If some error occurs during value generator invocation or if
+   *           the given part of array is not valid.
+   */
+  public void fill(Property<?> property, Object[] target, int offset, int length) throws ValueGeneratorException;
+
+  /**
+   * Analyzes annotations for given property and then fills given part of target array by values
+   * generated by the proper value generator. If the value generator implements interface
+   * {@link DoubleValueGenerator}, all values are generated by one invocation of value generator
+   * without wrapping into objects; otherwise the value generator is invoked for each element and
+   * the generated numbers are converted into <code>double</code>.
+   *
+   * @param property the property for which will be invoked the proper value generator.
+   * @param target the array which will be filled by generated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException If some error occurs during value generator invocation, if
+   *           the generated value is not number or if the given part of array is not valid.
+   */
+  public void fill(Property<?> property, double[] target, int offset, int length) throws ValueGeneratorException;
+
+  /**
+   * Analyzes annotations for given property and then fills given part of target array by values
+   * generated by the proper value generator. If the value generator implements interface
+   * {@link IntValueGenerator}, all values are generated by one invocation of value generator
+   * without wrapping into objects; otherwise the value generator is invoked for each element and
+   * the generated numbers are converted into <code>int</code>.
+   *
+   * @param property the property for which will be invoked the proper value generator.
+   * @param target the array which will be filled by generated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException If some error occurs during value generator invocation, if
+   *           the generated value is not number or if the given part of array is not valid.
+   */
+  public void fill(Property<?> property, int[] target, int offset, int length) throws ValueGeneratorException;
 }
@@ -1,5 +1,7 @@
 package cz.zcu.kiv.jop.ioc;
 
+import javax.inject.Provider;
+
 /**
  * Common interface for injector of dependencies (DI). An injector contains graph of objects that
  * make up structure of this library (or your program).
@@ -41,6 +43,21 @@ public interface Injector {
    */
   public <T> T getInstance(Class<T> clazz, String name) throws InjectorException;
 
+  /**
+   * Returns provider of assembled instances of given class. The provider may be obtained only once
+   * and then used for repeated providing of instances without resolution of binding for given
+   * class (each call of {@link Provider#get()} is equivalent to call of method
+   * {@link #getInstance(Class)}).
+   * <p>
+   * If some error occurs while the provider is providing an instance, it throws runtime exception
+   * specific for implementation of injector.
+   *
+   * @param clazz the class which instances will be provided.
+   * @return Provider of assembled instances of given class.
+   * @throws InjectorException if some error occurs during resolution of binding for given class.
+   */
+  public <T> Provider<T> getProvider(Class<T> clazz) throws InjectorException;
+
   /**
    * Injects dependencies into the fields and methods of given instance. Ignores the presence or
    * absence of an injectable constructor.
@@ -0,0 +1,37 @@
+package cz.zcu.kiv.jop.populator;
+
+import java.lang.annotation.Annotation;
+
+import cz.zcu.kiv.jop.property.Property;
+
+/**
+ * Extension of {@link PropertyPopulator} interface for populators which are able to populate
+ * multiple elements of array in one invocation. It's used for invocation of chained populators by
+ * populators of arrays (or collections) where the populator is invoked for each element.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @param <P> Annotation type of parameters for populator of property.
+ */
+public interface BatchPropertyPopulator<P extends Annotation> extends PropertyPopulator<P> {
+
+  /**
+   * Populates given part of array by values which would be populated into given property by
+   * method {@link #populate(Property, Object, Annotation)}. The class type of property has to be
+   * the same as component type of given array. The given part of array has to be valid (the caller
+   * is responsible for checking of bounds).
+   *
+   * @param property the property for which will be populated values.
+   * @param array the array which will be filled by populated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @param params the parameters for populating of given property.
+   * @return <code>true</code> if the part of array was populated; <code>false</code> if the values
+   *         cannot be populated in batch and they have to be populated one by one.
+   * @throws PropertyPopulatorException if some error occurs during populating of values or if
+   *           given parameters are not valid.
+   */
+  public boolean populate(Property<?> property, Object array, int offset, int length, P params) throws PropertyPopulatorException;
+
+}
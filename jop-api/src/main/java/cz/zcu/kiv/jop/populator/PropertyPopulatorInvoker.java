@@ -67,4 +67,23 @@ public interface PropertyPopulatorInvoker {
    */
   public <T> T invokeNextPopulator(Property<?> property, Class<T> targetClassType) throws PropertyPopulatorException;
 
+  /**
+   * Analyzes annotations of given property and then fills given part of array by values populated
+   * by next property populator. The target class type of populated values is the component type of
+   * given array. It's equivalent to invocation of method {@link #invokeNextPopulator(Property,
+   * Class)} for each element of the part of array, but the next property populator may populate
+   * all elements at once (for example the default property populator may generate all values by one
+   * invocation of value generator).
+   * <p>
+   * This method primary serves for chaining of populators of arrays or collections.
+   *
+   * @param property the property for which will be invoked next populator.
+   * @param array the array which will be filled by populated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws PropertyPopulatorException If some error occurs during next property populator
+   *           invocation or if the given part of array is not valid.
+   */
+  public void invokeNextPopulator(Property<?> property, Object array, int offset, int length) throws PropertyPopulatorException;
+
 }
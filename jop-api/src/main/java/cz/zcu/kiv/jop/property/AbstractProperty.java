@@ -196,6 +196,47 @@ public abstract class AbstractProperty<T> implements Property<T> {
    */
   protected abstract Setter<T> createSetter() throws SetterNotFoundException;
 
+  /**
+   * Returns a hash code value for this property. This method is supported for the benefit of hash
+   * tables such as those provided by {@link java.util.HashMap}.
+   *
+   * @return A hash code value for this property.
+   */
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+
+    result = prime * result + getClass().hashCode();
+    result = prime * result + declaringClass.hashCode();
+    result = prime * result + propertyName.hashCode();
+
+    return result;
+  }
+
+  /**
+   * Indicates whether some object is "equal to" this property. Two properties are equal if they
+   * are of the same class type and they describe the property with same name in the same declaring
+   * class.
+   *
+   * @param obj the reference object with which to compare.
+   * @return <code>true</code> if this property is the same as the obj argument; <code>false</code>
+   *         otherwise.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+
+    AbstractProperty<?> other = (AbstractProperty<?>)obj;
+    return declaringClass == other.declaringClass && propertyName.equals(other.propertyName);
+  }
+
   /**
    * Returns string value of property.
    *
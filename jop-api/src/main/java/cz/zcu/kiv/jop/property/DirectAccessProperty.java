@@ -142,14 +142,15 @@ public class DirectAccessProperty<T> extends AbstractProperty<T> {
 
   /**
    * Implementation of {@code Setter} interface which uses {@link Field} for direct access to
-   * property value.
+   * property value. The values of primitive types may be set without wrapping by methods of
+   * {@link PrimitiveSetter} interface.
    *
    * @author Mr.FrAnTA
    * @since 1.0.0
    *
    * @param <T> Declared class type of property.
    */
-  public static class DirectSetter<T> extends AbstractPropertyAccess<T, Field> implements Setter<T> {
+  public static class DirectSetter<T> extends AbstractPropertyAccess<T, Field> implements PrimitiveSetter<T> {
 
     /**
      * Determines if a de-serialized file is compatible with this class.
@@ -190,36 +191,145 @@ public class DirectAccessProperty<T> extends AbstractProperty<T> {
       try {
         member.set(owner, value);
       }
-      catch (NullPointerException exc) {
+      catch (Exception exc) {
+        throw createSetException(owner, value, exc);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setBoolean(Object owner, boolean value) throws PropertyAccessException {
+      try {
+        member.setBoolean(owner, value);
+      }
+      catch (Exception exc) {
+        throw createSetException(owner, value, exc);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setByte(Object owner, byte value) throws PropertyAccessException {
+      try {
+        member.setByte(owner, value);
+      }
+      catch (Exception exc) {
+        throw createSetException(owner, value, exc);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setShort(Object owner, short value) throws PropertyAccessException {
+      try {
+        member.setShort(owner, value);
+      }
+      catch (Exception exc) {
+        throw createSetException(owner, value, exc);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setChar(Object owner, char value) throws PropertyAccessException {
+      try {
+        member.setChar(owner, value);
+      }
+      catch (Exception exc) {
+        throw createSetException(owner, value, exc);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setInt(Object owner, int value) throws PropertyAccessException {
+      try {
+        member.setInt(owner, value);
+      }
+      catch (Exception exc) {
+        throw createSetException(owner, value, exc);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setLong(Object owner, long value) throws PropertyAccessException {
+      try {
+        member.setLong(owner, value);
+      }
+      catch (Exception exc) {
+        throw createSetException(owner, value, exc);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setFloat(Object owner, float value) throws PropertyAccessException {
+      try {
+        member.setFloat(owner, value);
+      }
+      catch (Exception exc) {
+        throw createSetException(owner, value, exc);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setDouble(Object owner, double value) throws PropertyAccessException {
+      try {
+        member.setDouble(owner, value);
+      }
+      catch (Exception exc) {
+        throw createSetException(owner, value, exc);
+      }
+    }
+
+    /**
+     * Creates exception for given exception which occurred during setting of value to property.
+     *
+     * @param owner the owner of the property.
+     * @param value the value which was set to property.
+     * @param exc the exception which occurred during setting of value.
+     * @return Created exception for problem with setting of value to property.
+     */
+    protected PropertyAccessException createSetException(Object owner, Object value, Exception exc) {
+      if (exc instanceof NullPointerException) {
         if (owner == null) {
-          throw createGetterAccessException("Static call of non-static", exc);
+          return createGetterAccessException("Static call of non-static", exc);
         }
         else {
-          throw createGetterAccessException("Null pointer exception occured inside", exc);
+          return createGetterAccessException("Null pointer exception occured inside", exc);
         }
       }
-      catch (IllegalAccessException exc) {
+      else if (exc instanceof IllegalAccessException) {
         // shouldn't occur
-        throw createGetterAccessException("Illegal access occured during call of", exc);
+        return createGetterAccessException("Illegal access occured during call of", exc);
       }
-      catch (IllegalArgumentException exc) {
+      else if (exc instanceof IllegalArgumentException) {
         if (value == null && getType().isPrimitive()) {
-          throw createSetterAccessException("Null value was assigned to a property of primitive type while calling", exc);
+          return createSetterAccessException("Null value was assigned to a property of primitive type while calling", exc);
         }
         else if (owner != null && !getDeclaringClass().isAssignableFrom(owner.getClass())) {
           String ownerName = owner.getClass().getName();
           logger.error("Given incorrect owner '" + ownerName + "' for setter of property: " + getDeclaringClassName() + '.' + getPropertyName());
-          throw createGetterAccessException("Given incorrect owner for calling", exc);
+          return createGetterAccessException("Given incorrect owner for calling", exc);
         }
         else {
           logger.error("Given incorrect value type for setter of property: " + getDeclaringClassName() + '.' + getPropertyName()
               + " expected type: " + getType().getName() + ", given value type: " + (value == null ? null : value.getClass().getName()));
-          throw createSetterAccessException("Given incorrect value type for", exc);
+          return createSetterAccessException("Given incorrect value type for", exc);
         }
       }
-      catch (Exception exc) {
-        throw createGetterAccessException("An exception occured during call of", exc);
-      }
+
+      return createGetterAccessException("An exception occured during call of", exc);
     }
   }
 }
@@ -0,0 +1,435 @@
+package cz.zcu.kiv.jop.property;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * The implementation of <em>Object</em>'s property. It provides the getter and setter, which access
+ * the field of property directly by its offset in memory of object (using class
+ * <code>sun.misc.Unsafe</code> which is loaded by reflection). The offset is resolved only once per
+ * property, so the access to value of property avoids checks of access to {@link Field}.
+ * <p>
+ * If the unsafe is not available or if the field of property is static or volatile, the
+ * property behaves as {@link DirectAccessProperty}. The getter and setter also use the
+ * {@link Field} for all calls for which the fast access is not possible (incorrect owner or value,
+ * widening of primitive values), so they throw the same exceptions as the getter and setter of
+ * {@link DirectAccessProperty}.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @param <T> Declared class type of property.
+ */
+public class FastAccessProperty<T> extends DirectAccessProperty<T> {
+
+  /**
+   * Determines if a de-serialized file is compatible with this class.
+   * <p>
+   * Maintainers must change this value if and only if the new version of this class is not
+   * compatible with old versions. See Oracle docs for <a
+   * href="http://docs.oracle.com/javase/1.5.0/docs/guide/serialization/">details</a>.
+   * <p>
+   * Not necessary to include in first version of the class, but included here as a reminder of its
+   * importance.
+   */
+  private static final long serialVersionUID = 20160412L;
+
+  /** Constant for kind of field with object (reference) type. */
+  static final int KIND_OBJECT = 0;
+  /** Constant for kind of field with primitive type <code>boolean</code>. */
+  static final int KIND_BOOLEAN = 1;
+  /** Constant for kind of field with primitive type <code>byte</code>. */
+  static final int KIND_BYTE = 2;
+  /** Constant for kind of field with primitive type <code>short</code>. */
+  static final int KIND_SHORT = 3;
+  /** Constant for kind of field with primitive type <code>char</code>. */
+  static final int KIND_CHAR = 4;
+  /** Constant for kind of field with primitive type <code>int</code>. */
+  static final int KIND_INT = 5;
+  /** Constant for kind of field with primitive type <code>long</code>. */
+  static final int KIND_LONG = 6;
+  /** Constant for kind of field with primitive type <code>float</code>. */
+  static final int KIND_FLOAT = 7;
+  /** Constant for kind of field with primitive type <code>double</code>. */
+  static final int KIND_DOUBLE = 8;
+
+  /**
+   * Constructs a fast access property.
+   *
+   * @param declaringClass the class type of a property owner.
+   * @param propertyName the name of property.
+   */
+  public FastAccessProperty(Class<?> declaringClass, String propertyName) {
+    super(declaringClass, propertyName);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected Getter<T> createGetter() throws GetterNotFoundException {
+    try {
+      Field field = getField();
+      Long offset = getOffset(field);
+      if (offset != null) {
+        return new FastGetter<T>(propertyName, field, offset);
+      }
+    }
+    catch (PropertyNotFoundException exc) {
+      throw new GetterNotFoundException(exc, declaringClass, propertyName);
+    }
+
+    return super.createGetter();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected Setter<T> createSetter() throws SetterNotFoundException {
+    try {
+      Field field = getField();
+      Long offset = getOffset(field);
+      if (offset != null && !Modifier.isFinal(field.getModifiers())) {
+        return new FastSetter<T>(propertyName, field, offset);
+      }
+    }
+    catch (PropertyNotFoundException exc) {
+      throw new SetterNotFoundException(exc, declaringClass, propertyName);
+    }
+
+    return super.createSetter();
+  }
+
+  /**
+   * Returns information whether the given field may be accessed by its offset.
+   *
+   * @param field the field to check.
+   * @return <code>true</code> if the field may be accessed by its offset; <code>false</code>
+   *         otherwise.
+   */
+  protected static boolean isFastAccessible(Field field) {
+    if (field == null || !UnsafeFieldAccessor.isAvailable()) {
+      return false;
+    }
+
+    int modifiers = field.getModifiers();
+
+    return !Modifier.isStatic(modifiers) && !Modifier.isVolatile(modifiers);
+  }
+
+  /**
+   * Returns offset of given field in memory of its owners if the field may be accessed by its
+   * offset.
+   *
+   * @param field the field whose offset will be returned.
+   * @return Offset of given field or <code>null</code> if the field cannot be accessed by its
+   *         offset.
+   */
+  static Long getOffset(Field field) {
+    if (!isFastAccessible(field)) {
+      return null;
+    }
+
+    try {
+      return UnsafeFieldAccessor.objectFieldOffset(field);
+    }
+    catch (Exception exc) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns kind of given field type which determines the method of unsafe used for access to the
+   * field.
+   *
+   * @param type the type of field.
+   * @return Kind of field type.
+   */
+  static int getKind(Class<?> type) {
+    if (!type.isPrimitive()) {
+      return KIND_OBJECT;
+    }
+    else if (type == Integer.TYPE) {
+      return KIND_INT;
+    }
+    else if (type == Double.TYPE) {
+      return KIND_DOUBLE;
+    }
+    else if (type == Long.TYPE) {
+      return KIND_LONG;
+    }
+    else if (type == Boolean.TYPE) {
+      return KIND_BOOLEAN;
+    }
+    else if (type == Float.TYPE) {
+      return KIND_FLOAT;
+    }
+    else if (type == Short.TYPE) {
+      return KIND_SHORT;
+    }
+    else if (type == Byte.TYPE) {
+      return KIND_BYTE;
+    }
+
+    return KIND_CHAR;
+  }
+
+  /**
+   * Implementation of {@code Getter} interface which reads the value of property directly from
+   * memory of owner by offset of field. If the value cannot be read in this way, it's read through
+   * {@link Field}.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   *
+   * @param <T> Declared class type of property.
+   */
+  static class FastGetter<T> extends DirectGetter<T> {
+
+    /**
+     * Determines if a de-serialized file is compatible with this class.
+     * <p>
+     * Maintainers must change this value if and only if the new version of this class is not
+     * compatible with old versions. See Oracle docs for <a
+     * href="http://docs.oracle.com/javase/1.5.0/docs/guide/serialization/">details</a>.
+     * <p>
+     * Not necessary to include in first version of the class, but included here as a reminder of
+     * its importance.
+     */
+    private static final long serialVersionUID = 20160412L;
+
+    /** The offset of field in memory of owner (<code>null</code> after de-serialization). */
+    protected final transient Long offset;
+    /** The kind of field type. */
+    protected final int kind;
+
+    /**
+     * Constructs a getter.
+     *
+     * @param propertyName the name of property.
+     * @param field the field which will be used for access to property.
+     * @param offset the offset of field in memory of owner.
+     */
+    FastGetter(String propertyName, Field field, Long offset) {
+      super(propertyName, field);
+      this.offset = offset;
+      kind = getKind(field.getType());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(Object owner) throws PropertyAccessException {
+      if (offset != null && member.getDeclaringClass().isInstance(owner)) {
+        try {
+          return (T)UnsafeFieldAccessor.get(owner, offset, kind);
+        }
+        catch (Exception exc) {
+          // falls back to reflection
+        }
+      }
+
+      // reports the problem with owner
+      return super.get(owner);
+    }
+  }
+
+  /**
+   * Implementation of {@code Setter} interface which writes the value of property directly to
+   * memory of owner by offset of field. The values of primitive fields are written in this way only
+   * if the given value is wrapper of the same primitive type; the other values (which may require
+   * widening) are set through {@link Field}. The same applies to the methods of
+   * {@link PrimitiveSetter} interface.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   *
+   * @param <T> Declared class type of property.
+   */
+  static class FastSetter<T> extends DirectSetter<T> {
+
+    /**
+     * Determines if a de-serialized file is compatible with this class.
+     * <p>
+     * Maintainers must change this value if and only if the new version of this class is not
+     * compatible with old versions. See Oracle docs for <a
+     * href="http://docs.oracle.com/javase/1.5.0/docs/guide/serialization/">details</a>.
+     * <p>
+     * Not necessary to include in first version of the class, but included here as a reminder of
+     * its importance.
+     */
+    private static final long serialVersionUID = 20160412L;
+
+    /** The offset of field in memory of owner (<code>null</code> after de-serialization). */
+    protected final transient Long offset;
+    /** The kind of field type. */
+    protected final int kind;
+
+    /**
+     * Constructs a setter.
+     *
+     * @param propertyName the name of property.
+     * @param field the field which will be used for access to property.
+     * @param offset the offset of field in memory of owner.
+     */
+    FastSetter(String propertyName, Field field, Long offset) {
+      super(propertyName, field);
+      this.offset = offset;
+      kind = getKind(field.getType());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void set(Object owner, T value) throws PropertyAccessException {
+      if (!isExactValue(value) || !putValue(owner, value)) {
+        // reports the problem with owner or value (or performs widening of primitive value)
+        super.set(owner, value);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setBoolean(Object owner, boolean value) throws PropertyAccessException {
+      if (kind != KIND_BOOLEAN || !putValue(owner, Boolean.valueOf(value))) {
+        // reports the problem with owner or performs widening of value
+        super.setBoolean(owner, value);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setByte(Object owner, byte value) throws PropertyAccessException {
+      if (kind != KIND_BYTE || !putValue(owner, Byte.valueOf(value))) {
+        // reports the problem with owner or performs widening of value
+        super.setByte(owner, value);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setShort(Object owner, short value) throws PropertyAccessException {
+      if (kind != KIND_SHORT || !putValue(owner, Short.valueOf(value))) {
+        // reports the problem with owner or performs widening of value
+        super.setShort(owner, value);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setChar(Object owner, char value) throws PropertyAccessException {
+      if (kind != KIND_CHAR || !putValue(owner, Character.valueOf(value))) {
+        // reports the problem with owner or performs widening of value
+        super.setChar(owner, value);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setInt(Object owner, int value) throws PropertyAccessException {
+      if (kind != KIND_INT || !putValue(owner, Integer.valueOf(value))) {
+        // reports the problem with owner or performs widening of value
+        super.setInt(owner, value);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLong(Object owner, long value) throws PropertyAccessException {
+      if (kind != KIND_LONG || !putValue(owner, Long.valueOf(value))) {
+        // reports the problem with owner or performs widening of value
+        super.setLong(owner, value);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setFloat(Object owner, float value) throws PropertyAccessException {
+      if (kind != KIND_FLOAT || !putValue(owner, Float.valueOf(value))) {
+        // reports the problem with owner or performs widening of value
+        super.setFloat(owner, value);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDouble(Object owner, double value) throws PropertyAccessException {
+      if (kind != KIND_DOUBLE || !putValue(owner, Double.valueOf(value))) {
+        // reports the problem with owner or performs widening of value
+        super.setDouble(owner, value);
+      }
+    }
+
+    /**
+     * Returns information whether the given value has exactly the type of field (or its wrapper), so
+     * it may be written directly to memory of owner.
+     *
+     * @param value the value to check.
+     * @return <code>true</code> if the value may be written directly; <code>false</code> otherwise.
+     */
+    protected boolean isExactValue(Object value) {
+      switch (kind) {
+        case KIND_BOOLEAN:
+          return value instanceof Boolean;
+        case KIND_BYTE:
+          return value instanceof Byte;
+        case KIND_SHORT:
+          return value instanceof Short;
+        case KIND_CHAR:
+          return value instanceof Character;
+        case KIND_INT:
+          return value instanceof Integer;
+        case KIND_LONG:
+          return value instanceof Long;
+        case KIND_FLOAT:
+          return value instanceof Float;
+        case KIND_DOUBLE:
+          return value instanceof Double;
+        default:
+          return value == null || member.getType().isInstance(value);
+      }
+    }
+
+    /**
+     * Writes given value directly to memory of owner. The value has to have exactly the type of
+     * field (or its wrapper).
+     *
+     * @param owner the owner of the property.
+     * @param value the value which will be set to property.
+     * @return <code>true</code> if the value was written; <code>false</code> otherwise.
+     */
+    protected boolean putValue(Object owner, Object value) {
+      if (offset == null || !member.getDeclaringClass().isInstance(owner)) {
+        return false;
+      }
+
+      try {
+        UnsafeFieldAccessor.put(owner, offset, kind, value);
+        return true;
+      }
+      catch (Exception exc) {
+        return false;
+      }
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package cz.zcu.kiv.jop.property;
+
+/**
+ * Extension of {@link Setter} interface for setters which are able to set values of primitive types
+ * without wrapping them into objects. The setters perform widening primitive conversion of given
+ * value to the type of property (for example the <code>int</code> value may be set into property
+ * of type <code>long</code> or <code>double</code>).
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @param <T> Declared class type of property.
+ */
+public interface PrimitiveSetter<T> extends Setter<T> {
+
+  /**
+   * Sets given <code>boolean</code> value to property of given <code>owner</code>.
+   *
+   * @param owner the owner of the property.
+   * @param value the value which will be set to property.
+   * @throws PropertyAccessException If some problem occurs during setting of the value to property.
+   */
+  public void setBoolean(Object owner, boolean value) throws PropertyAccessException;
+
+  /**
+   * Sets given <code>byte</code> value to property of given <code>owner</code>.
+   *
+   * @param owner the owner of the property.
+   * @param value the value which will be set to property.
+   * @throws PropertyAccessException If some problem occurs during setting of the value to property.
+   */
+  public void setByte(Object owner, byte value) throws PropertyAccessException;
+
+  /**
+   * Sets given <code>short</code> value to property of given <code>owner</code>.
+   *
+   * @param owner the owner of the property.
+   * @param value the value which will be set to property.
+   * @throws PropertyAccessException If some problem occurs during setting of the value to property.
+   */
+  public void setShort(Object owner, short value) throws PropertyAccessException;
+
+  /**
+   * Sets given <code>char</code> value to property of given <code>owner</code>.
+   *
+   * @param owner the owner of the property.
+   * @param value the value which will be set to property.
+   * @throws PropertyAccessException If some problem occurs during setting of the value to property.
+   */
+  public void setChar(Object owner, char value) throws PropertyAccessException;
+
+  /**
+   * Sets given <code>int</code> value to property of given <code>owner</code>.
+   *
+   * @param owner the owner of the property.
+   * @param value the value which will be set to property.
+   * @throws PropertyAccessException If some problem occurs during setting of the value to property.
+   */
+  public void setInt(Object owner, int value) throws PropertyAccessException;
+
+  /**
+   * Sets given <code>long</code> value to property of given <code>owner</code>.
+   *
+   * @param owner the owner of the property.
+   * @param value the value which will be set to property.
+   * @throws PropertyAccessException If some problem occurs during setting of the value to property.
+   */
+  public void setLong(Object owner, long value) throws PropertyAccessException;
+
+  /**
+   * Sets given <code>float</code> value to property of given <code>owner</code>.
+   *
+   * @param owner the owner of the property.
+   * @param value the value which will be set to property.
+   * @throws PropertyAccessException If some problem occurs during setting of the value to property.
+   */
+  public void setFloat(Object owner, float value) throws PropertyAccessException;
+
+  /**
+   * Sets given <code>double</code> value to property of given <code>owner</code>.
+   *
+   * @param owner the owner of the property.
+   * @param value the value which will be set to property.
+   * @throws PropertyAccessException If some problem occurs during setting of the value to property.
+   */
+  public void setDouble(Object owner, double value) throws PropertyAccessException;
+
+}
@@ -0,0 +1,116 @@
+package cz.zcu.kiv.jop.property;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Helper static class which accesses the fields of objects by their offsets in memory using the
+ * class <code>sun.misc.Unsafe</code>. The unsafe and its methods are loaded by reflection, so no
+ * internal type is referenced by the code of library and the class doesn't have to be present in
+ * current JVM. All users of this class have to be able to work without it (they should fall back to
+ * access through {@link Field}).
+ * <p>
+ * This class is intentionally package-private; it's used only by getters and setters of
+ * {@link FastAccessProperty}.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+abstract class UnsafeFieldAccessor {
+
+  /** Logger used for logging. */
+  private static final Log logger = LogFactory.getLog(UnsafeFieldAccessor.class);
+
+  /** Types of fields for kinds of fields (indexed by constants of {@link FastAccessProperty}). */
+  private static final Class<?>[] KIND_TYPES = {Object.class, Boolean.TYPE, Byte.TYPE, Short.TYPE, Character.TYPE, Integer.TYPE, Long.TYPE, Float.TYPE, Double.TYPE};
+  /** Suffixes of names of access methods for kinds of fields. */
+  private static final String[] KIND_NAMES = {"Object", "Boolean", "Byte", "Short", "Char", "Int", "Long", "Float", "Double"};
+
+  /** The instance of unsafe or <code>null</code> if it's not available. */
+  private static Object unsafe;
+  /** The method which returns offset of field. */
+  private static Method objectFieldOffset;
+  /** The methods which read values of fields (indexed by kinds of fields). */
+  private static Method[] getMethods;
+  /** The methods which write values of fields (indexed by kinds of fields). */
+  private static Method[] putMethods;
+
+  static {
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Field field = unsafeClass.getDeclaredField("theUnsafe");
+      field.setAccessible(true);
+
+      Method[] getters = new Method[KIND_TYPES.length];
+      Method[] setters = new Method[KIND_TYPES.length];
+      for (int i = 0; i < KIND_TYPES.length; i++) {
+        getters[i] = unsafeClass.getMethod("get" + KIND_NAMES[i], Object.class, Long.TYPE);
+        setters[i] = unsafeClass.getMethod("put" + KIND_NAMES[i], Object.class, Long.TYPE, KIND_TYPES[i]);
+      }
+
+      objectFieldOffset = unsafeClass.getMethod("objectFieldOffset", Field.class);
+      getMethods = getters;
+      putMethods = setters;
+      unsafe = field.get(null);
+    }
+    catch (Throwable exc) {
+      logger.debug("Unsafe is not available, the reflection will be used", exc);
+      unsafe = null;
+    }
+  }
+
+  /**
+   * Private constructor in combination with abstract modifier of this class makes it static.
+   */
+  private UnsafeFieldAccessor() {}
+
+  /**
+   * Returns information whether the fields may be accessed by their offsets.
+   *
+   * @return <code>true</code> if the unsafe is available; <code>false</code> otherwise.
+   */
+  static boolean isAvailable() {
+    return unsafe != null;
+  }
+
+  /**
+   * Returns offset of given (non-static) field in memory of its owners.
+   *
+   * @param field the field whose offset will be returned.
+   * @return Offset of given field.
+   * @throws Exception If the offset cannot be resolved.
+   */
+  static Long objectFieldOffset(Field field) throws Exception {
+    return (Long)objectFieldOffset.invoke(unsafe, field);
+  }
+
+  /**
+   * Reads value of field with given offset and kind from memory of given owner.
+   *
+   * @param owner the owner of field.
+   * @param offset the offset of field.
+   * @param kind the kind of field type.
+   * @return The (wrapped) value of field.
+   * @throws Exception If the value cannot be read.
+   */
+  static Object get(Object owner, Long offset, int kind) throws Exception {
+    return getMethods[kind].invoke(unsafe, owner, offset);
+  }
+
+  /**
+   * Writes given value to field with given offset and kind into memory of given owner. The value of
+   * primitive field has to be wrapper of the same primitive type.
+   *
+   * @param owner the owner of field.
+   * @param offset the offset of field.
+   * @param kind the kind of field type.
+   * @param value the (wrapped) value to write.
+   * @throws Exception If the value cannot be written.
+   */
+  static void put(Object owner, Long offset, int kind, Object value) throws Exception {
+    putMethods[kind].invoke(unsafe, owner, offset, value);
+  }
+}
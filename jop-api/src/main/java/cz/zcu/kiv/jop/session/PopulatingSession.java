@@ -27,6 +27,27 @@ public interface PopulatingSession {
    */
   public List<Object> getPopulatedInstances();
 
+  /**
+   * Returns list of populated (generated) instances which are assignable to given class type. The
+   * instances are in the same order as in the list of all populated instances. The implementations
+   * should index the instances by their types, so this method should not need to go through all
+   * populated instances.
+   *
+   * @param type the class type of requested instances.
+   * @return List of populated instances which are assignable to given class type.
+   */
+  public List<Object> getPopulatedInstances(Class<?> type);
+
+  /**
+   * Returns immutable snapshot of this session which contains all instances populated (generated)
+   * to this moment. The snapshot is read-only session whose lists of instances are not changed by
+   * next changes of this session. The implementations should create the snapshot without copying
+   * of all populated instances, so the snapshot may be created before each population.
+   *
+   * @return Immutable snapshot of this session.
+   */
+  public PopulatingSession getSnapshot();
+
   /**
    * Clears the session. This operation is optional and may throw
    * {@link UnsupportedOperationException}.
@@ -4,23 +4,45 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import cz.zcu.kiv.jop.property.Property;
+
 /**
- * Helper static class for operations with annotations.
+ * Helper static class for operations with annotations. The results of searching of annotations
+ * annotated by some (marker) annotation are cached for classes, members and properties, because
+ * they are searched repeatedly for each populated object. The caches don't prevent unloading of
+ * the analyzed classes (see {@link WeakCache}).
  *
  * @author Mr.FrAnTA
  * @since 1.0.0
  */
 public abstract class AnnotationUtils {
 
+  /** Constant for empty array of annotations. */
+  private static final Annotation[] EMPTY_ANNOTATIONS = new Annotation[0];
+
+  /** Cache of types of annotations which annotate some annotation type (meta-annotations). */
+  private static final WeakCache<Class<? extends Annotation>, Set<Class<? extends Annotation>>> metaAnnotationsCache =
+      new WeakCache<Class<? extends Annotation>, Set<Class<? extends Annotation>>>();
+
+  /**
+   * Cache of annotations of annotated elements which are annotated by some annotation type. The
+   * first key is the annotation type which annotates the searched annotations.
+   */
+  private static final WeakCache<Class<? extends Annotation>, WeakCache<AnnotatedElement, Annotation[]>> annotatedAnnotationsCache =
+      new WeakCache<Class<? extends Annotation>, WeakCache<AnnotatedElement, Annotation[]>>();
+
   /**
    * Private constructor in combination with abstract modifier of this class makes it static.
    */
@@ -51,15 +73,29 @@ public abstract class AnnotationUtils {
   public static boolean isAnnotatedAnnotation(Class<? extends Annotation> annotation, Class<? extends Annotation> annotatedBy) {
     Preconditions.checkArgument(annotation != null && annotatedBy != null, "Annotation cannot be null");
 
-    Annotation[] annotations = annotation.getAnnotations();
-    for (Annotation a : annotations) {
-      Class<? extends Annotation> aType = a.annotationType();
-      if (annotatedBy.equals(aType)) {
-        return true;
+    return getMetaAnnotationTypes(annotation).contains(annotatedBy);
+  }
+
+  /**
+   * Returns set of types of annotations which annotate the given annotation type. The set is
+   * created only once for each annotation type and then it's stored in cache.
+   *
+   * @param annotation the annotation type.
+   * @return Unmodifiable set of types of annotations which annotate the given annotation type.
+   */
+  private static Set<Class<? extends Annotation>> getMetaAnnotationTypes(Class<? extends Annotation> annotation) {
+    Set<Class<? extends Annotation>> metaAnnotations = metaAnnotationsCache.get(annotation);
+    if (metaAnnotations == null) {
+      Annotation[] annotations = annotation.getAnnotations();
+      metaAnnotations = new HashSet<Class<? extends Annotation>>(annotations.length * 2);
+      for (Annotation a : annotations) {
+        metaAnnotations.add(a.annotationType());
       }
+
+      metaAnnotations = metaAnnotationsCache.put(annotation, Collections.unmodifiableSet(metaAnnotations));
     }
 
-    return false;
+    return metaAnnotations;
   }
 
   /**
@@ -75,18 +111,7 @@ public abstract class AnnotationUtils {
     Preconditions.checkArgumentNotNull(element, "Annotated element cannot be null");
     Preconditions.checkArgumentNotNull(annotatedBy, "Annotation cannot be null");
 
-    Annotation[] annotations = element.getAnnotations();
-    for (int i = 0; i < annotations.length; i++) {
-      Annotation[] annotationAnnotations = annotations[i].annotationType().getAnnotations();
-      for (int j = 0; j < annotationAnnotations.length; j++) {
-        Class<? extends Annotation> aType = annotationAnnotations[j].annotationType();
-        if (annotatedBy.equals(aType)) {
-          return true;
-        }
-      }
-    }
-
-    return false;
+    return findAnnotatedAnnotations(element, annotatedBy).length > 0;
   }
 
   /**
@@ -101,19 +126,94 @@ public abstract class AnnotationUtils {
     Preconditions.checkArgumentNotNull(element, "Annotated element cannot be null");
     Preconditions.checkArgumentNotNull(annotatedBy, "Annotation cannot be null");
 
+    Annotation[] annotations = findAnnotatedAnnotations(element, annotatedBy);
+
+    // the empty array cannot be modified, the other arrays are shared by cache
+    return (annotations.length == 0) ? annotations : annotations.clone();
+  }
+
+  /**
+   * Returns array of annotations which annotates the given annotated element and which are
+   * annotated by given annotation type. For elements whose annotations cannot change (see
+   * {@link #isCacheable(AnnotatedElement)}) is the result stored in cache, so the returned array
+   * cannot be modified.
+   *
+   * @param element the annotated element.
+   * @param annotatedBy the annotation type which annotates searched annotations.
+   * @return The (shared) array of annotations of given element which are annotated by given
+   *         annotation.
+   */
+  private static Annotation[] findAnnotatedAnnotations(AnnotatedElement element, Class<? extends Annotation> annotatedBy) {
+    if (!isCacheable(element)) {
+      return searchAnnotatedAnnotations(element, annotatedBy);
+    }
+
+    WeakCache<AnnotatedElement, Annotation[]> cache = annotatedAnnotationsCache.get(annotatedBy);
+    if (cache == null) {
+      cache = annotatedAnnotationsCache.put(annotatedBy, new WeakCache<AnnotatedElement, Annotation[]>());
+    }
+
+    Annotation[] annotations = cache.get(element);
+    if (annotations == null) {
+      annotations = cache.put(element, searchAnnotatedAnnotations(element, annotatedBy));
+    }
+
+    return annotations;
+  }
+
+  /**
+   * Searches the annotations which annotates the given annotated element and which are annotated by
+   * given annotation type.
+   *
+   * @param element the annotated element.
+   * @param annotatedBy the annotation type which annotates searched annotations.
+   * @return The array of annotations of given element which are annotated by given annotation.
+   */
+  private static Annotation[] searchAnnotatedAnnotations(AnnotatedElement element, Class<? extends Annotation> annotatedBy) {
     Annotation[] annotations = element.getAnnotations();
-    List<Annotation> annotatedAnnotations = new ArrayList<Annotation>(annotations.length);
+    List<Annotation> annotatedAnnotations = null;
     for (int i = 0; i < annotations.length; i++) {
-      Annotation[] annotationAnnotations = annotations[i].annotationType().getAnnotations();
-      for (int j = 0; j < annotationAnnotations.length; j++) {
-        Class<? extends Annotation> aType = annotationAnnotations[j].annotationType();
-        if (annotatedBy.equals(aType)) {
-          annotatedAnnotations.add(annotations[i]);
+      if (getMetaAnnotationTypes(annotations[i].annotationType()).contains(annotatedBy)) {
+        if (annotatedAnnotations == null) {
+          annotatedAnnotations = new ArrayList<Annotation>(annotations.length);
         }
+        annotatedAnnotations.add(annotations[i]);
       }
     }
 
-    return annotatedAnnotations.toArray(new Annotation[0]);
+    if (annotatedAnnotations == null) {
+      return EMPTY_ANNOTATIONS;
+    }
+
+    return annotatedAnnotations.toArray(new Annotation[annotatedAnnotations.size()]);
+  }
+
+  /**
+   * Returns information whether the annotations of given element may be cached. The annotations
+   * may be cached only for classes, members (fields, methods and constructors) and properties
+   * which are declared in some class (even the virtual properties which report declaring class -
+   * for example parameters of constructors); the annotations of these elements cannot be changed
+   * and the elements are comparable by method {@link Object#equals(Object)}.
+   *
+   * @param element the annotated element to check.
+   * @return <code>true</code> if annotations of given element may be cached; <code>false</code>
+   *         otherwise.
+   */
+  private static boolean isCacheable(AnnotatedElement element) {
+    if (element instanceof Class || element instanceof Member) {
+      return true;
+    }
+
+    return (element instanceof Property) && ((Property<?>)element).getDeclaringClass() != null;
+  }
+
+  /**
+   * Clears cache of already analyzed annotations. This method may be used for immediate releasing
+   * of references to classes which are no more used (for example after undeploy of application).
+   */
+  public static void clearCache() {
+    metaAnnotationsCache.clear();
+    annotatedAnnotationsCache.clear();
   }
 
   /**
@@ -0,0 +1,91 @@
+package cz.zcu.kiv.jop.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Helper static class which allocates objects using the class <code>sun.misc.Unsafe</code> if it's
+ * available in current JVM. The unsafe and its methods are loaded by reflection, so no internal
+ * type is referenced by the code of library or exposed by this class. All users of this class have
+ * to be able to work without the unsafe (they should fall back to reflection).
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public abstract class UnsafeUtils {
+
+  /** Logger used for logging. */
+  private static final Log logger = LogFactory.getLog(UnsafeUtils.class);
+
+  /** The instance of unsafe or <code>null</code> if it's not available. */
+  private static Object unsafe;
+  /** The method of unsafe which allocates instances. */
+  private static Method allocateInstance;
+
+  static {
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Field field = unsafeClass.getDeclaredField("theUnsafe");
+      field.setAccessible(true);
+
+      allocateInstance = unsafeClass.getMethod("allocateInstance", Class.class);
+      unsafe = field.get(null);
+    }
+    catch (Throwable exc) {
+      logger.debug("Unsafe is not available, the reflection will be used", exc);
+      unsafe = null;
+    }
+  }
+
+  /**
+   * Private constructor in combination with abstract modifier of this class makes it static.
+   */
+  private UnsafeUtils() {}
+
+  /**
+   * Returns information whether the unsafe is available.
+   *
+   * @return <code>true</code> if the unsafe is available; <code>false</code> otherwise.
+   */
+  public static boolean isAvailable() {
+    return unsafe != null;
+  }
+
+  /**
+   * Allocates new instance of given class without invocation of any constructor and field
+   * initializers, so all fields of instance have default values.
+   *
+   * @param clazz the class of allocated instance.
+   * @return Allocated instance of given class.
+   * @throws InstantiationException If the instance of given class cannot be allocated (for example
+   *           for abstract classes).
+   * @throws UnsupportedOperationException If the unsafe is not available.
+   */
+  public static <T> T allocateInstance(Class<T> clazz) throws InstantiationException {
+    if (unsafe == null) {
+      throw new UnsupportedOperationException("Unsafe is not available");
+    }
+
+    try {
+      return clazz.cast(allocateInstance.invoke(unsafe, clazz));
+    }
+    catch (InvocationTargetException exc) {
+      if (exc.getCause() instanceof InstantiationException) {
+        throw (InstantiationException)exc.getCause();
+      }
+
+      InstantiationException instantiationException = new InstantiationException("Cannot allocate instance of " + clazz.getName());
+      instantiationException.initCause(exc.getCause());
+      throw instantiationException;
+    }
+    catch (IllegalAccessException exc) {
+      InstantiationException instantiationException = new InstantiationException("Cannot allocate instance of " + clazz.getName());
+      instantiationException.initCause(exc);
+      throw instantiationException;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package cz.zcu.kiv.jop.util;
+
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Thread-safe cache of values computed for classes or other elements of classes (for example
+ * results of analysis of classes). The keys are referenced weakly, so the cache doesn't prevent the
+ * unloading of classes which are no more used (for example after undeploy of application).
+ * <p>
+ * The values computed for classes usually reference the classes too (directly or for example by
+ * descriptors of properties), which would keep the weakly referenced keys alive. Because of that
+ * the values are referenced softly: the value is released when the memory is needed and then the
+ * key may be released too. The released value has to be computed again.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @param <K> Class type of keys.
+ * @param <V> Class type of cached values.
+ */
+public class WeakCache<K, V> {
+
+  /** Map of cached values. */
+  protected final Map<K, SoftReference<V>> cache = new WeakHashMap<K, SoftReference<V>>();
+
+  /**
+   * Returns cached value for given key.
+   *
+   * @param key the key for which will be returned cached value.
+   * @return Cached value for given key or <code>null</code> if there is no cached value.
+   */
+  public synchronized V get(K key) {
+    SoftReference<V> reference = cache.get(key);
+
+    return (reference == null) ? null : reference.get();
+  }
+
+  /**
+   * Stores given value for given key into cache. If there already is some value for given key, the
+   * cached value is kept and returned.
+   *
+   * @param key the key for which will be stored given value.
+   * @param value the value to store.
+   * @return The value which is stored in cache for given key.
+   * @throws IllegalArgumentException If given key or value is <code>null</code>.
+   */
+  public synchronized V put(K key, V value) {
+    Preconditions.checkArgumentNotNull(key, "Key cannot be null");
+    Preconditions.checkArgumentNotNull(value, "Value cannot be null");
+
+    V cached = get(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    cache.put(key, new SoftReference<V>(value));
+
+    return value;
+  }
+
+  /**
+   * Returns number of cached values (including the released values whose keys were not released
+   * yet).
+   *
+   * @return Number of cached values.
+   */
+  public synchronized int size() {
+    return cache.size();
+  }
+
+  /**
+   * Removes all cached values.
+   */
+  public synchronized void clear() {
+    cache.clear();
+  }
+}
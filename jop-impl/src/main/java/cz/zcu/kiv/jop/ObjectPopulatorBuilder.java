@@ -0,0 +1,142 @@
+package cz.zcu.kiv.jop;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.inject.Module;
+import com.google.inject.Stage;
+
+import cz.zcu.kiv.jop.concurrent.WorkerPool;
+import cz.zcu.kiv.jop.ioc.Injector;
+import cz.zcu.kiv.jop.ioc.InjectorException;
+import cz.zcu.kiv.jop.ioc.guice.GuiceInjector;
+import cz.zcu.kiv.jop.util.Preconditions;
+
+/**
+ * Builder of independent instances of {@link ObjectPopulator}. Unlike the populator provided by
+ * {@link ObjectPopulatorProvider} (which is shared by the whole application), each populator built
+ * by this builder has its own injector, so it has its own sessions (global session of populated
+ * objects, sessions of random generators, etc.), worker pool and configuration. The populators built
+ * by this builder don't share any state, so they may be used concurrently without interference (for
+ * example by parallel tests). Only the worker threads for parallel population are shared by all
+ * built populators (see {@link WorkerPool#getSharedExecutorService()}), so the built populators
+ * don't have to be shut down.
+ * <p>
+ * The builder may add modules whose bindings override the core bindings of library:
+ *
+ * <pre>
+ * ObjectPopulator populator = new ObjectPopulatorBuilder()
+ *     .addModule(new MyModule())
+ *     .setSeed(42L)
+ *     .setParallelism(2)
+ *     .build();
+ * </pre>
+ *
+ * The methods of builder are synchronized, so one builder may be used for building of populators by
+ * multiple threads. Each call of method {@link #build()} creates new populator.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public class ObjectPopulatorBuilder {
+
+  /** Additional modules (bindings) for injector of populator. */
+  protected final List<Module> modules = new ArrayList<Module>();
+  /** The seed of run of populator (<code>null</code> for unseeded population). */
+  protected Long seed;
+  /** The maximal number of parallel tasks of population (0 for default parallelism). */
+  protected int parallelism;
+  /** Information whether the injector of populator will be bootstrapped lazily. */
+  protected boolean lazyBootstrap;
+
+  /**
+   * Adds module (bindings) for injector of built populators. The bindings of added modules override
+   * the core bindings of library.
+   *
+   * @param module the module to add.
+   * @return This builder.
+   * @throws IllegalArgumentException If given module is <code>null</code>.
+   */
+  public synchronized ObjectPopulatorBuilder addModule(Module module) {
+    Preconditions.checkArgumentNotNull(module, "Module cannot be null");
+    modules.add(module);
+
+    return this;
+  }
+
+  /**
+   * Sets the seed of run of built populators.
+   *
+   * @param seed the seed of run or <code>null</code> for unseeded (non-reproducible) population.
+   * @return This builder.
+   * @see ObjectPopulator#setSeed(Long)
+   */
+  public synchronized ObjectPopulatorBuilder setSeed(Long seed) {
+    this.seed = seed;
+
+    return this;
+  }
+
+  /**
+   * Sets the maximal number of tasks which will be executed in parallel by built populators during
+   * parallel population. The tasks are executed by shared worker threads whose number is equal to
+   * number of available processors, so the number of tasks which really run at the same time is
+   * capped by the number of processors. The greater parallelism only splits the population into
+   * more tasks (and populates more batches ahead of sink); the other tasks wait for free worker
+   * thread.
+   *
+   * @param parallelism the maximal number of parallel tasks.
+   * @return This builder.
+   * @throws IllegalArgumentException If given number of threads is not greater than 0.
+   */
+  public synchronized ObjectPopulatorBuilder setParallelism(int parallelism) {
+    Preconditions.checkArgument(parallelism > 0, "Parallelism has to be greater than 0");
+    this.parallelism = parallelism;
+
+    return this;
+  }
+
+  /**
+   * Sets information whether the injector of built populators will be bootstrapped lazily. In lazy
+   * bootstrap are the singletons created and the factories configured on demand, so the populator
+   * is built faster and only the used parts of library are initialized. But the errors in
+   * configuration (for example in added modules) are found during population instead of during
+   * building.
+   *
+   * @param lazyBootstrap <code>true</code> for lazy bootstrap; <code>false</code> for eager
+   *          bootstrap (default).
+   * @return This builder.
+   */
+  public synchronized ObjectPopulatorBuilder setLazyBootstrap(boolean lazyBootstrap) {
+    this.lazyBootstrap = lazyBootstrap;
+
+    return this;
+  }
+
+  /**
+   * Builds new independent instance of {@link ObjectPopulator}. The populator is created by new
+   * injector with core bindings overridden by added modules. The worker pool of populator uses the
+   * shared worker threads.
+   *
+   * @return Built instance of object populator.
+   * @throws ObjectPopulatorException If the populator cannot be built.
+   */
+  public synchronized ObjectPopulator build() throws ObjectPopulatorException {
+    try {
+      Stage stage = lazyBootstrap ? Stage.DEVELOPMENT : Stage.PRODUCTION;
+      Injector injector = new GuiceInjector(stage, new ArrayList<Module>(modules));
+
+      // the worker threads are shared by all built populators
+      WorkerPool workerPool = injector.getInstance(WorkerPool.class);
+      workerPool.setExecutorService(WorkerPool.getSharedExecutorService(), (parallelism > 0) ? parallelism : workerPool.getParallelism());
+
+      ObjectPopulator populator = injector.getInstance(ObjectPopulator.class);
+      populator.setSeed(seed);
+
+      return populator;
+    }
+    catch (InjectorException exc) {
+      throw new ObjectPopulatorException("Cannot build object populator", exc);
+    }
+  }
+}
@@ -1,7 +1,14 @@
 package cz.zcu.kiv.jop;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -10,13 +17,18 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import cz.zcu.kiv.jop.bean.Bean;
+import cz.zcu.kiv.jop.concurrent.WorkerPool;
 import cz.zcu.kiv.jop.construction.ConstructionStrategyInvoker;
 import cz.zcu.kiv.jop.context.PopulatingContext;
 import cz.zcu.kiv.jop.context.PopulatingContextHandler;
 import cz.zcu.kiv.jop.context.PopulatingContextHandlerImpl;
 import cz.zcu.kiv.jop.context.PopulatingQueueIterator;
 import cz.zcu.kiv.jop.property.Property;
+import cz.zcu.kiv.jop.session.InstanceRegistry;
 import cz.zcu.kiv.jop.session.PopulatingSession;
+import cz.zcu.kiv.jop.session.RandomGeneratorSession;
+import cz.zcu.kiv.jop.session.SeedableRandomGeneratorSession;
+import cz.zcu.kiv.jop.session.TransientPopulatingSession;
 import cz.zcu.kiv.jop.strategy.PopulatingStrategyInvoker;
 
 /**
@@ -32,6 +44,17 @@ public class ObjectPopulatorImpl implements ObjectPopulator {
   /** Logger used for logging. */
   private static final Log logger = LogFactory.getLog(ObjectPopulatorImpl.class);
 
+  /**
+   * Number of chunks of instances per worker thread for parallel population. More chunks than
+   * threads allows better balancing of work between threads.
+   */
+  protected static final int CHUNKS_PER_WORKER = 4;
+
+  /** The seed of run; <code>null</code> if the population is not seeded. */
+  protected volatile Long seed;
+  /** Index of the next generated root instance in run. */
+  protected final AtomicLong nextIndex = new AtomicLong();
+
   /**
    * Constructs object populator.
    */
@@ -52,9 +75,10 @@ public class ObjectPopulatorImpl implements ObjectPopulator {
       throw new ObjectPopulatorException("Number of instances has to be greater than 0");
     }
 
+    long fromIndex = reserveIndexes(instancesCount);
     List<T> instances = new ArrayList<T>();
     for (int i = 0; i < instancesCount; i++) {
-      instances.add(populate(clazz, true));
+      instances.add(populate(clazz, true, populatingSession, fromIndex + i));
     }
 
     return instances;
@@ -75,14 +99,121 @@ public class ObjectPopulatorImpl implements ObjectPopulator {
       throw new ObjectPopulatorException("Number of instances has to be greater than 0");
     }
 
+    long fromIndex = reserveIndexes(instancesCount);
     List<T> instances = new ArrayList<T>();
     for (int i = 0; i < instancesCount; i++) {
-      instances.add(populate(clazz, false));
+      instances.add(populate(clazz, false, populatingSession, fromIndex + i));
     }
 
     return instances;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  public <T> List<T> populateInParallel(Class<T> clazz, int instancesCount) throws ObjectPopulatorException {
+    return populateInParallel(clazz, instancesCount, true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public <T> List<T> populateSingleInParallel(Class<T> clazz, int instancesCount) throws ObjectPopulatorException {
+    return populateInParallel(clazz, instancesCount, false);
+  }
+
+  /**
+   * The generic method for parallel population which splits the given number of instances into
+   * chunks which are populated by worker threads from {@link WorkerPool}. Each chunk is populated
+   * sequentially by method {@link #populateBatch(Class, long, int, boolean, PopulatingSession)} and
+   * the results of chunks are merged in their order. The indexes of all instances in run are
+   * reserved before population, so the chunks don't change the order of indexes.
+   *
+   * @param clazz the class type for which will be generated and populated.
+   * @param instancesCount the number of generated and populated instances.
+   * @param populateDependencies information whether may be populated dependencies of populated
+   *          object(s).
+   * @return List of generated and populated instances of given class.
+   * @throws ObjectPopulatorException If some error occurs during generating or populating of
+   *           object.
+   */
+  protected <T> List<T> populateInParallel(Class<T> clazz, int instancesCount, boolean populateDependencies) throws ObjectPopulatorException {
+    if (clazz == null) {
+      throw new ObjectPopulatorException("Class type cannot be null");
+    }
+
+    if (instancesCount <= 0) {
+      throw new ObjectPopulatorException("Number of instances has to be greater than 0");
+    }
+
+    long firstIndex = reserveIndexes(instancesCount);
+    int chunksCount = (int)Math.min(instancesCount, (long)workerPool.getParallelism() * CHUNKS_PER_WORKER);
+    List<PopulatingTask<T>> tasks = new ArrayList<PopulatingTask<T>>(chunksCount);
+    for (int i = 0; i < chunksCount; i++) {
+      long fromIndex = firstIndex + (long)instancesCount * i / chunksCount;
+      long toIndex = firstIndex + (long)instancesCount * (i + 1) / chunksCount;
+      tasks.add(new PopulatingTask<T>(clazz, fromIndex, toIndex, populateDependencies));
+    }
+
+    try {
+      List<T> instances = new ArrayList<T>(instancesCount);
+      for (List<T> chunk : workerPool.invokeAll(tasks)) {
+        instances.addAll(chunk);
+      }
+
+      return instances;
+    }
+    catch (ExecutionException exc) {
+      if (exc.getCause() instanceof ObjectPopulatorException) {
+        throw (ObjectPopulatorException)exc.getCause();
+      }
+      throw new ObjectPopulatorException("Parallel population of class " + clazz.getName() + " failed", exc.getCause());
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+      throw new ObjectPopulatorException("Parallel population of class " + clazz.getName() + " was interrupted", exc);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public <T> Iterable<T> populateIterable(Class<T> clazz, long instancesCount) throws ObjectPopulatorException {
+    return populateIterable(clazz, instancesCount, true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public <T> Iterable<T> populateSingleIterable(Class<T> clazz, long instancesCount) throws ObjectPopulatorException {
+    return populateIterable(clazz, instancesCount, false);
+  }
+
+  /**
+   * The generic method for streaming population which returns iterable of lazily generated
+   * instances. The instances are populated with {@link TransientPopulatingSession} backed by global
+   * session, so they are not retained in memory by this populator.
+   *
+   * @param clazz the class type for which will be generated and populated.
+   * @param instancesCount the number of generated and populated instances.
+   * @param populateDependencies information whether may be populated dependencies of populated
+   *          object(s).
+   * @return Iterable of lazily generated and populated instances of given class.
+   * @throws ObjectPopulatorException If given class type is <code>null</code> or if given number
+   *           of instances is not greater than 0.
+   */
+  protected <T> Iterable<T> populateIterable(Class<T> clazz, long instancesCount, boolean populateDependencies) throws ObjectPopulatorException {
+    if (clazz == null) {
+      throw new ObjectPopulatorException("Class type cannot be null");
+    }
+
+    if (instancesCount <= 0) {
+      throw new ObjectPopulatorException("Number of instances has to be greater than 0");
+    }
+
+    return new PopulatingIterable<T>(clazz, instancesCount, populateDependencies);
+  }
+
   /**
    * The generic populating method which generates instance of the given <code>clazz</code> and then
    * perform population action according to given parameter <code>populateDependencies</code>.
@@ -101,19 +232,88 @@ public class ObjectPopulatorImpl implements ObjectPopulator {
    * @throws ObjectPopulatorException If some error occurs during generating or populating of
    *           object.
    */
-  @SuppressWarnings("unchecked")
   protected <T> T populate(Class<T> clazz, boolean populateDependencies) throws ObjectPopulatorException {
+    return populate(clazz, populateDependencies, populatingSession, reserveIndexes(1));
+  }
+
+  /**
+   * The generic populating method which generates instance of the given <code>clazz</code> and then
+   * perform population action according to given parameter <code>populateDependencies</code>. The
+   * given session is used as global session for populating context and all populated instances are
+   * stored into it.
+   *
+   * @param clazz the class type for which will be generated and populated.
+   * @param populateDependencies information whether may be populated dependencies of populated
+   *          object(s).
+   * @param session the global session of populated objects.
+   * @param index the index of generated instance in run.
+   * @return Generated and populated instance of given class.
+   * @throws ObjectPopulatorException If some error occurs during generating or populating of
+   *           object.
+   */
+  protected <T> T populate(Class<T> clazz, boolean populateDependencies, PopulatingSession session, long index) throws ObjectPopulatorException {
     if (clazz == null) {
       throw new ObjectPopulatorException("Class type cannot be null");
     }
 
-    // create populating context handler
-    PopulatingContextHandler contextHandler = createPopulatingContextHandler(populateDependencies);
+    return populate(clazz, createPopulatingContextHandler(populateDependencies, session), session, index);
+  }
+
+  /**
+   * The generic populating method which generates instance of the given <code>clazz</code> with the
+   * given index in run. If the seed of run is set, the instance is generated and populated in the
+   * seeded stream of random generators which is derived from the seed of run and from the given
+   * index.
+   *
+   * @param clazz the class type for which will be generated and populated.
+   * @param contextHandler the handler of populating context used for population.
+   * @param session the global session of populated objects.
+   * @param index the index of generated instance in run.
+   * @return Generated and populated instance of given class.
+   * @throws ObjectPopulatorException If some error occurs during generating or populating of
+   *           object or if the session of random generators doesn't support seeding.
+   */
+  protected <T> T populate(Class<T> clazz, PopulatingContextHandler contextHandler, PopulatingSession session, long index) throws ObjectPopulatorException {
+    Long runSeed = seed;
+    if (runSeed == null) {
+      return populate(clazz, contextHandler, session);
+    }
+
+    if (!(randomGeneratorSession instanceof SeedableRandomGeneratorSession)) {
+      throw new ObjectPopulatorException("Seeded population is not supported by random generator session: " + randomGeneratorSession.getClass().getName());
+    }
+
+    SeedableRandomGeneratorSession seedableSession = (SeedableRandomGeneratorSession)randomGeneratorSession;
+    seedableSession.beginStream(runSeed.longValue(), index);
+    try {
+      return populate(clazz, contextHandler, session);
+    }
+    finally {
+      seedableSession.endStream();
+    }
+  }
+
+  /**
+   * The generic populating method which generates instance of the given <code>clazz</code> and then
+   * populates it in populating context of given handler. All populated instances are stored into
+   * given global session.
+   *
+   * @param clazz the class type for which will be generated and populated.
+   * @param contextHandler the handler of populating context used for population.
+   * @param session the global session of populated objects.
+   * @return Generated and populated instance of given class.
+   * @throws ObjectPopulatorException If some error occurs during generating or populating of
+   *           object.
+   */
+  @SuppressWarnings("unchecked")
+  protected <T> T populate(Class<T> clazz, PopulatingContextHandler contextHandler, PopulatingSession session) throws ObjectPopulatorException {
     // get populating context
     PopulatingContext context = contextHandler.getPopulatingContext();
 
     try {
-      logger.debug("Creating new instance of: " + clazz.getName());
+      if (logger.isDebugEnabled()) {
+        logger.debug("Creating new instance of: " + clazz.getName());
+      }
 
       // constructs new instance of object for population
       Bean bean = constructionStrategyInvoker.constructObject(clazz, contextHandler.getPopulatingContext());
@@ -126,7 +326,9 @@ public class ObjectPopulatorImpl implements ObjectPopulator {
       while (beansToPopulate.hasFront()) {
         // get actual bean to populate
         Bean beanToPopulate = beansToPopulate.front();
-        logger.debug("Populating bean: " + beanToPopulate);
+        if (logger.isDebugEnabled()) {
+          logger.debug("Populating bean: " + beanToPopulate);
+        }
 
         // populate properties
         for (Property<?> property : beanToPopulate.getProperties()) {
@@ -135,7 +337,7 @@ public class ObjectPopulatorImpl implements ObjectPopulator {
 
         // add populated object into sessions
         contextHandler.addPopulatedInstance(beanToPopulate.getInstance());
-        populatingSession.addPopulatedInstance(beanToPopulate.getInstance());
+        session.addPopulatedInstance(beanToPopulate.getInstance());
 
         // remove object from iterator
         beansToPopulate.next();
@@ -158,7 +360,229 @@ public class ObjectPopulatorImpl implements ObjectPopulator {
    * @return New instance of handler of populating context.
    */
   protected PopulatingContextHandler createPopulatingContextHandler(boolean populateDependencies) {
-    return new PopulatingContextHandlerImpl(populateDependencies, populatingSession);
+    return createPopulatingContextHandler(populateDependencies, populatingSession);
+  }
+
+  /**
+   * Creates new instance of populating context handler with given global session.
+   *
+   * @param populateDependencies information whether may be populated dependencies of populated
+   *          object(s).
+   * @param session the global session of populated objects.
+   * @return New instance of handler of populating context.
+   */
+  protected PopulatingContextHandler createPopulatingContextHandler(boolean populateDependencies, PopulatingSession session) {
+    return new PopulatingContextHandlerImpl(populateDependencies, session);
+  }
+
+  /**
+   * Creates new instance of populating context handler with given registry of already populated
+   * instances. The registry is not copied, so it may be shared by multiple handlers.
+   *
+   * @param populateDependencies information whether may be populated dependencies of populated
+   *          object(s).
+   * @param globalInstances the registry of all already populated instances.
+   * @return New instance of handler of populating context.
+   */
+  protected PopulatingContextHandler createPopulatingContextHandler(boolean populateDependencies, InstanceRegistry globalInstances) {
+    return new PopulatingContextHandlerImpl(populateDependencies, globalInstances);
+  }
+
+  /**
+   * Generates and populates batch of instances of the given <code>clazz</code>. The instances
+   * stored in global session are taken as snapshot only once for whole batch and the instances
+   * populated in batch are appended to registry over this snapshot, so the next instances of batch
+   * see them as they would be populated one by one. The indexes of instances in registry are shared
+   * by whole batch.
+   *
+   * @param clazz the class type for which will be generated and populated.
+   * @param fromIndex the index of the first generated instance in run.
+   * @param instancesCount the number of generated and populated instances.
+   * @param populateDependencies information whether may be populated dependencies of populated
+   *          object(s).
+   * @param session the global session of populated objects.
+   * @return List of generated and populated instances of given class.
+   * @throws ObjectPopulatorException If some error occurs during generating or populating of
+   *           object.
+   */
+  protected <T> List<T> populateBatch(Class<T> clazz, long fromIndex, int instancesCount, boolean populateDependencies, PopulatingSession session) throws ObjectPopulatorException {
+    if (clazz == null) {
+      throw new ObjectPopulatorException("Class type cannot be null");
+    }
+
+    InstanceRegistry globalInstances = null;
+    if (populateDependencies) {
+      globalInstances = new InstanceRegistry(session.getSnapshot());
+    }
+
+    List<T> instances = new ArrayList<T>(instancesCount);
+    for (int i = 0; i < instancesCount; i++) {
+      PopulatingContextHandler contextHandler = createPopulatingContextHandler(populateDependencies, globalInstances);
+      instances.add(populate(clazz, contextHandler, session, fromIndex + i));
+
+      if (globalInstances != null) {
+        globalInstances.addAll(contextHandler.getPopulatingContext().getPopulatedInstances(false));
+      }
+    }
+
+    return instances;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public <T> void populate(Class<T> clazz, long instancesCount, PopulationSink<? super T> sink) throws ObjectPopulatorException {
+    populate(clazz, instancesCount, true, sink);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public <T> void populateSingle(Class<T> clazz, long instancesCount, PopulationSink<? super T> sink) throws ObjectPopulatorException {
+    populate(clazz, instancesCount, false, sink);
+  }
+
+  /**
+   * The generic method for population into sink. The instances are populated in batches of size
+   * given by sink. If the parallelism is available, the batches are populated by worker threads
+   * from {@link WorkerPool}, but at most as many batches as is the parallelism of pool are
+   * populated ahead of the sink. The batches are passed to the sink sequentially in their order
+   * from the current thread.
+   *
+   * @param clazz the class type for which will be generated and populated.
+   * @param instancesCount the number of generated and populated instances.
+   * @param populateDependencies information whether may be populated dependencies of populated
+   *          object(s).
+   * @param sink the sink which consumes batches of generated and populated instances.
+   * @throws ObjectPopulatorException If some error occurs during generating or populating of
+   *           object or if the sink failed to consume some batch.
+   */
+  protected <T> void populate(Class<T> clazz, long instancesCount, boolean populateDependencies, PopulationSink<? super T> sink) throws ObjectPopulatorException {
+    if (clazz == null) {
+      throw new ObjectPopulatorException("Class type cannot be null");
+    }
+
+    if (instancesCount <= 0) {
+      throw new ObjectPopulatorException("Number of instances has to be greater than 0");
+    }
+
+    if (sink == null) {
+      throw new ObjectPopulatorException("Population sink cannot be null");
+    }
+
+    int batchSize = sink.getBatchSize();
+    if (batchSize <= 0) {
+      throw new ObjectPopulatorException("Batch size has to be greater than 0");
+    }
+
+    long batchesCount = (instancesCount + batchSize - 1) / batchSize;
+    int maxPendingBatches = workerPool.isParallelismAvailable() ? workerPool.getParallelism() : 1;
+
+    LinkedList<Future<List<T>>> pendingBatches = new LinkedList<Future<List<T>>>();
+    long index = reserveIndexes(instancesCount);
+    long remaining = instancesCount;
+    long batch = 0;
+    try {
+      while (batch < batchesCount || !pendingBatches.isEmpty()) {
+        // populate batches ahead (up to the parallelism of pool)
+        while (batch < batchesCount && pendingBatches.size() < maxPendingBatches) {
+          int count = (int)Math.min(remaining, batchSize);
+          pendingBatches.add(workerPool.submit(new PopulatingTask<T>(clazz, index, index + count, populateDependencies)));
+          index += count;
+          remaining -= count;
+          batch++;
+        }
+
+        List<T> instances = pendingBatches.removeFirst().get();
+        try {
+          sink.accept(instances);
+        }
+        catch (Exception exc) {
+          throw new ObjectPopulatorException("Population sink failed to accept batch of class " + clazz.getName(), exc);
+        }
+      }
+    }
+    catch (ExecutionException exc) {
+      if (exc.getCause() instanceof ObjectPopulatorException) {
+        throw (ObjectPopulatorException)exc.getCause();
+      }
+      throw new ObjectPopulatorException("Population of class " + clazz.getName() + " failed", exc.getCause());
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+      throw new ObjectPopulatorException("Population of class " + clazz.getName() + " was interrupted", exc);
+    }
+    finally {
+      for (Future<List<T>> pendingBatch : pendingBatches) {
+        pendingBatch.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public <T> List<T> populateRange(Class<T> clazz, long fromIndex, int instancesCount) throws ObjectPopulatorException {
+    return populateRange(clazz, fromIndex, instancesCount, true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public <T> List<T> populateSingleRange(Class<T> clazz, long fromIndex, int instancesCount) throws ObjectPopulatorException {
+    return populateRange(clazz, fromIndex, instancesCount, false);
+  }
+
+  /**
+   * The generic method for population of instances with given indexes in run. The instances are
+   * populated sequentially by method
+   * {@link #populateBatch(Class, long, int, boolean, PopulatingSession)} and the index of next
+   * instance of run is not changed.
+   *
+   * @param clazz the class type for which will be generated and populated.
+   * @param fromIndex the index of the first generated instance in run.
+   * @param instancesCount the number of generated and populated instances.
+   * @param populateDependencies information whether may be populated dependencies of populated
+   *          object(s).
+   * @return List of generated and populated instances of given class.
+   * @throws ObjectPopulatorException If some error occurs during generating or populating of
+   *           object or if given index is negative.
+   */
+  protected <T> List<T> populateRange(Class<T> clazz, long fromIndex, int instancesCount, boolean populateDependencies) throws ObjectPopulatorException {
+    if (fromIndex < 0) {
+      throw new ObjectPopulatorException("Index of instance cannot be negative");
+    }
+
+    if (instancesCount <= 0) {
+      throw new ObjectPopulatorException("Number of instances has to be greater than 0");
+    }
+
+    return populateBatch(clazz, fromIndex, instancesCount, populateDependencies, populatingSession);
+  }
+
+  /**
+   * Reserves given number of indexes of generated root instances in run.
+   *
+   * @param instancesCount the number of reserved indexes.
+   * @return Index of the first reserved instance.
+   */
+  protected long reserveIndexes(long instancesCount) {
+    return nextIndex.getAndAdd(instancesCount);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void setSeed(Long seed) {
+    this.seed = seed;
+    nextIndex.set(0);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public Long getSeed() {
+    return seed;
   }
 
   /**
@@ -168,6 +592,160 @@ public class ObjectPopulatorImpl implements ObjectPopulator {
     populatingSession.clear();
   }
 
+  /**
+   * Task for parallel population which populates chunk of instances with given range of indexes.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   *
+   * @param <T> Class type of populated instances.
+   */
+  protected class PopulatingTask<T> implements Callable<List<T>> {
+
+    /** The class type for which will be generated and populated. */
+    protected final Class<T> clazz;
+    /** Index of the first populated instance in run (inclusive). */
+    protected final long fromIndex;
+    /** Index of the last populated instance in run (exclusive). */
+    protected final long toIndex;
+    /** Information whether may be populated dependencies of populated object(s). */
+    protected final boolean populateDependencies;
+
+    /**
+     * Constructs task for parallel population.
+     *
+     * @param clazz the class type for which will be generated and populated.
+     * @param fromIndex the index of the first populated instance in run (inclusive).
+     * @param toIndex the index of the last populated instance in run (exclusive).
+     * @param populateDependencies information whether may be populated dependencies of populated
+     *          object(s).
+     */
+    protected PopulatingTask(Class<T> clazz, long fromIndex, long toIndex, boolean populateDependencies) {
+      this.clazz = clazz;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+      this.populateDependencies = populateDependencies;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public List<T> call() throws ObjectPopulatorException {
+      return populateBatch(clazz, fromIndex, (int)(toIndex - fromIndex), populateDependencies, populatingSession);
+    }
+  }
+
+  /**
+   * Iterable of lazily generated and populated instances. Each iterator generates new instances.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   *
+   * @param <T> Class type of populated instances.
+   */
+  protected class PopulatingIterable<T> implements Iterable<T> {
+
+    /** The class type for which will be generated and populated. */
+    protected final Class<T> clazz;
+    /** The number of generated and populated instances. */
+    protected final long instancesCount;
+    /** Information whether may be populated dependencies of populated object(s). */
+    protected final boolean populateDependencies;
+
+    /**
+     * Constructs iterable of lazily generated and populated instances.
+     *
+     * @param clazz the class type for which will be generated and populated.
+     * @param instancesCount the number of generated and populated instances.
+     * @param populateDependencies information whether may be populated dependencies of populated
+     *          object(s).
+     */
+    protected PopulatingIterable(Class<T> clazz, long instancesCount, boolean populateDependencies) {
+      this.clazz = clazz;
+      this.instancesCount = instancesCount;
+      this.populateDependencies = populateDependencies;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Iterator<T> iterator() {
+      return new PopulatingIterator<T>(clazz, instancesCount, populateDependencies);
+    }
+  }
+
+  /**
+   * Iterator which generates and populates instances on demand. The populated instances are not
+   * stored into global session.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   *
+   * @param <T> Class type of populated instances.
+   */
+  protected class PopulatingIterator<T> implements Iterator<T> {
+
+    /** The class type for which will be generated and populated. */
+    protected final Class<T> clazz;
+    /** Information whether may be populated dependencies of populated object(s). */
+    protected final boolean populateDependencies;
+    /** Session which does not retain populated instances. */
+    protected final PopulatingSession session;
+    /** The number of remaining instances. */
+    protected long remaining;
+
+    /**
+     * Constructs iterator of lazily generated and populated instances.
+     *
+     * @param clazz the class type for which will be generated and populated.
+     * @param instancesCount the number of generated and populated instances.
+     * @param populateDependencies information whether may be populated dependencies of populated
+     *          object(s).
+     */
+    protected PopulatingIterator(Class<T> clazz, long instancesCount, boolean populateDependencies) {
+      this.clazz = clazz;
+      this.remaining = instancesCount;
+      this.populateDependencies = populateDependencies;
+      this.session = new TransientPopulatingSession(populatingSession);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ObjectPopulatorRuntimeException If some error occurs during generating or populating
+     *           of object.
+     */
+    public T next() {
+      if (remaining <= 0) {
+        throw new NoSuchElementException();
+      }
+
+      remaining--;
+      try {
+        return populate(clazz, populateDependencies, session, reserveIndexes(1));
+      }
+      catch (ObjectPopulatorException exc) {
+        throw new ObjectPopulatorRuntimeException(exc.getMessage(), exc);
+      }
+    }
+
+    /**
+     * Unsupported operation.
+     *
+     * @throws UnsupportedOperationException Always.
+     */
+    public void remove() {
+      throw new UnsupportedOperationException("Populated instances cannot be removed");
+    }
+  }
+
   //----- Injection part ------------------------------------------------------
 
   /** Session for already populated (generated) objects. */
@@ -176,6 +754,10 @@ public class ObjectPopulatorImpl implements ObjectPopulator {
   protected ConstructionStrategyInvoker constructionStrategyInvoker;
   /** Interlayer (invoker) for populating strategies. */
   protected PopulatingStrategyInvoker populatingStrategyInvoker;
+  /** Shared pool of worker threads for parallel population. */
+  protected WorkerPool workerPool;
+  /** Session of random generators which is switched to the seeded streams for seeded population. */
+  protected RandomGeneratorSession randomGeneratorSession;
 
   /**
    * Sets (injects) session of already populated (generated) objects.
@@ -206,4 +788,24 @@ public class ObjectPopulatorImpl implements ObjectPopulator {
   public final void setPopulatingStrategyInvoker(PopulatingStrategyInvoker populatingStrategyInvoker) {
     this.populatingStrategyInvoker = populatingStrategyInvoker;
   }
+
+  /**
+   * Sets (injects) shared pool of worker threads for parallel population.
+   *
+   * @param workerPool the pool of worker threads to set (inject).
+   */
+  @Inject
+  public final void setWorkerPool(WorkerPool workerPool) {
+    this.workerPool = workerPool;
+  }
+
+  /**
+   * Sets (injects) session of random generators.
+   *
+   * @param randomGeneratorSession the session to set (inject).
+   */
+  @Inject
+  public final void setRandomGeneratorSession(RandomGeneratorSession randomGeneratorSession) {
+    this.randomGeneratorSession = randomGeneratorSession;
+  }
 }
@@ -13,6 +13,9 @@ import cz.zcu.kiv.jop.ioc.InjectorManager;
  * dependencies (with their dependencies) will be injected into instance of object populator. Also
  * the Injector should contains information about implementations of dependencies which usually has
  * form of interface.
+ * <p>
+ * All callers of this provider share the same populator (and its sessions). The independent
+ * populators may be built by {@link ObjectPopulatorBuilder}.
  *
  * @author Mr.FrAnTA
  * @since 1.0.0
@@ -2,6 +2,7 @@ package cz.zcu.kiv.jop.bean;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -10,7 +11,9 @@ import cz.zcu.kiv.jop.annotation.Access;
 import cz.zcu.kiv.jop.annotation.AccessType;
 import cz.zcu.kiv.jop.property.BasicProperty;
 import cz.zcu.kiv.jop.property.DirectAccessProperty;
+import cz.zcu.kiv.jop.property.FastAccessProperty;
 import cz.zcu.kiv.jop.property.Property;
+import cz.zcu.kiv.jop.util.WeakCache;
 
 /**
  * Implementation of {@link Bean} which extends the {@link AbstractBean}. This implementation of
@@ -30,12 +33,20 @@ import cz.zcu.kiv.jop.property.Property;
  * <li>{@link #getDeclaredProperty(String)} - returns property with given name from bean class. If
  * property with given name is not present the {@link BeanException} is thrown.</li>
  * </ul>
+ * <p>
+ * The declared properties are analyzed only once for each class type. The properties are
+ * immutable descriptors which are independent on the bean instance so they are cached and shared
+ * between all beans of the same class type. The cache doesn't prevent unloading of the class types
+ * (see {@link WeakCache}).
  *
  * @author Mr.FrAnTA
  * @since 1.0.0
  */
 public class JopBean extends AbstractBean {
 
+  /** Cache of (unmodifiable) maps of declared properties for already analyzed class types. */
+  private static final WeakCache<Class<?>, Map<String, Property<?>>> propertiesCache = new WeakCache<Class<?>, Map<String, Property<?>>>();
+
   /**
    * Instance of object for which was created this bean descriptor. The field is not final because
    * the instance may be "injected" by reflection.
@@ -80,7 +91,28 @@ public class JopBean extends AbstractBean {
 
     this.instance = instance;
     parent = createParent();
-    properties = createProperties();
+    properties = getCachedProperties();
+  }
+
+  /**
+   * Returns map of declared properties of this bean from cache of already analyzed class types. If
+   * the properties are not cached yet, they are created by method {@link #createProperties()} and
+   * stored into cache. The cache is used only for this implementation of bean because the
+   * subclasses may change the way how are the properties created.
+   *
+   * @return Map of declared properties of this bean.
+   */
+  private Map<String, Property<?>> getCachedProperties() {
+    if (getClass() != JopBean.class) {
+      return createProperties();
+    }
+
+    Map<String, Property<?>> properties = propertiesCache.get(beanType);
+    if (properties == null) {
+      properties = propertiesCache.put(beanType, Collections.unmodifiableMap(createProperties()));
+    }
+
+    return properties;
   }
 
   /**
@@ -122,7 +154,8 @@ public class JopBean extends AbstractBean {
 
   /**
    * Creates property according to given {@link AccessType}. It returns {@link BasicProperty} for
-   * {@link AccessType#PROPERTY} and {@link DirectAccessProperty} for {@link AccessType#FIELD}.
+   * {@link AccessType#PROPERTY}, {@link FastAccessProperty} for {@link AccessType#FAST_FIELD} and
+   * {@link DirectAccessProperty} for {@link AccessType#FIELD}.
    *
    * @param propertyName the name of property.
    * @param propertyType the class type of property.
@@ -133,6 +166,9 @@ public class JopBean extends AbstractBean {
     if (accessType == AccessType.PROPERTY) {
       return new BasicProperty<T>(beanType, propertyName);
     }
+    else if (accessType == AccessType.FAST_FIELD) {
+      return new FastAccessProperty<T>(beanType, propertyName);
+    }
 
     return new DirectAccessProperty<T>(beanType, propertyName);
   }
@@ -0,0 +1,353 @@
+package cz.zcu.kiv.jop.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Singleton;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import cz.zcu.kiv.jop.util.Preconditions;
+
+/**
+ * Shared pool of worker threads used for parallel population. The pool lazily creates fixed thread
+ * pool with given parallelism (by default the number of available processors) of daemon threads.
+ * The pool may be configured to use some external executor service instead of own one (for
+ * example the {@link #getSharedExecutorService() shared} one).
+ * <p>
+ * The tasks invoked by this pool which invoke another tasks (for example nested arrays during
+ * parallel population of objects) are executed sequentially in the calling thread. This prevents
+ * oversubscription of processors and dead-locks of the pool.
+ * <p>
+ * The worker threads (especially the shared ones) execute tasks of many pools, so the components
+ * which keep some state per thread may register its cleanup by method
+ * {@link #addThreadCleanup(Runnable)}. The cleanups are run by worker thread at the end of each task
+ * of this pool, so no state of finished tasks stays on the worker threads.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+@Singleton
+public class WorkerPool {
+
+  /** Logger used for logging. */
+  private static final Log logger = LogFactory.getLog(WorkerPool.class);
+
+  /** Prefix for names of worker threads. */
+  protected static final String THREAD_NAME_PREFIX = "jop-worker-";
+
+  /** Information whether the current thread executes some task of worker pool. */
+  private static final ThreadLocal<Boolean> workerThread = new ThreadLocal<Boolean>();
+
+  /** Cleanups of per-thread state which are run at the end of each task of worker thread. */
+  protected final List<Runnable> threadCleanups = new CopyOnWriteArrayList<Runnable>();
+  /** Executor service used for execution of tasks. */
+  protected ExecutorService executorService;
+  /** Information whether the executor service was created by this pool. */
+  protected boolean ownExecutorService;
+  /** Maximal number of tasks which are executed in parallel. */
+  protected int parallelism;
+
+  /**
+   * Constructs worker pool with parallelism equal to number of available processors.
+   */
+  public WorkerPool() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructs worker pool with given parallelism.
+   *
+   * @param parallelism the maximal number of tasks which are executed in parallel.
+   * @throws IllegalArgumentException If given parallelism is lower than 1.
+   */
+  public WorkerPool(int parallelism) {
+    Preconditions.checkArgument(parallelism > 0, "Parallelism has to be greater than 0");
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Returns maximal number of tasks which are executed in parallel.
+   *
+   * @return Maximal number of tasks which are executed in parallel.
+   */
+  public synchronized int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Sets maximal number of tasks which are executed in parallel. If the pool uses its own executor
+   * service, the service is shut down and it will be created again with new parallelism.
+   *
+   * @param parallelism the maximal number of tasks which are executed in parallel.
+   * @throws IllegalArgumentException If given parallelism is lower than 1.
+   */
+  public synchronized void setParallelism(int parallelism) {
+    Preconditions.checkArgument(parallelism > 0, "Parallelism has to be greater than 0");
+    if (ownExecutorService) {
+      shutdown();
+    }
+
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Sets external executor service which will be used for execution of tasks. The lifecycle of
+   * given executor service is not managed by this pool.
+   *
+   * @param executorService the executor service to set (<code>null</code> for own executor
+   *          service).
+   * @param parallelism the maximal number of tasks which should be executed in parallel.
+   * @throws IllegalArgumentException If given parallelism is lower than 1.
+   */
+  public synchronized void setExecutorService(ExecutorService executorService, int parallelism) {
+    Preconditions.checkArgument(parallelism > 0, "Parallelism has to be greater than 0");
+    if (ownExecutorService) {
+      shutdown();
+    }
+
+    this.executorService = executorService;
+    this.ownExecutorService = false;
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Adds cleanup of per-thread state which will be run by worker thread at the end of each task of
+   * this pool (the nested tasks executed in the same thread don't run the cleanups).
+   *
+   * @param cleanup the cleanup to add.
+   * @throws IllegalArgumentException If given cleanup is <code>null</code>.
+   */
+  public void addThreadCleanup(Runnable cleanup) {
+    Preconditions.checkArgumentNotNull(cleanup, "Cleanup cannot be null");
+    threadCleanups.add(cleanup);
+  }
+
+  /**
+   * Returns executor service used for execution of tasks. If there is no executor service, the new
+   * one is created.
+   *
+   * @return Executor service used for execution of tasks.
+   */
+  protected synchronized ExecutorService getExecutorService() {
+    if (executorService == null) {
+      logger.debug("Creating pool of " + parallelism + " worker thread(s)");
+      executorService = Executors.newFixedThreadPool(parallelism, new WorkerThreadFactory());
+      ownExecutorService = true;
+    }
+
+    return executorService;
+  }
+
+  /**
+   * Returns executor service which may be shared by multiple worker pools (for example by the pools
+   * of independent populators). The shared executor service has fixed number of daemon threads equal
+   * to number of available processors. It's created on the first use and it's never shut down, so
+   * the worker pools which use it don't have to be shut down.
+   *
+   * @return The shared executor service.
+   */
+  public static ExecutorService getSharedExecutorService() {
+    return SharedExecutorServiceHolder.EXECUTOR_SERVICE;
+  }
+
+  /**
+   * Returns information whether the current thread executes some task of worker pool.
+   *
+   * @return <code>true</code> if the current thread executes some task of worker pool;
+   *         <code>false</code> otherwise.
+   */
+  public boolean isWorkerThread() {
+    return workerThread.get() != null;
+  }
+
+  /**
+   * Returns information whether the tasks invoked from current thread would be executed in
+   * parallel.
+   *
+   * @return <code>true</code> if the tasks would be executed in parallel; <code>false</code>
+   *         otherwise.
+   */
+  public boolean isParallelismAvailable() {
+    return getParallelism() > 1 && !isWorkerThread();
+  }
+
+  /**
+   * Executes given tasks and returns list of their results in the same order as the tasks were
+   * given. The tasks are executed sequentially in the current thread if they are invoked from some
+   * other task of this pool or if the parallelism of pool is 1.
+   *
+   * @param tasks the tasks to execute.
+   * @return List of results of tasks in the same order as the tasks were given.
+   * @throws ExecutionException If some task threw an exception. The rest of tasks is cancelled.
+   * @throws InterruptedException If the current thread was interrupted while waiting.
+   */
+  public <T> List<T> invokeAll(List<? extends Callable<T>> tasks) throws ExecutionException, InterruptedException {
+    Preconditions.checkArgumentNotNull(tasks, "Tasks cannot be null");
+
+    List<T> results = new ArrayList<T>(tasks.size());
+    if (tasks.size() <= 1 || !isParallelismAvailable()) {
+      for (Callable<T> task : tasks) {
+        try {
+          results.add(task.call());
+        }
+        catch (Exception exc) {
+          throw new ExecutionException(exc);
+        }
+      }
+
+      return results;
+    }
+
+    ExecutorService executor = getExecutorService();
+    List<Future<T>> futures = new ArrayList<Future<T>>(tasks.size());
+    try {
+      for (Callable<T> task : tasks) {
+        futures.add(executor.submit(new WorkerTask<T>(task, threadCleanups)));
+      }
+
+      for (Future<T> future : futures) {
+        results.add(future.get());
+      }
+    }
+    finally {
+      if (results.size() < futures.size() || futures.size() < tasks.size()) {
+        for (Future<T> future : futures) {
+          future.cancel(true);
+        }
+      }
+    }
+
+    return results;
+  }
+
+  /**
+   * Submits given task for asynchronous execution by worker thread. If the task is submitted from
+   * some other task of this pool or if the parallelism of pool is 1, the task is executed
+   * immediately in the current thread and the returned future is already done.
+   *
+   * @param task the task to submit.
+   * @return Future representing the result of task.
+   */
+  public <T> Future<T> submit(Callable<T> task) {
+    Preconditions.checkArgumentNotNull(task, "Task cannot be null");
+
+    if (!isParallelismAvailable()) {
+      FutureTask<T> future = new FutureTask<T>(task);
+      future.run();
+
+      return future;
+    }
+
+    return getExecutorService().submit(new WorkerTask<T>(task, threadCleanups));
+  }
+
+  /**
+   * Shuts down the executor service if it was created by this pool. The new executor service will
+   * be created when it will be required.
+   */
+  public synchronized void shutdown() {
+    if (ownExecutorService && executorService != null) {
+      executorService.shutdown();
+    }
+
+    executorService = null;
+    ownExecutorService = false;
+  }
+
+  /**
+   * Task which marks the thread which executes it as a worker thread. At the end of task (if it's
+   * not nested in other task of worker thread), the cleanups of per-thread state are run.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   *
+   * @param <T> Class type of result of task.
+   */
+  protected static class WorkerTask<T> implements Callable<T> {
+
+    /** The wrapped task. */
+    protected final Callable<T> task;
+    /** The cleanups of per-thread state. */
+    protected final List<Runnable> threadCleanups;
+
+    /**
+     * Constructs worker task.
+     *
+     * @param task the task to wrap.
+     * @param threadCleanups the cleanups of per-thread state.
+     */
+    protected WorkerTask(Callable<T> task, List<Runnable> threadCleanups) {
+      this.task = task;
+      this.threadCleanups = threadCleanups;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public T call() throws Exception {
+      Boolean previous = workerThread.get();
+      workerThread.set(Boolean.TRUE);
+      try {
+        return task.call();
+      }
+      finally {
+        if (previous == null) {
+          workerThread.remove();
+          for (Runnable cleanup : threadCleanups) {
+            try {
+              cleanup.run();
+            }
+            catch (RuntimeException exc) {
+              logger.warn("Cleanup of worker thread failed", exc);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Holder of shared executor service which is created on the first use.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  private static class SharedExecutorServiceHolder {
+
+    /** The shared executor service. */
+    static final ExecutorService EXECUTOR_SERVICE = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new WorkerThreadFactory());
+  }
+
+  /**
+   * Factory for named daemon worker threads.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected static class WorkerThreadFactory implements ThreadFactory {
+
+    /** Number of created threads. */
+    protected final AtomicInteger threadNumber = new AtomicInteger();
+
+    /**
+     * {@inheritDoc}
+     */
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package cz.zcu.kiv.jop.construction;
+
+import java.lang.reflect.Modifier;
+
+import javax.inject.Singleton;
+
+import cz.zcu.kiv.jop.annotation.construction.CustomConstructionStrategy;
+import cz.zcu.kiv.jop.bean.JopBean;
+import cz.zcu.kiv.jop.context.PopulatingContext;
+import cz.zcu.kiv.jop.util.UnsafeUtils;
+
+/**
+ * Implementation of {@link ConstructionStrategy} which allocates new instances without invocation
+ * of any constructor (in the same way as de-serialization of objects). All fields of allocated
+ * instances have default values (<code>null</code>, <code>0</code> or <code>false</code>) - even
+ * the fields with initializers, so the values of fields are set only by property populators.
+ * <p>
+ * This strategy may be used for classes which have expensive constructors or constructors with
+ * side effects whose results are overwritten by population anyway. The strategy may be selected by
+ * annotation {@link CustomConstructionStrategy}:
+ *
+ * <pre>
+ * &#064;CustomConstructionStrategy(AllocationConstructionStrategy.class)
+ * public class Person {
+ *   ...
+ * }
+ * </pre>
+ *
+ * The allocation uses the class <code>sun.misc.Unsafe</code> (via {@link UnsafeUtils}) which is
+ * available in the most of JVMs. If the JVM doesn't provide this class, the construction of objects
+ * fails.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+@Singleton
+public class AllocationConstructionStrategy implements ConstructionStrategy {
+
+  /**
+   * {@inheritDoc}
+   */
+  public <T> T constructObject(Class<T> objClass, PopulatingContext context) throws ConstructionStrategyException {
+    if (!JopBean.isSupported(objClass)) {
+      throw new ConstructionStrategyException("Unsupported class type: " + objClass.getName());
+    }
+
+    if (Modifier.isAbstract(objClass.getModifiers())) {
+      throw new ConstructionStrategyException("Cannot allocate instance of abstract class: " + objClass.getName());
+    }
+
+    if (!UnsafeUtils.isAvailable()) {
+      throw new ConstructionStrategyException("Allocation of instances is not supported by JVM");
+    }
+
+    try {
+      return UnsafeUtils.allocateInstance(objClass);
+    }
+    catch (InstantiationException exc) {
+      throw new ConstructionStrategyException("Cannot allocate instance of class: " + objClass.getName(), exc);
+    }
+  }
+}
@@ -2,15 +2,22 @@ package cz.zcu.kiv.jop.construction;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import cz.zcu.kiv.jop.bean.Bean;
 import cz.zcu.kiv.jop.bean.JopBean;
 import cz.zcu.kiv.jop.context.PopulatingContext;
 import cz.zcu.kiv.jop.property.Property;
-import cz.zcu.kiv.jop.property.VirtualProperty;
+import cz.zcu.kiv.jop.property.Setter;
+import cz.zcu.kiv.jop.strategy.PopulatingStrategy;
+import cz.zcu.kiv.jop.strategy.PopulatingStrategyException;
 import cz.zcu.kiv.jop.strategy.PopulatingStrategyInvoker;
 
 /**
@@ -18,6 +25,12 @@ import cz.zcu.kiv.jop.strategy.PopulatingStrategyInvoker;
  * static construction method which is used for construction of object. Used constructor or
  * construction method may contains parameters (with populating annotations) which will be generated
  * according their annotations.
+ * <p>
+ * The analysis of constructors and construction methods is performed only once for each class. The
+ * result of analysis is stored as plan of construction into cache and reused by next constructions
+ * of the same class. The properties of parameters are shared by all constructions, so the analysis
+ * of their annotations is cached by invokers of populating strategies, property populators and
+ * value generators.
  *
  * @author Mr.FrAnTA
  * @since 1.0.0
@@ -25,6 +38,9 @@ import cz.zcu.kiv.jop.strategy.PopulatingStrategyInvoker;
 @Singleton
 public class ConstructionStrategyImpl implements ConstructionStrategy {
 
+  /** Cache of construction plans for already analyzed classes. */
+  protected final ConcurrentMap<Class<?>, ConstructionPlan> constructionPlans = new ConcurrentHashMap<Class<?>, ConstructionPlan>();
+
   /**
    * Searches for usable constructor of given class. If given class contains only one constructor,
    * this constructor is returned. If given class contains more constructions, it searches for
@@ -93,47 +109,106 @@ public class ConstructionStrategyImpl implements ConstructionStrategy {
   }
 
   /**
-   * Prepares parameters for invocation of construction or construction method.
+   * Prepares parameters for invocation of construction or construction method. The value of each
+   * parameter is populated by populating strategies applied to the property of parameter. The
+   * properties of parameters are shared, so the value of each {@link ParameterProperty} is
+   * populated into new holder of value which is the current object of populating context given to
+   * the strategies.
    *
-   * @param paramsTypes the array of class types of parameters.
-   * @param paramsAnnotations the array of array of annotations annotating parameters.
+   * @param parameters the properties of parameters.
    * @param context the populating context for preparation of parameters.
    * @return Prepared parameters for constructor or construction method invocation.
    * @throws Exception If some error occurs during parameters preparation.
    */
-  protected Object[] prepareParameters(Class<?>[] paramsTypes, Annotation[][] paramsAnnotations, PopulatingContext context) throws Exception {
-    Object[] params = new Object[paramsTypes.length];
-    for (int i = 0; i < paramsTypes.length; i++) {
-      // prepare virtual property
-      Property<?> property = prepareParameterProperty(i, paramsTypes[i], paramsAnnotations[i]);
+  @SuppressWarnings("unchecked")
+  protected Object[] prepareParameters(Property<?>[] parameters, PopulatingContext context) throws Exception {
+    Object[] params = new Object[parameters.length];
+    for (int i = 0; i < parameters.length; i++) {
+      Property<?> property = parameters[i];
+      if (property instanceof ParameterProperty) {
+        ParameterProperty.ValueHolder valueHolder = ((ParameterProperty<?>)property).createValueHolder();
+
+        // apply strategies to property and store parameter value
+        populatingStrategyInvoker.applyStrategy(property, new ParameterPopulatingContext(context, valueHolder));
+        params[i] = property.getGetter().get(valueHolder);
+      }
+      else {
+        try {
+          // apply strategies to property and store parameter value
+          populatingStrategyInvoker.applyStrategy(property, context);
+          params[i] = property.getGetter().get(null);
+        }
+        finally {
+          ((Setter<Object>)property.getSetter()).set(null, null);
+        }
+      }
+    }
 
-      // apply strategies to property
-      populatingStrategyInvoker.applyStrategy(property, context);
+    return params;
+  }
 
-      // store parameter value
-      params[i] = property.getGetter().get(null);
+  /**
+   * Prepares properties for parameters of given constructor or construction method.
+   *
+   * @param member the constructor or construction method.
+   * @param paramsTypes the array of class types of parameters.
+   * @param paramsAnnotations the array of array of annotations annotating parameters.
+   * @return Prepared properties for parameters.
+   */
+  protected Property<?>[] prepareParameterProperties(Member member, Class<?>[] paramsTypes, Annotation[][] paramsAnnotations) {
+    Property<?>[] parameters = new Property<?>[paramsTypes.length];
+    for (int i = 0; i < paramsTypes.length; i++) {
+      parameters[i] = prepareParameterProperty(member, i, paramsTypes[i], paramsAnnotations[i]);
     }
 
-    return params;
+    return parameters;
   }
 
   /**
    * Prepares property for parameter of constructor or construction method.
    *
+   * @param member the constructor or construction method.
    * @param index the index of parameter.
    * @param parameterType the class type of parameter.
    * @param annotations the array of annotations annotating parameter.
    * @return Prepared property for parameter.
    */
-  protected <T> Property<T> prepareParameterProperty(int index, Class<T> parameterType, Annotation[] annotations) {
-    return new VirtualProperty<T>("arg" + index, parameterType, annotations);
+  protected <T> Property<T> prepareParameterProperty(Member member, int index, Class<T> parameterType, Annotation[] annotations) {
+    return new ParameterProperty<T>(member, index, parameterType, annotations);
   }
 
   /**
-   * {@inheritDoc}
+   * Returns plan of construction for given class. The plan is obtained from cache or it's created
+   * by method {@link #createConstructionPlan(Class)} and stored into cache.
+   *
+   * @param clazz the class for which will be returned plan of construction.
+   * @return Plan of construction for given class.
+   * @throws ConstructionStrategyException If given class is not supported or if it has no usable
+   *           constructor or construction method.
    */
-  @SuppressWarnings("unchecked")
-  public <T> T constructObject(Class<T> objClass, PopulatingContext context) throws ConstructionStrategyException {
+  protected ConstructionPlan getConstructionPlan(Class<?> clazz) throws ConstructionStrategyException {
+    ConstructionPlan plan = constructionPlans.get(clazz);
+    if (plan == null) {
+      plan = createConstructionPlan(clazz);
+      ConstructionPlan cached = constructionPlans.putIfAbsent(clazz, plan);
+      if (cached != null) {
+        plan = cached;
+      }
+    }
+
+    return plan;
+  }
+
+  /**
+   * Searches for usable constructor or construction method of given class and creates plan of
+   * construction for it.
+   *
+   * @param objClass the class for which will be created plan of construction.
+   * @return Created plan of construction.
+   * @throws ConstructionStrategyException If given class is not supported or if it has no usable
+   *           constructor or construction method.
+   */
+  protected ConstructionPlan createConstructionPlan(Class<?> objClass) throws ConstructionStrategyException {
     if (!JopBean.isSupported(objClass)) {
       throw new ConstructionStrategyException("Unsupported class type: " + objClass.getName());
     }
@@ -164,44 +239,117 @@ public class ConstructionStrategyImpl implements ConstructionStrategy {
       throw new ConstructionStrategyException("No (annotated) constructor or construction method found for class: " + className);
     }
 
-    Object[] params = null;
-
     if (construct != null) {
-      try {
-        params = prepareParameters(construct.getParameterTypes(), construct.getParameterAnnotations(), context);
-      }
-      catch (Exception exc) {
-        throw new ConstructionStrategyException("Cannot parameters for constructor of class: " + className, exc);
-      }
-
       if (!construct.isAccessible()) {
         construct.setAccessible(true);
       }
 
-      try {
-        return (T)construct.newInstance(params);
-      }
-      catch (Exception exc) {
-        throw new ConstructionStrategyException("Cannot create instance of class: " + className, exc);
-      }
+      return new ConstructionPlan(construct, null, prepareParameterProperties(construct, construct.getParameterTypes(), construct.getParameterAnnotations()));
+    }
+
+    if (!constructMethod.isAccessible()) {
+      constructMethod.setAccessible(true);
     }
 
+    return new ConstructionPlan(null, constructMethod, prepareParameterProperties(constructMethod, constructMethod.getParameterTypes(), constructMethod.getParameterAnnotations()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T constructObject(Class<T> objClass, PopulatingContext context) throws ConstructionStrategyException {
+    ConstructionPlan plan = getConstructionPlan(objClass);
+
+    Object[] params = null;
     try {
-      params = prepareParameters(constructMethod.getParameterTypes(), constructMethod.getParameterAnnotations(), context);
+      params = prepareParameters(plan.getParameters(), context);
     }
     catch (Exception exc) {
-      throw new ConstructionStrategyException("Cannot parameters for constructor method of class: " + className, exc);
-    }
-
-    if (!constructMethod.isAccessible()) {
-      constructMethod.setAccessible(true);
+      String member = (plan.getConstructor() != null) ? "constructor" : "constructor method";
+      throw new ConstructionStrategyException("Cannot parameters for " + member + " of class: " + objClass.getName(), exc);
     }
 
     try {
-      return (T)constructMethod.invoke(null, params);
+      return (T)plan.newInstance(params);
     }
     catch (Exception exc) {
-      throw new ConstructionStrategyException("Cannot create instance of class: " + className, exc);
+      throw new ConstructionStrategyException("Cannot create instance of class: " + objClass.getName(), exc);
+    }
+  }
+
+  /**
+   * Immutable plan of construction for some class which is result of analysis of its constructors
+   * and construction methods. The plan contains accessible constructor or construction method and
+   * properties of its parameters.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected static class ConstructionPlan {
+
+    /** The constructor; <code>null</code> if the construction method is used. */
+    protected final Constructor<?> constructor;
+    /** The construction method; <code>null</code> if the constructor is used. */
+    protected final Method method;
+    /** The properties of parameters of constructor or construction method. */
+    protected final Property<?>[] parameters;
+
+    /**
+     * Constructs plan of construction.
+     *
+     * @param constructor the constructor (<code>null</code> if the construction method is used).
+     * @param method the construction method (<code>null</code> if the constructor is used).
+     * @param parameters the properties of parameters of constructor or construction method.
+     */
+    protected ConstructionPlan(Constructor<?> constructor, Method method, Property<?>[] parameters) {
+      this.constructor = constructor;
+      this.method = method;
+      this.parameters = parameters;
+    }
+
+    /**
+     * Returns the constructor.
+     *
+     * @return The constructor or <code>null</code> if the construction method is used.
+     */
+    public Constructor<?> getConstructor() {
+      return constructor;
+    }
+
+    /**
+     * Returns the construction method.
+     *
+     * @return The construction method or <code>null</code> if the constructor is used.
+     */
+    public Method getMethod() {
+      return method;
+    }
+
+    /**
+     * Returns the properties of parameters of constructor or construction method.
+     *
+     * @return The properties of parameters.
+     */
+    public Property<?>[] getParameters() {
+      return parameters;
+    }
+
+    /**
+     * Creates new instance by invocation of constructor or construction method with given
+     * parameters.
+     *
+     * @param params the parameters for constructor or construction method.
+     * @return Created instance.
+     * @throws Exception If some error occurs during invocation of constructor or construction
+     *           method.
+     */
+    public Object newInstance(Object[] params) throws Exception {
+      if (constructor != null) {
+        return constructor.newInstance(params);
+      }
+
+      return method.invoke(null, params);
     }
   }
 
@@ -219,4 +367,102 @@ public class ConstructionStrategyImpl implements ConstructionStrategy {
   public final void setPopulatingStrategyInvoker(PopulatingStrategyInvoker populatingStrategyInvoker) {
     this.populatingStrategyInvoker = populatingStrategyInvoker;
   }
+
+  /**
+   * Populating context for population of one parameter of constructor or construction method. The
+   * context returns holder of value of parameter as current object, so the populating strategies
+   * (and property populators) set the value of parameter into it. All other methods are delegated
+   * to the populating context of construction.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected static class ParameterPopulatingContext implements PopulatingContext {
+
+    /** The populating context of construction. */
+    protected final PopulatingContext context;
+    /** The holder of value of parameter. */
+    protected final ParameterProperty.ValueHolder valueHolder;
+
+    /**
+     * Constructs populating context for population of parameter.
+     *
+     * @param context the populating context of construction.
+     * @param valueHolder the holder of value of parameter.
+     */
+    protected ParameterPopulatingContext(PopulatingContext context, ParameterProperty.ValueHolder valueHolder) {
+      this.context = context;
+      this.valueHolder = valueHolder;
+    }
+
+    /**
+     * Returns the holder of value of parameter.
+     *
+     * @return The holder of value of parameter.
+     */
+    public Object getCurrentObject() {
+      return valueHolder;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Bean getCurrentBean() {
+      return context.getCurrentBean();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean canPopulate(Class<?> dependency) {
+      return context.canPopulate(dependency);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean populate(Object dependency) {
+      return context.populate(dependency);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean populate(Bean dependency) {
+      return context.populate(dependency);
+    }
+
+    /**
+     * The parameters are populated immediately, so the lazy populating strategies are invoked
+     * immediately (with this context).
+     *
+     * @param property the property for which will be performed invocation.
+     * @param strategy the lazy populating strategy to invoke.
+     * @throws PopulatingStrategyException If some error occurs during invocation of strategy.
+     */
+    public void addLazyPopulatingStrategyInvocation(Property<?> property, PopulatingStrategy strategy) throws PopulatingStrategyException {
+      strategy.applyStrategy(property, this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public List<Object> getPopulatedInstances(boolean includeGlobalInstances) {
+      return context.getPopulatedInstances(includeGlobalInstances);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public List<Object> getPopulatedInstances(Class<?> type, boolean includeGlobalInstances) {
+      return context.getPopulatedInstances(type, includeGlobalInstances);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public PopulatingContext createConstructionContext(Bean bean) {
+      return context.createConstructionContext(bean);
+    }
+  }
 }
@@ -0,0 +1,291 @@
+package cz.zcu.kiv.jop.construction;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+
+import cz.zcu.kiv.jop.property.Getter;
+import cz.zcu.kiv.jop.property.PropertyAccessException;
+import cz.zcu.kiv.jop.property.Setter;
+import cz.zcu.kiv.jop.property.VirtualProperty;
+import cz.zcu.kiv.jop.util.Defaults;
+import cz.zcu.kiv.jop.util.PrimitiveUtils;
+
+/**
+ * Implementation of virtual property for parameter of constructor or construction method. Unlike
+ * the other virtual properties, the property of parameter has declaring class (the declaring class
+ * of constructor or method) and it's equal to all properties of the same parameter. So the results
+ * of analysis of its annotations may be cached by invokers of populating strategies, property
+ * populators and value generators.
+ * <p>
+ * The property is intended to be created only once for each parameter and shared by all
+ * constructions (and threads), so it does not hold its value. The value is stored into the owner
+ * given to getter and setter which has to be {@link ValueHolder} created by method
+ * {@link #createValueHolder()} for each population of parameter. Thanks to that the re-entrant
+ * populations of the same parameter (for example when the population of parameter requires
+ * construction of another instance of the same class) don't affect each other.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @param <T> Declared class type of property.
+ */
+public class ParameterProperty<T> extends VirtualProperty<T> {
+
+  /**
+   * Determines if a de-serialized file is compatible with this class.
+   * <p>
+   * Maintainers must change this value if and only if the new version of this class is not
+   * compatible with old versions. See Oracle docs for <a
+   * href="http://docs.oracle.com/javase/1.5.0/docs/guide/serialization/">details</a>.
+   * <p>
+   * Not necessary to include in first version of the class, but included here as a reminder of its
+   * importance.
+   */
+  private static final long serialVersionUID = 20160601L;
+
+  /** Constant for prefix of names of parameters. */
+  protected static final String NAME_PREFIX = "arg";
+
+  /** The constructor or construction method which declares parameter. */
+  protected final Member member;
+  /** The index of parameter. */
+  protected final int index;
+  /** The getter and setter of parameter. */
+  protected final ParameterPropertyAccess parameterAccess;
+
+  /**
+   * Constructs property for parameter of constructor or construction method.
+   *
+   * @param member the constructor or construction method which declares parameter.
+   * @param index the index of parameter.
+   * @param parameterType the class type of parameter.
+   * @param annotations the annotations of parameter.
+   */
+  public ParameterProperty(Member member, int index, Class<T> parameterType, Annotation[] annotations) {
+    super(NAME_PREFIX + index, parameterType, annotations);
+    this.member = member;
+    this.index = index;
+    this.parameterAccess = new ParameterPropertyAccess();
+  }
+
+  /**
+   * Returns the constructor or construction method which declares parameter.
+   *
+   * @return The constructor or construction method.
+   */
+  public Member getMember() {
+    return member;
+  }
+
+  /**
+   * Returns the index of parameter.
+   *
+   * @return The index of parameter.
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * Returns the declaring class of constructor or construction method.
+   *
+   * @return The declaring class of constructor or construction method.
+   */
+  @Override
+  public Class<?> getDeclaringClass() {
+    return member.getDeclaringClass();
+  }
+
+  /**
+   * Creates new holder of value of this property which has to be used as owner for getter and
+   * setter of this property. The holder contains default value for type of this property.
+   *
+   * @return New holder of value of this property.
+   */
+  public ValueHolder createValueHolder() {
+    return new ValueHolder(Defaults.getDefaultValue(propertyType));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Getter<T> getGetter() {
+    return parameterAccess;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Setter<T> getSetter() {
+    return parameterAccess;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int hashCode() {
+    return 31 * member.hashCode() + index;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+
+    ParameterProperty<?> other = (ParameterProperty<?>)obj;
+
+    return index == other.index && member.equals(other.member);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return getClass().getName() + " [propertyName=" + propertyName + ", member=" + member + "]";
+  }
+
+  /**
+   * Holder of value of parameter for one population of parameter.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  public static class ValueHolder {
+
+    /** The held value. */
+    protected Object value;
+
+    /**
+     * Constructs holder of value.
+     *
+     * @param value the initial value.
+     */
+    protected ValueHolder(Object value) {
+      this.value = value;
+    }
+  }
+
+  /**
+   * Implementation of getter and setter of parameter which stores the value into given holder of
+   * value.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  class ParameterPropertyAccess implements Getter<T>, Setter<T> {
+
+    /**
+     * Determines if a de-serialized file is compatible with this class.
+     * <p>
+     * Maintainers must change this value if and only if the new version of this class is not
+     * compatible with old versions. See Oracle docs for <a
+     * href="http://docs.oracle.com/javase/1.5.0/docs/guide/serialization/">details</a>.
+     * <p>
+     * Not necessary to include in first version of the class, but included here as a reminder of
+     * its importance.
+     */
+    private static final long serialVersionUID = 20160601L;
+
+    /**
+     * Constructs getter and setter of parameter.
+     */
+    ParameterPropertyAccess() {}
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+      return propertyName;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Class<T> getType() {
+      return propertyType;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Member getMember() {
+      return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Method getMethod() {
+      return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getMethodName() {
+      return null;
+    }
+
+    /**
+     * Returns holder of value for given owner.
+     *
+     * @param owner the owner of property which has to be holder of value.
+     * @return Holder of value.
+     * @throws PropertyAccessException If given owner is not holder of value.
+     */
+    private ValueHolder getValueHolder(Object owner) throws PropertyAccessException {
+      if (!(owner instanceof ValueHolder)) {
+        throw new PropertyAccessException("Given incorrect owner for calling", null, "parameter '" + propertyName + "'", true);
+      }
+
+      return (ValueHolder)owner;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void set(Object owner, T value) throws PropertyAccessException {
+      ValueHolder holder = getValueHolder(owner);
+      if (value != null) {
+        if (propertyType.isAssignableFrom(value.getClass()) || (propertyType.isPrimitive() && PrimitiveUtils.unwrap(value.getClass()) == propertyType)) {
+          holder.value = value;
+        }
+        else {
+          throw new PropertyAccessException("Given incorrect value type for", null, "parameter '" + propertyName + "'", true);
+        }
+      }
+      else {
+        holder.value = Defaults.getDefaultValue(propertyType);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public T get(Object owner) throws PropertyAccessException {
+      return (T)getValueHolder(owner).value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+      return getClass().getName() + " [" + getPropertyName() + ']';
+    }
+  }
+}
@@ -1,9 +1,12 @@
 package cz.zcu.kiv.jop.context;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import cz.zcu.kiv.jop.session.InstanceRegistry;
 import cz.zcu.kiv.jop.session.PopulatingSession;
+import cz.zcu.kiv.jop.util.ConcatenatedList;
 
 /**
  * Abstract implementation of {@link PopulatingContext} interface which contains currently populated
@@ -15,10 +18,11 @@ import cz.zcu.kiv.jop.session.PopulatingSession;
 public abstract class AbstractPopulatingContext implements PopulatingContext {
 
   /**
-   * List of already populated instances. This list is initialized during construction of context
-   * because of separation from "live" session which may be adjusted by another contexts or cleared.
+   * Registry of already populated instances. This registry is initialized during construction of
+   * context over snapshot of global session because of separation from "live" session which may be
+   * adjusted by another contexts or cleared. The snapshot is created without copying of instances.
    */
-  protected final List<Object> globalInstances;
+  protected final InstanceRegistry globalInstances;
   /** Local session of populated (generated) objects. */
   protected final PopulatingContextSession session;
 
@@ -30,34 +34,35 @@ public abstract class AbstractPopulatingContext implements PopulatingContext {
    * @param session the instance of local session of populated (generated) objects.
    */
   protected AbstractPopulatingContext(PopulatingSession globalSession, PopulatingContextSession session) {
-    this.globalInstances = new ArrayList<Object>();
-
     if (globalSession != null) {
-      this.globalInstances.addAll(globalSession.getPopulatedInstances()); // separate instances
+      this.globalInstances = new InstanceRegistry(globalSession.getSnapshot()); // separate instances
+    }
+    else {
+      this.globalInstances = new InstanceRegistry();
     }
 
     this.session = session;
   }
 
   /**
-   * Constructions abstract populating context with given session of populated objects and list of
-   * already populated instances.
+   * Constructions abstract populating context with given session of populated objects and registry
+   * of already populated instances.
    *
-   * @param globalInstances the list of populated instances out of this populating context or
+   * @param globalInstances the registry of populated instances out of this populating context or
    *          sub-context.
    * @param session the instance of local session of populated (generated) objects.
    */
-  protected AbstractPopulatingContext(List<Object> globalInstances, PopulatingContextSession session) {
+  protected AbstractPopulatingContext(InstanceRegistry globalInstances, PopulatingContextSession session) {
     this.globalInstances = globalInstances;
     this.session = session;
   }
 
   /**
-   * Returns list of populated instances out of this populating context or sub-context.
+   * Returns registry of populated instances out of this populating context or sub-context.
    *
-   * @return List of global instances.
+   * @return Registry of global instances.
    */
-  List<Object> getGlobalInstances() {
+  InstanceRegistry getGlobalInstances() {
     return globalInstances;
   }
 
@@ -83,9 +88,28 @@ public abstract class AbstractPopulatingContext implements PopulatingContext {
     }
 
     if (includeGlobalInstances && globalInstances != null) {
-      instances.addAll(globalInstances);
+      instances.addAll(globalInstances.getInstances());
     }
 
     return instances;
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  public List<Object> getPopulatedInstances(Class<?> type, boolean includeGlobalInstances) {
+    List<Object> instances = null;
+    if (session != null) {
+      instances = session.getPopulatedInstances(type);
+    }
+    else {
+      instances = Collections.emptyList();
+    }
+
+    if (!includeGlobalInstances || globalInstances == null || globalInstances.isEmpty()) {
+      return instances;
+    }
+
+    return ConcatenatedList.concat(instances, globalInstances.getInstances(type));
+  }
 }
@@ -1,12 +1,11 @@
 package cz.zcu.kiv.jop.context;
 
-import java.util.List;
-
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import cz.zcu.kiv.jop.bean.Bean;
 import cz.zcu.kiv.jop.property.Property;
+import cz.zcu.kiv.jop.session.InstanceRegistry;
 import cz.zcu.kiv.jop.strategy.PopulatingStrategy;
 import cz.zcu.kiv.jop.strategy.PopulatingStrategyException;
 
@@ -37,11 +36,11 @@ public class ConstructionPopulatingContext extends DefaultPopulatingContext {
    * @param graph the graph of dependencies between populated objects.
    * @param queue the populating queue which contains the bean descriptors of dependencies which
    *          will be populated.
-   * @param globalInstances the list of populated instances out of this populating context or
+   * @param globalInstances the registry of populated instances out of this populating context or
    *          sub-context.
    * @param session the instance of local session of populated (generated) objects.
    */
-  protected ConstructionPopulatingContext(Bean bean, DependencyGraph graph, PopulatingQueue queue, List<Object> globalInstances, PopulatingContextSession session) {
+  protected ConstructionPopulatingContext(Bean bean, DependencyGraph graph, PopulatingQueue queue, InstanceRegistry globalInstances, PopulatingContextSession session) {
     super(graph, queue, globalInstances, session);
     this.currentBean = bean;
   }
@@ -9,6 +9,7 @@ import org.apache.commons.logging.LogFactory;
 import cz.zcu.kiv.jop.bean.Bean;
 import cz.zcu.kiv.jop.bean.JopBean;
 import cz.zcu.kiv.jop.property.Property;
+import cz.zcu.kiv.jop.session.InstanceRegistry;
 import cz.zcu.kiv.jop.session.PopulatingSession;
 import cz.zcu.kiv.jop.strategy.PopulatingStrategy;
 import cz.zcu.kiv.jop.strategy.PopulatingStrategyException;
@@ -53,6 +54,16 @@ public class DefaultPopulatingContext extends AbstractPopulatingContext {
     this(new DependencyGraphImpl(), new PopulatingQueueImpl(), globalSession, new PopulatingContextSessionImpl());
   }
 
+  /**
+   * Constructs empty default populating context with given list of already generated objects. The
+   * list is not copied, so it may be shared between multiple populating contexts.
+   *
+   * @param globalInstances the registry of already generated objects.
+   */
+  public DefaultPopulatingContext(InstanceRegistry globalInstances) {
+    this(new DependencyGraphImpl(), new PopulatingQueueImpl(), globalInstances, new PopulatingContextSessionImpl());
+  }
+
   /**
    * Constructs default populating context from given parts.
    *
@@ -78,11 +89,11 @@ public class DefaultPopulatingContext extends AbstractPopulatingContext {
    * @param graph the graph of dependencies between populated objects.
    * @param queue the populating queue which contains the bean descriptors of dependencies which
    *          will be populated.
-   * @param globalInstances the list of populated instances out of this populating context or
+   * @param globalInstances the registry of populated instances out of this populating context or
    *          sub-context.
    * @param session the instance of local session of populated (generated) objects.
    */
-  protected DefaultPopulatingContext(DependencyGraph graph, PopulatingQueue queue, List<Object> globalInstances, PopulatingContextSession session) {
+  protected DefaultPopulatingContext(DependencyGraph graph, PopulatingQueue queue, InstanceRegistry globalInstances, PopulatingContextSession session) {
     super(globalInstances, session);
 
     dependencyGraph = graph;
@@ -1,12 +1,11 @@
 package cz.zcu.kiv.jop.context;
 
-import java.util.List;
-
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import cz.zcu.kiv.jop.bean.Bean;
 import cz.zcu.kiv.jop.property.Property;
+import cz.zcu.kiv.jop.session.InstanceRegistry;
 import cz.zcu.kiv.jop.strategy.PopulatingStrategy;
 import cz.zcu.kiv.jop.strategy.PopulatingStrategyException;
 
@@ -35,11 +34,11 @@ public class LazyPopulatingStrategyPopulatingContext extends AbstractPopulatingC
    * Constructs new populating context for lazy populating strategies.
    *
    * @param bean the current bean
-   * @param globalInstances the list of populated instances out of this populating context or
+   * @param globalInstances the registry of populated instances out of this populating context or
    *          sub-context.
    * @param session the instance of local session of populated (generated) objects.
    */
-  public LazyPopulatingStrategyPopulatingContext(Bean bean, List<Object> globalInstances, PopulatingContextSession session) {
+  public LazyPopulatingStrategyPopulatingContext(Bean bean, InstanceRegistry globalInstances, PopulatingContextSession session) {
     super(globalInstances, session);
     this.currentBean = bean;
   }
@@ -3,6 +3,7 @@ package cz.zcu.kiv.jop.context;
 import java.util.List;
 
 import cz.zcu.kiv.jop.bean.Bean;
+import cz.zcu.kiv.jop.session.InstanceRegistry;
 import cz.zcu.kiv.jop.session.PopulatingSession;
 import cz.zcu.kiv.jop.strategy.PopulatingStrategyException;
 
@@ -45,6 +46,28 @@ public class PopulatingContextHandlerImpl implements PopulatingContextHandler {
     queueIterator = new PopulatingQueueIteratorImpl(context.getPopulatingQueue());
   }
 
+  /**
+   * Constructs new handler of populating context with given list of already populated instances.
+   * The list is not copied, so it may be shared by handlers of multiple populating contexts (for
+   * example for population of batch of objects).
+   *
+   * @param populateDependencies information whether may be populated dependencies of populated
+   *          object(s).
+   * @param globalInstances the registry of all already populated instances.
+   */
+  public PopulatingContextHandlerImpl(boolean populateDependencies, InstanceRegistry globalInstances) {
+    // prepare propriety context
+    if (populateDependencies) {
+      context = new DefaultPopulatingContext(globalInstances);
+    }
+    else {
+      context = new SinglePopulatingContext();
+    }
+
+    // prepare iterator for populating queue
+    queueIterator = new PopulatingQueueIteratorImpl(context.getPopulatingQueue());
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -1,47 +1,67 @@
 package cz.zcu.kiv.jop.context;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+
+import cz.zcu.kiv.jop.session.InstanceRegistry;
+import cz.zcu.kiv.jop.session.PopulatingSession;
 
 /**
  * Implementation of {@link PopulatingContextSession}. This session stores already populated
  * (generated) objects by some populating context. It also supports operation {@link #contains}
  * which may be used for check whatever is some object already present in session. Also this session
- * doesn't support the {@link #clear} operation.
+ * doesn't support the {@link #clear} operation. The instances are stored in
+ * {@link InstanceRegistry}, so the instances of some type are obtained from index.
+ * <p>
+ * The stored instances are also kept in identity hash set, so the {@link #contains} operation has
+ * constant complexity and doesn't depend on number of populated instances.
  *
  * @author Mr.FrAnTA
  * @since 1.0.0
  */
 public class PopulatingContextSessionImpl implements PopulatingContextSession {
 
-  /** List of stored populated instances in session. */
-  protected final List<Object> instances = new ArrayList<Object>();
+  /** Registry of stored populated instances in session. */
+  protected final InstanceRegistry instances = new InstanceRegistry();
+  /** Identity hash set of stored populated instances in session. */
+  protected final Map<Object, Boolean> identities = new IdentityHashMap<Object, Boolean>();
 
   /**
    * {@inheritDoc}
    */
   public synchronized void addPopulatedInstance(Object instance) {
     instances.add(instance);
+    identities.put(instance, Boolean.TRUE);
   }
 
   /**
    * {@inheritDoc}
    */
   public synchronized boolean contains(Object obj) {
-    for (Object instance : instances) {
-      if (instance == obj) { // do not use the equals method!!!
-        return true;
-      }
-    }
-
-    return false;
+    return identities.containsKey(obj); // identity lookup - do not use the equals method!!!
   }
 
   /**
    * {@inheritDoc}
    */
   public synchronized List<Object> getPopulatedInstances() {
-    return new ArrayList<Object>(instances);
+    return new ArrayList<Object>(instances.getInstances());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public synchronized List<Object> getPopulatedInstances(Class<?> type) {
+    return instances.getInstances(type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public PopulatingSession getSnapshot() {
+    return instances.getSnapshot();
   }
 
   /**
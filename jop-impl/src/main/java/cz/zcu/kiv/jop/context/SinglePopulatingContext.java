@@ -47,6 +47,20 @@ public class SinglePopulatingContext extends DefaultPopulatingContext {
     return new ArrayList<Object>();
   }
 
+  /**
+   * This method returns always empty list because this context doesn't support population of
+   * dependencies.
+   *
+   * @param type the class type of requested instances.
+   * @param includeGlobalInstances information whether will be included instances from previous
+   *          calls of ObjectPopulator.
+   * @return Empty list.
+   */
+  @Override
+  public List<Object> getPopulatedInstances(Class<?> type, boolean includeGlobalInstances) {
+    return new ArrayList<Object>();
+  }
+
   /**
    * Returns always <code>false</code> because this context doesn't support population of
    * dependencies.
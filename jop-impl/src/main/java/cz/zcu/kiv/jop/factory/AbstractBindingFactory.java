@@ -28,6 +28,10 @@ import cz.zcu.kiv.jop.util.Preconditions;
  * implements callback interface {@link Initializable}. In case that the class will be constructed
  * manually, it should be called method {@link #init()} or {@link #configure(Binder)} from
  * constructor.
+ * <p>
+ * If the factory wasn't configured before the first creation of instance for some annotation, it's
+ * configured during this creation. So the configuration may be deferred (for example during lazy
+ * bootstrap of injector) until the factory is really used.
  *
  * @author Mr.FrAnTA
  * @since 1.0
@@ -37,9 +41,9 @@ import cz.zcu.kiv.jop.util.Preconditions;
 public abstract class AbstractBindingFactory<T> extends AbstractFactory<T> implements BindingFactory<T>, Initializable {
 
   /** Binder which stores bindings between annotations and classes. */
-  private Binder<T> binder;
+  private volatile Binder<T> binder;
   /** Information whether was binding factory already configured. */
-  private boolean configured;
+  private volatile boolean configured;
 
   /**
    * Initializes factory. This method creates new binder and then calls the method
@@ -58,19 +62,46 @@ public abstract class AbstractBindingFactory<T> extends AbstractFactory<T> imple
 
   /**
    * {@inheritDoc}
+   * <p>
+   * If the configuration fails, the given binder is discarded and the factory stays unconfigured, so
+   * the next creation of instance configures the factory again (and reports the same error) instead
+   * of using incompletely configured bindings.
    */
-  public final void configure(Binder<T> binder) throws FactoryException {
+  public final synchronized void configure(Binder<T> binder) throws FactoryException {
     Preconditions.checkState(this.binder == null, "Re-entry is not allowed");
     this.binder = binder;
+    boolean succeeded = false;
     try {
       configure();
       customConfigure();
+      succeeded = true;
     }
     catch (BindingException exc) {
       throw new FactoryException(exc.getMessage());
     }
     finally {
-      configured = true;
+      if (succeeded) {
+        configured = true;
+      }
+      else {
+        this.binder = null;
+      }
+    }
+  }
+
+  /**
+   * Configures the factory by new binder if it wasn't configured yet (or if the previous
+   * configuration failed).
+   *
+   * @throws FactoryException If some error occurs during configuration of factory.
+   */
+  protected final void ensureConfigured() throws FactoryException {
+    if (!configured) {
+      synchronized (this) {
+        if (!configured) {
+          configure(createBinder());
+        }
+      }
     }
   }
 
@@ -113,7 +144,7 @@ public abstract class AbstractBindingFactory<T> extends AbstractFactory<T> imple
    * @return Created binder which stores bindings between annotations and classes.
    */
   protected Binder<T> createBinder() {
-    return new BinderImpl<T>();
+    return new BinderImpl<T>(injector);
   }
 
   /**
@@ -200,6 +231,8 @@ public abstract class AbstractBindingFactory<T> extends AbstractFactory<T> imple
    */
   public <A extends Annotation> T createInstance(A annotation) throws FactoryException {
     try {
+      ensureConfigured();
+
       return getInstance(annotation);
     }
     catch (Exception exc) {
@@ -1,5 +1,11 @@
 package cz.zcu.kiv.jop.factory;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
 import cz.zcu.kiv.jop.ioc.Injector;
 import cz.zcu.kiv.jop.ioc.InjectorException;
 import cz.zcu.kiv.jop.ioc.InjectorManager;
@@ -7,6 +13,14 @@ import cz.zcu.kiv.jop.ioc.InjectorManager;
 /**
  * Abstract implementation of {@link Factory} interface which contains implementation of method
  * {@link #createInstance}. That uses {@link Injector} for creation of instances of given classes.
+ * <p>
+ * The binding of each class is resolved by injector only once. The {@link Provider provider} of
+ * instances obtained from injector is cached and used for all next creations of instances of the
+ * same class.
+ * <p>
+ * The instances are created by the injector which created the factory, so the factories of
+ * independent injectors don't share any instances. If the factory was not created by injector, the
+ * injector is obtained from {@link InjectorManager}.
  *
  * @author Mr.FrAnTA
  * @since 1.0
@@ -15,6 +29,9 @@ import cz.zcu.kiv.jop.ioc.InjectorManager;
  */
 public abstract class AbstractFactory<T> implements Factory<T> {
 
+  /** Cache of providers of instances for already requested classes. */
+  protected final ConcurrentMap<Class<?>, Provider<?>> providers = new ConcurrentHashMap<Class<?>, Provider<?>>();
+
   /**
    * {@inheritDoc}
    */
@@ -24,13 +41,69 @@ public abstract class AbstractFactory<T> implements Factory<T> {
     }
 
     try {
-      Injector injector = InjectorManager.getInstance().get();
-
-      return injector.getInstance(clazz);
+      return getProvider(clazz).get();
     }
     catch (InjectorException exc) {
       throw new FactoryException("Cannot create new instance of " + clazz.getName(), exc);
     }
+    catch (RuntimeException exc) {
+      // provider may throw only runtime exception
+      throw new FactoryException("Cannot create new instance of " + clazz.getName(), exc);
+    }
+  }
+
+  /**
+   * Returns provider of instances of given class. The provider is obtained from cache or from
+   * injector (then it's stored into cache).
+   *
+   * @param clazz the class which instances will be provided.
+   * @return Provider of instances of given class.
+   * @throws InjectorException If some error occurs during obtaining of injector or during
+   *           resolution of binding for given class.
+   */
+  @SuppressWarnings("unchecked")
+  protected <E extends T> Provider<E> getProvider(Class<E> clazz) throws InjectorException {
+    Provider<?> provider = providers.get(clazz);
+    if (provider == null) {
+      provider = getInjector().getProvider(clazz);
+      Provider<?> cached = providers.putIfAbsent(clazz, provider);
+      if (cached != null) {
+        provider = cached;
+      }
+    }
+
+    return (Provider<E>)provider;
+  }
+
+  /**
+   * Returns injector which is used for creation of instances. If no injector was injected, it
+   * returns the injector provided by {@link InjectorManager}.
+   *
+   * @return Injector for creation of instances.
+   * @throws InjectorException If some error occurs during obtaining of injector.
+   */
+  protected Injector getInjector() throws InjectorException {
+    Injector ret = injector;
+    if (ret == null) {
+      ret = InjectorManager.getInstance().get();
+    }
+
+    return ret;
+  }
+
+  //----- Injection part ------------------------------------------------------
+
+  /** Injector which created this factory. */
+  protected Injector injector;
+
+  /**
+   * Sets (injects) injector which created this factory.
+   *
+   * @param injector the injector to set (inject).
+   */
+  @Inject
+  public final void setInjector(Injector injector) {
+    this.injector = injector;
   }
 
 }
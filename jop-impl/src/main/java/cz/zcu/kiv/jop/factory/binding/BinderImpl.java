@@ -6,6 +6,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import cz.zcu.kiv.jop.ioc.Injector;
+
 /**
  * Basic implementation of {@link Binder} interface which contains map for all created bindings
  * (even if they wasn't finished by their builder). This implementation allows extension of
@@ -25,12 +27,25 @@ public class BinderImpl<T> implements Binder<T> {
    * because each annotation can have only one binding.
    */
   protected final Map<Class<? extends Annotation>, Binding<T>> bindings;
+  /** Injector which will be used by bindings for creation of instances (may be <code>null</code>). */
+  protected final Injector injector;
 
   /**
    * Constructs a new binder.
    */
   public BinderImpl() {
-    bindings = new HashMap<Class<? extends Annotation>, Binding<T>>();
+    this(null);
+  }
+
+  /**
+   * Constructs a new binder whose bindings will use given injector for creation of instances.
+   *
+   * @param injector the injector for creation of instances; <code>null</code> if the injector
+   *          provided by {@link cz.zcu.kiv.jop.ioc.InjectorManager InjectorManager} should be used.
+   */
+  public BinderImpl(Injector injector) {
+    this.bindings = new HashMap<Class<? extends Annotation>, Binding<T>>();
+    this.injector = injector;
   }
 
   /**
@@ -79,7 +94,7 @@ public class BinderImpl<T> implements Binder<T> {
    * @return Prepared binding builder.
    */
   protected BindingBuilder<T> prepareBindingBuilder(Class<? extends Annotation> annotation) {
-    BindingBuilderImpl<T> bindingBuilder = new BindingBuilderImpl<T>(annotation);
+    BindingBuilderImpl<T> bindingBuilder = new BindingBuilderImpl<T>(annotation, injector);
     bindings.put(annotation, bindingBuilder.getBinding());
 
     return bindingBuilder;
@@ -3,6 +3,10 @@ package cz.zcu.kiv.jop.factory.binding;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 
+import javax.inject.Provider;
+
+import cz.zcu.kiv.jop.ioc.Injector;
+
 /**
  * Basic implementation of {@link BindingBuilder} interface. This builder creates the binding which
  * gradually fills via methods with package-only visibility.
@@ -26,7 +30,20 @@ public class BindingBuilderImpl<T> implements BindingBuilder<T> {
    * @param annotation the class type of annotation which can be bound to some object.
    */
   public BindingBuilderImpl(Class<? extends Annotation> annotation) {
+    this(annotation, null);
+  }
+
+  /**
+   * Constructs new builder of binding for given annotation. The builded binding will use given
+   * injector for creation of instances.
+   *
+   * @param annotation the class type of annotation which can be bound to some object.
+   * @param injector the injector for creation of instances; <code>null</code> if the injector
+   *          provided by {@link cz.zcu.kiv.jop.ioc.InjectorManager InjectorManager} should be used.
+   */
+  public BindingBuilderImpl(Class<? extends Annotation> annotation, Injector injector) {
     binding = new BindingImpl<T>(annotation);
+    binding.setInjector(injector);
   }
 
   /**
@@ -52,6 +69,14 @@ public class BindingBuilderImpl<T> implements BindingBuilder<T> {
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  public ScopedBindingBuilder toProvider(Provider<? extends T> provider) {
+    binding.setProvider(provider);
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -4,11 +4,12 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 
+import javax.inject.Provider;
 import javax.inject.Singleton;
 
 import cz.zcu.kiv.jop.ioc.Injector;
+import cz.zcu.kiv.jop.ioc.InjectorException;
 import cz.zcu.kiv.jop.ioc.InjectorManager;
-import cz.zcu.kiv.jop.util.ReflectionUtils;
 
 /**
  * Basic implementation of {@link Binding} interface which allows to create binding between some
@@ -16,6 +17,11 @@ import cz.zcu.kiv.jop.util.ReflectionUtils;
  * <p>
  * Generally is binding created by {@link BindingBuilder} which gradually fills parameters of
  * binding via methods with package-only visibility.
+ * <p>
+ * The way of creation of bound objects is prepared only once: the constructor is made accessible
+ * when it's bound and the provider of instances of bound type is obtained from injector during the
+ * first creation of instance. So the next creations of instances of non-singleton bindings only
+ * invoke the prepared provider.
  *
  * @author Mr.FrAnTA
  * @since 1.0
@@ -32,13 +38,20 @@ public class BindingImpl<T> implements Binding<T> {
   protected Class<? extends T> type;
   /** Constructor of type which will be used for construction of object bound to annotation. */
   protected Constructor<? extends T> constructor;
+  /** Provider of instances of bound object (prepared or given by user). */
+  protected volatile Provider<? extends T> provider;
   /** Instance of object which was bound to annotation. */
-  protected T instance;
+  protected volatile T instance;
 
   /** Information whether the bound object will be singleton. */
   protected boolean isSingleton;
   /** Information whether the bound object will be always singleton (for bound instances). */
   protected boolean isStrictSingleton;
+  /** Information whether the bound type is annotated by {@link Singleton} annotation. */
+  protected boolean isAnnotatedAsSingleton;
+
+  /** Injector for creation of instances (<code>null</code> for injector of injector manager). */
+  protected Injector injector;
 
   /** Message for error which occurred during binding creation. */
   protected String error;
@@ -122,6 +135,21 @@ public class BindingImpl<T> implements Binding<T> {
     setInstance(instance);
   }
 
+  /**
+   * Constructs new binding between given class type of annotation and provider of objects which
+   * will be bound to annotation. Based on the argument <code>isSingleton</code> the bound object
+   * will be singleton.
+   *
+   * @param annotation the class type of annotation.
+   * @param provider the provider of objects which will be bound to annotation.
+   * @param isSingleton information whether the bound object will be singleton.
+   */
+  public BindingImpl(Class<? extends Annotation> annotation, Provider<? extends T> provider, boolean isSingleton) {
+    this(annotation);
+    setProvider(provider);
+    setSingleton(isSingleton);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -131,6 +159,9 @@ public class BindingImpl<T> implements Binding<T> {
 
   /**
    * {@inheritDoc}
+   * <p>
+   * For binding of provider it returns <code>null</code> because the type of provided objects is
+   * not known.
    */
   public Class<? extends T> getType() {
     return type;
@@ -146,6 +177,7 @@ public class BindingImpl<T> implements Binding<T> {
     clearBinding(); // clears binding
     checkClassType(type); // fills error
     this.type = type;
+    this.isAnnotatedAsSingleton = isAnnotatedAsSingleton(type);
   }
 
   /**
@@ -166,8 +198,13 @@ public class BindingImpl<T> implements Binding<T> {
       return;
     }
 
+    if (!constructor.isAccessible()) {
+      constructor.setAccessible(true);
+    }
+
     this.type = constructor.getDeclaringClass();
     this.constructor = constructor;
+    this.isAnnotatedAsSingleton = isAnnotatedAsSingleton(type);
   }
 
   /**
@@ -190,15 +227,53 @@ public class BindingImpl<T> implements Binding<T> {
     this.isStrictSingleton = true; // strict singleton!
   }
 
+  /**
+   * Sets given provider of objects which will be bound to annotation for which was created this
+   * binding.
+   *
+   * @param provider the provider of objects which will be bound to annotation.
+   */
+  void setProvider(Provider<? extends T> provider) {
+    clearBinding(); // clears binding
+
+    if (provider == null) {
+      this.error = "Provider cannot be null";
+      return;
+    }
+
+    this.provider = provider;
+  }
+
+  /**
+   * Sets given injector which will be used for creation of instances of bound object. If the
+   * injector is not set, the injector provided by {@link InjectorManager} is used.
+   *
+   * @param injector the injector for creation of instances.
+   */
+  void setInjector(Injector injector) {
+    this.injector = injector;
+  }
+
+  /**
+   * Returns information whatever the given type is annotated by {@link Singleton} annotation.
+   *
+   * @param type the class type to check.
+   * @return <code>true</code> if given type is annotated by {@link Singleton} annotation;
+   *         <code>false</code> otherwise.
+   */
+  private static boolean isAnnotatedAsSingleton(Class<?> type) {
+    return (type != null && type.getAnnotation(Singleton.class) != null);
+  }
+
   /**
    * Returns information whatever the bound type is annotated by {@link Singleton} annotation - this
-   * type is always singleton.
+   * type is always singleton. The information is obtained only once when the type is bound.
    *
    * @return <code>true</code> if bound type is annotated by {@link Singleton} annotation;
    *         <code>false</code> otherwise.
    */
   final boolean isAnnotatedAsSingleton() {
-    return (type != null && type.getAnnotation(Singleton.class) != null);
+    return isAnnotatedAsSingleton;
   }
 
   /**
@@ -252,30 +327,66 @@ public class BindingImpl<T> implements Binding<T> {
 
     T ret = instance;
     if (ret == null) {
-      try {
-        Injector injector = InjectorManager.getInstance().get();
-        if (constructor == null) {
-          ret = injector.getInstance(type);
-          if (isSingleton()) {
-            instance = ret;
-          }
-        }
-        else {
-          ret = ReflectionUtils.createInstance(constructor);
-          injector.injectMembers(ret); // lazy injection
-          if (isSingleton()) {
+      if (isSingleton()) {
+        synchronized (this) {
+          ret = instance;
+          if (ret == null) {
+            ret = createInstance();
             instance = ret;
           }
         }
       }
-      catch (Exception exc) {
-        throw new BindingException(exc.getMessage());
+      else {
+        ret = createInstance();
       }
     }
 
     return ret;
   }
 
+  /**
+   * Creates new instance of bound object by prepared provider.
+   *
+   * @return Created instance of bound object.
+   * @throws BindingException If some error occurs during creation of instance.
+   */
+  protected T createInstance() throws BindingException {
+    try {
+      return getProvider().get();
+    }
+    catch (Exception exc) {
+      throw new BindingException(exc.getMessage());
+    }
+  }
+
+  /**
+   * Returns provider of instances of bound object. If there is no prepared provider, it's created
+   * for bound constructor or obtained from injector for bound type.
+   *
+   * @return Provider of instances of bound object.
+   * @throws InjectorException If some error occurs during obtaining of provider from injector.
+   */
+  protected Provider<? extends T> getProvider() throws InjectorException {
+    Provider<? extends T> ret = provider;
+    if (ret == null) {
+      Injector injector = this.injector;
+      if (injector == null) {
+        injector = InjectorManager.getInstance().get();
+      }
+
+      if (constructor == null) {
+        ret = injector.getProvider(type);
+      }
+      else {
+        ret = new ConstructorProvider<T>(constructor, injector);
+      }
+
+      provider = ret;
+    }
+
+    return ret;
+  }
+
   /**
    * Checks the given class type whatever is correct for binding.
    *
@@ -321,8 +432,10 @@ public class BindingImpl<T> implements Binding<T> {
   protected void clearBinding() {
     this.type = null;
     this.constructor = null;
+    this.provider = null;
     this.instance = null;
     this.isStrictSingleton = false;
+    this.isAnnotatedAsSingleton = false;
     this.error = null;
   }
 
@@ -347,4 +460,51 @@ public class BindingImpl<T> implements Binding<T> {
     //@formatter:on
   }
 
+  /**
+   * Provider of objects which are constructed by parameterless constructor. The dependencies are
+   * injected into constructed objects by given injector.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   *
+   * @param <T> Type of provided objects.
+   */
+  protected static class ConstructorProvider<T> implements Provider<T> {
+
+    /** The accessible parameterless constructor. */
+    protected final Constructor<? extends T> constructor;
+    /** The injector which injects dependencies into constructed objects. */
+    protected final Injector injector;
+
+    /**
+     * Constructs provider of objects.
+     *
+     * @param constructor the accessible parameterless constructor.
+     * @param injector the injector which injects dependencies into constructed objects.
+     */
+    public ConstructorProvider(Constructor<? extends T> constructor, Injector injector) {
+      this.constructor = constructor;
+      this.injector = injector;
+    }
+
+    /**
+     * Constructs new object and injects its dependencies.
+     *
+     * @return Constructed object.
+     * @throws BindingException If some error occurs during construction of object or during
+     *           injection of dependencies.
+     */
+    public T get() {
+      try {
+        T instance = constructor.newInstance();
+        injector.injectMembers(instance); // lazy injection
+
+        return instance;
+      }
+      catch (Exception exc) {
+        throw new BindingException("Cannot create new instance of " + constructor.getDeclaringClass().getName() + ": " + exc.getMessage());
+      }
+    }
+  }
+
 }
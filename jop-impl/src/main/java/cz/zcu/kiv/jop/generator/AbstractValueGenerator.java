@@ -18,7 +18,25 @@ import cz.zcu.kiv.jop.session.RandomGeneratorSession;
  * @param <T> Type of generated values.
  * @param <P> Annotation type of generator parameters.
  */
-public abstract class AbstractValueGenerator<T, P extends Annotation> implements ValueGenerator<T, P> {
+public abstract class AbstractValueGenerator<T, P extends Annotation> implements BatchValueGenerator<T, P> {
+
+  /**
+   * Fills given part of target array by values generated by method {@link #getValue(Annotation)}.
+   * The value generators which are able to generate the values faster (for example by checking of
+   * parameters only once) should override this method.
+   *
+   * @param params the parameters for generation of values.
+   * @param target the array which will be filled by generated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException if some error occurs during values generation or if given
+   *           parameters are not valid.
+   */
+  public void fill(P params, Object[] target, int offset, int length) throws ValueGeneratorException {
+    for (int i = offset, end = offset + length; i < end; i++) {
+      target[i] = getValue(params);
+    }
+  }
 
   /**
    * Returns stored random generator for given annotation.
@@ -65,12 +83,25 @@ public abstract class AbstractValueGenerator<T, P extends Annotation> implements
    *           the random generator for given annotation.
    */
   protected double nextDouble(P params, double min, double max) throws ValueGeneratorException {
-    Random rand = getRandomGenerator(params); // null-safe
+    return nextDouble(getRandomGenerator(params), min, max); // null-safe
+  }
+
+  /**
+   * Generates pseudo-random double value between given <code>min</code> (inclusive) and
+   * <code>max</code> (inclusive) using given random generator.
+   *
+   * @param rand the random generator.
+   * @param min the minimal value for random value.
+   * @param max the maximal value for random value.
+   * @return Pseudo-random double value between <code>min</code> (inclusive) and <code>max</code>
+   *         (inclusive).
+   */
+  protected static double nextDouble(Random rand, double min, double max) {
     if (rand.nextDouble() >= 0.5) { // 1.0 inclusive
-      return ((1 - Math.random()) * (max - min) + min);
+      return ((1 - rand.nextDouble()) * (max - min) + min);
     }
 
-    return (Math.random() * (max - min) + min);
+    return (rand.nextDouble() * (max - min) + min);
   }
 
   /**
@@ -9,6 +9,7 @@ import java.lang.reflect.TypeVariable;
 import java.util.Arrays;
 import java.util.Random;
 
+import cz.zcu.kiv.jop.util.AnnotationCache;
 import cz.zcu.kiv.jop.util.ArrayUtils;
 import cz.zcu.kiv.jop.util.PrimitiveUtils;
 
@@ -16,6 +17,8 @@ import cz.zcu.kiv.jop.util.PrimitiveUtils;
  * Generic implementation of categorical generator which may be used for any class type or for
  * parameters annotation. The parameter annotation is in method {@link #getValue(Annotation)}
  * analyzed by reflection and its values and probabilities are used for generating of random value.
+ * The analysis is done only once for each annotation - the values and probabilities are stored in
+ * {@link CategoricalSampler} which is cached for the annotation.
  * <p>
  * This class also contains static method {@link #getValue(Random, Object[], double[]) getValue} for
  * possibility to use categorical generator without the need to extend this class.
@@ -35,6 +38,9 @@ import cz.zcu.kiv.jop.util.PrimitiveUtils;
  */
 public abstract class CategoricalGenerator<T, P extends Annotation> extends AbstractValueGenerator<T, P> {
 
+  /** Cache of samplers for parameters annotations. */
+  protected final AnnotationCache<CategoricalSampler<T>> samplers = new AnnotationCache<CategoricalSampler<T>>();
+
   /**
    * {@inheritDoc}
    * <p>
@@ -124,7 +130,8 @@ public abstract class CategoricalGenerator<T, P extends Annotation> extends Abst
    * This method uses reflection to read required values from parameters and then returns one value
    * with categorical distribution. The values has to be stored in annotation parameter
    * <code>value()</code> or <code>values()</code>. Probabilities has to be stored in annotation
-   * parameter <code>probabilities()</code> which has to return array of floats or doubles.
+   * parameter <code>probabilities()</code> which has to return array of floats or doubles. The
+   * values are sampled by {@link CategoricalSampler} which is cached for given parameters.
    *
    * @param params the parameters for generation of value.
    * @return Generated value.
@@ -136,11 +143,50 @@ public abstract class CategoricalGenerator<T, P extends Annotation> extends Abst
   protected T getRandomValue(P params) throws ValueGeneratorException {
     checkParamsNotNull(params); // check not null
 
-    T[] values = getValues(params);
-    double[] probabilities = getProbabilities(params);
+    CategoricalSampler<T> sampler = getSampler(params);
     Random rand = getRandomGenerator(params);
 
-    return getValue(rand, values, probabilities);
+    return sampler.sample(rand);
+  }
+
+  /**
+   * Fills given part of target array by generated values with categorical distribution according
+   * to given parameters. The sampler and random generator are obtained only once for all values.
+   *
+   * @param params the parameters for generation of values.
+   * @param target the array which will be filled by generated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException If given annotations are <code>null</code>, if the annotation
+   *           doesn't contain required parameters or the parameters doesn't contain the correct
+   *           values.
+   */
+  protected void fillRandomValues(P params, Object[] target, int offset, int length) throws ValueGeneratorException {
+    checkParamsNotNull(params); // check not null
+
+    CategoricalSampler<T> sampler = getSampler(params);
+    Random rand = getRandomGenerator(params);
+    for (int i = offset, end = offset + length; i < end; i++) {
+      target[i] = sampler.sample(rand);
+    }
+  }
+
+  /**
+   * Returns sampler of values with categorical distribution for given parameters. The sampler is
+   * created only once for each parameters annotation and then it's cached.
+   *
+   * @param params the parameters for generation of value.
+   * @return The sampler for given parameters.
+   * @throws ValueGeneratorException If the annotation doesn't contain required parameters or the
+   *           parameters doesn't contain the correct values.
+   */
+  protected CategoricalSampler<T> getSampler(P params) throws ValueGeneratorException {
+    CategoricalSampler<T> sampler = samplers.get(params);
+    if (sampler == null) {
+      sampler = samplers.put(params, new CategoricalSampler<T>(getValues(params), getProbabilities(params)));
+    }
+
+    return sampler;
   }
 
   /**
@@ -249,6 +295,9 @@ public abstract class CategoricalGenerator<T, P extends Annotation> extends Abst
    *
    * The random generator will returns the value 0.25378 which belongs the probability interval
    * between 0.25 and 0.75 so the generator returns the value 1.
+   * <p>
+   * This method searches the value in time O(k) for k values. For repeated generating of values
+   * from the same values and probabilities is better to use {@link CategoricalSampler}.
    *
    * @param random the random generator.
    * @param values the values for selection.
@@ -0,0 +1,130 @@
+package cz.zcu.kiv.jop.generator;
+
+import java.util.Random;
+
+/**
+ * Sampler of values with categorical distribution which uses the alias method (Vose's variant of
+ * Walker's alias method). The table of probabilities and aliases is precomputed in constructor in
+ * time O(k) for k values, then each value is sampled in time O(1) using only one random double
+ * value. The sampler is immutable, so it may be cached and shared by multiple threads.
+ * <p>
+ * The probabilities are {@link CategoricalGenerator#normalizeProbabilities normalized} in the same
+ * way as in the method {@link CategoricalGenerator#getValue(Random, Object[], double[])}. The values
+ * with zero probability are never sampled.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @param <T> Class type of sampled values.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Alias_method">Alias method</a>
+ */
+public class CategoricalSampler<T> {
+
+  /** The values for selection. */
+  protected final Object[] values;
+  /** Probabilities of selection of value in column of table (instead of its alias). */
+  protected final double[] probabilities;
+  /** Indexes of aliases of values in columns of table. */
+  protected final int[] aliases;
+
+  /**
+   * Constructs sampler for given values and probabilities.
+   *
+   * @param values the values for selection.
+   * @param probabilities the array of values probabilities.
+   * @throws ValueGeneratorException If values are <code>null</code> or empty or if the array of
+   *           probabilities contains negative value(s).
+   */
+  public CategoricalSampler(T[] values, double[] probabilities) throws ValueGeneratorException {
+    if (values == null || values.length == 0) {
+      throw new ValueGeneratorException("No such values");
+    }
+
+    int count = values.length;
+    this.values = new Object[count];
+    System.arraycopy(values, 0, this.values, 0, count);
+    this.probabilities = new double[count];
+    this.aliases = new int[count];
+
+    // scale probabilities so the average column has probability 1.0
+    double[] scaled = CategoricalGenerator.normalizeProbabilities(probabilities, count);
+    int[] small = new int[count];
+    int[] large = new int[count];
+    int smallCount = 0, largeCount = 0;
+    for (int i = 0; i < count; i++) {
+      scaled[i] *= count;
+      if (scaled[i] < 1.0) {
+        small[smallCount++] = i;
+      }
+      else {
+        large[largeCount++] = i;
+      }
+    }
+
+    // fill columns of small values by aliases to large values
+    while (smallCount > 0 && largeCount > 0) {
+      int less = small[--smallCount];
+      int more = large[--largeCount];
+
+      this.probabilities[less] = scaled[less];
+      this.aliases[less] = more;
+
+      scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+      if (scaled[more] < 1.0) {
+        small[smallCount++] = more;
+      }
+      else {
+        large[largeCount++] = more;
+      }
+    }
+
+    // remaining columns are full (the small ones only because of rounding errors)
+    while (largeCount > 0) {
+      this.probabilities[large[--largeCount]] = 1.0;
+    }
+    while (smallCount > 0) {
+      this.probabilities[small[--smallCount]] = 1.0;
+    }
+  }
+
+  /**
+   * Returns number of values for selection.
+   *
+   * @return Number of values.
+   */
+  public int size() {
+    return values.length;
+  }
+
+  /**
+   * Returns one of values with categorical distribution.
+   *
+   * @param random the random generator.
+   * @return Random value.
+   * @throws ValueGeneratorException If given random generator is <code>null</code>.
+   */
+  @SuppressWarnings("unchecked")
+  public T sample(Random random) throws ValueGeneratorException {
+    if (random == null) {
+      throw new ValueGeneratorException("Random generator cannot be null");
+    }
+
+    double column = random.nextDouble() * values.length;
+    // the interval (i, i + 1] belongs to column i (same bounds as in linear search)
+    int index = (int)Math.ceil(column) - 1;
+    if (index < 0) {
+      index = 0;
+    }
+    else if (index >= values.length) {
+      index = values.length - 1;
+    }
+
+    double probability = probabilities[index];
+    if (probability > 0.0 && column - index <= probability) {
+      return (T)values[index];
+    }
+
+    return (T)values[aliases[index]];
+  }
+}
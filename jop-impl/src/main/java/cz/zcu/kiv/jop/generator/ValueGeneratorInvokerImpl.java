@@ -16,6 +16,7 @@ import cz.zcu.kiv.jop.annotation.parameters.EmptyParameters;
 import cz.zcu.kiv.jop.factory.FactoryException;
 import cz.zcu.kiv.jop.property.Property;
 import cz.zcu.kiv.jop.util.AnnotationUtils;
+import cz.zcu.kiv.jop.util.PropertyCache;
 import cz.zcu.kiv.jop.util.ReflectionUtils;
 
 /**
@@ -23,6 +24,10 @@ import cz.zcu.kiv.jop.util.ReflectionUtils;
  * generators) which analyzes the annotations of property and then choose and invoke some value
  * generator. After invocation is returned the result of chosen value generator. There is also
  * support of multiple invocations of same value generator.
+ * <p>
+ * The analysis of annotations (including resolving of parameters for custom value generators) is
+ * performed only once for each (non-virtual) property. The result of analysis is stored as plan of
+ * value generator into cache and reused by next invocations for the same property.
  *
  * @author Mr.FrAnTA
  * @since 1.0.0
@@ -36,6 +41,9 @@ public class ValueGeneratorInvokerImpl implements ValueGeneratorInvoker {
   /** Constant for name of invocable method by this invoker. */
   protected static final String INVOCABLE_METHOD_NAME = "getValue";
 
+  /** Cache of plans of value generators for already analyzed properties. */
+  protected final PropertyCache<GeneratorPlan> generatorPlans = new PropertyCache<GeneratorPlan>();
+
   /**
    * {@inheritDoc}
    */
@@ -62,25 +70,205 @@ public class ValueGeneratorInvokerImpl implements ValueGeneratorInvoker {
       throw new ValueGeneratorException("Number of invocations has to be greater than 0");
     }
 
-    Annotation[] annotations = AnnotationUtils.getAnnotatedAnnotations(property, ValueGeneratorAnnotation.class);
-    if (annotations == null || annotations.length == 0) {
-      throw new ValueGeneratorException("No such value generator annotation");
+    GeneratorPlan plan = getGeneratorPlan(property);
+    Annotation params = plan.getParams();
+    ValueGenerator<?, Annotation> valueGenerator = getValueGenerator(plan);
+
+    if (logger.isDebugEnabled()) {
+      logger.debug("Invoking value generator: " + valueGenerator.getClass().getName() + "; with parameters: " + params + "; for property: " + property + "; for "
+          + count + " time(s)");
     }
 
-    if (annotations.length > 1) {
-      throw new ValueGeneratorException("Too many value generator annotations");
+    Object[] values = new Object[count];
+    fill(valueGenerator, params, values, 0, count);
+
+    return values;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public Class<?> getValueType(Property<?> property) throws ValueGeneratorException {
+    if (property == null) {
+      throw new ValueGeneratorException("Property cannot be null");
     }
 
-    Annotation params = annotations[0];
+    return getGeneratorPlan(property).getValueType();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public double getDoubleValue(Property<?> property) throws ValueGeneratorException {
+    if (property == null) {
+      throw new ValueGeneratorException("Property cannot be null");
+    }
+
+    GeneratorPlan plan = getGeneratorPlan(property);
+    ValueGenerator<?, Annotation> valueGenerator = getValueGenerator(plan);
+    if (valueGenerator instanceof DoubleValueGenerator) {
+      return ((DoubleValueGenerator)valueGenerator).getDoubleValue(plan.getParams());
+    }
+
+    return toNumber(valueGenerator.getValue(plan.getParams())).doubleValue();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public int getIntValue(Property<?> property) throws ValueGeneratorException {
+    if (property == null) {
+      throw new ValueGeneratorException("Property cannot be null");
+    }
+
+    GeneratorPlan plan = getGeneratorPlan(property);
+    ValueGenerator<?, Annotation> valueGenerator = getValueGenerator(plan);
+    if (valueGenerator instanceof IntValueGenerator) {
+      return ((IntValueGenerator)valueGenerator).getIntValue(plan.getParams());
+    }
+
+    return toNumber(valueGenerator.getValue(plan.getParams())).intValue();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void fill(Property<?> property, Object[] target, int offset, int length) throws ValueGeneratorException {
+    if (property == null) {
+      throw new ValueGeneratorException("Property cannot be null");
+    }
+
+    checkRange(target == null ? -1 : target.length, offset, length);
+
+    GeneratorPlan plan = getGeneratorPlan(property);
+    fill(getValueGenerator(plan), plan.getParams(), target, offset, length);
+  }
+
+  /**
+   * Fills given part of target array by values generated by given value generator. If the value
+   * generator implements interface {@link BatchValueGenerator}, all values are generated by one
+   * invocation of value generator; otherwise the value generator is invoked for each element.
+   *
+   * @param valueGenerator the invoked value generator.
+   * @param params the parameters for value generator.
+   * @param target the array which will be filled by generated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException If some error occurs during value generator invocation.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  protected void fill(ValueGenerator<?, Annotation> valueGenerator, Annotation params, Object[] target, int offset, int length) throws ValueGeneratorException {
+    if (valueGenerator instanceof BatchValueGenerator) {
+      ((BatchValueGenerator)valueGenerator).fill(params, target, offset, length);
+      return;
+    }
+
+    for (int i = offset, end = offset + length; i < end; i++) {
+      target[i] = valueGenerator.getValue(params);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void fill(Property<?> property, double[] target, int offset, int length) throws ValueGeneratorException {
+    if (property == null) {
+      throw new ValueGeneratorException("Property cannot be null");
+    }
+
+    checkRange(target == null ? -1 : target.length, offset, length);
+
+    GeneratorPlan plan = getGeneratorPlan(property);
+    Annotation params = plan.getParams();
+    ValueGenerator<?, Annotation> valueGenerator = getValueGenerator(plan);
+    if (valueGenerator instanceof DoubleValueGenerator) {
+      ((DoubleValueGenerator)valueGenerator).fill(params, target, offset, length);
+      return;
+    }
+
+    for (int i = offset, end = offset + length; i < end; i++) {
+      target[i] = toNumber(valueGenerator.getValue(params)).doubleValue();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void fill(Property<?> property, int[] target, int offset, int length) throws ValueGeneratorException {
+    if (property == null) {
+      throw new ValueGeneratorException("Property cannot be null");
+    }
+
+    checkRange(target == null ? -1 : target.length, offset, length);
+
+    GeneratorPlan plan = getGeneratorPlan(property);
+    Annotation params = plan.getParams();
+    ValueGenerator<?, Annotation> valueGenerator = getValueGenerator(plan);
+    if (valueGenerator instanceof IntValueGenerator) {
+      ((IntValueGenerator)valueGenerator).fill(params, target, offset, length);
+      return;
+    }
+
+    for (int i = offset, end = offset + length; i < end; i++) {
+      target[i] = toNumber(valueGenerator.getValue(params)).intValue();
+    }
+  }
+
+  /**
+   * Checks whether the given part of array is valid.
+   *
+   * @param arrayLength the length of array (negative value for <code>null</code> array).
+   * @param offset the index of the first element of part of array.
+   * @param length the number of elements in part of array.
+   * @throws ValueGeneratorException If the array is <code>null</code> or if the given part of
+   *           array is out of bounds of array.
+   */
+  protected void checkRange(int arrayLength, int offset, int length) throws ValueGeneratorException {
+    if (arrayLength < 0) {
+      throw new ValueGeneratorException("Target array cannot be null");
+    }
+
+    if (offset < 0 || length < 0 || offset > arrayLength - length) {
+      throw new ValueGeneratorException("Invalid range of target array: [" + offset + ", " + (offset + length) + ") for length: " + arrayLength);
+    }
+  }
+
+  /**
+   * Checks whether the given generated value is number and returns it.
+   *
+   * @param value the generated value to check.
+   * @return Given value as number.
+   * @throws ValueGeneratorException If the given value is not number.
+   */
+  protected Number toNumber(Object value) throws ValueGeneratorException {
+    if (!(value instanceof Number)) {
+      throw new ValueGeneratorException("Generated value is not number: " + value);
+    }
+
+    return (Number)value;
+  }
+
+  /**
+   * Returns instance of value generator for given plan.
+   *
+   * @param plan the plan of value generator.
+   * @return Instance of value generator.
+   * @throws ValueGeneratorException If there is no such value generator or if some error occurs
+   *           during obtaining of value generator.
+   */
+  protected ValueGenerator<?, Annotation> getValueGenerator(GeneratorPlan plan) throws ValueGeneratorException {
     ValueGenerator<?, Annotation> valueGenerator = null;
-    if (AnnotationUtils.isAnnotatedAnnotation(params, CustomAnnotation.class)) {
+    if (plan.getCustomAnnotation() != null) {
       // custom value generator handling
-      valueGenerator = getCustomValueGenerator(params);
-      params = getCustomValueGeneratorParams(property, valueGenerator.getClass(), params.annotationType());
+      valueGenerator = getCustomValueGenerator(plan.getCustomAnnotation());
     }
     else {
       // value generators bound in value generator factory
-      valueGenerator = getBoundValueGenerator(params);
+      valueGenerator = getBoundValueGenerator(plan.getParams());
     }
 
     // no value generator
@@ -88,15 +276,56 @@ public class ValueGeneratorInvokerImpl implements ValueGeneratorInvoker {
       throw new ValueGeneratorException("No such value generator");
     }
 
-    logger.debug("Invoking value generator: " + valueGenerator.getClass().getName() + "; with parameters: " + params + "; for property: " + property + "; for "
-        + count + " time(s)");
+    return valueGenerator;
+  }
 
-    Object[] values = new Object[count];
-    for (int i = 0; i < count; i++) {
-      values[i] = valueGenerator.getValue(params);
+  /**
+   * Returns plan of value generator for given property. The plan is obtained from cache or it's
+   * created by method {@link #createGeneratorPlan(Property)} and stored into cache.
+   *
+   * @param property the property for which will be returned plan of value generator.
+   * @return Plan of value generator for given property.
+   * @throws ValueGeneratorException If property has invalid value generator annotations.
+   */
+  protected GeneratorPlan getGeneratorPlan(Property<?> property) throws ValueGeneratorException {
+    GeneratorPlan plan = generatorPlans.get(property);
+    if (plan == null) {
+      plan = generatorPlans.put(property, createGeneratorPlan(property));
     }
 
-    return values;
+    return plan;
+  }
+
+  /**
+   * Analyzes the annotations of given property and creates plan of value generator.
+   *
+   * @param property the property for which will be created plan of value generator.
+   * @return Created plan of value generator for given property.
+   * @throws ValueGeneratorException If property has invalid value generator annotations.
+   */
+  protected GeneratorPlan createGeneratorPlan(Property<?> property) throws ValueGeneratorException {
+    Annotation[] annotations = AnnotationUtils.getAnnotatedAnnotations(property, ValueGeneratorAnnotation.class);
+    if (annotations == null || annotations.length == 0) {
+      throw new ValueGeneratorException("No such value generator annotation");
+    }
+
+    if (annotations.length > 1) {
+      throw new ValueGeneratorException("Too many value generator annotations");
+    }
+
+    Annotation params = annotations[0];
+    if (AnnotationUtils.isAnnotatedAnnotation(params, CustomAnnotation.class)) {
+      // custom value generator handling
+      ValueGenerator<?, Annotation> valueGenerator = getCustomValueGenerator(params);
+      Annotation customParams = getCustomValueGeneratorParams(property, valueGenerator.getClass(), params.annotationType());
+
+      return new GeneratorPlan(customParams, params, valueGenerator.getValueType());
+    }
+
+    // value generators bound in value generator factory
+    ValueGenerator<?, Annotation> valueGenerator = getBoundValueGenerator(params);
+
+    return new GeneratorPlan(params, null, (valueGenerator == null) ? null : valueGenerator.getValueType());
   }
 
   /**
@@ -206,6 +435,65 @@ public class ValueGeneratorInvokerImpl implements ValueGeneratorInvoker {
     }
   }
 
+  /**
+   * Immutable plan of value generator for some property which is result of analysis of the property
+   * annotations.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected static class GeneratorPlan {
+
+    /** Parameters for value generator. */
+    protected final Annotation params;
+    /** Annotation of custom value generator; <code>null</code> for bound value generators. */
+    protected final Annotation customAnnotation;
+    /** Class type of values generated by value generator. */
+    protected final Class<?> valueType;
+
+    /**
+     * Constructs plan of value generator.
+     *
+     * @param params the parameters for value generator.
+     * @param customAnnotation the annotation of custom value generator (<code>null</code> for
+     *          bound value generators).
+     * @param valueType the class type of values generated by value generator.
+     */
+    protected GeneratorPlan(Annotation params, Annotation customAnnotation, Class<?> valueType) {
+      this.params = params;
+      this.customAnnotation = customAnnotation;
+      this.valueType = valueType;
+    }
+
+    /**
+     * Returns parameters for value generator.
+     *
+     * @return Parameters for value generator.
+     */
+    public Annotation getParams() {
+      return params;
+    }
+
+    /**
+     * Returns annotation of custom value generator.
+     *
+     * @return Annotation of custom value generator or <code>null</code> for bound value
+     *         generators.
+     */
+    public Annotation getCustomAnnotation() {
+      return customAnnotation;
+    }
+
+    /**
+     * Returns class type of values generated by value generator.
+     *
+     * @return Class type of generated values.
+     */
+    public Class<?> getValueType() {
+      return valueType;
+    }
+  }
+
   //----- Injection part ------------------------------------------------------
 
   /** Binding factory for creating/providing instances of value generators. */
@@ -1,5 +1,7 @@
 package cz.zcu.kiv.jop.generator.bool;
 
+import java.util.Arrays;
+
 import javax.inject.Singleton;
 
 import cz.zcu.kiv.jop.annotation.generator.bool.ConstantBoolean;
@@ -34,4 +36,21 @@ public class ConstantBooleanGenerator extends AbstractValueGenerator<Boolean, Co
 
     return params.value();
   }
+
+  /**
+   * Fills given part of target array by constant boolean value from parameter
+   * {@link ConstantBoolean#value() value}.
+   *
+   * @param params the parameters of constant boolean value generator.
+   * @param target the array which will be filled by constant value.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException If given annotation is <code>null</code>.
+   */
+  @Override
+  public void fill(ConstantBoolean params, Object[] target, int offset, int length) throws ValueGeneratorException {
+    checkParamsNotNull(params); // check not null
+
+    Arrays.fill(target, offset, offset + length, Boolean.valueOf(params.value()));
+  }
 }
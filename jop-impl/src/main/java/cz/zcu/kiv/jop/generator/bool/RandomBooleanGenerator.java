@@ -1,5 +1,7 @@
 package cz.zcu.kiv.jop.generator.bool;
 
+import java.util.Random;
+
 import javax.inject.Singleton;
 
 import cz.zcu.kiv.jop.annotation.generator.bool.RandomBoolean;
@@ -39,4 +41,30 @@ public class RandomBooleanGenerator extends AbstractValueGenerator<Boolean, Rand
 
     return (nextDouble(params) < probability) ? Boolean.TRUE : Boolean.FALSE;
   }
+
+  /**
+   * Fills given part of target array by random boolean values according to probability in given
+   * parameters. The parameters are checked and the random generator is obtained only once for all
+   * values.
+   *
+   * @param params the parameters of (random) boolean value generator.
+   * @param target the array which will be filled by generated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException If probability in given parameters is not between 0.0 and 1.0.
+   */
+  @Override
+  public void fill(RandomBoolean params, Object[] target, int offset, int length) throws ValueGeneratorException {
+    checkParamsNotNull(params); // check not null
+
+    double probability = params.probability();
+    if (probability < 0.0 || probability > 1.0) {
+      throw new ValueGeneratorException("Invalid value of probability: " + probability);
+    }
+
+    Random rand = getRandomGenerator(params);
+    for (int i = offset, end = offset + length; i < end; i++) {
+      target[i] = (rand.nextDouble() < probability) ? Boolean.TRUE : Boolean.FALSE;
+    }
+  }
 }
@@ -11,9 +11,10 @@ import org.apache.commons.logging.LogFactory;
 import cz.zcu.kiv.jop.annotation.class_provider.ClassLoaderConst;
 import cz.zcu.kiv.jop.annotation.class_provider.RandomClassForName;
 import cz.zcu.kiv.jop.generator.AbstractValueGenerator;
-import cz.zcu.kiv.jop.generator.CategoricalGenerator;
+import cz.zcu.kiv.jop.generator.CategoricalSampler;
 import cz.zcu.kiv.jop.generator.ValueGeneratorException;
 import cz.zcu.kiv.jop.session.ClassLoaderSession;
+import cz.zcu.kiv.jop.util.AnnotationCache;
 import cz.zcu.kiv.jop.util.ClassLoaderUtils;
 import cz.zcu.kiv.jop.util.StringUtils;
 
@@ -29,6 +30,9 @@ public class RandomClassForNameGenerator extends AbstractValueGenerator<Class<?>
   /** Logger used for logging. */
   private static final Log logger = LogFactory.getLog(RandomClassForNameGenerator.class);
 
+  /** Cache of samplers of class names for parameters annotations. */
+  protected final AnnotationCache<CategoricalSampler<String>> samplers = new AnnotationCache<CategoricalSampler<String>>();
+
   /**
    * {@inheritDoc}
    */
@@ -40,7 +44,7 @@ public class RandomClassForNameGenerator extends AbstractValueGenerator<Class<?>
   /**
    * Returns loaded class type with random fully qualified name from parameter
    * {@link RandomClassForName#value() value()} of given annotation. The name of class is generated
-   * by {@link CategoricalGenerator}. For loading of class is used class loaded specified in
+   * by {@link CategoricalSampler} which is cached for given annotation. For loading of class is used class loaded specified in
    * parameter {@link RandomClassForName#classLoader() classLoader()}.
    *
    * @param params the parameters of (random) class type generator.
@@ -59,7 +63,7 @@ public class RandomClassForNameGenerator extends AbstractValueGenerator<Class<?>
     }
 
     Random rand = getRandomGenerator(params);
-    String className = CategoricalGenerator.getValue(rand, params.value(), params.probabilities());
+    String className = getSampler(params).sample(rand);
 
     // class loaders
     ClassLoader classLoader = null;
@@ -88,6 +92,24 @@ public class RandomClassForNameGenerator extends AbstractValueGenerator<Class<?>
     }
   }
 
+  /**
+   * Returns sampler of class names for given parameters. The sampler is created only once for each
+   * parameters annotation and then it's cached.
+   *
+   * @param params the parameters of (random) class type generator.
+   * @return The sampler of class names.
+   * @throws ValueGeneratorException If given parameters contain no class names or if the
+   *           probabilities are not valid.
+   */
+  protected CategoricalSampler<String> getSampler(RandomClassForName params) throws ValueGeneratorException {
+    CategoricalSampler<String> sampler = samplers.get(params);
+    if (sampler == null) {
+      sampler = samplers.put(params, new CategoricalSampler<String>(params.value(), params.probabilities()));
+    }
+
+    return sampler;
+  }
+
   // ----- Injection part ------------------------------------------------------
 
   /** Session which stores class class loaders by their symbolic names. */
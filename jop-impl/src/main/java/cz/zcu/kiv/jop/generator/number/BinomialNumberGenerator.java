@@ -6,7 +6,10 @@ import javax.inject.Singleton;
 
 import cz.zcu.kiv.jop.annotation.generator.number.BinomialGenerator;
 import cz.zcu.kiv.jop.generator.AbstractValueGenerator;
+import cz.zcu.kiv.jop.generator.IntValueGenerator;
 import cz.zcu.kiv.jop.generator.ValueGeneratorException;
+import cz.zcu.kiv.jop.random.BinomialSampler;
+import cz.zcu.kiv.jop.util.AnnotationCache;
 
 /**
  * Implementation of number generator for annotation {@link BinomialGenerator}.
@@ -15,7 +18,10 @@ import cz.zcu.kiv.jop.generator.ValueGeneratorException;
  * @since 1.0.0
  */
 @Singleton
-public class BinomialNumberGenerator extends AbstractValueGenerator<Integer, BinomialGenerator> {
+public class BinomialNumberGenerator extends AbstractValueGenerator<Integer, BinomialGenerator> implements IntValueGenerator<BinomialGenerator> {
+
+  /** Cache of samplers for parameters annotations. */
+  protected final AnnotationCache<BinomialSampler> samplers = new AnnotationCache<BinomialSampler>();
 
   /**
    * {@inheritDoc}
@@ -24,33 +30,77 @@ public class BinomialNumberGenerator extends AbstractValueGenerator<Integer, Bin
     return Integer.class;
   }
 
+  /**
+   * Returns wrapped value returned by method {@link #getIntValue}.
+   *
+   * @param params the parameters of number value generator.
+   * @return Generated number value.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  public Integer getValue(BinomialGenerator params) throws ValueGeneratorException {
+    return getIntValue(params);
+  }
+
   /**
    * Returns random integer for number of successes in a sequence of independent yes/no experiments,
-   * each of which yields success with some probability.
+   * each of which yields success with some probability. The value is generated by
+   * {@link BinomialSampler} which is cached for given parameters.
    *
    * @param params the parameters of (random) number value generator.
    * @return Generated random integer number.
    * @throws ValueGeneratorException If given parameters are not valid.
    */
-  public Integer getValue(BinomialGenerator params) throws ValueGeneratorException {
-    checkParamsNotNull(params); // check not null
+  public int getIntValue(BinomialGenerator params) throws ValueGeneratorException {
+    return getSampler(params).sample(getRandomGenerator(params));
+  }
 
-    // check number of trials
-    int trials = params.trials();
-    if (trials <= 0) {
-      throw new ValueGeneratorException("Number of trials has to be positive");
-    }
+  /**
+   * Returns sampler of binomial distribution for given parameters. The parameters are checked and
+   * the sampler is created only once for each parameters annotation and then it's cached.
+   *
+   * @param params the parameters of (random) number value generator.
+   * @return The sampler for given parameters.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  protected BinomialSampler getSampler(BinomialGenerator params) throws ValueGeneratorException {
+    BinomialSampler sampler = samplers.get(params);
+    if (sampler == null) {
+      checkParamsNotNull(params); // check not null
+
+      // check number of trials
+      int trials = params.trials();
+      if (trials <= 0) {
+        throw new ValueGeneratorException("Number of trials has to be positive");
+      }
+
+      // check probability
+      double probability = params.probability();
+      if (probability <= 0.0 || probability >= 1.0) {
+        throw new ValueGeneratorException("Invalid value of probability: " + probability);
+      }
 
-    // check and normalize probability
-    double probability = params.probability();
-    if (probability <= 0.0 || probability >= 1.0) {
-      throw new ValueGeneratorException("Invalid value of probability: " + probability);
+      sampler = samplers.put(params, new BinomialSampler(trials, probability));
     }
 
-    Random rand = getRandomGenerator(params);
-    org.uncommons.maths.random.BinomialGenerator generator =
-        new org.uncommons.maths.random.BinomialGenerator(trials, probability, rand);
+    return sampler;
+  }
 
-    return generator.nextValue();
+  /**
+   * Fills given part of target array by random int values with binomial distribution. The
+   * parameters are checked and the sampler and random generator are obtained only once for all
+   * values.
+   *
+   * @param params the parameters of (random) number value generator.
+   * @param target the array which will be filled by generated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  public void fill(BinomialGenerator params, int[] target, int offset, int length) throws ValueGeneratorException {
+    BinomialSampler sampler = getSampler(params);
+    Random rand = getRandomGenerator(params);
+    for (int i = offset, end = offset + length; i < end; i++) {
+      target[i] = sampler.sample(rand);
+    }
   }
 }
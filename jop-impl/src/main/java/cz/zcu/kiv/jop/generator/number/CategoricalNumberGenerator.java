@@ -21,4 +21,12 @@ public class CategoricalNumberGenerator extends cz.zcu.kiv.jop.generator.Categor
     return getRandomValue(params);
   }
 
+  /**
+   * Fills given part of target array by random numbers with categorical distribution according to
+   * given parameters.
+   */
+  @Override
+  public void fill(CategoricalGenerator params, Object[] target, int offset, int length) throws ValueGeneratorException {
+    fillRandomValues(params, target, offset, length);
+  }
 }
@@ -1,9 +1,12 @@
 package cz.zcu.kiv.jop.generator.number;
 
+import java.util.Arrays;
+
 import javax.inject.Singleton;
 
 import cz.zcu.kiv.jop.annotation.generator.number.ConstantGenerator;
 import cz.zcu.kiv.jop.generator.AbstractValueGenerator;
+import cz.zcu.kiv.jop.generator.DoubleValueGenerator;
 import cz.zcu.kiv.jop.generator.ValueGeneratorException;
 
 /**
@@ -13,7 +16,7 @@ import cz.zcu.kiv.jop.generator.ValueGeneratorException;
  * @since 1.0.0
  */
 @Singleton
-public class ConstantNumberGenerator extends AbstractValueGenerator<Double, ConstantGenerator> {
+public class ConstantNumberGenerator extends AbstractValueGenerator<Double, ConstantGenerator> implements DoubleValueGenerator<ConstantGenerator> {
 
   /**
    * {@inheritDoc}
@@ -22,6 +25,17 @@ public class ConstantNumberGenerator extends AbstractValueGenerator<Double, Cons
     return Double.class;
   }
 
+  /**
+   * Returns wrapped value returned by method {@link #getDoubleValue}.
+   *
+   * @param params the parameters of number value generator.
+   * @return Generated number value.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  public Double getValue(ConstantGenerator params) throws ValueGeneratorException {
+    return getDoubleValue(params);
+  }
+
   /**
    * Returns constant number value from parameter {@link ConstantDouble#value() value}.
    *
@@ -29,9 +43,25 @@ public class ConstantNumberGenerator extends AbstractValueGenerator<Double, Cons
    * @return Constant number value from parameter {@link ConstantDouble#value() value}.
    * @throws ValueGeneratorException If given annotation is <code>null</code>.
    */
-  public Double getValue(ConstantGenerator params) throws ValueGeneratorException {
+  public double getDoubleValue(ConstantGenerator params) throws ValueGeneratorException {
     checkParamsNotNull(params); // check not null
 
     return params.value();
   }
+
+  /**
+   * Fills given part of target array by constant number value from parameter
+   * {@link ConstantGenerator#value() value}.
+   *
+   * @param params the parameters of constant number value generator.
+   * @param target the array which will be filled by constant value.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException If given annotation is <code>null</code>.
+   */
+  public void fill(ConstantGenerator params, double[] target, int offset, int length) throws ValueGeneratorException {
+    checkParamsNotNull(params); // check not null
+
+    Arrays.fill(target, offset, offset + length, params.value());
+  }
 }
@@ -1,5 +1,6 @@
 package cz.zcu.kiv.jop.generator.number;
 
+import java.util.Arrays;
 import java.util.Random;
 
 import javax.inject.Singleton;
@@ -7,6 +8,7 @@ import javax.inject.Singleton;
 import cz.zcu.kiv.jop.annotation.generator.number.DiscreteUniformGenerator;
 import cz.zcu.kiv.jop.annotation.generator.number.UniformGenerator;
 import cz.zcu.kiv.jop.generator.AbstractValueGenerator;
+import cz.zcu.kiv.jop.generator.IntValueGenerator;
 import cz.zcu.kiv.jop.generator.ValueGeneratorException;
 
 /**
@@ -16,7 +18,7 @@ import cz.zcu.kiv.jop.generator.ValueGeneratorException;
  * @since 1.0.0
  */
 @Singleton
-public class DiscreteUniformNumberGenerator extends AbstractValueGenerator<Integer, DiscreteUniformGenerator> {
+public class DiscreteUniformNumberGenerator extends AbstractValueGenerator<Integer, DiscreteUniformGenerator> implements IntValueGenerator<DiscreteUniformGenerator> {
 
   /**
    * {@inheritDoc}
@@ -25,6 +27,17 @@ public class DiscreteUniformNumberGenerator extends AbstractValueGenerator<Integ
     return Integer.class;
   }
 
+  /**
+   * Returns wrapped value returned by method {@link #getIntValue}.
+   *
+   * @param params the parameters of number value generator.
+   * @return Generated number value.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  public Integer getValue(DiscreteUniformGenerator params) throws ValueGeneratorException {
+    return getIntValue(params);
+  }
+
   /**
    * Returns random integer value between minimum (inclusive) and maximum (inclusive) values given
    * in parameters. Values are generated with discrete uniform distribution.
@@ -33,7 +46,7 @@ public class DiscreteUniformNumberGenerator extends AbstractValueGenerator<Integ
    * @return Generated random integer value between minimum and maximum value.
    * @throws ValueGeneratorException If given parameters are not valid.
    */
-  public Integer getValue(DiscreteUniformGenerator params) throws ValueGeneratorException {
+  public int getIntValue(DiscreteUniformGenerator params) throws ValueGeneratorException {
     checkParamsNotNull(params); // check not null
 
     int min = params.min();
@@ -48,11 +61,41 @@ public class DiscreteUniformNumberGenerator extends AbstractValueGenerator<Integ
       return min;
     }
 
-    Random rand = getRandomGenerator(params);
-    org.uncommons.maths.random.DiscreteUniformGenerator generator =
-        new org.uncommons.maths.random.DiscreteUniformGenerator(params.min(), params.max(), rand);
-
-    return generator.nextValue();
+    // same as org.uncommons.maths.random.DiscreteUniformGenerator, but without wrapping of value
+    return min + getRandomGenerator(params).nextInt(max - min + 1);
   }
 
+  /**
+   * Fills given part of target array by random integer values between minimum (inclusive) and
+   * maximum (inclusive) values given in parameters. The parameters are checked and the random
+   * generator is obtained only once for all values.
+   *
+   * @param params the parameters of (random) number value generator.
+   * @param target the array which will be filled by generated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  public void fill(DiscreteUniformGenerator params, int[] target, int offset, int length) throws ValueGeneratorException {
+    checkParamsNotNull(params); // check not null
+
+    int min = params.min();
+    int max = params.max();
+
+    if (min > max) {
+      throw new ValueGeneratorException("Minimum value is greater than maximum");
+    }
+
+    // values are same => constant generator
+    if (min == max) {
+      Arrays.fill(target, offset, offset + length, min);
+      return;
+    }
+
+    Random rand = getRandomGenerator(params);
+    int bound = max - min + 1;
+    for (int i = offset, end = offset + length; i < end; i++) {
+      target[i] = min + rand.nextInt(bound);
+    }
+  }
 }
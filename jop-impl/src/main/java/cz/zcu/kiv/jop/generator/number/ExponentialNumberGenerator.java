@@ -6,7 +6,10 @@ import javax.inject.Singleton;
 
 import cz.zcu.kiv.jop.annotation.generator.number.ExponentialGenerator;
 import cz.zcu.kiv.jop.generator.AbstractValueGenerator;
+import cz.zcu.kiv.jop.generator.DoubleValueGenerator;
 import cz.zcu.kiv.jop.generator.ValueGeneratorException;
+import cz.zcu.kiv.jop.random.ExponentialSampler;
+import cz.zcu.kiv.jop.util.AnnotationCache;
 
 /**
  * Implementation of number generator for annotation {@link ExponentialGenerator}.
@@ -15,7 +18,10 @@ import cz.zcu.kiv.jop.generator.ValueGeneratorException;
  * @since 1.0.0
  */
 @Singleton
-public class ExponentialNumberGenerator extends AbstractValueGenerator<Double, ExponentialGenerator> {
+public class ExponentialNumberGenerator extends AbstractValueGenerator<Double, ExponentialGenerator> implements DoubleValueGenerator<ExponentialGenerator> {
+
+  /** Cache of samplers for parameters annotations. */
+  protected final AnnotationCache<ExponentialSampler> samplers = new AnnotationCache<ExponentialSampler>();
 
   /**
    * {@inheritDoc}
@@ -25,19 +31,68 @@ public class ExponentialNumberGenerator extends AbstractValueGenerator<Double, E
   }
 
   /**
-   * Returns random double value with Exponential distribution for rate of given parameters.
+   * Returns wrapped value returned by method {@link #getDoubleValue}.
+   *
+   * @param params the parameters of number value generator.
+   * @return Generated number value.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  public Double getValue(ExponentialGenerator params) throws ValueGeneratorException {
+    return getDoubleValue(params);
+  }
+
+  /**
+   * Returns random double value with Exponential distribution for rate of given parameters. The
+   * value is generated by {@link ExponentialSampler} which is cached for given parameters.
    *
    * @param params the parameters of (random) number value generator.
    * @return Generated random double value.
    * @throws ValueGeneratorException If given parameters are not valid.
    */
-  public Double getValue(ExponentialGenerator params) throws ValueGeneratorException {
-    checkParamsNotNull(params); // check not null
+  public double getDoubleValue(ExponentialGenerator params) throws ValueGeneratorException {
+    return getSampler(params).sample(getRandomGenerator(params));
+  }
 
-    Random rand = getRandomGenerator(params);
-    org.uncommons.maths.random.ExponentialGenerator generator =
-        new org.uncommons.maths.random.ExponentialGenerator(params.rate(), rand);
+  /**
+   * Returns sampler of exponential distribution for given parameters. The parameters are checked
+   * and the sampler is created only once for each parameters annotation and then it's cached.
+   *
+   * @param params the parameters of (random) number value generator.
+   * @return The sampler for given parameters.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  protected ExponentialSampler getSampler(ExponentialGenerator params) throws ValueGeneratorException {
+    ExponentialSampler sampler = samplers.get(params);
+    if (sampler == null) {
+      checkParamsNotNull(params); // check not null
+
+      double rate = params.rate();
+      if (rate <= 0) {
+        throw new ValueGeneratorException("Rate has to be positive");
+      }
+
+      sampler = samplers.put(params, new ExponentialSampler(rate));
+    }
+
+    return sampler;
+  }
 
-    return generator.nextValue();
+  /**
+   * Fills given part of target array by random double values with exponential distribution. The
+   * parameters are checked and the sampler and random generator are obtained only once for all
+   * values.
+   *
+   * @param params the parameters of (random) number value generator.
+   * @param target the array which will be filled by generated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  public void fill(ExponentialGenerator params, double[] target, int offset, int length) throws ValueGeneratorException {
+    ExponentialSampler sampler = getSampler(params);
+    Random rand = getRandomGenerator(params);
+    for (int i = offset, end = offset + length; i < end; i++) {
+      target[i] = sampler.sample(rand);
+    }
   }
 }
@@ -6,7 +6,10 @@ import javax.inject.Singleton;
 
 import cz.zcu.kiv.jop.annotation.generator.number.GaussianGenerator;
 import cz.zcu.kiv.jop.generator.AbstractValueGenerator;
+import cz.zcu.kiv.jop.generator.DoubleValueGenerator;
 import cz.zcu.kiv.jop.generator.ValueGeneratorException;
+import cz.zcu.kiv.jop.random.GaussianSampler;
+import cz.zcu.kiv.jop.util.AnnotationCache;
 
 /**
  * Implementation of number generator for annotation {@link GaussianGenerator}.
@@ -15,7 +18,10 @@ import cz.zcu.kiv.jop.generator.ValueGeneratorException;
  * @since 1.0.0
  */
 @Singleton
-public class GaussianNumberGenerator extends AbstractValueGenerator<Double, GaussianGenerator> {
+public class GaussianNumberGenerator extends AbstractValueGenerator<Double, GaussianGenerator> implements DoubleValueGenerator<GaussianGenerator> {
+
+  /** Cache of samplers for parameters annotations. */
+  protected final AnnotationCache<GaussianSampler> samplers = new AnnotationCache<GaussianSampler>();
 
   /**
    * {@inheritDoc}
@@ -24,28 +30,71 @@ public class GaussianNumberGenerator extends AbstractValueGenerator<Double, Gaus
     return Double.class;
   }
 
+  /**
+   * Returns wrapped value returned by method {@link #getDoubleValue}.
+   *
+   * @param params the parameters of number value generator.
+   * @return Generated number value.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  public Double getValue(GaussianGenerator params) throws ValueGeneratorException {
+    return getDoubleValue(params);
+  }
+
   /**
    * Returns random double value with Gaussian distribution with given mean and variance in
+   * parameters. The value is generated by {@link GaussianSampler} which is cached for given
    * parameters.
    *
    * @param params the parameters of (random) number value generator.
    * @return Generated random double value.
    * @throws ValueGeneratorException If given parameters are not valid.
    */
-  public Double getValue(GaussianGenerator params) throws ValueGeneratorException {
-    checkParamsNotNull(params); // check not null
+  public double getDoubleValue(GaussianGenerator params) throws ValueGeneratorException {
+    return getSampler(params).sample(getRandomGenerator(params));
+  }
+
+  /**
+   * Returns sampler of Gaussian distribution for given parameters. The parameters are checked and
+   * the sampler is created only once for each parameters annotation and then it's cached.
+   *
+   * @param params the parameters of (random) number value generator.
+   * @return The sampler for given parameters.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  protected GaussianSampler getSampler(GaussianGenerator params) throws ValueGeneratorException {
+    GaussianSampler sampler = samplers.get(params);
+    if (sampler == null) {
+      checkParamsNotNull(params); // check not null
+
+      // variance (standard deviation) - has to be positive or zero
+      double variance = params.variance();
+      if (variance < 0) {
+        throw new ValueGeneratorException("Variance cannot be negative");
+      }
 
-    double mean = params.mean();
-    // variance (standard deviation) - has to be positive or zero
-    double variance = params.variance();
-    if (variance < 0) {
-      throw new ValueGeneratorException("Variance cannot be negative");
+      sampler = samplers.put(params, new GaussianSampler(params.mean(), variance));
     }
 
-    Random rand = getRandomGenerator(params);
-    org.uncommons.maths.random.GaussianGenerator generator =
-        new org.uncommons.maths.random.GaussianGenerator(mean, variance, rand);
+    return sampler;
+  }
 
-    return generator.nextValue();
+  /**
+   * Fills given part of target array by random double values with Gaussian distribution. The
+   * parameters are checked and the sampler and random generator are obtained only once for all
+   * values.
+   *
+   * @param params the parameters of (random) number value generator.
+   * @param target the array which will be filled by generated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  public void fill(GaussianGenerator params, double[] target, int offset, int length) throws ValueGeneratorException {
+    GaussianSampler sampler = getSampler(params);
+    Random rand = getRandomGenerator(params);
+    for (int i = offset, end = offset + length; i < end; i++) {
+      target[i] = sampler.sample(rand);
+    }
   }
 }
@@ -6,7 +6,10 @@ import javax.inject.Singleton;
 
 import cz.zcu.kiv.jop.annotation.generator.number.PoissonGenerator;
 import cz.zcu.kiv.jop.generator.AbstractValueGenerator;
+import cz.zcu.kiv.jop.generator.IntValueGenerator;
 import cz.zcu.kiv.jop.generator.ValueGeneratorException;
+import cz.zcu.kiv.jop.random.PoissonSampler;
+import cz.zcu.kiv.jop.util.AnnotationCache;
 
 /**
  * Implementation of number generator for annotation {@link PoissonGenerator}.
@@ -15,7 +18,10 @@ import cz.zcu.kiv.jop.generator.ValueGeneratorException;
  * @since 1.0.0
  */
 @Singleton
-public class PoissonNumberGenerator extends AbstractValueGenerator<Integer, PoissonGenerator> {
+public class PoissonNumberGenerator extends AbstractValueGenerator<Integer, PoissonGenerator> implements IntValueGenerator<PoissonGenerator> {
+
+  /** Cache of samplers for parameters annotations. */
+  protected final AnnotationCache<PoissonSampler> samplers = new AnnotationCache<PoissonSampler>();
 
   /**
    * {@inheritDoc}
@@ -25,24 +31,68 @@ public class PoissonNumberGenerator extends AbstractValueGenerator<Integer, Pois
   }
 
   /**
-   * Returns random integer value with Poisson distribution for mean of given parameters.
+   * Returns wrapped value returned by method {@link #getIntValue}.
+   *
+   * @param params the parameters of number value generator.
+   * @return Generated number value.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  public Integer getValue(PoissonGenerator params) throws ValueGeneratorException {
+    return getIntValue(params);
+  }
+
+  /**
+   * Returns random integer value with Poisson distribution for mean of given parameters. The value
+   * is generated by {@link PoissonSampler} which is cached for given parameters.
    *
    * @param params the parameters of (random) number value generator.
    * @return Generated random integer value.
    * @throws ValueGeneratorException If given parameters are not valid.
    */
-  public Integer getValue(PoissonGenerator params) throws ValueGeneratorException {
-    checkParamsNotNull(params); // check not null
+  public int getIntValue(PoissonGenerator params) throws ValueGeneratorException {
+    return getSampler(params).sample(getRandomGenerator(params));
+  }
+
+  /**
+   * Returns sampler of Poisson distribution for given parameters. The parameters are checked and
+   * the sampler is created only once for each parameters annotation and then it's cached.
+   *
+   * @param params the parameters of (random) number value generator.
+   * @return The sampler for given parameters.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  protected PoissonSampler getSampler(PoissonGenerator params) throws ValueGeneratorException {
+    PoissonSampler sampler = samplers.get(params);
+    if (sampler == null) {
+      checkParamsNotNull(params); // check not null
+
+      double mean = params.mean();
+      if (mean <= 0) {
+        throw new ValueGeneratorException("Mean cannot be negative");
+      }
 
-    double mean = params.mean();
-    if (mean <= 0) {
-      throw new ValueGeneratorException("Mean cannot be negative");
+      sampler = samplers.put(params, new PoissonSampler(mean));
     }
 
-    Random rand = getRandomGenerator(params);
-    org.uncommons.maths.random.PoissonGenerator generator =
-        new org.uncommons.maths.random.PoissonGenerator(params.mean(), rand);
+    return sampler;
+  }
 
-    return generator.nextValue();
+  /**
+   * Fills given part of target array by random int values with Poisson distribution. The
+   * parameters are checked and the sampler and random generator are obtained only once for all
+   * values.
+   *
+   * @param params the parameters of (random) number value generator.
+   * @param target the array which will be filled by generated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  public void fill(PoissonGenerator params, int[] target, int offset, int length) throws ValueGeneratorException {
+    PoissonSampler sampler = getSampler(params);
+    Random rand = getRandomGenerator(params);
+    for (int i = offset, end = offset + length; i < end; i++) {
+      target[i] = sampler.sample(rand);
+    }
   }
 }
@@ -1,9 +1,13 @@
 package cz.zcu.kiv.jop.generator.number;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import javax.inject.Singleton;
 
 import cz.zcu.kiv.jop.annotation.generator.number.UniformGenerator;
 import cz.zcu.kiv.jop.generator.AbstractValueGenerator;
+import cz.zcu.kiv.jop.generator.DoubleValueGenerator;
 import cz.zcu.kiv.jop.generator.ValueGeneratorException;
 
 /**
@@ -13,7 +17,7 @@ import cz.zcu.kiv.jop.generator.ValueGeneratorException;
  * @since 1.0.0
  */
 @Singleton
-public class UniformNumberGenerator extends AbstractValueGenerator<Double, UniformGenerator> {
+public class UniformNumberGenerator extends AbstractValueGenerator<Double, UniformGenerator> implements DoubleValueGenerator<UniformGenerator> {
 
   /**
    * {@inheritDoc}
@@ -22,6 +26,17 @@ public class UniformNumberGenerator extends AbstractValueGenerator<Double, Unifo
     return Double.class;
   }
 
+  /**
+   * Returns wrapped value returned by method {@link #getDoubleValue}.
+   *
+   * @param params the parameters of number value generator.
+   * @return Generated number value.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  public Double getValue(UniformGenerator params) throws ValueGeneratorException {
+    return getDoubleValue(params);
+  }
+
   /**
    * Returns random double value between minimum (inclusive) and maximum (inclusive) values given in
    * parameters. Values are generated with uniform distribution.
@@ -30,7 +45,7 @@ public class UniformNumberGenerator extends AbstractValueGenerator<Double, Unifo
    * @return Generated random double value between minimum and maximum value.
    * @throws ValueGeneratorException If given parameters are not valid.
    */
-  public Double getValue(UniformGenerator params) throws ValueGeneratorException {
+  public double getDoubleValue(UniformGenerator params) throws ValueGeneratorException {
     checkParamsNotNull(params); // check not null
 
     double min = params.min();
@@ -47,4 +62,37 @@ public class UniformNumberGenerator extends AbstractValueGenerator<Double, Unifo
 
     return nextDouble(params, min, max);
   }
+
+  /**
+   * Fills given part of target array by random double values between minimum (inclusive) and
+   * maximum (inclusive) values given in parameters. The parameters are checked and the random
+   * generator is obtained only once for all values.
+   *
+   * @param params the parameters of (random) number value generator.
+   * @param target the array which will be filled by generated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException If given parameters are not valid.
+   */
+  public void fill(UniformGenerator params, double[] target, int offset, int length) throws ValueGeneratorException {
+    checkParamsNotNull(params); // check not null
+
+    double min = params.min();
+    double max = params.max();
+
+    if (min > max) {
+      throw new ValueGeneratorException("Minimum value is greater than maximum");
+    }
+
+    // values are same => constant generator
+    if (Double.compare(min, max) == 0) {
+      Arrays.fill(target, offset, offset + length, min);
+      return;
+    }
+
+    Random rand = getRandomGenerator(params);
+    for (int i = offset, end = offset + length; i < end; i++) {
+      target[i] = nextDouble(rand, min, max);
+    }
+  }
 }
@@ -1,5 +1,7 @@
 package cz.zcu.kiv.jop.generator.string;
 
+import java.util.Arrays;
+
 import javax.inject.Singleton;
 
 import cz.zcu.kiv.jop.annotation.generator.string.ConstantString;
@@ -34,4 +36,21 @@ public class ConstantStringGenerator extends AbstractValueGenerator<String, Cons
 
     return params.value();
   }
+
+  /**
+   * Fills given part of target array by constant string value from parameter
+   * {@link ConstantString#value() value}.
+   *
+   * @param params the parameters of constant string value generator.
+   * @param target the array which will be filled by constant value.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @throws ValueGeneratorException If given annotation is <code>null</code>.
+   */
+  @Override
+  public void fill(ConstantString params, Object[] target, int offset, int length) throws ValueGeneratorException {
+    checkParamsNotNull(params); // check not null
+
+    Arrays.fill(target, offset, offset + length, params.value());
+  }
 }
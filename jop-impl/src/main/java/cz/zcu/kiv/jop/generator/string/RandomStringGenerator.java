@@ -22,4 +22,12 @@ public class RandomStringGenerator extends CategoricalGenerator<String, RandomSt
     return getRandomValue(params);
   }
 
+  /**
+   * Fills given part of target array by random string values with categorical distribution
+   * according to given parameters.
+   */
+  @Override
+  public void fill(RandomString params, Object[] target, int offset, int length) throws ValueGeneratorException {
+    fillRandomValues(params, target, offset, length);
+  }
 }
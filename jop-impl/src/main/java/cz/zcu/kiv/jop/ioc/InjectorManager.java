@@ -1,5 +1,10 @@
 package cz.zcu.kiv.jop.ioc;
 
+import java.util.Collections;
+
+import com.google.inject.Module;
+import com.google.inject.Stage;
+
 import cz.zcu.kiv.jop.ioc.guice.GuiceInjector;
 import cz.zcu.kiv.jop.util.ReflectionUtils;
 
@@ -17,11 +22,18 @@ import cz.zcu.kiv.jop.util.ReflectionUtils;
  */
 public class InjectorManager implements InjectorProvider {
 
+  /**
+   * Name of system property which enables lazy bootstrap of injector (if its value is
+   * <code>true</code>). In lazy bootstrap are the singletons created and the factories configured
+   * on demand, which shortens the startup of short-lived applications.
+   */
+  public static final String LAZY_BOOTSTRAP_PROPERTY = "jop.bootstrap.lazy";
+
   /** Instance of provided injector. */
   protected final Injector injector;
 
   /** Singleton instance of this this class. */
-  private static InjectorManager instance;
+  private static volatile InjectorManager instance;
 
   /**
    * Constructs singleton instance of this class.
@@ -37,6 +49,9 @@ public class InjectorManager implements InjectorProvider {
    * Prepares injector according to available implementation of dependency injection. Generally this
    * library may cooperate with several types of dependency injection. Currently is implemented only
    * integration of injector using Google Guice.
+   * <p>
+   * If the system property {@value #LAZY_BOOTSTRAP_PROPERTY} is set to <code>true</code>, the
+   * injector is prepared for lazy bootstrap.
    *
    * @return Prepared injector.
    * @throws InjectorException If some error occurs during injector preparation.
@@ -50,6 +65,10 @@ public class InjectorManager implements InjectorProvider {
 
     // NOTICE: in future, there may be added passing this instance as parameter
     // of injector to be possible inject the injector provider.
+    if (Boolean.getBoolean(LAZY_BOOTSTRAP_PROPERTY)) {
+      return new GuiceInjector(Stage.DEVELOPMENT, Collections.<Module>emptyList());
+    }
+
     return new GuiceInjector();
   }
 
@@ -67,6 +86,9 @@ public class InjectorManager implements InjectorProvider {
    * Returns singleton instance of {@link InjectorProvider injector provider}. This method doesn't
    * return the instance of this class because the implementation shouldn't be required. Also brings
    * support for replacements of this class which may contain different implementation.
+   * <p>
+   * This method is thread-safe; the injector is prepared only once even if this method is called
+   * concurrently from more threads.
    *
    * @return Singleton instance of injector provider.
    * @throws InjectorException If some error occurs during preparation of injector provider.
@@ -74,10 +96,16 @@ public class InjectorManager implements InjectorProvider {
    *           provided injector construction.
    */
   public static InjectorProvider getInstance() throws InjectorException {
-    if (instance == null) {
-      instance = new InjectorManager();
+    InjectorManager injectorManager = instance;
+    if (injectorManager == null) {
+      synchronized (InjectorManager.class) {
+        injectorManager = instance;
+        if (injectorManager == null) {
+          instance = injectorManager = new InjectorManager();
+        }
+      }
     }
 
-    return instance;
+    return injectorManager;
   }
 }
@@ -20,6 +20,7 @@ import cz.zcu.kiv.jop.construction.ConstructionStrategyFactoryImpl;
 import cz.zcu.kiv.jop.construction.ConstructionStrategyImpl;
 import cz.zcu.kiv.jop.construction.ConstructionStrategyInvoker;
 import cz.zcu.kiv.jop.construction.ConstructionStrategyInvokerImpl;
+import cz.zcu.kiv.jop.factory.AbstractBindingFactory;
 import cz.zcu.kiv.jop.generator.ValueGeneratorFactory;
 import cz.zcu.kiv.jop.generator.ValueGeneratorFactoryImpl;
 import cz.zcu.kiv.jop.generator.ValueGeneratorInvoker;
@@ -42,7 +43,7 @@ import cz.zcu.kiv.jop.session.ExtendedRandomGeneratorSessionImpl;
 import cz.zcu.kiv.jop.session.GlobalPopulatingSession;
 import cz.zcu.kiv.jop.session.PopulatingSession;
 import cz.zcu.kiv.jop.session.RandomGeneratorSession;
-import cz.zcu.kiv.jop.session.RandomGeneratorSessionImpl;
+import cz.zcu.kiv.jop.session.ThreadLocalRandomGeneratorSessionImpl;
 import cz.zcu.kiv.jop.strategy.DefaultStrategy;
 import cz.zcu.kiv.jop.strategy.PopulatingStrategy;
 import cz.zcu.kiv.jop.strategy.PopulatingStrategyFactory;
@@ -62,6 +63,26 @@ import cz.zcu.kiv.jop.util.Preconditions;
  */
 public final class CoreModule extends AbstractModule {
 
+  /** Information whether the initialization of binding factories is deferred to first use. */
+  private final boolean deferFactories;
+
+  /**
+   * Constructs core module which initializes binding factories immediately after their creation.
+   */
+  public CoreModule() {
+    this(false);
+  }
+
+  /**
+   * Constructs core module.
+   *
+   * @param deferFactories information whether the initialization (configuration) of binding
+   *          factories is deferred to their first use (useful for lazy bootstrap of injector).
+   */
+  public CoreModule(boolean deferFactories) {
+    this.deferFactories = deferFactories;
+  }
+
   /**
    * Configures module - binds all core interfaces to their (default) implementations.
    */
@@ -88,8 +109,10 @@ public final class CoreModule extends AbstractModule {
 
     // binding of sessions
     bind(ClassLoaderSession.class).to(ClassLoaderSessionImpl.class);
-    bind(RandomGeneratorSession.class).to(RandomGeneratorSessionImpl.class);
+    // (per-thread streams required by seeded population; may be replaced by RandomGeneratorSessionImpl)
+    bind(RandomGeneratorSession.class).to(ThreadLocalRandomGeneratorSessionImpl.class);
     bind(RandomGeneratorSession.class).annotatedWith(Names.named(NamedScopes.EXTENDED_IMPL)).to(ExtendedRandomGeneratorSessionImpl.class);
+    // (may be replaced by BoundedPopulatingSession, WeakPopulatingSession or SoftPopulatingSession)
     bind(PopulatingSession.class).to(GlobalPopulatingSession.class);
 
     // binding of named implementations
@@ -100,7 +123,7 @@ public final class CoreModule extends AbstractModule {
     // bind listener of classes implementing callback interfaces.
     bindListener(new SubclassesMatcher(Initializable.class), new TypeListener() {
       public <I> void hear(TypeLiteral<I> type, TypeEncounter<I> encounter) {
-        encounter.register(new CallbacksInjectionListener<I>());
+        encounter.register(new CallbacksInjectionListener<I>(deferFactories));
       }
     });
   }
@@ -148,11 +171,36 @@ public final class CoreModule extends AbstractModule {
    * @param <I> type for injections into instances.
    */
   static class CallbacksInjectionListener<I> implements InjectionListener<I> {
+
+    /** Information whether the initialization of binding factories is deferred to first use. */
+    private final boolean deferFactories;
+
+    /**
+     * Constructs listener which initializes all injectees.
+     */
+    public CallbacksInjectionListener() {
+      this(false);
+    }
+
+    /**
+     * Constructs listener.
+     *
+     * @param deferFactories information whether the initialization of binding factories is
+     *          deferred to their first use.
+     */
+    public CallbacksInjectionListener(boolean deferFactories) {
+      this.deferFactories = deferFactories;
+    }
+
     /**
      * {@inheritDoc}
      */
     public void afterInjection(I injectee) {
       if (injectee instanceof Initializable) {
+        if (deferFactories && injectee instanceof AbstractBindingFactory) {
+          return; // configured on first use
+        }
+
         ((Initializable)injectee).init();
       }
     }
@@ -2,9 +2,12 @@ package cz.zcu.kiv.jop.ioc.guice;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -15,6 +18,9 @@ import com.google.inject.AbstractModule;
  * Module which allows to override bindings from {@link CoreModule} or allows to add custom bindings
  * into IoC of this library. The explicit bindings are loaded from file {@value #IOC_FILE} in
  * classpath. The file can be present in root of classpath of in same package.
+ * <p>
+ * The file is loaded only once for each class of module; the loaded bindings are reused by all
+ * next injectors (for example by independent populators built by builder).
  *
  * @author Mr.FrAnTA
  * @since 1.0.0
@@ -27,6 +33,12 @@ public class ExplicitBindingsModule extends AbstractModule {
   /** Constant for file name with explicit bindings. */
   public static final String IOC_FILE = "ioc.properties";
 
+  /** Cache of successfully loaded explicit bindings for classes of modules. */
+  private static final ConcurrentMap<Class<?>, Map<String, String>> explicitBindingsCache = new ConcurrentHashMap<Class<?>, Map<String, String>>();
+
+  /** Information whether the loading of explicit bindings failed. */
+  private boolean loadingFailed;
+
   /**
    * Loads explicit bindings from properties file {@value #IOC_FILE} which may be placed into root
    * of classpath or into same package. The structure of file is very simple:
@@ -57,6 +69,7 @@ public class ExplicitBindingsModule extends AbstractModule {
     catch (IOException exc) {
       logger.error("Cannot load explicit bindings from file: " + IOC_FILE, exc);
       addError(exc);
+      loadingFailed = true;
       return bindings;
     }
     finally {
@@ -114,7 +127,15 @@ public class ExplicitBindingsModule extends AbstractModule {
    */
   @Override
   public void configure() {
-    Map<String, String> explicitBindings = loadExplicitBindings();
+    Map<String, String> explicitBindings = explicitBindingsCache.get(getClass());
+    if (explicitBindings == null) {
+      loadingFailed = false;
+      explicitBindings = loadExplicitBindings();
+      if (!loadingFailed) { // the errors have to be reported by each injector
+        explicitBindingsCache.putIfAbsent(getClass(), Collections.unmodifiableMap(explicitBindings));
+      }
+    }
+
     for (Map.Entry<String, String> binding : explicitBindings.entrySet()) {
       createBinding(binding.getKey(), binding.getValue());
     }
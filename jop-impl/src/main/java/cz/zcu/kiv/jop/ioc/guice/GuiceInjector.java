@@ -1,8 +1,10 @@
 package cz.zcu.kiv.jop.ioc.guice;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import javax.inject.Provider;
 import javax.inject.Singleton;
 
 import org.apache.commons.logging.Log;
@@ -48,38 +50,71 @@ public class GuiceInjector implements Injector {
    * @throws InjectorException If some error occurs during injector creation.
    */
   public GuiceInjector() throws InjectorException {
+    this(Stage.PRODUCTION, Collections.<Module>emptyList());
+  }
+
+  /**
+   * Constructs injector in given stage with default modules (bindings) and with given additional
+   * modules. The bindings of additional modules override the core bindings (in the same way as
+   * explicit bindings), so they may replace the implementations of core interfaces. Each injector
+   * has its own instances of singletons, so the injectors are independent on each other.
+   * <p>
+   * In the stage {@link Stage#PRODUCTION} are all singletons created and initialized eagerly during
+   * construction of injector. In other stages (lazy bootstrap) are the singletons created on demand
+   * and the binding factories are configured during their first use, so the construction of
+   * injector is faster, but the errors in configuration are found later.
+   *
+   * @param stage the stage of injector.
+   * @param additionalModules the additional modules (bindings) for injector.
+   * @throws InjectorException If some error occurs during injector creation.
+   */
+  public GuiceInjector(Stage stage, List<? extends Module> additionalModules) throws InjectorException {
     List<Module> modules = new ArrayList<Module>();
 
     // bind injector to this instance
     modules.add(createInjectorModule());
 
-    // core bindings overriden by explicit bindings
-    modules.add(Modules.override(new CoreModule()).with(new ExplicitBindingsModule()));
+    // core bindings overriden by explicit bindings and by additional modules
+    List<Module> overridingModules = new ArrayList<Module>();
+    overridingModules.add(new ExplicitBindingsModule());
+    overridingModules.addAll(additionalModules);
+    modules.add(Modules.override(new CoreModule(stage != Stage.PRODUCTION)).with(overridingModules));
 
     // custom modules
-    try {
-      Class<?> customModulesProviderImpl = Class.forName(CustomModulesProvider.class.getName() + "Impl");
-      Object instance = ReflectionUtils.createInstance(customModulesProviderImpl);
-      List<Module> customModules = ((CustomModulesProvider)instance).getCustomModules();
-      if (customModules != null && !customModules.isEmpty()) {
-        modules.addAll(customModules);
-      }
-    }
-    catch (ClassNotFoundException exc) {
-      logger.debug("Cannot get custom modules: Class not found: " + exc.getMessage());
-    }
-    catch (Exception exc) {
-      logger.debug("Cannot get custom modules: " + exc.getMessage());
-    }
+    modules.addAll(getCustomModules());
 
     try {
-      injector = Guice.createInjector(Stage.PRODUCTION, modules);
+      injector = Guice.createInjector(stage, modules);
     }
     catch (CreationException exc) {
       throw new InjectorException(exc);
     }
   }
 
+  /**
+   * Returns custom modules provided by implementation of {@link CustomModulesProvider}. The
+   * implementation is searched only once, then only its new instance is created for each call.
+   *
+   * @return List of custom modules (empty list if there is no implementation of provider).
+   */
+  protected static List<Module> getCustomModules() {
+    Class<?> customModulesProviderImpl = CustomModulesProviderHolder.IMPLEMENTATION;
+    if (customModulesProviderImpl != null) {
+      try {
+        Object instance = ReflectionUtils.createInstance(customModulesProviderImpl);
+        List<Module> customModules = ((CustomModulesProvider)instance).getCustomModules();
+        if (customModules != null) {
+          return customModules;
+        }
+      }
+      catch (Exception exc) {
+        logger.debug("Cannot get custom modules: " + exc.getMessage());
+      }
+    }
+
+    return Collections.emptyList();
+  }
+
   /**
    * Constructs injector with given modules (bindings).
    * <p>
@@ -137,11 +172,36 @@ public class GuiceInjector implements Injector {
   protected final Module createInjectorModule() {
     return (new Module() {
       public void configure(Binder binder) {
-        binder.bind(Injector.class).toInstance(GuiceInjector.this);
+        binder.withSource(GuiceInjector.class).bind(Injector.class).toInstance(GuiceInjector.this);
       }
     });
   }
 
+  /**
+   * Holder of implementation of {@link CustomModulesProvider} which is searched only once (during
+   * the first construction of injector).
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  private static class CustomModulesProviderHolder {
+
+    /** The implementation of provider of custom modules or <code>null</code> if there is none. */
+    static final Class<?> IMPLEMENTATION;
+
+    static {
+      Class<?> implementation = null;
+      try {
+        implementation = Class.forName(CustomModulesProvider.class.getName() + "Impl");
+      }
+      catch (ClassNotFoundException exc) {
+        logger.debug("Cannot get custom modules: Class not found: " + exc.getMessage());
+      }
+
+      IMPLEMENTATION = implementation;
+    }
+  }
+
   /**
    * {@inheritDoc}
    * <p>
@@ -179,6 +239,28 @@ public class GuiceInjector implements Injector {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This method serves only as wrapper of Guice injector's method
+   * {@link com.google.inject.Injector#getProvider(Class) getProvider(Class)}. The returned
+   * provider throws {@link ProvisionException} if some error occurs while providing an instance.
+   */
+  public <T> Provider<T> getProvider(Class<T> clazz) throws InjectorException {
+    try {
+      final com.google.inject.Provider<T> provider = injector.getProvider(clazz);
+
+      return (new Provider<T>() {
+        public T get() {
+          return provider.get();
+        }
+      });
+    }
+    catch (ConfigurationException exc) {
+      throw new InjectorException(exc);
+    }
+  }
+
   /**
    * {@inheritDoc}
    * <p>
@@ -80,7 +80,8 @@ public class InstanceMatcherInvokerImpl implements InstanceMatcherInvoker {
 
     logger.debug("Invoking instance matcher: " + instanceMatcher.getClass().getName() + "; with parameters: " + params + "; for property: " + property);
 
-    for (Object obj : context.getPopulatedInstances(true)) {
+    // only instances assignable to property type may be set into property
+    for (Object obj : context.getPopulatedInstances(property.getType(), true)) {
       if (!instanceMatcher.supports(obj.getClass())) {
         continue;
       }
@@ -1,7 +1,11 @@
 package cz.zcu.kiv.jop.populator;
 
 import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -11,9 +15,11 @@ import org.apache.commons.logging.LogFactory;
 
 import cz.zcu.kiv.jop.annotation.defaults.Default;
 import cz.zcu.kiv.jop.annotation.populator.ArrayValue;
+import cz.zcu.kiv.jop.concurrent.WorkerPool;
 import cz.zcu.kiv.jop.property.Property;
 import cz.zcu.kiv.jop.property.Setter;
 import cz.zcu.kiv.jop.session.RandomGeneratorSession;
+import cz.zcu.kiv.jop.session.SeedableRandomGeneratorSession;
 
 /**
  * Implementation of property populator for population of array properties. This property populator
@@ -21,7 +27,8 @@ import cz.zcu.kiv.jop.session.RandomGeneratorSession;
  * <p>
  * Array value populator firstly prepares length and component type of populated array. Then starts
  * serial or parallel population of array using invocations of chained populators or value
- * generator. Filled array is populated into given property.
+ * generator. The large arrays are split into chunks which are filled by shared pool of worker
+ * threads. Filled array is populated into given property.
  *
  * @author Mr.FrAnTA
  * @since 1.0.0
@@ -33,7 +40,11 @@ public class ArrayValuePopulator extends AbstractPropertyPopulator<ArrayValue> {
   private static final Log logger = LogFactory.getLog(ArrayValuePopulator.class);
 
   /** Constant for number of elements from which is used multi-thread solution. */
-  protected static final int MULTITHREAD_THRESHOLD = 100;
+  protected static final int MULTITHREAD_THRESHOLD = 4096;
+  /** Constant for minimal number of elements which are filled by one task of worker thread. */
+  protected static final int CHUNK_SIZE = 1024;
+  /** Constant for maximal number of tasks for one worker thread. */
+  protected static final int CHUNKS_PER_WORKER = 4;
 
   /**
    * Returns information whether the declared type of given property is supported by this property
@@ -131,157 +142,112 @@ public class ArrayValuePopulator extends AbstractPropertyPopulator<ArrayValue> {
     }
 
     // fill the array
-    if (length < MULTITHREAD_THRESHOLD) {
-    for (int i = 0; i < length; i++) {
-      Object value = propertyPopulatorInvoker.invokeNextPopulator(property, componentType);
-      Array.set(array, i, value);
-    }
+    if (length < MULTITHREAD_THRESHOLD || !isParallelFillAvailable()) {
+      propertyPopulatorInvoker.invokeNextPopulator(property, array, 0, length);
     }
     else {
-      // prepares holder of filler job
-      ArrayFillJob job = new ArrayFillJob(property, componentType, array, length);
-
-      int threadsCount = (int)Math.log10(length);
-      ArrayFiller[] fillers = new ArrayFiller[threadsCount];
-      for (int i = 0; i < threadsCount; i++) {
-        fillers[i] = new ArrayFiller(job);
-        fillers[i].start();
-      }
+      fillInParallel(property, array, length);
+    }
+  }
 
-      for (int i = 0; i < threadsCount; i++) {
-        try {
-          fillers[i].join();
-        }
-        catch (InterruptedException exc) {
-          // doesn't matter
-        }
-      }
+  /**
+   * Returns information whether the array may be filled in parallel by worker threads. The array is
+   * filled sequentially if it's populated by some worker thread (for example during parallel
+   * population of objects or if it's nested array) or if the random generators of current thread
+   * generate values in seeded stream (values generated by worker threads wouldn't be
+   * reproducible).
+   *
+   * @return <code>true</code> if the array may be filled in parallel; <code>false</code> otherwise.
+   */
+  protected boolean isParallelFillAvailable() {
+    if (!workerPool.isParallelismAvailable()) {
+      return false;
+    }
+
+    if (randomGeneratorSession instanceof SeedableRandomGeneratorSession) {
+      return !((SeedableRandomGeneratorSession)randomGeneratorSession).isStreamActive();
+    }
+
+    return true;
+  }
 
-      if (job.getError() != null) {
-        throw job.getError();
+  /**
+   * Fills given array in parallel by worker threads from {@link WorkerPool}. The array is split
+   * into contiguous chunks (at least {@link #CHUNK_SIZE} elements, at most
+   * {@link #CHUNKS_PER_WORKER} chunks for each worker) which are filled by chained populators or
+   * value generator.
+   *
+   * @param property the populated property.
+   * @param array the filled (populated) array.
+   * @param length the length of array.
+   * @throws PropertyPopulatorException If some error occurs during filling (population) of array.
+   */
+  protected void fillInParallel(Property<?> property, Object array, int length) throws PropertyPopulatorException {
+    int chunksCount = Math.min((length + CHUNK_SIZE - 1) / CHUNK_SIZE, workerPool.getParallelism() * CHUNKS_PER_WORKER);
+    List<ArrayFillTask> tasks = new ArrayList<ArrayFillTask>(chunksCount);
+    for (int i = 0; i < chunksCount; i++) {
+      int fromIndex = (int)((long)length * i / chunksCount);
+      int toIndex = (int)((long)length * (i + 1) / chunksCount);
+      tasks.add(new ArrayFillTask(property, array, fromIndex, toIndex - fromIndex));
+    }
+
+    try {
+      workerPool.invokeAll(tasks);
+    }
+    catch (ExecutionException exc) {
+      if (exc.getCause() instanceof PropertyPopulatorException) {
+        throw (PropertyPopulatorException)exc.getCause();
       }
+      throw new PropertyPopulatorException("Parallel population of array value into property " + property + " failed", exc.getCause());
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+      throw new PropertyPopulatorException("Parallel population of array value into property " + property + " was interrupted", exc);
     }
   }
 
   /**
-   * The holder of job for parallel filling (populating) of array.
+   * Task for parallel filling (populating) of contiguous chunk of array.
    *
    * @author Mr.FrAnTA
    * @since 1.0.0
    */
-  protected class ArrayFillJob {
+  protected class ArrayFillTask implements Callable<Void> {
 
     /** The populated property. */
     protected final Property<?> property;
-    /** The component type of array. */
-    protected final Class<?> componentType;
     /** The filled (populated) array. */
     protected final Object array;
-    /** The length of array. */
+    /** The index of the first element of chunk. */
+    protected final int offset;
+    /** The number of elements of chunk. */
     protected final int length;
 
-    /** Actually populated index. */
-    private int actualIndex;
-    /** The potential error which occured during filling (population) of array. */
-    private PropertyPopulatorException error;
-
     /**
-     * Contructs holder of parallel job.
+     * Constructs task for filling (populating) of chunk of array.
      *
      * @param property the populated property.
-     * @param componentType the component type of array.
      * @param array the filled (populated) array.
-     * @param length the length of array.
+     * @param offset the index of the first element of chunk.
+     * @param length the number of elements of chunk.
      */
-    public ArrayFillJob(Property<?> property, Class<?> componentType, Object array, int length) {
+    protected ArrayFillTask(Property<?> property, Object array, int offset, int length) {
       this.property = property;
-      this.componentType = componentType;
       this.array = array;
+      this.offset = offset;
       this.length = length;
-
-      // prepare local fields
-      this.actualIndex = 0;
-      this.error = null;
-    }
-
-    /**
-     * Returns next index for fill (population). It returns negative value if there is no next
-     * available index.
-     *
-     * @return Next index.
-     */
-    protected synchronized int next() {
-      if (error != null) {
-        return -1;
-      }
-
-      if (actualIndex < length) {
-        return actualIndex++;
-      }
-
-      return -1;
     }
 
     /**
-     * Sets filling (populating) error.
+     * Invokes chained populator or value generator for all elements of chunk.
      *
-     * @param error the error to set.
+     * @return Always <code>null</code>.
+     * @throws PropertyPopulatorException If some error occurs during filling (population) of chunk.
      */
-    protected synchronized void setError(PropertyPopulatorException error) {
-      if (this.error == null) {
-        this.error = error;
-      }
-    }
+    public Void call() throws PropertyPopulatorException {
+      propertyPopulatorInvoker.invokeNextPopulator(property, array, offset, length);
 
-    /**
-     * Returns stored error which occured during filling (population) of array. If there is no
-     * error, returns <code>null</code>.
-     *
-     * @return Stored filling (populating) error.
-     */
-    public PropertyPopulatorException getError() {
-      return error;
-    }
-  }
-
-  /**
-   * The thread for parallel filling (populating) of some array property.
-   *
-   * @author Mr.FrAnTA
-   * @since 1.0.0
-   */
-  protected class ArrayFiller extends Thread {
-
-    /** The holder of filling (populating) job. */
-    protected final ArrayFillJob job;
-
-    /**
-     * Constructs thread for filling (populating) of array.
-     *
-     * @param job the holder of filling (populating) job.
-     */
-    public ArrayFiller(ArrayFillJob job) {
-      this.job = job;
-    }
-
-    /**
-     * Receives in loop indexes for fill (population) from filling job. If the index is negative,
-     * breaks the filling (populating) loop. If the index is positive or zero the chainded populator
-     * or value generator is invoked and the returned value is inserted into array.
-     */
-    @Override
-    public void run() {
-      int index = -1;
-      while ((index = job.next()) >= 0) {
-        try {
-          Object value = propertyPopulatorInvoker.invokeNextPopulator(job.property, job.componentType);
-          Array.set(job.array, index, value);
-        }
-        catch (PropertyPopulatorException exc) {
-          job.setError(exc);
-          break;
-        }
-      }
+      return null;
     }
   }
 
@@ -299,4 +265,17 @@ public class ArrayValuePopulator extends AbstractPropertyPopulator<ArrayValue> {
   public final void setRandomGeneratorSession(RandomGeneratorSession randomGeneratorSession) {
     this.randomGeneratorSession = randomGeneratorSession;
   }
+
+  /** Shared pool of worker threads used for parallel filling of arrays. */
+  protected WorkerPool workerPool;
+
+  /**
+   * Sets (injects) shared pool of worker threads used for parallel filling of arrays.
+   *
+   * @param workerPool the pool of worker threads to set (inject).
+   */
+  @Inject
+  public final void setWorkerPool(WorkerPool workerPool) {
+    this.workerPool = workerPool;
+  }
 }
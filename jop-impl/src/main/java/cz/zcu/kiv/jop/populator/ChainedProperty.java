@@ -0,0 +1,290 @@
+package cz.zcu.kiv.jop.populator;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import cz.zcu.kiv.jop.property.Getter;
+import cz.zcu.kiv.jop.property.PropertyAccessException;
+import cz.zcu.kiv.jop.property.Property;
+import cz.zcu.kiv.jop.property.Setter;
+import cz.zcu.kiv.jop.property.VirtualProperty;
+import cz.zcu.kiv.jop.util.Defaults;
+import cz.zcu.kiv.jop.util.PrimitiveUtils;
+
+/**
+ * Implementation of virtual property which represents next link of chain of property populators
+ * for some (parent) property. The chained property has the annotations of parent property without
+ * the annotation of already invoked property populator.
+ * <p>
+ * Unlike the {@link VirtualProperty}, the chained property does not hold its value. The value is
+ * stored into the owner given to getter and setter which has to be {@link ValueHolder} created by
+ * method {@link #createValueHolder()}. Thanks to that the chained property is immutable and it may
+ * be created only once for each parent property and shared by all invocations (and threads).
+ * <p>
+ * The chained property reports the declaring class of parent property, so it's possible to cache
+ * results of analysis of its annotations as for the real properties. Two chained properties are
+ * equal only if they have equal parent property, type and (ordered) annotations, so the chained
+ * properties with different annotations never share the cached results.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @param <T> Declared class type of property.
+ */
+public class ChainedProperty<T> extends VirtualProperty<T> {
+
+  /**
+   * Determines if a de-serialized file is compatible with this class.
+   * <p>
+   * Maintainers must change this value if and only if the new version of this class is not
+   * compatible with old versions. See Oracle docs for <a
+   * href="http://docs.oracle.com/javase/1.5.0/docs/guide/serialization/">details</a>.
+   * <p>
+   * Not necessary to include in first version of the class, but included here as a reminder of its
+   * importance.
+   */
+  private static final long serialVersionUID = 20160414L;
+
+  /** The parent property of this link of chain. */
+  protected final Property<?> parent;
+  /** The getter and setter of chained property. */
+  protected final ChainedPropertyAccess chainedAccess;
+
+  /**
+   * Constructs chained property.
+   *
+   * @param parent the parent property of this link of chain.
+   * @param propertyType the declared class type of property.
+   * @param annotations the annotations of chained property.
+   */
+  public ChainedProperty(Property<?> parent, Class<T> propertyType, Collection<Annotation> annotations) {
+    super(parent.getName(), propertyType, annotations);
+    this.parent = parent;
+    this.chainedAccess = new ChainedPropertyAccess();
+  }
+
+  /**
+   * Returns the parent property of this link of chain.
+   *
+   * @return The parent property.
+   */
+  public Property<?> getParent() {
+    return parent;
+  }
+
+  /**
+   * Returns the declaring class of parent property.
+   *
+   * @return The declaring class of parent property (may be <code>null</code>).
+   */
+  @Override
+  public Class<?> getDeclaringClass() {
+    return parent.getDeclaringClass();
+  }
+
+  /**
+   * Creates new holder of value of this property which has to be used as owner for getter and
+   * setter of this property. The holder contains default value for type of this property.
+   *
+   * @return New holder of value of this property.
+   */
+  public ValueHolder createValueHolder() {
+    return new ValueHolder(Defaults.getDefaultValue(propertyType));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Getter<T> getGetter() {
+    return chainedAccess;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Setter<T> getSetter() {
+    return chainedAccess;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int hashCode() {
+    return 31 * (31 * parent.hashCode() + propertyType.hashCode()) + annotations.hashCode();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+
+    ChainedProperty<?> other = (ChainedProperty<?>)obj;
+
+    if (propertyType != other.propertyType || !parent.equals(other.parent)) {
+      return false;
+    }
+
+    // the order of annotations determines the order of chained property populators
+    return new ArrayList<Annotation>(annotations.values()).equals(new ArrayList<Annotation>(other.annotations.values()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return getClass().getName() + " [propertyName=" + propertyName + ", propertyType=" + propertyType.getName() + "]";
+  }
+
+  /**
+   * Holder of value of chained property for one invocation of chained property populator.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  public static class ValueHolder {
+
+    /** The held value. */
+    protected Object value;
+
+    /**
+     * Constructs holder of value.
+     *
+     * @param value the initial value.
+     */
+    protected ValueHolder(Object value) {
+      this.value = value;
+    }
+  }
+
+  /**
+   * Implementation of getter and setter of chained property which stores the value into given
+   * holder of value.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  class ChainedPropertyAccess implements Getter<T>, Setter<T> {
+
+    /**
+     * Determines if a de-serialized file is compatible with this class.
+     * <p>
+     * Maintainers must change this value if and only if the new version of this class is not
+     * compatible with old versions. See Oracle docs for <a
+     * href="http://docs.oracle.com/javase/1.5.0/docs/guide/serialization/">details</a>.
+     * <p>
+     * Not necessary to include in first version of the class, but included here as a reminder of
+     * its importance.
+     */
+    private static final long serialVersionUID = 20160414L;
+
+    /**
+     * Constructs getter and setter of chained property.
+     */
+    ChainedPropertyAccess() {}
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+      return propertyName;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Class<T> getType() {
+      return propertyType;
+    }
+
+    /**
+     * Returns always <code>null</code> because chained property has no member.
+     *
+     * @return Always <code>null</code>.
+     */
+    public Member getMember() {
+      return null;
+    }
+
+    /**
+     * Returns always <code>null</code> because chained property has no method.
+     *
+     * @return Always <code>null</code>.
+     */
+    public Method getMethod() {
+      return null;
+    }
+
+    /**
+     * Returns always <code>null</code> because chained property has no method.
+     *
+     * @return Always <code>null</code>.
+     */
+    public String getMethodName() {
+      return null;
+    }
+
+    /**
+     * Returns holder of value for given owner.
+     *
+     * @param owner the owner of property which has to be holder of value.
+     * @return Holder of value.
+     * @throws PropertyAccessException If given owner is not holder of value.
+     */
+    private ValueHolder getValueHolder(Object owner) throws PropertyAccessException {
+      if (!(owner instanceof ValueHolder)) {
+        throw new PropertyAccessException("Given incorrect owner for calling", null, "chained property '" + propertyName + "'", true);
+      }
+
+      return (ValueHolder)owner;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void set(Object owner, T value) throws PropertyAccessException {
+      ValueHolder holder = getValueHolder(owner);
+      if (value != null) {
+        if (propertyType.isAssignableFrom(value.getClass()) || (propertyType.isPrimitive() && PrimitiveUtils.unwrap(value.getClass()) == propertyType)) {
+          holder.value = value;
+        }
+        else {
+          throw new PropertyAccessException("Given incorrect value type for", null, "chained property '" + propertyName + "'", true);
+        }
+      }
+      else {
+        holder.value = Defaults.getDefaultValue(propertyType);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public T get(Object owner) throws PropertyAccessException {
+      return (T)getValueHolder(owner).value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+      return getClass().getName() + " [" + getPropertyName() + ']';
+    }
+  }
+}
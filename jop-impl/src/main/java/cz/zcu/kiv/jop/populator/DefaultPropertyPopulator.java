@@ -1,24 +1,32 @@
 package cz.zcu.kiv.jop.populator;
 
+import java.lang.reflect.Array;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import cz.zcu.kiv.jop.annotation.parameters.EmptyParameters;
 import cz.zcu.kiv.jop.generator.ValueGeneratorException;
 import cz.zcu.kiv.jop.generator.ValueGeneratorInvoker;
+import cz.zcu.kiv.jop.property.PrimitiveSetter;
 import cz.zcu.kiv.jop.property.Property;
 import cz.zcu.kiv.jop.property.PropertyException;
 import cz.zcu.kiv.jop.property.Setter;
+import cz.zcu.kiv.jop.util.PrimitiveUtils;
 
 /**
  * Implementation of default property populator which lookups for value generator annotation of
  * given property. If there is value generator annotation present invokes the proper property
  * generator and result of invocation populates into given property.
+ * <p>
+ * The values of numeric generators are populated into properties of primitive types without
+ * wrapping into objects if the setter of property supports it (see {@link PrimitiveSetter}).
  *
  * @author Mr.FrAnTA
  * @since 1.0.0
  */
 @Singleton
-public class DefaultPropertyPopulator extends SimplePropertyPopulator {
+public class DefaultPropertyPopulator extends SimplePropertyPopulator implements BatchPropertyPopulator<EmptyParameters> {
 
   /**
    * {@inheritDoc}
@@ -49,11 +57,17 @@ public class DefaultPropertyPopulator extends SimplePropertyPopulator {
 
     if (valueGeneratorInvoker.isAnnotationPresent(property)) {
       try {
+        Setter<Object> setter = (Setter<Object>)property.getSetter();
+
+        // populate primitive value without wrapping (if possible)
+        if (setter instanceof PrimitiveSetter && populatePrimitive(property, (PrimitiveSetter<?>)setter, owner)) {
+          return;
+        }
+
         // generate value
         Object value = valueGeneratorInvoker.getValue(property);
 
         // populate value
-        Setter<Object> setter = (Setter<Object>)property.getSetter();
         setter.set(owner, value);
       }
       catch (ValueGeneratorException exc) {
@@ -65,6 +79,110 @@ public class DefaultPropertyPopulator extends SimplePropertyPopulator {
     }
   }
 
+  /**
+   * Populates value of primitive type into given property without wrapping of value. The value is
+   * populated only if the property has primitive type into which may be the generated value
+   * converted by widening primitive conversion.
+   *
+   * @param property the property for which will be generated value and populated.
+   * @param setter the setter of property which is able to set primitive values.
+   * @param owner the instance of property owner.
+   * @return <code>true</code> if the value was populated; <code>false</code> otherwise.
+   * @throws ValueGeneratorException If some error occurs during value generator invocation.
+   * @throws PropertyException If some error occurs during population of value.
+   */
+  protected boolean populatePrimitive(Property<?> property, PrimitiveSetter<?> setter, Object owner) throws ValueGeneratorException, PropertyException {
+    Class<?> propertyType = property.getType();
+    if (!propertyType.isPrimitive()) {
+      return false;
+    }
+
+    Class<?> valueType = valueGeneratorInvoker.getValueType(property);
+    if (valueType == Integer.class) {
+      if (propertyType == Integer.TYPE || propertyType == Long.TYPE || propertyType == Float.TYPE || propertyType == Double.TYPE) {
+        setter.setInt(owner, valueGeneratorInvoker.getIntValue(property));
+        return true;
+      }
+    }
+    else if (valueType == Double.class && propertyType == Double.TYPE) {
+      setter.setDouble(owner, valueGeneratorInvoker.getDoubleValue(property));
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * If property is annotated by value generator annotation, fills given part of array by values
+   * generated by the proper value generator. The values are generated in batch only if the class
+   * type of generated values is assignable to the component type of array (for primitive component
+   * types, the generated values has to be wrappers of the component type). The arrays of
+   * <code>int</code> and <code>double</code> values are filled without wrapping of values.
+   *
+   * @param property the property for which will be generated values.
+   * @param array the array which will be filled by generated values.
+   * @param offset the index of the first filled element of array.
+   * @param length the number of filled elements.
+   * @param params the parameters of property populator (unused).
+   * @return <code>true</code> if the part of array was populated; <code>false</code> if the
+   *         generated values cannot be populated in batch.
+   * @throws PropertyPopulatorException If some error occurs during value generator invocation or
+   *           population of generated values into given array.
+   */
+  public boolean populate(Property<?> property, Object array, int offset, int length, EmptyParameters params) throws PropertyPopulatorException {
+    if (property == null) {
+      throw new PropertyPopulatorException("Property cannot be null");
+    }
+
+    if (!valueGeneratorInvoker.isAnnotationPresent(property)) {
+      return true; // nothing to populate (same as for single property)
+    }
+
+    try {
+      Class<?> componentType = array.getClass().getComponentType();
+      Class<?> valueType = valueGeneratorInvoker.getValueType(property);
+      if (valueType == null) {
+        return false;
+      }
+
+      if (!componentType.isPrimitive()) {
+        if (!componentType.isAssignableFrom(valueType)) {
+          return false;
+        }
+
+        valueGeneratorInvoker.fill(property, (Object[])array, offset, length);
+        return true;
+      }
+
+      if (PrimitiveUtils.unwrap(valueType) != componentType) {
+        return false;
+      }
+
+      if (componentType == Integer.TYPE) {
+        valueGeneratorInvoker.fill(property, (int[])array, offset, length);
+      }
+      else if (componentType == Double.TYPE) {
+        valueGeneratorInvoker.fill(property, (double[])array, offset, length);
+      }
+      else {
+        Object[] values = valueGeneratorInvoker.getValue(property, length);
+        for (int i = 0; i < length; i++) {
+          if (values[i] != null) { // null is populated as default value
+            Array.set(array, offset + i, values[i]);
+          }
+        }
+      }
+
+      return true;
+    }
+    catch (ValueGeneratorException exc) {
+      throw new PropertyPopulatorException("Cannot generate value for population of property: " + property, exc);
+    }
+    catch (ArrayStoreException exc) {
+      throw new PropertyPopulatorException("Cannot populate generated value into property: " + property, exc);
+    }
+  }
+
   //----- Injection part ------------------------------------------------------
 
   /** Interlayer (invoker) for value generators. */
@@ -1,7 +1,6 @@
 package cz.zcu.kiv.jop.populator;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -182,17 +181,24 @@ public class NumberValuePopulator extends AbstractPropertyPopulator<NumberValue>
     if (targetType == Integer.class || targetType == int.class) {
       return value.intValue();
     }
-
-    String targetName = targetType.getSimpleName().toLowerCase();
-    try {
-      Method targetMethod = Number.class.getMethod(targetName + "Value");
-
-      return (Number)targetMethod.invoke(value);
+    else if (targetType == Double.class || targetType == double.class) {
+      return value.doubleValue();
     }
-    catch (Exception exc) {
-      // should not happen
-      logger.warn("Cannot transform number value: " + value + " into numerical type: " + targetType);
+    else if (targetType == Long.class || targetType == long.class) {
+      return value.longValue();
     }
+    else if (targetType == Float.class || targetType == float.class) {
+      return value.floatValue();
+    }
+    else if (targetType == Short.class || targetType == short.class) {
+      return value.shortValue();
+    }
+    else if (targetType == Byte.class || targetType == byte.class) {
+      return value.byteValue();
+    }
+
+    // should not happen
+    logger.warn("Cannot transform number value: " + value + " into numerical type: " + targetType);
 
     return value;
   }
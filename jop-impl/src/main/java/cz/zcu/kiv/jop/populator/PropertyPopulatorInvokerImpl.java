@@ -1,11 +1,14 @@
 package cz.zcu.kiv.jop.populator;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -24,8 +27,8 @@ import cz.zcu.kiv.jop.factory.FactoryException;
 import cz.zcu.kiv.jop.ioc.NamedScopes;
 import cz.zcu.kiv.jop.property.Property;
 import cz.zcu.kiv.jop.property.PropertyException;
-import cz.zcu.kiv.jop.property.VirtualProperty;
 import cz.zcu.kiv.jop.util.AnnotationUtils;
+import cz.zcu.kiv.jop.util.PropertyCache;
 import cz.zcu.kiv.jop.util.ReflectionUtils;
 
 /**
@@ -38,6 +41,16 @@ import cz.zcu.kiv.jop.util.ReflectionUtils;
  * Implementation of the {@link #invokeNextPopulator} method analyzes the annotations of given
  * property and then chooses and invokes next (chained) property populator and then returns the
  * value of invocation.
+ * <p>
+ * The analysis of annotations for the {@link #populate} method (including resolving of parameters
+ * for custom property populators) is performed only once for each (non-virtual) property. The
+ * result of analysis is stored as plan of property populator into cache and reused by next
+ * invocations for the same property.
+ * <p>
+ * The links of chains of property populators used by the {@link #invokeNextPopulator} method are
+ * also created only once for each (non-virtual) property and target class type. The links are
+ * represented by {@link ChainedProperty} which holds no value, so each invocation only creates
+ * small holder of value instead of new virtual property with analysis of annotations.
  *
  * @author Mr.FrAnTA
  * @since 1.0.0
@@ -55,6 +68,12 @@ public class PropertyPopulatorInvokerImpl implements PropertyPopulatorInvoker {
   /** Constant for name of invocable method by this invoker. */
   protected static final String INVOCABLE_METHOD_NAME = "populate";
 
+  /** Cache of plans of property populators for already analyzed properties. */
+  protected final PropertyCache<PopulatorPlan> populatorPlans = new PropertyCache<PopulatorPlan>();
+
+  /** Cache of next links of chains of property populators (per target class type) for properties. */
+  protected final PropertyCache<ConcurrentMap<Class<?>, ChainedProperty<?>>> chainedProperties = new PropertyCache<ConcurrentMap<Class<?>, ChainedProperty<?>>>();
+
   /**
    * {@inheritDoc}
    */
@@ -70,25 +89,25 @@ public class PropertyPopulatorInvokerImpl implements PropertyPopulatorInvoker {
       throw new PropertyPopulatorException("Property cannot be null");
     }
 
-    List<Annotation> annotations = getOrderedAnnotations(property);
-    if (annotations == null || annotations.isEmpty()) {
-      String populatorClassName = defaultPropertyPopulator.getClass().getName();
+    PopulatorPlan plan = getPopulatorPlan(property);
+    Annotation params = plan.getParams();
+    if (params == null) {
       if (defaultPropertyPopulator.supports(property)) {
-        logger.debug("Invoking default property populator: " + populatorClassName + "; for property: " + property);
+        if (logger.isDebugEnabled()) {
+          logger.debug("Invoking default property populator: " + defaultPropertyPopulator.getClass().getName() + "; for property: " + property);
+        }
         defaultPropertyPopulator.populate(property, owner, null); // no parameters
       }
       else {
-        logger.warn("Default property populator " + populatorClassName + " doesn't support property (it won't be populated): " + property);
+        logger.warn("Default property populator " + defaultPropertyPopulator.getClass().getName() + " doesn't support property (it won't be populated): " + property);
       }
       return; // default property populator invoked
     }
 
-    Annotation params = annotations.get(0);
     PropertyPopulator<Annotation> propertyPopulator = null;
-    if (AnnotationUtils.isAnnotatedAnnotation(params, CustomAnnotation.class)) {
+    if (plan.getCustomAnnotation() != null) {
       // custom property populator handling
-      propertyPopulator = getCustomPropertyPopulator(params);
-      params = getCustomPropertyPopulatorParams(property, propertyPopulator.getClass(), params.annotationType());
+      propertyPopulator = getCustomPropertyPopulator(plan.getCustomAnnotation());
     }
     else {
       // property populator bound in property populator factory
@@ -100,19 +119,61 @@ public class PropertyPopulatorInvokerImpl implements PropertyPopulatorInvoker {
       throw new PropertyPopulatorException("No such property populator");
     }
 
-    // class name of property populator
-    String populatorClassName = propertyPopulator.getClass().getName();
-
     // check whatever the populator supports the given property
     if (!propertyPopulator.supports(property)) {
-      throw new PropertyPopulatorException("Property populator " + populatorClassName + " doesn't support property: " + property);
+      throw new PropertyPopulatorException("Property populator " + propertyPopulator.getClass().getName() + " doesn't support property: " + property);
     }
 
-    logger.debug("Invoking property populator: " + populatorClassName + "; with parameters: " + params + "; for property: " + property);
+    if (logger.isDebugEnabled()) {
+      logger.debug("Invoking property populator: " + propertyPopulator.getClass().getName() + "; with parameters: " + params + "; for property: " + property);
+    }
 
     propertyPopulator.populate(property, owner, params);
   }
 
+  /**
+   * Returns plan of property populator for given property. The plan is obtained from cache or it's
+   * created by method {@link #createPopulatorPlan(Property)} and stored into cache.
+   *
+   * @param property the property for which will be returned plan of property populator.
+   * @return Plan of property populator for given property.
+   * @throws PropertyPopulatorException If property has invalid property populator annotations.
+   */
+  protected PopulatorPlan getPopulatorPlan(Property<?> property) throws PropertyPopulatorException {
+    PopulatorPlan plan = populatorPlans.get(property);
+    if (plan == null) {
+      plan = populatorPlans.put(property, createPopulatorPlan(property));
+    }
+
+    return plan;
+  }
+
+  /**
+   * Analyzes the annotations of given property and creates plan of property populator.
+   *
+   * @param property the property for which will be created plan of property populator.
+   * @return Created plan of property populator for given property.
+   * @throws PropertyPopulatorException If property has invalid property populator annotations.
+   */
+  protected PopulatorPlan createPopulatorPlan(Property<?> property) throws PropertyPopulatorException {
+    List<Annotation> annotations = getOrderedAnnotations(property);
+    if (annotations == null || annotations.isEmpty()) {
+      return new PopulatorPlan(null, null); // default property populator
+    }
+
+    Annotation params = annotations.get(0);
+    if (AnnotationUtils.isAnnotatedAnnotation(params, CustomAnnotation.class)) {
+      // custom property populator handling
+      PropertyPopulator<Annotation> propertyPopulator = getCustomPropertyPopulator(params);
+      Annotation customParams = getCustomPropertyPopulatorParams(property, propertyPopulator.getClass(), params.annotationType());
+
+      return new PopulatorPlan(customParams, params);
+    }
+
+    // property populator bound in property populator factory
+    return new PopulatorPlan(params, null);
+  }
+
   /**
    * Returns instance of property populator for given custom annotation. There is supported only
    * {@link CustomPropertyPopulator} annotation.
@@ -229,6 +290,117 @@ public class PropertyPopulatorInvokerImpl implements PropertyPopulatorInvoker {
       throw new PropertyPopulatorException("Property cannot be null");
     }
 
+    ChainedProperty<T> chainedProperty = getChainedProperty(property, targetClassType);
+    ChainedProperty.ValueHolder valueHolder = chainedProperty.createValueHolder();
+
+    // invoke next populator
+    populate(chainedProperty, valueHolder);
+
+    try {
+      // return populated value
+      return chainedProperty.getGetter().get(valueHolder);
+    }
+    catch (PropertyException exc) {
+      throw new PropertyPopulatorException("Cannot obtain populated value", exc);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @SuppressWarnings("unchecked")
+  public void invokeNextPopulator(Property<?> property, Object array, int offset, int length) throws PropertyPopulatorException {
+    if (property == null) {
+      throw new PropertyPopulatorException("Property cannot be null");
+    }
+
+    if (array == null || !array.getClass().isArray()) {
+      throw new PropertyPopulatorException("Given object is not array: " + array);
+    }
+
+    int arrayLength = Array.getLength(array);
+    if (offset < 0 || length < 0 || offset > arrayLength - length) {
+      throw new PropertyPopulatorException("Invalid range of array: [" + offset + ", " + (offset + length) + ") for length: " + arrayLength);
+    }
+
+    if (length == 0) {
+      return; // nothing to populate
+    }
+
+    ChainedProperty<?> chainedProperty = getChainedProperty(property, array.getClass().getComponentType());
+
+    // default property populator may populate all elements at once
+    if (getPopulatorPlan(chainedProperty).getParams() == null && defaultPropertyPopulator instanceof BatchPropertyPopulator && defaultPropertyPopulator.supports(chainedProperty)) {
+      if (logger.isDebugEnabled()) {
+        logger.debug("Invoking default property populator: " + defaultPropertyPopulator.getClass().getName() + "; for property: " + chainedProperty + "; for " + length
+            + " element(s)");
+      }
+
+      if (((BatchPropertyPopulator<Annotation>)defaultPropertyPopulator).populate(chainedProperty, array, offset, length, null)) {
+        return; // all elements populated
+      }
+    }
+
+    // invoke next populator for each element
+    for (int i = offset, end = offset + length; i < end; i++) {
+      ChainedProperty.ValueHolder valueHolder = chainedProperty.createValueHolder();
+      populate(chainedProperty, valueHolder);
+
+      try {
+        Array.set(array, i, chainedProperty.getGetter().get(valueHolder));
+      }
+      catch (PropertyException exc) {
+        throw new PropertyPopulatorException("Cannot obtain populated value", exc);
+      }
+    }
+  }
+
+  /**
+   * Returns next link of chain of property populators for given property and target class type.
+   * The link is obtained from cache or it's created by method
+   * {@link #createChainedProperty(Property, Class)} and stored into cache.
+   *
+   * @param property the property for which will be returned next link of chain.
+   * @param targetClassType the class type of value which should be populated by next link.
+   * @return Next link of chain of property populators.
+   * @throws PropertyPopulatorException If property has no more property populator annotations or
+   *           if it has invalid property populator annotations.
+   */
+  @SuppressWarnings("unchecked")
+  protected <T> ChainedProperty<T> getChainedProperty(Property<?> property, Class<T> targetClassType) throws PropertyPopulatorException {
+    if (!chainedProperties.isCacheable(property)) {
+      return createChainedProperty(property, targetClassType);
+    }
+
+    ConcurrentMap<Class<?>, ChainedProperty<?>> links = chainedProperties.get(property);
+    if (links == null) {
+      links = chainedProperties.put(property, new ConcurrentHashMap<Class<?>, ChainedProperty<?>>());
+    }
+
+    ChainedProperty<T> chainedProperty = (ChainedProperty<T>)links.get(targetClassType);
+    if (chainedProperty == null) {
+      chainedProperty = createChainedProperty(property, targetClassType);
+      ChainedProperty<T> cached = (ChainedProperty<T>)links.putIfAbsent(targetClassType, chainedProperty);
+      if (cached != null) {
+        chainedProperty = cached;
+      }
+    }
+
+    return chainedProperty;
+  }
+
+  /**
+   * Analyzes the annotations of given property and creates next link of chain of property
+   * populators. The link has all annotations of given property except the annotation of actual
+   * (already invoked) property populator and the annotation for populators order.
+   *
+   * @param property the property for which will be created next link of chain.
+   * @param targetClassType the class type of value which should be populated by next link.
+   * @return Created link of chain of property populators.
+   * @throws PropertyPopulatorException If property has no more property populator annotations or
+   *           if it has invalid property populator annotations.
+   */
+  protected <T> ChainedProperty<T> createChainedProperty(Property<?> property, Class<T> targetClassType) throws PropertyPopulatorException {
     List<Annotation> propertyAnnotations = getOrderedAnnotations(property);
     if (propertyAnnotations == null || propertyAnnotations.isEmpty()) {
       throw new PropertyPopulatorException("Property " + property + " has no more property populator annotations");
@@ -253,19 +425,7 @@ public class PropertyPopulatorInvokerImpl implements PropertyPopulatorInvoker {
       propertyAnnotations.add(annotation);
     }
 
-    // prepare virtual property
-    VirtualProperty<T> virtualProperty = new VirtualProperty<T>(property.getName(), targetClassType, propertyAnnotations);
-
-    // invoke next populator
-    populate(virtualProperty, virtualProperty);
-
-    try {
-      // return populated value
-      return virtualProperty.getGetter().get(null);
-    }
-    catch (PropertyException exc) {
-      throw new PropertyPopulatorException("Cannot obtain populated value", exc);
-    }
+    return new ChainedProperty<T>(property, targetClassType, propertyAnnotations);
   }
 
   /**
@@ -326,6 +486,54 @@ public class PropertyPopulatorInvokerImpl implements PropertyPopulatorInvoker {
     return new ArrayList<Annotation>(orderedAnnotations.values());
   }
 
+  /**
+   * Immutable plan of property populator for some property which is result of analysis of the
+   * property annotations.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected static class PopulatorPlan {
+
+    /** Parameters for property populator; <code>null</code> for default property populator. */
+    protected final Annotation params;
+    /** Annotation of custom property populator; <code>null</code> for bound property populators. */
+    protected final Annotation customAnnotation;
+
+    /**
+     * Constructs plan of property populator.
+     *
+     * @param params the parameters for property populator (<code>null</code> for default property
+     *          populator).
+     * @param customAnnotation the annotation of custom property populator (<code>null</code> for
+     *          bound property populators).
+     */
+    protected PopulatorPlan(Annotation params, Annotation customAnnotation) {
+      this.params = params;
+      this.customAnnotation = customAnnotation;
+    }
+
+    /**
+     * Returns parameters for property populator.
+     *
+     * @return Parameters for property populator or <code>null</code> for default property
+     *         populator.
+     */
+    public Annotation getParams() {
+      return params;
+    }
+
+    /**
+     * Returns annotation of custom property populator.
+     *
+     * @return Annotation of custom property populator or <code>null</code> for bound property
+     *         populators.
+     */
+    public Annotation getCustomAnnotation() {
+      return customAnnotation;
+    }
+  }
+
   //----- Injection part ------------------------------------------------------
 
   /** Binding factory for creating/providing instances of property populators. */
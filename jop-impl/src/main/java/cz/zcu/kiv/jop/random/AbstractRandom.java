@@ -0,0 +1,139 @@
+package cz.zcu.kiv.jop.random;
+
+import java.util.Random;
+
+/**
+ * The abstract ancestor for random generators which are based on algorithms generating 64-bit
+ * values. The random generators are compatible with {@link Random}, so they may be used by all
+ * value generators, but they don't use the synchronized 48-bit linear congruential generator of
+ * {@link Random}. All methods of random generator are derived from the method {@link #nextLong()}.
+ * <p>
+ * The random generators are <b>not thread-safe</b>. Each thread has to use its own instance of
+ * random generator (for example from session of random generators which creates random generators
+ * per thread).
+ * <p>
+ * The state of random generator has to be initialized in method {@link #setSeed(long)} which is
+ * called from constructor of {@link Random}. So the fields of state cannot have initializers
+ * (they would be overwritten after the call of this method).
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public abstract class AbstractRandom extends Random {
+
+  /**
+   * Determines if a de-serialized file is compatible with this class.
+   * <p>
+   * Maintainers must change this value if and only if the new version of this class is not
+   * compatible with old versions. See Oracle docs for <a
+   * href="http://docs.oracle.com/javase/1.5.0/docs/guide/serialization/">details</a>.
+   * <p>
+   * Not necessary to include in first version of the class, but included here as a reminder of its
+   * importance.
+   */
+  private static final long serialVersionUID = 20160601L;
+
+  /** The golden ratio constant used for initialization of states of random generators. */
+  protected static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+  /** The multiplier used for conversion of 53-bit values to double values. */
+  protected static final double DOUBLE_UNIT = 1.0 / (1L << 53);
+  /** The multiplier used for conversion of 24-bit values to float values. */
+  protected static final float FLOAT_UNIT = 1.0f / (1 << 24);
+
+  /**
+   * Constructs random generator with random seed.
+   */
+  protected AbstractRandom() {
+    super();
+  }
+
+  /**
+   * Constructs random generator with given seed.
+   *
+   * @param seed the initial seed.
+   */
+  protected AbstractRandom(long seed) {
+    super(seed);
+  }
+
+  /**
+   * Initializes state of random generator from given seed.
+   *
+   * @param seed the initial seed.
+   */
+  protected abstract void initState(long seed);
+
+  /**
+   * Sets the seed of random generator and initializes its state.
+   *
+   * @param seed the initial seed.
+   */
+  @Override
+  public synchronized void setSeed(long seed) {
+    super.setSeed(seed); // resets cached Gaussian value
+    initState(seed);
+  }
+
+  /**
+   * Returns next pseudo-random 64-bit value.
+   *
+   * @return Next pseudo-random long value.
+   */
+  @Override
+  public abstract long nextLong();
+
+  /**
+   * Returns given number of the highest bits of next pseudo-random 64-bit value.
+   *
+   * @param bits the number of random bits.
+   * @return Next pseudo-random value with given number of random bits.
+   */
+  @Override
+  protected int next(int bits) {
+    return (int)(nextLong() >>> (64 - bits));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int nextInt() {
+    return (int)(nextLong() >>> 32);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean nextBoolean() {
+    return nextLong() < 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public float nextFloat() {
+    return (nextLong() >>> 40) * FLOAT_UNIT;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double nextDouble() {
+    return (nextLong() >>> 11) * DOUBLE_UNIT;
+  }
+
+  /**
+   * Mixes bits of given value (the finalizer of SplitMix64 generator).
+   *
+   * @param value the value to mix.
+   * @return Mixed value.
+   */
+  protected static long mix64(long value) {
+    value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+    value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+    return value ^ (value >>> 31);
+  }
+}
@@ -0,0 +1,165 @@
+package cz.zcu.kiv.jop.random;
+
+import java.util.Random;
+
+import cz.zcu.kiv.jop.util.Preconditions;
+
+/**
+ * Sampler of random values with binomial distribution with given number of trials and probability
+ * of success. For small mean (less than {@value #BTRS_THRESHOLD}) the sampler uses the inversion
+ * method, for greater mean it uses the transformed rejection method with squeeze (BTRS) of Hormann
+ * which needs in average less than 1.2 iterations independently on parameters. All constants of
+ * both methods are precomputed in constructor.
+ * <p>
+ * The sampler is immutable, so it may be cached and shared by multiple threads.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @see <a href="https://doi.org/10.1080/00949659308811496">W. Hormann: The generation of binomial
+ *      random variates</a>
+ */
+public class BinomialSampler {
+
+  /** The minimal mean for which is used the transformed rejection method. */
+  public static final double BTRS_THRESHOLD = 10.0;
+
+  /** The number of trials. */
+  protected final int trials;
+  /** The probability of success (at most 0.5). */
+  protected final double p;
+  /** Information whether the probability was flipped (the failures are generated). */
+  protected final boolean flipped;
+  /** The mean of distribution. */
+  protected final double mean;
+
+  /** The probability that there will be no success (for inversion method). */
+  protected final double q0;
+  /** The ratio of probabilities of success and failure. */
+  protected final double ratio;
+  /** The upper bound of inversion method. */
+  protected final double bound;
+
+  /** The constant <code>a</code> of BTRS. */
+  protected final double a;
+  /** The constant <code>b</code> of BTRS. */
+  protected final double b;
+  /** The constant <code>c</code> of BTRS. */
+  protected final double c;
+  /** The bound for fast acceptance of BTRS. */
+  protected final double vr;
+  /** The constant <code>alpha</code> of BTRS. */
+  protected final double alpha;
+  /** The logarithm of ratio of probabilities of success and failure. */
+  protected final double logRatio;
+  /** The mode of distribution. */
+  protected final long mode;
+  /** The logarithm of factorials for mode of distribution. */
+  protected final double h;
+
+  /**
+   * Constructs sampler of binomial distribution.
+   *
+   * @param trials the number of trials.
+   * @param probability the probability of success.
+   * @throws IllegalArgumentException If given number of trials is not positive or if given
+   *           probability is not between 0.0 and 1.0 (exclusive).
+   */
+  public BinomialSampler(int trials, double probability) {
+    Preconditions.checkArgument(trials > 0, "Number of trials has to be positive");
+    Preconditions.checkArgument(probability > 0.0 && probability < 1.0, "Invalid value of probability: " + probability);
+
+    this.trials = trials;
+    this.flipped = probability > 0.5;
+    this.p = flipped ? 1.0 - probability : probability;
+    this.mean = trials * p;
+
+    double q = 1.0 - p;
+    this.ratio = p / q;
+    this.q0 = Math.exp(trials * Math.log(q));
+    this.bound = Math.min(trials, mean + 10.0 * Math.sqrt(mean * q + 1));
+
+    double spq = Math.sqrt(mean * q);
+    this.b = 1.15 + 2.53 * spq;
+    this.a = -0.0873 + 0.0248 * b + 0.01 * p;
+    this.c = mean + 0.5;
+    this.vr = 0.92 - 4.2 / b;
+    this.alpha = (2.83 + 5.1 / b) * spq;
+    this.logRatio = Math.log(ratio);
+    this.mode = (long)Math.floor((trials + 1) * p);
+    this.h = MathUtils.logFactorial(mode) + MathUtils.logFactorial(trials - mode);
+  }
+
+  /**
+   * Returns random value with binomial distribution of this sampler.
+   *
+   * @param random the random generator.
+   * @return Generated random value.
+   */
+  public int sample(Random random) {
+    int value = 0;
+    if (mean < BTRS_THRESHOLD) {
+      value = sampleInversion(random);
+    }
+    else {
+      value = sampleTransformedRejection(random);
+    }
+
+    return flipped ? trials - value : value;
+  }
+
+  /**
+   * Returns random value generated by inversion method.
+   *
+   * @param random the random generator.
+   * @return Generated random value.
+   */
+  protected int sampleInversion(Random random) {
+    int value = 0;
+    double px = q0;
+    double u = random.nextDouble();
+    while (u > px) {
+      value++;
+      if (value > bound) {
+        // restart (very rare, only because of rounding errors)
+        value = 0;
+        px = q0;
+        u = random.nextDouble();
+      }
+      else {
+        u -= px;
+        px = ((trials - value + 1) * ratio * px) / value;
+      }
+    }
+
+    return value;
+  }
+
+  /**
+   * Returns random value generated by transformed rejection method with squeeze (BTRS).
+   *
+   * @param random the random generator.
+   * @return Generated random value.
+   */
+  protected int sampleTransformedRejection(Random random) {
+    while (true) {
+      double u = random.nextDouble() - 0.5;
+      double v = random.nextDouble();
+      double us = 0.5 - Math.abs(u);
+      long k = (long)Math.floor((2 * a / us + b) * u + c);
+
+      if (k < 0 || k > trials) {
+        continue;
+      }
+
+      if (us >= 0.07 && v <= vr) {
+        return (int)k;
+      }
+
+      v = Math.log(v * alpha / (a / (us * us) + b));
+      if (v <= h - MathUtils.logFactorial(k) - MathUtils.logFactorial(trials - k) + (k - mode) * logRatio) {
+        return (int)k;
+      }
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package cz.zcu.kiv.jop.random;
+
+import java.util.Random;
+
+import cz.zcu.kiv.jop.util.Preconditions;
+
+/**
+ * Sampler of random values with exponential distribution with given rate. The sampler uses the
+ * ziggurat algorithm of Marsaglia and Tsang with 256 layers, so the most of values are generated
+ * only by one random long value, one comparison and one multiplication.
+ * <p>
+ * The sampler is immutable, so it may be cached and shared by multiple threads.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Ziggurat_algorithm">Ziggurat algorithm</a>
+ */
+public class ExponentialSampler {
+
+  /** Number of layers of ziggurat. */
+  private static final int LAYERS = 256;
+  /** The start of the tail of distribution (right edge of base layer). */
+  private static final double R = 7.697117470131487;
+  /** Area of each layer of ziggurat. */
+  private static final double V = 3.949659822581572e-3;
+  /** The multiplier used for conversion of 32-bit values to double values. */
+  private static final double M = 4294967296.0;
+
+  /** Thresholds for fast acceptance of values in layers. */
+  private static final long[] K = new long[LAYERS];
+  /** Widths of layers (scaled by multiplier). */
+  private static final double[] W = new double[LAYERS];
+  /** Values of density function at edges of layers. */
+  private static final double[] F = new double[LAYERS];
+
+  static {
+    double de = R;
+    double te = de;
+    double q = V / Math.exp(-de);
+
+    K[0] = (long)((de / q) * M);
+    K[1] = 0;
+    W[0] = q / M;
+    W[LAYERS - 1] = de / M;
+    F[0] = 1.0;
+    F[LAYERS - 1] = Math.exp(-de);
+
+    for (int i = LAYERS - 2; i >= 1; i--) {
+      de = -Math.log(V / de + Math.exp(-de));
+      K[i + 1] = (long)((de / te) * M);
+      te = de;
+      F[i] = Math.exp(-de);
+      W[i] = de / M;
+    }
+  }
+
+  /** The rate of distribution. */
+  protected final double rate;
+
+  /**
+   * Constructs sampler of exponential distribution.
+   *
+   * @param rate the rate of distribution.
+   * @throws IllegalArgumentException If given rate is not positive.
+   */
+  public ExponentialSampler(double rate) {
+    Preconditions.checkArgument(rate > 0, "Rate has to be positive");
+    this.rate = rate;
+  }
+
+  /**
+   * Returns random value with exponential distribution of this sampler.
+   *
+   * @param random the random generator.
+   * @return Generated random value.
+   */
+  public double sample(Random random) {
+    return nextStandardExponential(random) / rate;
+  }
+
+  /**
+   * Returns random value with standard exponential distribution (with rate 1.0).
+   *
+   * @param random the random generator.
+   * @return Generated random value.
+   */
+  public static double nextStandardExponential(Random random) {
+    double offset = 0.0;
+    while (true) {
+      long bits = random.nextLong();
+      int index = (int)bits & (LAYERS - 1);
+      long value = bits >>> 32; // unsigned 32-bit value
+
+      double x = value * W[index];
+      if (value < K[index]) {
+        return offset + x; // inside of the layer
+      }
+
+      if (index == 0) {
+        // the tail of distribution is again exponential distribution
+        offset += R;
+        continue;
+      }
+
+      // the wedge of layer
+      if (F[index] + random.nextDouble() * (F[index - 1] - F[index]) < Math.exp(-x)) {
+        return offset + x;
+      }
+    }
+  }
+}
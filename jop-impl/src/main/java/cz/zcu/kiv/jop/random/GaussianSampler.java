@@ -0,0 +1,134 @@
+package cz.zcu.kiv.jop.random;
+
+import java.util.Random;
+
+import cz.zcu.kiv.jop.util.Preconditions;
+
+/**
+ * Sampler of random values with Gaussian (normal) distribution with given mean and standard
+ * deviation. The sampler uses the ziggurat algorithm of Marsaglia and Tsang with 128 layers, so the
+ * most of values are generated only by one random long value, one comparison and one
+ * multiplication. The layer and the value are taken from different bits of random value (the layer
+ * from the lowest bits and the value from the highest bits), so they are independent.
+ * <p>
+ * The sampler is immutable, so it may be cached and shared by multiple threads.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Ziggurat_algorithm">Ziggurat algorithm</a>
+ */
+public class GaussianSampler {
+
+  /** Number of layers of ziggurat. */
+  private static final int LAYERS = 128;
+  /** The start of the tail of distribution (right edge of base layer). */
+  private static final double R = 3.442619855899;
+  /** Area of each layer of ziggurat. */
+  private static final double V = 9.91256303526217e-3;
+  /** The multiplier used for conversion of 31-bit values to double values. */
+  private static final double M = 2147483648.0;
+
+  /** Thresholds for fast acceptance of values in layers. */
+  private static final long[] K = new long[LAYERS];
+  /** Widths of layers (scaled by multiplier). */
+  private static final double[] W = new double[LAYERS];
+  /** Values of density function at edges of layers. */
+  private static final double[] F = new double[LAYERS];
+
+  static {
+    double dn = R;
+    double tn = dn;
+    double q = V / Math.exp(-0.5 * dn * dn);
+
+    K[0] = (long)((dn / q) * M);
+    K[1] = 0;
+    W[0] = q / M;
+    W[LAYERS - 1] = dn / M;
+    F[0] = 1.0;
+    F[LAYERS - 1] = Math.exp(-0.5 * dn * dn);
+
+    for (int i = LAYERS - 2; i >= 1; i--) {
+      dn = Math.sqrt(-2.0 * Math.log(V / dn + Math.exp(-0.5 * dn * dn)));
+      K[i + 1] = (long)((dn / tn) * M);
+      tn = dn;
+      F[i] = Math.exp(-0.5 * dn * dn);
+      W[i] = dn / M;
+    }
+  }
+
+  /** The mean of distribution. */
+  protected final double mean;
+  /** The standard deviation of distribution. */
+  protected final double standardDeviation;
+
+  /**
+   * Constructs sampler of Gaussian distribution.
+   *
+   * @param mean the mean of distribution.
+   * @param standardDeviation the standard deviation of distribution.
+   * @throws IllegalArgumentException If given standard deviation is negative.
+   */
+  public GaussianSampler(double mean, double standardDeviation) {
+    Preconditions.checkArgument(standardDeviation >= 0, "Standard deviation cannot be negative");
+    this.mean = mean;
+    this.standardDeviation = standardDeviation;
+  }
+
+  /**
+   * Returns random value with Gaussian distribution of this sampler.
+   *
+   * @param random the random generator.
+   * @return Generated random value.
+   */
+  public double sample(Random random) {
+    return nextStandardGaussian(random) * standardDeviation + mean;
+  }
+
+  /**
+   * Returns random value with standard Gaussian distribution (with mean 0.0 and standard deviation
+   * 1.0).
+   *
+   * @param random the random generator.
+   * @return Generated random value.
+   */
+  public static double nextStandardGaussian(Random random) {
+    while (true) {
+      long bits = random.nextLong();
+      int index = (int)bits & (LAYERS - 1);
+      long value = bits >> 32; // signed 32-bit value
+
+      double x = value * W[index];
+      if (Math.abs(value) < K[index]) {
+        return x; // inside of the layer
+      }
+
+      if (index == 0) {
+        // the tail of distribution
+        double y;
+        do {
+          x = -Math.log(nextOpenDouble(random)) / R;
+          y = -Math.log(nextOpenDouble(random));
+        }
+        while (y + y < x * x);
+
+        return (value > 0) ? R + x : -R - x;
+      }
+
+      // the wedge of layer
+      if (F[index] + random.nextDouble() * (F[index - 1] - F[index]) < Math.exp(-0.5 * x * x)) {
+        return x;
+      }
+    }
+  }
+
+  /**
+   * Returns random double value between 0.0 (exclusive) and 1.0 (inclusive).
+   *
+   * @param random the random generator.
+   * @return Generated random value.
+   */
+  static double nextOpenDouble(Random random) {
+    return 1.0 - random.nextDouble();
+  }
+}
@@ -0,0 +1,100 @@
+package cz.zcu.kiv.jop.random;
+
+/**
+ * Implementation of random generator with L64X128MixRandom algorithm (member of LXM family). The
+ * generator combines 64-bit linear congruential generator with xoroshiro128 generator and the sum
+ * of their states is mixed by strong mixing function. The generator has period
+ * 2<sup>64</sup>(2<sup>128</sup>-1) and very good statistical quality. The state is initialized
+ * from seed by SplitMix64 algorithm.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public class L64X128MixRandom extends AbstractRandom {
+
+  /**
+   * Determines if a de-serialized file is compatible with this class.
+   * <p>
+   * Maintainers must change this value if and only if the new version of this class is not
+   * compatible with old versions. See Oracle docs for <a
+   * href="http://docs.oracle.com/javase/1.5.0/docs/guide/serialization/">details</a>.
+   * <p>
+   * Not necessary to include in first version of the class, but included here as a reminder of its
+   * importance.
+   */
+  private static final long serialVersionUID = 20160601L;
+
+  /** The multiplier of linear congruential generator. */
+  protected static final long MULTIPLIER = 0xd1342543de82ef95L;
+
+  /** The additive parameter of linear congruential generator (has to be odd). */
+  protected long a;
+  /** The state of linear congruential generator. */
+  protected long s;
+  /** The first part of state of xoroshiro128 generator. */
+  protected long x0;
+  /** The second part of state of xoroshiro128 generator. */
+  protected long x1;
+
+  /**
+   * Constructs random generator with random seed.
+   */
+  public L64X128MixRandom() {
+    super();
+  }
+
+  /**
+   * Constructs random generator with given seed.
+   *
+   * @param seed the initial seed.
+   */
+  public L64X128MixRandom(long seed) {
+    super(seed);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void initState(long seed) {
+    a = mix64(seed += GOLDEN_GAMMA) | 1L;
+    s = mix64(seed += GOLDEN_GAMMA);
+    x0 = mix64(seed += GOLDEN_GAMMA);
+    x1 = mix64(seed + GOLDEN_GAMMA);
+    if ((x0 | x1) == 0) { // state of xoroshiro128 cannot be zero
+      x0 = GOLDEN_GAMMA;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long nextLong() {
+    long z = s + x0;
+
+    // update linear congruential generator
+    s = MULTIPLIER * s + a;
+
+    // update xoroshiro128 generator
+    long q0 = x0;
+    long q1 = x1;
+    q1 ^= q0;
+    x0 = Long.rotateLeft(q0, 24) ^ q1 ^ (q1 << 16);
+    x1 = Long.rotateLeft(q1, 37);
+
+    return mixLea64(z);
+  }
+
+  /**
+   * Mixes bits of given value (the mixing function of Doug Lea).
+   *
+   * @param value the value to mix.
+   * @return Mixed value.
+   */
+  protected static long mixLea64(long value) {
+    value = (value ^ (value >>> 32)) * 0xdaba0b6eb09322e3L;
+    value = (value ^ (value >>> 32)) * 0xdaba0b6eb09322e3L;
+    return value ^ (value >>> 32);
+  }
+}
@@ -0,0 +1,45 @@
+package cz.zcu.kiv.jop.random;
+
+/**
+ * Helper static class for mathematical functions used by samplers of distributions.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public abstract class MathUtils {
+
+  /** Number of precomputed values of logarithm of factorial. */
+  private static final int LOG_FACTORIAL_TABLE_SIZE = 256;
+  /** Precomputed values of logarithm of factorial. */
+  private static final double[] LOG_FACTORIAL_TABLE = new double[LOG_FACTORIAL_TABLE_SIZE];
+  /** Half of natural logarithm of 2 * PI. */
+  private static final double HALF_LOG_2_PI = 0.5 * Math.log(2 * Math.PI);
+
+  static {
+    for (int i = 1; i < LOG_FACTORIAL_TABLE_SIZE; i++) {
+      LOG_FACTORIAL_TABLE[i] = LOG_FACTORIAL_TABLE[i - 1] + Math.log(i);
+    }
+  }
+
+  /**
+   * Private constructor which makes this class "static".
+   */
+  private MathUtils() {}
+
+  /**
+   * Returns natural logarithm of factorial of given number. The values for small numbers are
+   * precomputed, the values for other numbers are computed by Stirling's series.
+   *
+   * @param k the non-negative number.
+   * @return Natural logarithm of <code>k!</code>.
+   */
+  public static double logFactorial(long k) {
+    if (k < LOG_FACTORIAL_TABLE_SIZE) {
+      return LOG_FACTORIAL_TABLE[(int)k];
+    }
+
+    double x = k;
+    double x2 = x * x;
+    return (x + 0.5) * Math.log(x) - x + HALF_LOG_2_PI + (1.0 / 12.0 - (1.0 / 360.0 - 1.0 / (1260.0 * x2)) / x2) / x;
+  }
+}
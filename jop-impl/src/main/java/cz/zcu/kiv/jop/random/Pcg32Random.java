@@ -0,0 +1,108 @@
+package cz.zcu.kiv.jop.random;
+
+/**
+ * Implementation of random generator with PCG32 algorithm (variant XSH-RR with 64-bit state). The
+ * generator is linear congruential generator with permutation of output, so it generates 32-bit
+ * values of good statistical quality. The 64-bit values are composed from two 32-bit values. The
+ * increment (stream) of generator is derived from seed.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public class Pcg32Random extends AbstractRandom {
+
+  /**
+   * Determines if a de-serialized file is compatible with this class.
+   * <p>
+   * Maintainers must change this value if and only if the new version of this class is not
+   * compatible with old versions. See Oracle docs for <a
+   * href="http://docs.oracle.com/javase/1.5.0/docs/guide/serialization/">details</a>.
+   * <p>
+   * Not necessary to include in first version of the class, but included here as a reminder of its
+   * importance.
+   */
+  private static final long serialVersionUID = 20160601L;
+
+  /** The multiplier of linear congruential generator. */
+  protected static final long MULTIPLIER = 6364136223846793005L;
+
+  /** The state of random generator. */
+  protected long state;
+  /** The increment of random generator (has to be odd). */
+  protected long increment;
+
+  /**
+   * Constructs random generator with random seed.
+   */
+  public Pcg32Random() {
+    super();
+  }
+
+  /**
+   * Constructs random generator with given seed.
+   *
+   * @param seed the initial seed.
+   */
+  public Pcg32Random(long seed) {
+    super(seed);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void initState(long seed) {
+    // same as pcg32_srandom_r(seed, stream)
+    increment = (mix64(seed + GOLDEN_GAMMA) << 1) | 1L;
+    state = 0L;
+    nextInt();
+    state += seed;
+    nextInt();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int nextInt() {
+    long old = state;
+    state = old * MULTIPLIER + increment;
+
+    int xorShifted = (int)(((old >>> 18) ^ old) >>> 27);
+    int rotation = (int)(old >>> 59);
+
+    return Integer.rotateRight(xorShifted, rotation);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected int next(int bits) {
+    return nextInt() >>> (32 - bits);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean nextBoolean() {
+    return nextInt() < 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public float nextFloat() {
+    return (nextInt() >>> 8) * FLOAT_UNIT;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long nextLong() {
+    return ((long)nextInt() << 32) | (nextInt() & 0xffffffffL);
+  }
+}
@@ -0,0 +1,118 @@
+package cz.zcu.kiv.jop.random;
+
+import java.util.Random;
+
+import cz.zcu.kiv.jop.util.Preconditions;
+
+/**
+ * Sampler of random values with Poisson distribution with given mean. For small mean (less than
+ * {@value #PTRS_THRESHOLD}) the sampler uses the multiplication of uniform random values, for
+ * greater mean it uses the transformed rejection method with squeeze (PTRS) of Hormann which needs
+ * in average less than 1.2 iterations independently on mean. All constants of both methods are
+ * precomputed in constructor.
+ * <p>
+ * The sampler is immutable, so it may be cached and shared by multiple threads.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @see <a href="https://doi.org/10.1016/0167-6687(93)90997-4">W. Hormann: The transformed
+ *      rejection method for generating Poisson random variables</a>
+ */
+public class PoissonSampler {
+
+  /** The minimal mean for which is used the transformed rejection method. */
+  public static final double PTRS_THRESHOLD = 10.0;
+
+  /** The mean of distribution. */
+  protected final double mean;
+  /** The value of <code>exp(-mean)</code> for multiplication method. */
+  protected final double expMean;
+  /** The logarithm of mean. */
+  protected final double logMean;
+  /** The constant <code>a</code> of PTRS. */
+  protected final double a;
+  /** The constant <code>b</code> of PTRS. */
+  protected final double b;
+  /** The logarithm of inverse alpha of PTRS. */
+  protected final double logInvAlpha;
+  /** The bound for fast acceptance of PTRS. */
+  protected final double vr;
+
+  /**
+   * Constructs sampler of Poisson distribution.
+   *
+   * @param mean the mean of distribution.
+   * @throws IllegalArgumentException If given mean is not positive.
+   */
+  public PoissonSampler(double mean) {
+    Preconditions.checkArgument(mean > 0, "Mean has to be positive");
+    this.mean = mean;
+    this.expMean = Math.exp(-mean);
+    this.logMean = Math.log(mean);
+
+    double sqrtMean = Math.sqrt(mean);
+    this.b = 0.931 + 2.53 * sqrtMean;
+    this.a = -0.059 + 0.02483 * b;
+    this.logInvAlpha = Math.log(1.1239 + 1.1328 / (b - 3.4));
+    this.vr = 0.9277 - 3.6224 / (b - 2);
+  }
+
+  /**
+   * Returns random value with Poisson distribution of this sampler.
+   *
+   * @param random the random generator.
+   * @return Generated random value.
+   */
+  public int sample(Random random) {
+    if (mean < PTRS_THRESHOLD) {
+      return sampleMultiplication(random);
+    }
+
+    return sampleTransformedRejection(random);
+  }
+
+  /**
+   * Returns random value generated by multiplication of uniform random values.
+   *
+   * @param random the random generator.
+   * @return Generated random value.
+   */
+  protected int sampleMultiplication(Random random) {
+    int value = 0;
+    double product = random.nextDouble();
+    while (product > expMean) {
+      value++;
+      product *= random.nextDouble();
+    }
+
+    return value;
+  }
+
+  /**
+   * Returns random value generated by transformed rejection method with squeeze (PTRS).
+   *
+   * @param random the random generator.
+   * @return Generated random value.
+   */
+  protected int sampleTransformedRejection(Random random) {
+    while (true) {
+      double u = random.nextDouble() - 0.5;
+      double v = random.nextDouble();
+      double us = 0.5 - Math.abs(u);
+      long k = (long)Math.floor((2 * a / us + b) * u + mean + 0.43);
+
+      if (us >= 0.07 && v <= vr) {
+        return (int)k;
+      }
+
+      if (k < 0 || (us < 0.013 && v > us)) {
+        continue;
+      }
+
+      if (Math.log(v) + logInvAlpha - Math.log(a / (us * us) + b) <= -mean + k * logMean - MathUtils.logFactorial(k)) {
+        return (int)k;
+      }
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package cz.zcu.kiv.jop.random;
+
+import java.util.Random;
+
+/**
+ * Enumeration of algorithms of random generators which may be used by session of random generators.
+ * Each algorithm creates random generator which is compatible with {@link Random}.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public enum RandomAlgorithm {
+
+  /** The 48-bit linear congruential generator of {@link Random} (thread-safe, but slow). */
+  JAVA_UTIL {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Random createRandom(long seed) {
+      return new Random(seed);
+    }
+  },
+
+  /** The SplitMix64 algorithm ({@link SplitMix64Random}). */
+  SPLIT_MIX_64 {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Random createRandom(long seed) {
+      return new SplitMix64Random(seed);
+    }
+  },
+
+  /** The xoroshiro128++ algorithm ({@link Xoroshiro128PlusPlusRandom}). */
+  XOROSHIRO_128_PLUS_PLUS {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Random createRandom(long seed) {
+      return new Xoroshiro128PlusPlusRandom(seed);
+    }
+  },
+
+  /** The PCG32 algorithm ({@link Pcg32Random}). */
+  PCG_32 {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Random createRandom(long seed) {
+      return new Pcg32Random(seed);
+    }
+  },
+
+  /** The L64X128MixRandom algorithm ({@link L64X128MixRandom}). */
+  L64_X128_MIX {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Random createRandom(long seed) {
+      return new L64X128MixRandom(seed);
+    }
+  };
+
+  /**
+   * Creates new random generator of this algorithm with given seed.
+   *
+   * @param seed the initial seed.
+   * @return Created random generator.
+   */
+  public abstract Random createRandom(long seed);
+
+}
@@ -0,0 +1,59 @@
+package cz.zcu.kiv.jop.random;
+
+/**
+ * Implementation of random generator with SplitMix64 algorithm. The generator has 64-bit state
+ * which is incremented by the golden ratio constant and the generated value is obtained by mixing
+ * of bits of the state. The generator is very fast and it has period 2<sup>64</sup>.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public class SplitMix64Random extends AbstractRandom {
+
+  /**
+   * Determines if a de-serialized file is compatible with this class.
+   * <p>
+   * Maintainers must change this value if and only if the new version of this class is not
+   * compatible with old versions. See Oracle docs for <a
+   * href="http://docs.oracle.com/javase/1.5.0/docs/guide/serialization/">details</a>.
+   * <p>
+   * Not necessary to include in first version of the class, but included here as a reminder of its
+   * importance.
+   */
+  private static final long serialVersionUID = 20160601L;
+
+  /** The state of random generator. */
+  protected long state;
+
+  /**
+   * Constructs random generator with random seed.
+   */
+  public SplitMix64Random() {
+    super();
+  }
+
+  /**
+   * Constructs random generator with given seed.
+   *
+   * @param seed the initial seed.
+   */
+  public SplitMix64Random(long seed) {
+    super(seed);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void initState(long seed) {
+    state = seed;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long nextLong() {
+    return mix64(state += GOLDEN_GAMMA);
+  }
+}
@@ -0,0 +1,73 @@
+package cz.zcu.kiv.jop.random;
+
+/**
+ * Implementation of random generator with xoroshiro128++ algorithm. The generator has 128-bit state
+ * which is initialized from seed by SplitMix64 algorithm. The generator is very fast, it has period
+ * 2<sup>128</sup>-1 and it passes all common statistical tests.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public class Xoroshiro128PlusPlusRandom extends AbstractRandom {
+
+  /**
+   * Determines if a de-serialized file is compatible with this class.
+   * <p>
+   * Maintainers must change this value if and only if the new version of this class is not
+   * compatible with old versions. See Oracle docs for <a
+   * href="http://docs.oracle.com/javase/1.5.0/docs/guide/serialization/">details</a>.
+   * <p>
+   * Not necessary to include in first version of the class, but included here as a reminder of its
+   * importance.
+   */
+  private static final long serialVersionUID = 20160601L;
+
+  /** The first part of state of random generator. */
+  protected long s0;
+  /** The second part of state of random generator. */
+  protected long s1;
+
+  /**
+   * Constructs random generator with random seed.
+   */
+  public Xoroshiro128PlusPlusRandom() {
+    super();
+  }
+
+  /**
+   * Constructs random generator with given seed.
+   *
+   * @param seed the initial seed.
+   */
+  public Xoroshiro128PlusPlusRandom(long seed) {
+    super(seed);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void initState(long seed) {
+    s0 = mix64(seed += GOLDEN_GAMMA);
+    s1 = mix64(seed + GOLDEN_GAMMA);
+    if ((s0 | s1) == 0) { // state cannot be zero
+      s0 = GOLDEN_GAMMA;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long nextLong() {
+    long q0 = s0;
+    long q1 = s1;
+    long result = Long.rotateLeft(q0 + q1, 17) + q0;
+
+    q1 ^= q0;
+    s0 = Long.rotateLeft(q0, 49) ^ q1 ^ (q1 << 21);
+    s1 = Long.rotateLeft(q1, 28);
+
+    return result;
+  }
+}
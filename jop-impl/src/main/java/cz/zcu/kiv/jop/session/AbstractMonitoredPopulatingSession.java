@@ -0,0 +1,273 @@
+package cz.zcu.kiv.jop.session;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Abstract implementation of {@link MonitoredPopulatingSession} which counts the statistics of
+ * usage of session and which creates the snapshots of session. The snapshots are created from
+ * {@link InstanceRegistry} of stored instances which is maintained incrementally, so the creation
+ * of snapshot has constant complexity and the snapshot is cached until the next change of session.
+ * The registry is rebuilt (by copying of all stored instances) only when the stored instances are
+ * removed or reordered in other way than by removal of the oldest instance.
+ * <p>
+ * The implementations have to synchronize the access to the stored instances on this session and
+ * they have to notify this class about each change of stored instances: the adding of new instance
+ * by method {@link #instanceAdded(Object)}, the removal of the oldest instance by method
+ * {@link #oldestInstanceRemoved()} and each other change by method {@link #invalidateSnapshot()}.
+ * The implementations which need to know which of stored instances are used (found in snapshots)
+ * may override method {@link #isUsageRecorded()} and {@link #instanceUsed(Object)}.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public abstract class AbstractMonitoredPopulatingSession implements MonitoredPopulatingSession {
+
+  /** Number of instances added into session. */
+  protected final AtomicLong addedCount = new AtomicLong();
+  /** Number of instances removed from session by eviction policy or by garbage collector. */
+  protected final AtomicLong evictedCount = new AtomicLong();
+  /** Number of created (non-cached) snapshots of session. */
+  protected final AtomicLong snapshotCount = new AtomicLong();
+  /** Number of searches for instances of some type. */
+  protected final AtomicLong lookupCount = new AtomicLong();
+  /** Number of searches for instances of some type which found at least one instance. */
+  protected final AtomicLong hitCount = new AtomicLong();
+
+  /** Cached snapshot of session; <code>null</code> if the session was changed. */
+  protected PopulatingSession snapshot;
+  /** Registry of stored instances; <code>null</code> if it has to be rebuilt. */
+  private InstanceRegistry registry;
+
+  /**
+   * Returns number of instances stored in session.
+   *
+   * @return Number of stored instances.
+   */
+  protected abstract int size();
+
+  /**
+   * Returns registry of stored instances from which are created the snapshots of session.
+   *
+   * @return Registry of stored instances or <code>null</code> if it has to be rebuilt.
+   */
+  protected InstanceRegistry getRegistry() {
+    return registry;
+  }
+
+  /**
+   * Sets registry of stored instances from which are created the snapshots of session.
+   *
+   * @param registry the registry of stored instances (<code>null</code> if it has to be rebuilt).
+   */
+  protected void setRegistry(InstanceRegistry registry) {
+    this.registry = registry;
+  }
+
+  /**
+   * Notifies that given instance was added at the end of stored instances. The instance is added
+   * into registry of stored instances and the cached snapshot is invalidated.
+   *
+   * @param instance the added instance.
+   */
+  protected void instanceAdded(Object instance) {
+    InstanceRegistry registry = getRegistry();
+    if (registry != null) {
+      registry.add(instance);
+    }
+    snapshot = null;
+  }
+
+  /**
+   * Notifies that the oldest (first) of stored instances was removed. The instance is removed from
+   * registry of stored instances and the cached snapshot is invalidated.
+   */
+  protected void oldestInstanceRemoved() {
+    InstanceRegistry registry = getRegistry();
+    if (registry != null) {
+      registry.removeOldest();
+    }
+    snapshot = null;
+  }
+
+  /**
+   * Invalidates cached snapshot of session and registry of stored instances which will be rebuilt
+   * during the next creation of snapshot. This method has to be called on each change of stored
+   * instances other than adding of new instance or removal of the oldest one.
+   */
+  protected void invalidateSnapshot() {
+    snapshot = null;
+    setRegistry(null);
+  }
+
+  /**
+   * Returns information whether the usage of stored instances is recorded. If this method returns
+   * <code>true</code>, the method {@link #instanceUsed(Object)} is called for each instance which
+   * is obtained from the lists of instances found in snapshots of session.
+   *
+   * @return <code>true</code> if the usage of instances is recorded; <code>false</code> otherwise
+   *         (default).
+   */
+  protected boolean isUsageRecorded() {
+    return false;
+  }
+
+  /**
+   * Notifies that given stored instance was obtained from the list of instances found in snapshot
+   * of session. This method is called only if the usage of instances is recorded (see
+   * {@link #isUsageRecorded()}). It may be called concurrently and without synchronization on this
+   * session; the default implementation does nothing.
+   *
+   * @param instance the used instance.
+   */
+  protected void instanceUsed(Object instance) {}
+
+  /**
+   * {@inheritDoc}
+   */
+  public List<Object> getPopulatedInstances(Class<?> type) {
+    return new ArrayList<Object>(getSnapshot().getPopulatedInstances(type));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public synchronized PopulatingSession getSnapshot() {
+    if (snapshot == null) {
+      InstanceRegistry registry = getRegistry();
+      if (registry == null) {
+        registry = new InstanceRegistry(getPopulatedInstances());
+        setRegistry(registry);
+      }
+
+      snapshot = new MonitoredSnapshot(registry.getSnapshot());
+      snapshotCount.incrementAndGet();
+    }
+
+    return snapshot;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public synchronized PopulatingSessionStatistics getStatistics() {
+    return new PopulatingSessionStatistics(size(), addedCount.get(), evictedCount.get(), snapshotCount.get(), lookupCount.get(), hitCount.get());
+  }
+
+  /**
+   * Read-only snapshot of session which counts the searches for instances of some type.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected class MonitoredSnapshot implements PopulatingSession {
+
+    /** The snapshot of registry of stored instances. */
+    protected final PopulatingSession snapshot;
+
+    /**
+     * Constructs snapshot of session.
+     *
+     * @param snapshot the snapshot of registry of stored instances.
+     */
+    protected MonitoredSnapshot(PopulatingSession snapshot) {
+      this.snapshot = snapshot;
+    }
+
+    /**
+     * This operation is not allowed and throws {@link UnsupportedOperationException}.
+     *
+     * @param instance the instance to add.
+     * @throws UnsupportedOperationException For each call of this method.
+     */
+    public void addPopulatedInstance(Object instance) {
+      throw new UnsupportedOperationException("Snapshot of session is read-only");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public List<Object> getPopulatedInstances() {
+      return snapshot.getPopulatedInstances();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public List<Object> getPopulatedInstances(Class<?> type) {
+      List<Object> instances = snapshot.getPopulatedInstances(type);
+
+      lookupCount.incrementAndGet();
+      if (!instances.isEmpty()) {
+        hitCount.incrementAndGet();
+        if (isUsageRecorded()) {
+          return new UsedInstanceList(instances);
+        }
+      }
+
+      return instances;
+    }
+
+    /**
+     * Returns this snapshot because it's already immutable.
+     *
+     * @return This snapshot.
+     */
+    public PopulatingSession getSnapshot() {
+      return this;
+    }
+
+    /**
+     * This operation is not allowed and throws {@link UnsupportedOperationException}.
+     *
+     * @throws UnsupportedOperationException For each call of this method.
+     */
+    public void clear() {
+      throw new UnsupportedOperationException("Snapshot of session is read-only");
+    }
+  }
+
+  /**
+   * Immutable view of list of instances found in snapshot which notifies the session about each
+   * obtained instance (see {@link AbstractMonitoredPopulatingSession#instanceUsed(Object)}).
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected class UsedInstanceList extends AbstractList<Object> implements RandomAccess {
+
+    /** The found instances. */
+    protected final List<Object> instances;
+
+    /**
+     * Constructs view of found instances.
+     *
+     * @param instances the found instances.
+     */
+    protected UsedInstanceList(List<Object> instances) {
+      this.instances = instances;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(int index) {
+      Object instance = instances.get(index);
+      instanceUsed(instance);
+
+      return instance;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+      return instances.size();
+    }
+  }
+}
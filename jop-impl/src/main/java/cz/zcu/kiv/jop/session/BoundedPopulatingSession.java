@@ -0,0 +1,303 @@
+package cz.zcu.kiv.jop.session;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.inject.Singleton;
+
+import cz.zcu.kiv.jop.util.Preconditions;
+
+/**
+ * Implementation of {@link PopulatingSession} with limited capacity. When the session is full, some
+ * of stored instances is evicted according to the {@link EvictionPolicy} before the adding of new
+ * instance. So the memory consumption of session doesn't grow with number of populated instances
+ * and the session still contains the recently populated instances which may be found by instance
+ * matchers and lazy populating strategies.
+ * <p>
+ * The session stores each instance only once (the instances are compared by identity). The
+ * instance is used when it's added into session again or when it's obtained from the list of
+ * instances found in snapshot of session (for example by lazy populating strategies). The
+ * {@link EvictionPolicy#LRU LRU} policy approximates the order of usage by "second chance": the
+ * used instance which would be evicted as the oldest one is moved to the end of stored instances
+ * instead, so the recording of usage doesn't reorder the instances.
+ * <p>
+ * The snapshot of session is created without copying of stored instances when the instances were
+ * only added or evicted by {@link EvictionPolicy#FIFO FIFO} or {@link EvictionPolicy#LRU LRU}
+ * policy. The eviction by {@link EvictionPolicy#RANDOM RANDOM} policy causes copying of stored
+ * instances during the next creation of snapshot, so its cost is limited by capacity of session.
+ * The statistics of usage of session are available via {@link #getStatistics()}.
+ * <p>
+ * The session may be used instead of {@link GlobalPopulatingSession} by binding of
+ * {@link PopulatingSession} to this class (for example in explicit bindings of injector). The
+ * default constructor creates session with capacity {@value #DEFAULT_CAPACITY} and with
+ * {@link EvictionPolicy#LRU} eviction policy.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+@Singleton
+public class BoundedPopulatingSession extends AbstractMonitoredPopulatingSession {
+
+  /** Default capacity of session. */
+  public static final int DEFAULT_CAPACITY = 10000;
+
+  /** Maximal number of stored instances. */
+  protected final int capacity;
+  /** Policy for eviction of instances when the session is full. */
+  protected final EvictionPolicy evictionPolicy;
+  /** Random generator for random eviction of instances. */
+  protected final Random random = new Random();
+
+  /** Map of stored instances (compared by identity) to their entries. */
+  protected final Map<Object, Entry> entries = new IdentityHashMap<Object, Entry>();
+  /** List of entries for random access to entries. */
+  protected final List<Entry> entriesList = new ArrayList<Entry>();
+  /** Head of doubly linked list of entries ordered by their adding (or usage). */
+  protected final Entry header = new Entry(null);
+  /** Instances obtained from snapshots whose usage wasn't marked in their entries yet. */
+  protected final Queue<Object> usedInstances = new ConcurrentLinkedQueue<Object>();
+
+  /**
+   * Constructs session with default capacity and LRU eviction policy.
+   */
+  public BoundedPopulatingSession() {
+    this(DEFAULT_CAPACITY, EvictionPolicy.LRU);
+  }
+
+  /**
+   * Constructs session with given capacity and eviction policy.
+   *
+   * @param capacity the maximal number of stored instances.
+   * @param evictionPolicy the policy for eviction of instances when the session is full.
+   * @throws IllegalArgumentException If given capacity is not greater than 0 or if given eviction
+   *           policy is <code>null</code>.
+   */
+  public BoundedPopulatingSession(int capacity, EvictionPolicy evictionPolicy) {
+    Preconditions.checkArgument(capacity > 0, "Capacity has to be greater than 0");
+    this.capacity = capacity;
+    this.evictionPolicy = Preconditions.checkArgumentNotNull(evictionPolicy, "Eviction policy cannot be null");
+  }
+
+  /**
+   * Returns maximal number of stored instances.
+   *
+   * @return Capacity of session.
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Returns policy for eviction of instances when the session is full.
+   *
+   * @return Eviction policy of session.
+   */
+  public EvictionPolicy getEvictionPolicy() {
+    return evictionPolicy;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public synchronized void addPopulatedInstance(Object instance) {
+    addedCount.incrementAndGet();
+
+    Entry entry = entries.get(instance);
+    if (entry != null) {
+      entry.used = true;
+      return; // already stored
+    }
+
+    if (entries.size() >= capacity) {
+      evict();
+    }
+
+    entry = new Entry(instance);
+    entry.linkBefore(header);
+    entry.index = entriesList.size();
+    entriesList.add(entry);
+    entries.put(instance, entry);
+    instanceAdded(instance);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The usage of instances is recorded only for {@link EvictionPolicy#LRU} policy.
+   */
+  @Override
+  protected boolean isUsageRecorded() {
+    return evictionPolicy == EvictionPolicy.LRU;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The used instance is only queued (without synchronization), its entry is marked as used before
+   * the next eviction.
+   */
+  @Override
+  protected void instanceUsed(Object instance) {
+    usedInstances.offer(instance);
+  }
+
+  /**
+   * Evicts one of stored instances according to eviction policy.
+   */
+  protected void evict() {
+    Entry entry = null;
+    if (evictionPolicy == EvictionPolicy.RANDOM) {
+      entry = entriesList.get(random.nextInt(entriesList.size()));
+    }
+    else if (evictionPolicy == EvictionPolicy.LRU) {
+      markUsedInstances();
+
+      // the used instances get second chance (they are moved to the end)
+      entry = header.next;
+      while (entry.used) {
+        entry.used = false;
+        entry.unlink();
+        entry.linkBefore(header);
+        oldestInstanceRemoved();
+        instanceAdded(entry.instance);
+        entry = header.next;
+      }
+    }
+    else {
+      entry = header.next; // the oldest one
+    }
+
+    boolean oldest = (entry == header.next);
+    remove(entry);
+    if (oldest) {
+      oldestInstanceRemoved();
+    }
+    else {
+      invalidateSnapshot();
+    }
+
+    evictedCount.incrementAndGet();
+  }
+
+  /**
+   * Marks the entries of instances which were used (obtained from snapshots) since the last
+   * eviction.
+   */
+  protected void markUsedInstances() {
+    Object instance;
+    while ((instance = usedInstances.poll()) != null) {
+      Entry entry = entries.get(instance);
+      if (entry != null) {
+        entry.used = true;
+      }
+    }
+  }
+
+  /**
+   * Removes given entry from session.
+   *
+   * @param entry the entry to remove.
+   */
+  protected void remove(Entry entry) {
+    entry.unlink();
+
+    // replace removed entry by the last one
+    Entry last = entriesList.remove(entriesList.size() - 1);
+    if (last != entry) {
+      last.index = entry.index;
+      entriesList.set(last.index, last);
+    }
+
+    entries.remove(entry.instance);
+  }
+
+  /**
+   * Returns list of stored instances ordered by their adding (from the oldest one). The instances
+   * which were moved to the end by {@link EvictionPolicy#LRU} policy are ordered by time of their
+   * moving.
+   *
+   * @return List of stored instances.
+   */
+  public synchronized List<Object> getPopulatedInstances() {
+    List<Object> instances = new ArrayList<Object>(entries.size());
+    for (Entry entry = header.next; entry != header; entry = entry.next) {
+      instances.add(entry.instance);
+    }
+
+    return instances;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public synchronized void clear() {
+    entries.clear();
+    entriesList.clear();
+    usedInstances.clear();
+    header.next = header.previous = header;
+    invalidateSnapshot();
+  }
+
+  /**
+   * Entry of stored instance which is part of doubly linked list of entries.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected static class Entry {
+
+    /** The stored instance. */
+    protected final Object instance;
+    /** Index of entry in list of entries. */
+    protected int index;
+    /** Information whether the instance was used since its adding (or moving to the end). */
+    protected boolean used;
+    /** Previous entry in linked list. */
+    protected Entry previous = this;
+    /** Next entry in linked list. */
+    protected Entry next = this;
+
+    /**
+     * Constructs entry of stored instance.
+     *
+     * @param instance the stored instance.
+     */
+    protected Entry(Object instance) {
+      this.instance = instance;
+    }
+
+    /**
+     * Inserts this entry into linked list before given entry.
+     *
+     * @param entry the entry before which will be this entry inserted.
+     */
+    protected void linkBefore(Entry entry) {
+      next = entry;
+      previous = entry.previous;
+      previous.next = this;
+      entry.previous = this;
+    }
+
+    /**
+     * Removes this entry from linked list.
+     */
+    protected void unlink() {
+      previous.next = next;
+      next.previous = previous;
+      next = previous = this;
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package cz.zcu.kiv.jop.session;
+
+/**
+ * Enumeration of policies for eviction of populated instances from {@link BoundedPopulatingSession}
+ * when the session is full.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public enum EvictionPolicy {
+
+  /**
+   * Evicts the least recently used instance. The instance is used when it's added into session
+   * again or when it's obtained from the list of instances found in snapshot of session (for
+   * example by lazy populating strategies). The order of usage is approximated by "second chance":
+   * the oldest instance which was used since its adding is kept and moved to the end.
+   */
+  LRU,
+
+  /** Evicts the oldest instance (the instance which was added as first). */
+  FIFO,
+
+  /** Evicts randomly chosen instance. */
+  RANDOM;
+
+}
@@ -1,9 +1,9 @@
 package cz.zcu.kiv.jop.session;
 
 import java.lang.annotation.Annotation;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.inject.Singleton;
 
@@ -17,6 +17,8 @@ import cz.zcu.kiv.jop.util.Preconditions;
  * <p>
  * For example for annotations <code>&#64;Foo("bar")</code> and <code>&#64;Foo("foo")</code> the
  * session stores different random generator.
+ * <p>
+ * The session is thread-safe and the lookup of already stored random generators is lock-free.
  *
  * @author Mr.FrAnTA
  * @since 1.0.0
@@ -27,12 +29,12 @@ public class ExtendedRandomGeneratorSessionImpl implements RandomGeneratorSessio
   /**
    * Map (session) of stored random generators.
    */
-  protected final Map<Annotation, Random> session = new HashMap<Annotation, Random>();
+  protected final ConcurrentMap<Annotation, Random> session = new ConcurrentHashMap<Annotation, Random>();
 
   /**
    * {@inheritDoc}
    */
-  public synchronized Random setRandomGenerator(Annotation annotation, Random random) {
+  public Random setRandomGenerator(Annotation annotation, Random random) {
     Preconditions.checkArgumentNotNull(annotation, "Annotation cannot be null");
     return storeRandomGenerator(annotation, random);
   }
@@ -40,12 +42,15 @@ public class ExtendedRandomGeneratorSessionImpl implements RandomGeneratorSessio
   /**
    * {@inheritDoc}
    */
-  public synchronized Random getRandomGenerator(Annotation annotation) {
+  public Random getRandomGenerator(Annotation annotation) {
     Preconditions.checkArgumentNotNull(annotation, "Annotation cannot be null");
     Random rand = session.get(annotation);
     if (rand == null) {
       rand = new Random();
-      storeRandomGenerator(annotation, rand);
+      Random stored = session.putIfAbsent(annotation, rand);
+      if (stored != null) {
+        rand = stored; // stored by another thread
+      }
     }
 
     return rand;
@@ -59,13 +64,17 @@ public class ExtendedRandomGeneratorSessionImpl implements RandomGeneratorSessio
    * @return Previous stored random generator.
    */
   protected Random storeRandomGenerator(Annotation annotation, Random random) {
+    if (random == null) {
+      return session.remove(annotation);
+    }
+
     return session.put(annotation, random);
   }
 
   /**
    * {@inheritDoc}
    */
-  public synchronized void clear() {
+  public void clear() {
     session.clear();
   }
 
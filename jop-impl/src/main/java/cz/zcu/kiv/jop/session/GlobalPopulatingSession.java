@@ -1,6 +1,5 @@
 package cz.zcu.kiv.jop.session;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import javax.inject.Singleton;
@@ -10,7 +9,12 @@ import javax.inject.Singleton;
  * {@link cz.zcu.kiv.jop.ObjectPopulator ObjectPopulator} for storing all populated (generated)
  * objects.
  * <p>
- * This implementation of populating session supports method {@link #clear()}.
+ * This implementation of populating session supports method {@link #clear()}. The instances are
+ * stored in {@link InstanceRegistry}, so the instances of some type are obtained from index and the
+ * snapshots of session are created without copying of instances. The lists of instances returned
+ * by this session are also immutable views of the registry which are not affected by next changes
+ * of session. The session is thread-safe because all its operations are delegated to the
+ * (synchronized) registry.
  *
  * @author Mr.FrAnTA
  * @since 1.0.0
@@ -18,27 +22,41 @@ import javax.inject.Singleton;
 @Singleton
 public class GlobalPopulatingSession implements PopulatingSession {
 
-  /** List of stored instances in session. */
-  protected final List<Object> instances = new ArrayList<Object>();
+  /** Registry of stored instances in session. */
+  protected final InstanceRegistry instances = new InstanceRegistry();
 
   /**
    * {@inheritDoc}
    */
-  public synchronized void addPopulatedInstance(Object instance) {
+  public void addPopulatedInstance(Object instance) {
     instances.add(instance);
   }
 
   /**
    * {@inheritDoc}
    */
-  public synchronized List<Object> getPopulatedInstances() {
-    return new ArrayList<Object>(instances);
+  public List<Object> getPopulatedInstances() {
+    return instances.getInstances();
   }
 
   /**
    * {@inheritDoc}
    */
-  public synchronized void clear() {
+  public List<Object> getPopulatedInstances(Class<?> type) {
+    return instances.getInstances(type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public PopulatingSession getSnapshot() {
+    return instances.getSnapshot();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void clear() {
     instances.clear();
   }
 }
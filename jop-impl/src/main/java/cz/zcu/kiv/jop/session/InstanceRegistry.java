@@ -0,0 +1,617 @@
+package cz.zcu.kiv.jop.session;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cz.zcu.kiv.jop.util.ConcatenatedList;
+import cz.zcu.kiv.jop.util.PrimitiveUtils;
+
+/**
+ * Thread-safe registry of populated (generated) instances which keeps the instances in order of
+ * their adding and which indexes them by class types. The registry is intended for populating
+ * sessions and populating contexts which have to search for instances of some type (for example for
+ * the lazy populating strategies or instance matchers).
+ * <p>
+ * The index for some type contains all instances which are assignable to that type (instances of
+ * the type itself and of all its subtypes). The index is created by single pass through the
+ * registered instances when the instances of the type are requested for the first time and then
+ * it's maintained during adding of new instances. So the lookup of instances of some type has
+ * constant complexity (except the first lookup) and doesn't depend on number of instances in the
+ * registry.
+ * <p>
+ * The instances and indexes are stored in append-only arrays, so the lists returned by this
+ * registry are immutable views which are created without copying of instances. From the same
+ * reason the registry may create cheap immutable snapshot of itself (see {@link #getSnapshot()}).
+ * The arrays are published safely (they are copied when they grow), so the reading of snapshots
+ * doesn't lock the registry; only the first lookup of some type which creates its index does.
+ * The oldest instances may be removed from registry (see {@link #removeOldest()}) without
+ * rebuilding of indexes; the arrays are compacted when the removed instances prevail.
+ * <p>
+ * The registry may be also created over some read-only base session (usually the snapshot of
+ * another session). The instances of base session precede the instances of this registry.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public class InstanceRegistry {
+
+  /** Initial capacity of arrays for instances and indexes. */
+  protected static final int INITIAL_CAPACITY = 16;
+
+  /** Read-only base session whose instances precede the registered instances (may be null). */
+  protected final PopulatingSession base;
+  /** Storage of registered instances; replaced by new one when the registry is cleared. */
+  protected Storage storage = new Storage();
+
+  /**
+   * Constructs empty registry of instances.
+   */
+  public InstanceRegistry() {
+    this((PopulatingSession)null);
+  }
+
+  /**
+   * Constructs registry of instances which contains given instances.
+   *
+   * @param instances the instances to register.
+   */
+  public InstanceRegistry(Collection<?> instances) {
+    this((PopulatingSession)null);
+    addAll(instances);
+  }
+
+  /**
+   * Constructs empty registry of instances over given read-only base session. The base session has
+   * to be immutable (for example the snapshot of some session).
+   *
+   * @param base the read-only base session (may be <code>null</code>).
+   */
+  public InstanceRegistry(PopulatingSession base) {
+    this.base = base;
+  }
+
+  /**
+   * Adds (registers) given instance into registry and into all indexes to whose types the
+   * instance is assignable.
+   *
+   * @param instance the instance to add.
+   */
+  public synchronized void add(Object instance) {
+    storage.add(instance);
+  }
+
+  /**
+   * Adds (registers) all given instances into registry.
+   *
+   * @param instances the instances to add.
+   */
+  public synchronized void addAll(Collection<?> instances) {
+    for (Object instance : instances) {
+      storage.add(instance);
+    }
+  }
+
+  /**
+   * Removes the oldest registered instance (the first added one) from registry and from all its
+   * indexes. The instances of base session are kept and the already created snapshots are not
+   * affected. The removal has constant amortized complexity.
+   *
+   * @throws IllegalStateException If there is no registered instance (except the instances of base
+   *           session).
+   */
+  public synchronized void removeOldest() {
+    if (storage.start == storage.size) {
+      throw new IllegalStateException("There is no registered instance to remove");
+    }
+
+    storage.start++;
+    if (storage.start > storage.size - storage.start) {
+      storage = storage.compact();
+    }
+  }
+
+  /**
+   * Returns information whether the registry is empty.
+   *
+   * @return <code>true</code> if the registry contains no instances; <code>false</code> otherwise.
+   */
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Returns number of registered instances (including the instances of base session).
+   *
+   * @return Number of registered instances.
+   */
+  public synchronized int size() {
+    int size = storage.size - storage.start;
+    if (base != null) {
+      size += base.getPopulatedInstances().size();
+    }
+
+    return size;
+  }
+
+  /**
+   * Returns immutable list of all registered instances in order of their adding (the instances of
+   * base session are first). The list is not affected by next changes of registry.
+   *
+   * @return Immutable list of all registered instances.
+   */
+  public synchronized List<Object> getInstances() {
+    return getInstances(storage, storage.start, storage.size);
+  }
+
+  /**
+   * Returns immutable list of registered instances which are assignable to given class type. The
+   * instances are in order of their adding (the instances of base session are first) and the list
+   * is not affected by next changes of registry. The primitive class types are wrapped and the list
+   * never contains <code>null</code> values.
+   *
+   * @param type the class type of requested instances.
+   * @return Immutable list of instances which are assignable to given class type.
+   */
+  public synchronized List<Object> getInstances(Class<?> type) {
+    return getInstances(storage, storage.start, storage.size, type);
+  }
+
+  /**
+   * Returns immutable snapshot of this registry in form of read-only populating session. The
+   * creation of snapshot has constant complexity because the instances are not copied.
+   *
+   * @return Immutable snapshot of this registry.
+   */
+  public synchronized PopulatingSession getSnapshot() {
+    return new Snapshot(storage, storage.start, storage.size);
+  }
+
+  /**
+   * Removes all registered instances and all indexes. The instances of base session are kept and
+   * the already created snapshots are not affected.
+   */
+  public synchronized void clear() {
+    storage = new Storage();
+  }
+
+  /**
+   * Returns immutable list of instances stored in given storage at positions from
+   * <code>start</code> (inclusive) to <code>size</code> (exclusive) preceded by instances of base
+   * session.
+   *
+   * @param storage the storage of instances.
+   * @param start the position of the first instance in storage.
+   * @param size the number of instances in storage.
+   * @return Immutable list of instances.
+   */
+  protected List<Object> getInstances(Storage storage, int start, int size) {
+    List<Object> instances = new InstanceList(storage.instances, start, size);
+    if (base == null) {
+      return instances;
+    }
+
+    return ConcatenatedList.concat(base.getPopulatedInstances(), instances);
+  }
+
+  /**
+   * Returns immutable list of instances assignable to given class type from instances stored in
+   * given storage at positions from <code>start</code> (inclusive) to <code>size</code>
+   * (exclusive) preceded by instances of base session.
+   *
+   * @param storage the storage of instances.
+   * @param start the position of the first instance in storage.
+   * @param size the number of instances in storage.
+   * @param type the class type of requested instances.
+   * @return Immutable list of instances which are assignable to given class type.
+   */
+  protected List<Object> getInstances(Storage storage, int start, int size, Class<?> type) {
+    if (type == null) {
+      return Collections.emptyList();
+    }
+
+    type = PrimitiveUtils.wrap(type);
+
+    Index index = storage.indexes.get(type);
+    if (index == null) {
+      synchronized (this) {
+        index = storage.getIndex(type);
+      }
+    }
+
+    List<Object> instances = index.getInstances(storage.instances, start, size);
+    if (base == null) {
+      return instances;
+    }
+
+    return ConcatenatedList.concat(base.getPopulatedInstances(type), instances);
+  }
+
+  /**
+   * Storage of registered instances and their indexes. The instances and positions of indexed
+   * instances are stored in arrays which are only appended. When the array has to grow, it's copied
+   * into new larger array and the old array stays unchanged, so the views of arrays are immutable.
+   * The removed (oldest) instances are only skipped until the storage is compacted.
+   * <p>
+   * The storage is changed only under the lock of registry. The arrays are referenced by volatile
+   * fields and the new element is written before the array is published or before the number of
+   * elements is increased, so the arrays may be read without locking up to the number of elements
+   * known to the reader.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected static class Storage {
+
+    /** Array of stored instances. */
+    protected volatile Object[] instances = new Object[INITIAL_CAPACITY];
+    /** Number of stored instances (including the removed ones). */
+    protected int size;
+    /** Number of removed (oldest) instances; position of the first stored instance. */
+    protected int start;
+    /**
+     * Indexes of instances - map of class types to positions of assignable instances. The existing
+     * indexes may be obtained without locking.
+     */
+    protected final Map<Class<?>, Index> indexes = new ConcurrentHashMap<Class<?>, Index>();
+    /**
+     * Cache of indexes for concrete class types of instances. This cache is used for fast adding of
+     * new instances into indexes and it's invalidated on creation of new index.
+     */
+    protected final Map<Class<?>, List<Index>> indexesByClass = new HashMap<Class<?>, List<Index>>();
+
+    /**
+     * Adds given instance into storage and into all indexes to whose types the instance is
+     * assignable.
+     *
+     * @param instance the instance to add.
+     */
+    protected void add(Object instance) {
+      Object[] instances = this.instances;
+      if (size == instances.length) {
+        Object[] newInstances = new Object[instances.length * 2];
+        System.arraycopy(instances, 0, newInstances, 0, size);
+        newInstances[size] = instance;
+        this.instances = newInstances;
+      }
+      else {
+        instances[size] = instance;
+      }
+
+      int position = size;
+      size++;
+
+      if (instance == null || indexes.isEmpty()) {
+        return; // nothing to index
+      }
+
+      Class<?> clazz = instance.getClass();
+      List<Index> classIndexes = indexesByClass.get(clazz);
+      if (classIndexes == null) {
+        classIndexes = new ArrayList<Index>();
+        for (Map.Entry<Class<?>, Index> entry : indexes.entrySet()) {
+          if (entry.getKey().isAssignableFrom(clazz)) {
+            classIndexes.add(entry.getValue());
+          }
+        }
+        indexesByClass.put(clazz, classIndexes);
+      }
+
+      for (int i = 0; i < classIndexes.size(); i++) {
+        classIndexes.get(i).add(position);
+      }
+    }
+
+    /**
+     * Creates new storage which contains only the not removed instances of this storage and which
+     * has indexes for the same class types.
+     *
+     * @return Compacted storage.
+     */
+    protected Storage compact() {
+      Storage compacted = new Storage();
+      for (Class<?> type : indexes.keySet()) {
+        compacted.getIndex(type);
+      }
+
+      for (int i = start; i < size; i++) {
+        compacted.add(instances[i]);
+      }
+
+      return compacted;
+    }
+
+    /**
+     * Returns index for given class type. If the index doesn't exist, it's created.
+     *
+     * @param type the class type of index.
+     * @return Index for given class type.
+     */
+    protected Index getIndex(Class<?> type) {
+      Index index = indexes.get(type);
+      if (index == null) {
+        Object[] instances = this.instances;
+        index = new Index();
+        for (int i = 0; i < size; i++) {
+          Object instance = instances[i];
+          if (instance != null && type.isAssignableFrom(instance.getClass())) {
+            index.add(i);
+          }
+        }
+
+        indexes.put(type, index);
+        indexesByClass.clear(); // new index has to be added into cached indexes
+      }
+
+      return index;
+    }
+  }
+
+  /**
+   * Index of instances for some class type which contains (ascending) positions of instances in
+   * storage. The index is changed only under the lock of registry, but it may be read without
+   * locking (in the same way as the storage).
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected static class Index {
+
+    /** Array of positions of indexed instances. */
+    protected volatile int[] positions = new int[INITIAL_CAPACITY];
+    /** Number of indexed instances. */
+    protected volatile int size;
+
+    /**
+     * Adds given position of instance into index.
+     *
+     * @param position the position of instance in storage.
+     */
+    protected void add(int position) {
+      int[] positions = this.positions;
+      if (size == positions.length) {
+        int[] newPositions = new int[positions.length * 2];
+        System.arraycopy(positions, 0, newPositions, 0, size);
+        newPositions[size] = position;
+        this.positions = newPositions;
+      }
+      else {
+        positions[size] = position;
+      }
+
+      size++;
+    }
+
+    /**
+     * Returns immutable list of indexed instances from given array of instances whose positions are
+     * from <code>start</code> (inclusive) to <code>limit</code> (exclusive).
+     *
+     * @param instances the array of instances.
+     * @param start the lowest position of instance.
+     * @param limit the limit of positions (exclusive).
+     * @return Immutable list of indexed instances.
+     */
+    protected List<Object> getInstances(Object[] instances, int start, int limit) {
+      // the number of positions has to be read before the array which contains them
+      int size = this.size;
+      int[] positions = this.positions;
+
+      return new IndexedInstanceList(instances, positions, count(positions, size, start), count(positions, size, limit));
+    }
+
+    /**
+     * Returns number of indexed instances whose positions are lower than given limit.
+     *
+     * @param positions the array of positions of indexed instances.
+     * @param size the number of indexed instances.
+     * @param limit the limit of positions (exclusive).
+     * @return Number of indexed instances whose positions are lower than given limit.
+     */
+    protected static int count(int[] positions, int size, int limit) {
+      if (size == 0 || positions[size - 1] < limit) {
+        return size;
+      }
+
+      // binary search of the first position which is not lower than limit
+      int low = 0;
+      int high = size - 1;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (positions[middle] < limit) {
+          low = middle + 1;
+        }
+        else {
+          high = middle;
+        }
+      }
+
+      return low;
+    }
+  }
+
+  /**
+   * Immutable view of the range of instances in array.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected static class InstanceList extends AbstractList<Object> implements RandomAccess {
+
+    /** Array of instances. */
+    protected final Object[] instances;
+    /** Position of the first instance of view in array. */
+    protected final int offset;
+    /** Number of instances in view. */
+    protected final int size;
+
+    /**
+     * Constructs view of the range of instances in array.
+     *
+     * @param instances the array of instances.
+     * @param from the position of the first instance in view (inclusive).
+     * @param to the position of the last instance in view (exclusive).
+     */
+    protected InstanceList(Object[] instances, int from, int to) {
+      this.instances = instances;
+      this.offset = from;
+      this.size = to - from;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+      }
+
+      return instances[offset + index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
+  /**
+   * Immutable view of indexed instances in array.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected static class IndexedInstanceList extends AbstractList<Object> implements RandomAccess {
+
+    /** Array of instances. */
+    protected final Object[] instances;
+    /** Array of positions of indexed instances. */
+    protected final int[] positions;
+    /** Index of the first position of view in array of positions. */
+    protected final int offset;
+    /** Number of instances in view. */
+    protected final int size;
+
+    /**
+     * Constructs view of indexed instances in array.
+     *
+     * @param instances the array of instances.
+     * @param positions the array of positions of indexed instances.
+     * @param from the index of the first position in view (inclusive).
+     * @param to the index of the last position in view (exclusive).
+     */
+    protected IndexedInstanceList(Object[] instances, int[] positions, int from, int to) {
+      this.instances = instances;
+      this.positions = positions;
+      this.offset = from;
+      this.size = to - from;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+      }
+
+      return instances[positions[offset + index]];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
+  /**
+   * Immutable snapshot of registry in form of read-only populating session. The snapshot shares
+   * the storage (and indexes) with the registry.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected class Snapshot implements PopulatingSession {
+
+    /** Storage of registry at time of snapshot creation. */
+    protected final Storage storage;
+    /** Position of the first stored instance at time of snapshot creation. */
+    protected final int start;
+    /** Number of stored instances at time of snapshot creation. */
+    protected final int size;
+
+    /**
+     * Constructs snapshot of registry.
+     *
+     * @param storage the storage of registry.
+     * @param start the position of the first stored instance.
+     * @param size the number of stored instances.
+     */
+    protected Snapshot(Storage storage, int start, int size) {
+      this.storage = storage;
+      this.start = start;
+      this.size = size;
+    }
+
+    /**
+     * This operation is not allowed and throws {@link UnsupportedOperationException}.
+     *
+     * @param instance the instance to add.
+     * @throws UnsupportedOperationException For each call of this method.
+     */
+    public void addPopulatedInstance(Object instance) {
+      throw new UnsupportedOperationException("Snapshot of session is read-only");
+    }
+
+    /**
+     * Returns immutable list of all populated instances in snapshot.
+     *
+     * @return Immutable list of all populated instances.
+     */
+    public List<Object> getPopulatedInstances() {
+      return getInstances(storage, start, size);
+    }
+
+    /**
+     * Returns immutable list of populated instances in snapshot which are assignable to given class
+     * type.
+     *
+     * @param type the class type of requested instances.
+     * @return Immutable list of populated instances which are assignable to given class type.
+     */
+    public List<Object> getPopulatedInstances(Class<?> type) {
+      return getInstances(storage, start, size, type);
+    }
+
+    /**
+     * Returns this snapshot because it's already immutable.
+     *
+     * @return This snapshot.
+     */
+    public PopulatingSession getSnapshot() {
+      return this;
+    }
+
+    /**
+     * This operation is not allowed and throws {@link UnsupportedOperationException}.
+     *
+     * @throws UnsupportedOperationException For each call of this method.
+     */
+    public void clear() {
+      throw new UnsupportedOperationException("Snapshot of session is read-only");
+    }
+  }
+}
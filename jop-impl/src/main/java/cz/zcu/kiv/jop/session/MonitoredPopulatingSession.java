@@ -0,0 +1,21 @@
+package cz.zcu.kiv.jop.session;
+
+/**
+ * Extension of {@link PopulatingSession} interface for sessions which doesn't retain all populated
+ * instances and which provide statistics about their usage. The statistics may be used for
+ * observation of cost of the session and of its hit rate (how often the searching of instances
+ * found some instance).
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public interface MonitoredPopulatingSession extends PopulatingSession {
+
+  /**
+   * Returns actual statistics of usage of this session.
+   *
+   * @return Actual statistics of this session.
+   */
+  public PopulatingSessionStatistics getStatistics();
+
+}
@@ -0,0 +1,117 @@
+package cz.zcu.kiv.jop.session;
+
+/**
+ * Immutable statistics of usage of {@link MonitoredPopulatingSession}.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public class PopulatingSessionStatistics {
+
+  /** Number of instances stored in session. */
+  protected final int size;
+  /** Number of instances added into session. */
+  protected final long addedCount;
+  /** Number of instances removed from session by eviction policy or by garbage collector. */
+  protected final long evictedCount;
+  /** Number of created (non-cached) snapshots of session. */
+  protected final long snapshotCount;
+  /** Number of searches for instances of some type. */
+  protected final long lookupCount;
+  /** Number of searches for instances of some type which found at least one instance. */
+  protected final long hitCount;
+
+  /**
+   * Constructs statistics of usage of session.
+   *
+   * @param size the number of instances stored in session.
+   * @param addedCount the number of instances added into session.
+   * @param evictedCount the number of instances removed from session by eviction policy or by
+   *          garbage collector.
+   * @param snapshotCount the number of created (non-cached) snapshots of session.
+   * @param lookupCount the number of searches for instances of some type.
+   * @param hitCount the number of searches for instances of some type which found at least one
+   *          instance.
+   */
+  public PopulatingSessionStatistics(int size, long addedCount, long evictedCount, long snapshotCount, long lookupCount, long hitCount) {
+    this.size = size;
+    this.addedCount = addedCount;
+    this.evictedCount = evictedCount;
+    this.snapshotCount = snapshotCount;
+    this.lookupCount = lookupCount;
+    this.hitCount = hitCount;
+  }
+
+  /**
+   * Returns number of instances stored in session.
+   *
+   * @return Number of instances stored in session.
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Returns number of instances added into session.
+   *
+   * @return Number of instances added into session.
+   */
+  public long getAddedCount() {
+    return addedCount;
+  }
+
+  /**
+   * Returns number of instances removed from session by eviction policy or by garbage collector.
+   *
+   * @return Number of evicted instances.
+   */
+  public long getEvictedCount() {
+    return evictedCount;
+  }
+
+  /**
+   * Returns number of created (non-cached) snapshots of session. The creation of snapshot costs
+   * copying of all instances stored in session only if the stored instances were removed or
+   * reordered since the previous creation of snapshot.
+   *
+   * @return Number of created snapshots.
+   */
+  public long getSnapshotCount() {
+    return snapshotCount;
+  }
+
+  /**
+   * Returns number of searches for instances of some type.
+   *
+   * @return Number of searches.
+   */
+  public long getLookupCount() {
+    return lookupCount;
+  }
+
+  /**
+   * Returns number of searches for instances of some type which found at least one instance.
+   *
+   * @return Number of successful searches.
+   */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Returns ratio of successful searches for instances of some type.
+   *
+   * @return Ratio of successful searches (value between 0 and 1) or 1 if there was no search.
+   */
+  public double getHitRate() {
+    return (lookupCount == 0) ? 1.0 : (double)hitCount / lookupCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return getClass().getName() + " [size=" + size + ", addedCount=" + addedCount + ", evictedCount=" + evictedCount + ", snapshotCount=" + snapshotCount + ", lookupCount=" + lookupCount + ", hitCount=" + hitCount + "]";
+  }
+}
@@ -1,9 +1,9 @@
 package cz.zcu.kiv.jop.session;
 
 import java.lang.annotation.Annotation;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.inject.Singleton;
 
@@ -17,6 +17,8 @@ import cz.zcu.kiv.jop.util.Preconditions;
  * <p>
  * For example for annotations <code>&#64;Foo("bar")</code> and <code>&#64;Foo("foo")</code> the
  * session stores same random generator.
+ * <p>
+ * The session is thread-safe and the lookup of already stored random generators is lock-free.
  *
  * @author Mr.FrAnTA
  * @since 1.0.0
@@ -27,12 +29,12 @@ public class RandomGeneratorSessionImpl implements RandomGeneratorSession {
   /**
    * Map (session) of stored random generators.
    */
-  protected final Map<Class<? extends Annotation>, Random> session = new HashMap<Class<? extends Annotation>, Random>();
+  protected final ConcurrentMap<Class<? extends Annotation>, Random> session = new ConcurrentHashMap<Class<? extends Annotation>, Random>();
 
   /**
    * {@inheritDoc}
    */
-  public synchronized Random setRandomGenerator(Annotation annotation, Random random) {
+  public Random setRandomGenerator(Annotation annotation, Random random) {
     Preconditions.checkArgumentNotNull(annotation, "Annotation cannot be null");
     return storeRandomGenerator(annotation.annotationType(), random);
   }
@@ -40,13 +42,16 @@ public class RandomGeneratorSessionImpl implements RandomGeneratorSession {
   /**
    * {@inheritDoc}
    */
-  public synchronized Random getRandomGenerator(Annotation annotation) {
+  public Random getRandomGenerator(Annotation annotation) {
     Preconditions.checkArgumentNotNull(annotation, "Annotation cannot be null");
     Class<? extends Annotation> annotationType = annotation.annotationType();
     Random rand = session.get(annotationType);
     if (rand == null) {
       rand = new Random();
-      storeRandomGenerator(annotationType, rand);
+      Random stored = session.putIfAbsent(annotationType, rand);
+      if (stored != null) {
+        rand = stored; // stored by another thread
+      }
     }
 
     return rand;
@@ -60,13 +65,17 @@ public class RandomGeneratorSessionImpl implements RandomGeneratorSession {
    * @return Previous stored random generator.
    */
   protected Random storeRandomGenerator(Class<? extends Annotation> annotation, Random random) {
+    if (random == null) {
+      return session.remove(annotation);
+    }
+
     return session.put(annotation, random);
   }
 
   /**
    * {@inheritDoc}
    */
-  public synchronized void clear() {
+  public void clear() {
     session.clear();
   }
 
@@ -0,0 +1,145 @@
+package cz.zcu.kiv.jop.session;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Abstract implementation of {@link PopulatingSession} which stores only (weak or soft) references
+ * to populated instances. So the stored instances may be reclaimed by garbage collector and the
+ * session doesn't cause exhausting of memory. The references to reclaimed instances are removed from
+ * session during next access to session and they are counted as evicted instances in statistics of
+ * session.
+ * <p>
+ * The session doesn't store the <code>null</code> instances. The snapshot of session contains
+ * strong references to the instances which were stored in session at time of snapshot creation.
+ * The registry of stored instances from which are created the snapshots is referenced by the same
+ * kind of reference as the instances, so it doesn't prevent their reclaiming. The registry is
+ * rebuilt when some instance is reclaimed or when the registry itself is reclaimed.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public abstract class ReferencePopulatingSession extends AbstractMonitoredPopulatingSession {
+
+  /** Queue of references to reclaimed instances. */
+  protected final ReferenceQueue<Object> queue = new ReferenceQueue<Object>();
+  /** Set of references to stored instances (in order of adding). */
+  protected final Set<Reference<Object>> references = new LinkedHashSet<Reference<Object>>();
+  /** Reference to registry of stored instances (may be <code>null</code>). */
+  private Reference<Object> registryReference;
+
+  /**
+   * Creates reference to given instance which will be registered with given queue.
+   *
+   * @param instance the referenced instance.
+   * @param queue the queue with which will be reference registered (may be <code>null</code>).
+   * @return Created reference.
+   */
+  protected abstract Reference<Object> createReference(Object instance, ReferenceQueue<Object> queue);
+
+  /**
+   * Removes references to reclaimed instances from session.
+   */
+  @SuppressWarnings("unchecked")
+  protected void purge() {
+    Reference<Object> reference = null;
+    while ((reference = (Reference<Object>)queue.poll()) != null) {
+      if (references.remove(reference)) {
+        evictedCount.incrementAndGet();
+        invalidateSnapshot();
+      }
+    }
+  }
+
+  /**
+   * Adds (stores) reference to given instance into session. The <code>null</code> instances are
+   * ignored.
+   *
+   * @param instance the instance to add (store).
+   */
+  public synchronized void addPopulatedInstance(Object instance) {
+    purge();
+    if (instance == null) {
+      return;
+    }
+
+    references.add(createReference(instance, queue));
+    addedCount.incrementAndGet();
+    instanceAdded(instance);
+  }
+
+  /**
+   * Returns list of stored instances which were not reclaimed by garbage collector.
+   *
+   * @return List of stored instances.
+   */
+  public synchronized List<Object> getPopulatedInstances() {
+    purge();
+
+    List<Object> instances = new ArrayList<Object>(references.size());
+    for (Reference<Object> reference : references) {
+      Object instance = reference.get();
+      if (instance != null) {
+        instances.add(instance);
+      }
+    }
+
+    return instances;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected InstanceRegistry getRegistry() {
+    return (registryReference == null) ? null : (InstanceRegistry)registryReference.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The session stores only (weak or soft) reference to given registry.
+   */
+  @Override
+  protected void setRegistry(InstanceRegistry registry) {
+    registryReference = (registry == null) ? null : createReference(registry, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The snapshot is not cached because it contains strong references to the stored instances which
+   * would prevent their reclaiming. But its creation is still cheap because the registry of stored
+   * instances is kept until some instance is reclaimed.
+   */
+  @Override
+  public synchronized PopulatingSession getSnapshot() {
+    purge();
+
+    PopulatingSession snapshot = super.getSnapshot();
+    this.snapshot = null;
+
+    return snapshot;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected synchronized int size() {
+    purge();
+    return references.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public synchronized void clear() {
+    references.clear();
+    invalidateSnapshot();
+  }
+}
@@ -0,0 +1,40 @@
+package cz.zcu.kiv.jop.session;
+
+/**
+ * Interface for session of random generators which allows to switch random generators of current
+ * thread to the seeded stream. Random generators of the seeded stream are derived only from the seed
+ * and from the index of stream, so the values generated in the stream are reproducible
+ * independently on thread which generates them.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public interface SeedableRandomGeneratorSession extends RandomGeneratorSession {
+
+  /**
+   * Switches random generators of current thread to the seeded stream with given seed and index.
+   * The random generators of stream are created on demand, so the values generated in the stream
+   * don't depend on the values generated before. The random generators which were set explicitly
+   * by method {@link #setRandomGenerator} are still returned instead of random generators of stream.
+   *
+   * @param seed the seed from which will be derived random generators of stream.
+   * @param streamIndex the index of stream.
+   */
+  public void beginStream(long seed, long streamIndex);
+
+  /**
+   * Switches random generators of current thread back from the seeded stream.
+   */
+  public void endStream();
+
+  /**
+   * Returns information whether the random generators of current thread are switched to some
+   * seeded stream. The values generated in seeded stream are reproducible only if they are
+   * generated by current thread in the same order.
+   *
+   * @return <code>true</code> if the current thread generates values in seeded stream;
+   *         <code>false</code> otherwise.
+   */
+  public boolean isStreamActive();
+
+}
@@ -0,0 +1,30 @@
+package cz.zcu.kiv.jop.session;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+
+import javax.inject.Singleton;
+
+/**
+ * Implementation of {@link PopulatingSession} which stores only soft references to populated
+ * instances. The instances are reclaimed by garbage collector only if the memory is running low, so
+ * the session may contain many recently populated instances without risk of exhausting of memory.
+ * <p>
+ * The session may be used instead of {@link GlobalPopulatingSession} by binding of
+ * {@link PopulatingSession} to this class (for example in explicit bindings of injector).
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+@Singleton
+public class SoftPopulatingSession extends ReferencePopulatingSession {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected Reference<Object> createReference(Object instance, ReferenceQueue<Object> queue) {
+    return new SoftReference<Object>(instance, queue);
+  }
+}
@@ -0,0 +1,424 @@
+package cz.zcu.kiv.jop.session;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import cz.zcu.kiv.jop.concurrent.WorkerPool;
+import cz.zcu.kiv.jop.random.RandomAlgorithm;
+import cz.zcu.kiv.jop.util.Preconditions;
+
+/**
+ * Implementation of session which stores random generators for annotations (parameters of
+ * generators, providers, etc). Like the {@link RandomGeneratorSessionImpl}, this session returns
+ * the same random generator for annotations of same type independently on their attributes. But
+ * each thread obtains its own random generator (stream) for the annotation type, so the threads
+ * don't share (and don't contend for) the random generators.
+ * <p>
+ * The seed of random generator is derived from the seed of session, from the index of stream of
+ * current thread (threads obtain the indexes in order of their first access to the session) and
+ * from the name of annotation type. So the streams are independent and the derivation is
+ * reproducible. The stream of worker thread of injected {@link WorkerPool} is released at the end
+ * of each task, so the (shared) worker threads don't keep the streams of this session and the next
+ * task obtains new stream.
+ * <p>
+ * The random generators which are set by method {@link #setRandomGenerator} are shared by all
+ * threads. The changes of session replace only the random generators of threads which are affected
+ * by the change; the replaced random generators don't repeat the sequences of the previous ones.
+ * The lookup of random generator is lock-free and (except the first lookup in thread) it
+ * accesses only the data of current thread.
+ * <p>
+ * The random generators of current thread may be switched to the seeded stream (see
+ * {@link #beginStream(long, long)}) whose random generators are derived in the same way from the
+ * given seed and index of stream, so they don't depend on the thread and on the order of threads.
+ * <p>
+ * The algorithm of created random generators may be chosen globally or for each annotation type
+ * (see {@link RandomAlgorithm}). The default algorithm is {@link RandomAlgorithm#JAVA_UTIL}. Because
+ * the random generators are not shared by threads, the faster algorithms which are not thread-safe
+ * may be used.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+@Singleton
+public class ThreadLocalRandomGeneratorSessionImpl implements SeedableRandomGeneratorSession {
+
+  /** The golden ratio constant used for derivation of seeds. */
+  protected static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  /** Map of random generators which were set for annotation types (shared by all threads). */
+  protected final ConcurrentMap<Class<? extends Annotation>, Random> session = new ConcurrentHashMap<Class<? extends Annotation>, Random>();
+  /** Counter of streams (threads) which accessed this session. */
+  protected final AtomicLong streams = new AtomicLong();
+  /** The seed of session from which are derived seeds of random generators. */
+  protected final long seed;
+  /** Version of session which is changed by each change of shared random generators. */
+  protected final AtomicInteger version = new AtomicInteger();
+  /** Map of algorithms of random generators which were set for annotation types. */
+  protected final ConcurrentMap<Class<? extends Annotation>, RandomAlgorithm> algorithms = new ConcurrentHashMap<Class<? extends Annotation>, RandomAlgorithm>();
+  /** The default algorithm of random generators. */
+  protected volatile RandomAlgorithm randomAlgorithm = RandomAlgorithm.JAVA_UTIL;
+
+  /** Random generators of threads. */
+  protected final ThreadLocal<ThreadStream> threadStreams = new ThreadLocal<ThreadStream>() {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected ThreadStream initialValue() {
+      return new ThreadStream(streams.getAndIncrement());
+    }
+  };
+
+  /**
+   * Constructs session with random seed.
+   */
+  public ThreadLocalRandomGeneratorSessionImpl() {
+    this(mix(System.nanoTime()) ^ mix(System.currentTimeMillis()));
+  }
+
+  /**
+   * Constructs session with given seed.
+   *
+   * @param seed the seed of session from which will be derived seeds of random generators.
+   */
+  public ThreadLocalRandomGeneratorSessionImpl(long seed) {
+    this.seed = seed;
+  }
+
+  /**
+   * Registers release of stream of current thread at the end of each task of given pool of worker
+   * threads.
+   *
+   * @param workerPool the pool of worker threads to set (inject).
+   */
+  @Inject
+  public void setWorkerPool(WorkerPool workerPool) {
+    workerPool.addThreadCleanup(new Runnable() {
+      /**
+       * {@inheritDoc}
+       */
+      public void run() {
+        threadStreams.remove();
+      }
+    });
+  }
+
+  /**
+   * Returns the default algorithm of created random generators.
+   *
+   * @return The default algorithm of random generators.
+   */
+  public RandomAlgorithm getRandomAlgorithm() {
+    return randomAlgorithm;
+  }
+
+  /**
+   * Sets the default algorithm of created random generators. The random generators which were
+   * already created by threads with different algorithm are replaced by new ones.
+   *
+   * @param randomAlgorithm the default algorithm of random generators.
+   * @throws IllegalArgumentException If given algorithm is <code>null</code>.
+   */
+  public void setRandomAlgorithm(RandomAlgorithm randomAlgorithm) {
+    this.randomAlgorithm = Preconditions.checkArgumentNotNull(randomAlgorithm, "Random algorithm cannot be null");
+    version.incrementAndGet(); // invalidates random generators of threads
+  }
+
+  /**
+   * Returns the algorithm of created random generators for given annotation type.
+   *
+   * @param annotationType the annotation type.
+   * @return The algorithm which was set for given annotation type or the default algorithm.
+   */
+  public RandomAlgorithm getRandomAlgorithm(Class<? extends Annotation> annotationType) {
+    RandomAlgorithm algorithm = algorithms.get(annotationType);
+    if (algorithm == null) {
+      return randomAlgorithm;
+    }
+
+    return algorithm;
+  }
+
+  /**
+   * Sets the algorithm of created random generators for given annotation type. The random
+   * generators which were already created by threads are replaced by new ones.
+   *
+   * @param annotationType the annotation type.
+   * @param randomAlgorithm the algorithm of random generators or <code>null</code> for the default
+   *          algorithm.
+   * @throws IllegalArgumentException If given annotation type is <code>null</code>.
+   */
+  public void setRandomAlgorithm(Class<? extends Annotation> annotationType, RandomAlgorithm randomAlgorithm) {
+    Preconditions.checkArgumentNotNull(annotationType, "Annotation type cannot be null");
+    if (randomAlgorithm == null) {
+      algorithms.remove(annotationType);
+    }
+    else {
+      algorithms.put(annotationType, randomAlgorithm);
+    }
+    version.incrementAndGet(); // invalidates random generators of threads
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public Random setRandomGenerator(Annotation annotation, Random random) {
+    Preconditions.checkArgumentNotNull(annotation, "Annotation cannot be null");
+
+    Random previous = null;
+    if (random == null) {
+      previous = session.remove(annotation.annotationType());
+    }
+    else {
+      previous = session.put(annotation.annotationType(), random);
+    }
+    version.incrementAndGet(); // invalidates random generators of threads
+
+    return previous;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public Random getRandomGenerator(Annotation annotation) {
+    Preconditions.checkArgumentNotNull(annotation, "Annotation cannot be null");
+    Class<? extends Annotation> annotationType = annotation.annotationType();
+
+    ThreadStream stream = threadStreams.get();
+    int actualVersion = version.get();
+    if (stream.version != actualVersion) {
+      evictChangedGenerators(stream.generators);
+      evictChangedGenerators(stream.seededGenerators);
+      stream.version = actualVersion;
+    }
+
+    StreamGenerators generators = (stream.seeded ? stream.seededGenerators : stream.generators);
+    StreamGenerator generator = generators.generators.get(annotationType);
+    if (generator == null) {
+      Random rand = session.get(annotationType);
+      if (rand != null) {
+        generator = new StreamGenerator(rand, null);
+      }
+      else {
+        RandomAlgorithm algorithm = getRandomAlgorithm(annotationType);
+        Integer regeneration = generators.regenerations.get(annotationType);
+        long streamSeed = (stream.seeded ? stream.streamSeed : seed);
+        long streamIndex = (stream.seeded ? stream.streamIndex : stream.index);
+        rand = createRandomGenerator(annotationType, algorithm, streamSeed, streamIndex, (regeneration == null) ? 0 : regeneration.intValue());
+        generator = new StreamGenerator(rand, algorithm);
+      }
+      generators.generators.put(annotationType, generator);
+    }
+
+    return generator.random;
+  }
+
+  /**
+   * Removes the random generators of stream which are not valid after the change of session. The
+   * random generator is not valid if another random generator was set (or unset) for its
+   * annotation type or if the algorithm for its annotation type was changed. The random generators
+   * for other annotation types are kept, so they continue in their sequences.
+   * <p>
+   * If the removed random generator was created by stream, the number of its regenerations is
+   * increased, so the new random generator for the same annotation type doesn't replay the sequence
+   * of the removed one.
+   *
+   * @param generators the random generators of stream.
+   */
+  protected void evictChangedGenerators(StreamGenerators generators) {
+    Iterator<Map.Entry<Class<? extends Annotation>, StreamGenerator>> iterator = generators.generators.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Class<? extends Annotation>, StreamGenerator> entry = iterator.next();
+      Class<? extends Annotation> annotationType = entry.getKey();
+      StreamGenerator generator = entry.getValue();
+
+      Random rand = session.get(annotationType);
+      boolean valid;
+      if (rand != null) {
+        valid = (generator.random == rand);
+      }
+      else {
+        valid = (generator.algorithm == getRandomAlgorithm(annotationType));
+      }
+
+      if (!valid) {
+        iterator.remove();
+        if (generator.algorithm != null) {
+          Integer regeneration = generators.regenerations.get(annotationType);
+          generators.regenerations.put(annotationType, (regeneration == null) ? 1 : regeneration.intValue() + 1);
+        }
+      }
+    }
+  }
+
+  /**
+   * Creates new random generator for given annotation type and stream with given algorithm.
+   *
+   * @param annotationType the annotation type for which will be created random generator.
+   * @param algorithm the algorithm of created random generator.
+   * @param seed the seed from which is derived seed of random generator.
+   * @param streamIndex the index of stream.
+   * @param regeneration the number of previous random generators which were created by the stream
+   *          for the annotation type and which were removed because of change of session.
+   * @return Created random generator.
+   */
+  protected Random createRandomGenerator(Class<? extends Annotation> annotationType, RandomAlgorithm algorithm, long seed, long streamIndex, int regeneration) {
+    long derivedSeed = deriveSeed(seed, streamIndex, annotationType.getName().hashCode());
+    if (regeneration > 0) {
+      derivedSeed = mix(derivedSeed + regeneration * GOLDEN_GAMMA);
+    }
+
+    return algorithm.createRandom(derivedSeed);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void beginStream(long seed, long streamIndex) {
+    ThreadStream stream = threadStreams.get();
+    stream.seededGenerators.clear();
+    stream.streamSeed = seed;
+    stream.streamIndex = streamIndex;
+    stream.seeded = true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void endStream() {
+    ThreadStream stream = threadStreams.get();
+    stream.seededGenerators.clear();
+    stream.seeded = false;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean isStreamActive() {
+    return threadStreams.get().seeded;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void clear() {
+    session.clear();
+    version.incrementAndGet(); // invalidates random generators of threads
+  }
+
+  /**
+   * Derives seed of random generator from given seed, index of stream and hash of annotation type.
+   *
+   * @param seed the base seed.
+   * @param streamIndex the index of stream.
+   * @param hash the hash of annotation type.
+   * @return Derived seed.
+   */
+  protected static long deriveSeed(long seed, long streamIndex, int hash) {
+    return mix(mix(seed + (streamIndex + 1) * GOLDEN_GAMMA) + hash * GOLDEN_GAMMA);
+  }
+
+  /**
+   * Mixes bits of given value (the finalizer of SplitMix64 generator).
+   *
+   * @param value the value to mix.
+   * @return Mixed value.
+   */
+  protected static long mix(long value) {
+    value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+    value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+    return value ^ (value >>> 31);
+  }
+
+  /**
+   * Random generators (stream) of single thread. The thread may be switched to the seeded stream
+   * which has its own random generators.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected static class ThreadStream {
+
+    /** Index of stream. */
+    protected final long index;
+    /** Version of session for which are valid the random generators. */
+    protected int version;
+    /** Random generators of thread for annotation types. */
+    protected final StreamGenerators generators = new StreamGenerators();
+    /** Information whether the thread is switched to the seeded stream. */
+    protected boolean seeded;
+    /** Seed of the seeded stream. */
+    protected long streamSeed;
+    /** Index of the seeded stream. */
+    protected long streamIndex;
+    /** Random generators of the seeded stream for annotation types. */
+    protected final StreamGenerators seededGenerators = new StreamGenerators();
+
+    /**
+     * Constructs stream of thread.
+     *
+     * @param index the index of stream.
+     */
+    protected ThreadStream(long index) {
+      this.index = index;
+    }
+  }
+
+  /**
+   * Random generators of stream for annotation types together with numbers of their regenerations.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected static class StreamGenerators {
+
+    /** Random generators of stream for annotation types. */
+    protected final Map<Class<? extends Annotation>, StreamGenerator> generators = new HashMap<Class<? extends Annotation>, StreamGenerator>();
+    /** Numbers of regenerations of random generators for annotation types. */
+    protected final Map<Class<? extends Annotation>, Integer> regenerations = new HashMap<Class<? extends Annotation>, Integer>();
+
+    /**
+     * Removes all random generators and numbers of their regenerations.
+     */
+    protected void clear() {
+      generators.clear();
+      regenerations.clear();
+    }
+  }
+
+  /**
+   * Random generator used by stream.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected static class StreamGenerator {
+
+    /** The random generator. */
+    protected final Random random;
+    /** The algorithm of random generator created by stream or <code>null</code> for shared one. */
+    protected final RandomAlgorithm algorithm;
+
+    /**
+     * Constructs random generator used by stream.
+     *
+     * @param random the random generator.
+     * @param algorithm the algorithm of random generator created by stream or <code>null</code> for
+     *          random generator shared by all threads.
+     */
+    protected StreamGenerator(Random random, RandomAlgorithm algorithm) {
+      this.random = random;
+      this.algorithm = algorithm;
+    }
+  }
+}
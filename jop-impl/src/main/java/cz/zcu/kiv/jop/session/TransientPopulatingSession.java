@@ -0,0 +1,100 @@
+package cz.zcu.kiv.jop.session;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of populating session which does not retain any populated instance. The session
+ * may be backed by another (read-only) session whose instances are returned by
+ * {@link #getPopulatedInstances()}, so the already populated instances are still visible for
+ * instance matchers and lazy populating strategies, but the newly added instances are discarded.
+ * <p>
+ * This session is used for streaming population where the number of populated instances is not
+ * limited and the retaining of all instances would cause exhausting of memory. It also may be bound
+ * as implementation of {@link PopulatingSession} if the populated instances should never be
+ * retained.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+public class TransientPopulatingSession implements PopulatingSession {
+
+  /** The read-only backing session (may be <code>null</code>). */
+  protected final PopulatingSession backingSession;
+
+  /**
+   * Constructs transient populating session without backing session.
+   */
+  public TransientPopulatingSession() {
+    this(null);
+  }
+
+  /**
+   * Constructs transient populating session with given read-only backing session.
+   *
+   * @param backingSession the read-only backing session (may be <code>null</code>).
+   */
+  public TransientPopulatingSession(PopulatingSession backingSession) {
+    this.backingSession = backingSession;
+  }
+
+  /**
+   * Discards given instance, the instance is not stored into session.
+   *
+   * @param instance the instance to discard.
+   */
+  public void addPopulatedInstance(Object instance) {
+    // nothing to do - the instances are not retained
+  }
+
+  /**
+   * Returns list of populated instances stored in backing session or empty list if there is no
+   * backing session.
+   *
+   * @return List of populated instances stored in backing session.
+   */
+  public List<Object> getPopulatedInstances() {
+    if (backingSession == null) {
+      return new ArrayList<Object>();
+    }
+
+    return backingSession.getPopulatedInstances();
+  }
+
+  /**
+   * Returns list of populated instances stored in backing session which are assignable to given
+   * class type or empty list if there is no backing session.
+   *
+   * @param type the class type of requested instances.
+   * @return List of populated instances stored in backing session which are assignable to given
+   *         class type.
+   */
+  public List<Object> getPopulatedInstances(Class<?> type) {
+    if (backingSession == null) {
+      return new ArrayList<Object>();
+    }
+
+    return backingSession.getPopulatedInstances(type);
+  }
+
+  /**
+   * Returns snapshot of backing session or empty snapshot if there is no backing session.
+   *
+   * @return Snapshot of backing session.
+   */
+  public PopulatingSession getSnapshot() {
+    if (backingSession == null) {
+      return new InstanceRegistry().getSnapshot();
+    }
+
+    return backingSession.getSnapshot();
+  }
+
+  /**
+   * Does nothing because this session does not retain any instance and the backing session is
+   * read-only.
+   */
+  public void clear() {
+    // nothing to do - the backing session is read-only
+  }
+}
@@ -0,0 +1,31 @@
+package cz.zcu.kiv.jop.session;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+import javax.inject.Singleton;
+
+/**
+ * Implementation of {@link PopulatingSession} which stores only weak references to populated
+ * instances. The instances are reclaimed by garbage collector as soon as they are not referenced by
+ * anything else, so the session contains only the instances which are still used by the
+ * application.
+ * <p>
+ * The session may be used instead of {@link GlobalPopulatingSession} by binding of
+ * {@link PopulatingSession} to this class (for example in explicit bindings of injector).
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ */
+@Singleton
+public class WeakPopulatingSession extends ReferencePopulatingSession {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected Reference<Object> createReference(Object instance, ReferenceQueue<Object> queue) {
+    return new WeakReference<Object>(instance, queue);
+  }
+}
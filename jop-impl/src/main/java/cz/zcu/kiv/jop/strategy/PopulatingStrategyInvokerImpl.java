@@ -16,12 +16,17 @@ import cz.zcu.kiv.jop.factory.FactoryException;
 import cz.zcu.kiv.jop.ioc.NamedScopes;
 import cz.zcu.kiv.jop.property.Property;
 import cz.zcu.kiv.jop.util.AnnotationUtils;
+import cz.zcu.kiv.jop.util.PropertyCache;
 
 /**
  * Implementation of instance matcher invoker (interlayer between the instance matchers and another
  * parts of this library) which analyzes the annotations of given property and then should choose
  * some instance matcher. Then a chosen instance matcher is used for finding matching object from
  * all already populated (generated) objects.
+ * <p>
+ * The analysis of annotations is performed only once for each (non-virtual) property. The result
+ * of analysis is stored as plan of populating strategy into cache and reused by next invocations
+ * for the same property.
  *
  * @author Mr.FrAnTA
  * @since 1.0.0
@@ -32,6 +37,9 @@ public class PopulatingStrategyInvokerImpl implements PopulatingStrategyInvoker
   /** Logger used for logging. */
   private static final Log logger = LogFactory.getLog(PopulatingStrategyInvokerImpl.class);
 
+  /** Cache of plans of populating strategies for already analyzed properties. */
+  protected final PropertyCache<StrategyPlan> strategyPlans = new PropertyCache<StrategyPlan>();
+
   /**
    * {@inheritDoc}
    */
@@ -47,30 +55,21 @@ public class PopulatingStrategyInvokerImpl implements PopulatingStrategyInvoker
       throw new PopulatingStrategyException("Property cannot be null");
     }
 
-    Annotation[] annotations = AnnotationUtils.getAnnotatedAnnotations(property, PopulatingStrategyAnnotation.class);
-    if (annotations == null || annotations.length == 0) {
-      String strategyClassName = defaultPopulatingStrategy.getClass().getName();
+    Annotation params = getStrategyPlan(property).getParams();
+    if (params == null) {
       if (defaultPopulatingStrategy.supports(property)) {
-        logger.debug("Invoking default populating strategy: " + strategyClassName + "; for property: " + property);
+        if (logger.isDebugEnabled()) {
+          logger.debug("Invoking default populating strategy: " + defaultPopulatingStrategy.getClass().getName() + "; for property: " + property);
+        }
         defaultPopulatingStrategy.applyStrategy(property, context);
       }
       else {
-        logger.warn("Default strategy " + strategyClassName + " doesn't support property (it will be skipped): " + property);
+        logger.warn("Default strategy " + defaultPopulatingStrategy.getClass().getName() + " doesn't support property (it will be skipped): " + property);
       }
       return; // default strategy applied
     }
-    else if (annotations.length > 1) {
-      throw new PopulatingStrategyException("Too many populating strategy annotations");
-    }
-
-    Annotation params = annotations[0];
-    PopulatingStrategy populatingStrategy = null;
-    if (AnnotationUtils.isAnnotatedAnnotation(params, CustomAnnotation.class)) {
-      // in v1.0.0 is not supported, maybe later
-      throw new PopulatingStrategyException("Custom populating strategy annotation is not supported");
-    }
 
-    populatingStrategy = getBoundPopulatingStrategy(params);
+    PopulatingStrategy populatingStrategy = getBoundPopulatingStrategy(params);
 
     // no populating strategy
     if (populatingStrategy == null) {
@@ -78,7 +77,9 @@ public class PopulatingStrategyInvokerImpl implements PopulatingStrategyInvoker
     }
 
     if (!populatingStrategy.supports(property)) {
-      logger.debug("Populating strategy: " + populatingStrategy.getClass().getName() + " doesn't support property (it will be skipped): " + property);
+      if (logger.isDebugEnabled()) {
+        logger.debug("Populating strategy: " + populatingStrategy.getClass().getName() + " doesn't support property (it will be skipped): " + property);
+      }
       return;
     }
 
@@ -88,11 +89,55 @@ public class PopulatingStrategyInvokerImpl implements PopulatingStrategyInvoker
       return;
     }
 
-    logger.debug("Invoking populating strategy: " + populatingStrategy.getClass().getName() + "; for property: " + property);
+    if (logger.isDebugEnabled()) {
+      logger.debug("Invoking populating strategy: " + populatingStrategy.getClass().getName() + "; for property: " + property);
+    }
 
     populatingStrategy.applyStrategy(property, context);
   }
 
+  /**
+   * Returns plan of populating strategy for given property. The plan is obtained from cache or it's
+   * created by method {@link #createStrategyPlan(Property)} and stored into cache.
+   *
+   * @param property the property for which will be returned plan of populating strategy.
+   * @return Plan of populating strategy for given property.
+   * @throws PopulatingStrategyException If property has invalid populating strategy annotations.
+   */
+  protected StrategyPlan getStrategyPlan(Property<?> property) throws PopulatingStrategyException {
+    StrategyPlan plan = strategyPlans.get(property);
+    if (plan == null) {
+      plan = strategyPlans.put(property, createStrategyPlan(property));
+    }
+
+    return plan;
+  }
+
+  /**
+   * Analyzes the annotations of given property and creates plan of populating strategy.
+   *
+   * @param property the property for which will be created plan of populating strategy.
+   * @return Created plan of populating strategy for given property.
+   * @throws PopulatingStrategyException If property has invalid populating strategy annotations.
+   */
+  protected StrategyPlan createStrategyPlan(Property<?> property) throws PopulatingStrategyException {
+    Annotation[] annotations = AnnotationUtils.getAnnotatedAnnotations(property, PopulatingStrategyAnnotation.class);
+    if (annotations == null || annotations.length == 0) {
+      return new StrategyPlan(null); // default strategy
+    }
+    else if (annotations.length > 1) {
+      throw new PopulatingStrategyException("Too many populating strategy annotations");
+    }
+
+    Annotation params = annotations[0];
+    if (AnnotationUtils.isAnnotatedAnnotation(params, CustomAnnotation.class)) {
+      // in v1.0.0 is not supported, maybe later
+      throw new PopulatingStrategyException("Custom populating strategy annotation is not supported");
+    }
+
+    return new StrategyPlan(params);
+  }
+
   /**
    * Returns instance of populating strategy bound for given annotation in
    * {@link PopulatingStrategyFactory}.
@@ -111,6 +156,37 @@ public class PopulatingStrategyInvokerImpl implements PopulatingStrategyInvoker
     }
   }
 
+  /**
+   * Immutable plan of populating strategy for some property which is result of analysis of the
+   * property annotations.
+   *
+   * @author Mr.FrAnTA
+   * @since 1.0.0
+   */
+  protected static class StrategyPlan {
+
+    /** Parameters of populating strategy; <code>null</code> for default populating strategy. */
+    protected final Annotation params;
+
+    /**
+     * Constructs plan of populating strategy.
+     *
+     * @param params the parameters of populating strategy (<code>null</code> for default strategy).
+     */
+    protected StrategyPlan(Annotation params) {
+      this.params = params;
+    }
+
+    /**
+     * Returns parameters of populating strategy.
+     *
+     * @return Parameters of populating strategy or <code>null</code> for default strategy.
+     */
+    public Annotation getParams() {
+      return params;
+    }
+  }
+
   //----- Injection part ------------------------------------------------------
 
   /** Binding factory for creating/providing instances of populating strategies. */
@@ -1,5 +1,7 @@
 package cz.zcu.kiv.jop.strategy;
 
+import java.util.List;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -103,11 +105,9 @@ public class SearchInstanceStrategy implements PopulatingStrategy {
       // use first compatible instance
       Class<?> propertyType = property.getType();
       logger.info("No instance matcher annotation present. Searching for first instance of: " + propertyType.getName());
-      for (Object obj : context.getPopulatedInstances(true)) {
-        if (obj != null && propertyType.isAssignableFrom(obj.getClass())) {
-          instance = obj;
-          break;
-        }
+      List<Object> instances = context.getPopulatedInstances(propertyType, true);
+      if (!instances.isEmpty()) {
+        instance = instances.get(0);
       }
     }
 
@@ -0,0 +1,113 @@
+package cz.zcu.kiv.jop.util;
+
+import java.lang.annotation.Annotation;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Thread-safe cache of values computed for annotations (for example parameters of value
+ * generators). The cache is intended for results of an analysis of annotation parameters which are
+ * same for all invocations for the same annotation and which can be computed only once and then
+ * reused.
+ * <p>
+ * The annotations are compared by identity because the annotations of properties are created only
+ * once by JVM and the comparison by equality would have to compare all parameters of annotations
+ * (including arrays). The lookup in cache doesn't need any locking - the cache is copied on each
+ * change. The number of cached values is limited by capacity of cache; when the cache is full, it's
+ * cleared before storing of the next value.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @param <V> Class type of cached values.
+ */
+public class AnnotationCache<V> {
+
+  /** Default capacity of cache. */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  /** Maximal number of cached values. */
+  protected final int capacity;
+  /** Map of cached values (never changed after publication). */
+  protected volatile Map<Annotation, V> cache = new IdentityHashMap<Annotation, V>();
+
+  /**
+   * Constructs cache with default capacity.
+   */
+  public AnnotationCache() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructs cache with given capacity.
+   *
+   * @param capacity the maximal number of cached values.
+   * @throws IllegalArgumentException If given capacity is not greater than 0.
+   */
+  public AnnotationCache(int capacity) {
+    Preconditions.checkArgument(capacity > 0, "Capacity has to be greater than 0");
+    this.capacity = capacity;
+  }
+
+  /**
+   * Returns cached value for given annotation.
+   *
+   * @param annotation the annotation for which will be returned cached value.
+   * @return Cached value for given annotation or <code>null</code> if there is no cached value.
+   */
+  public V get(Annotation annotation) {
+    if (annotation == null) {
+      return null;
+    }
+
+    return cache.get(annotation);
+  }
+
+  /**
+   * Stores given value for given annotation into cache. If there already is some value for given
+   * annotation, the cached value is kept and returned.
+   *
+   * @param annotation the annotation for which will be stored given value.
+   * @param value the value to store.
+   * @return The value which is stored in cache for given annotation (or given value if the
+   *         annotation or value is <code>null</code>).
+   */
+  public synchronized V put(Annotation annotation, V value) {
+    if (annotation == null || value == null) {
+      return value;
+    }
+
+    V cached = cache.get(annotation);
+    if (cached != null) {
+      return cached;
+    }
+
+    Map<Annotation, V> copy = null;
+    if (cache.size() >= capacity) {
+      copy = new IdentityHashMap<Annotation, V>();
+    }
+    else {
+      copy = new IdentityHashMap<Annotation, V>(cache);
+    }
+    copy.put(annotation, value);
+    cache = copy;
+
+    return value;
+  }
+
+  /**
+   * Returns number of cached values.
+   *
+   * @return Number of cached values.
+   */
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * Removes all cached values.
+   */
+  public synchronized void clear() {
+    cache = new IdentityHashMap<Annotation, V>();
+  }
+}
@@ -0,0 +1,71 @@
+package cz.zcu.kiv.jop.util;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Read-only view of two concatenated lists which may be used for joining of lists without copying
+ * of their elements. The view is backed by the given lists, so it reflects their changes.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @param <E> Class type of elements of list.
+ */
+public class ConcatenatedList<E> extends AbstractList<E> implements RandomAccess {
+
+  /** The first list of elements. */
+  protected final List<? extends E> first;
+  /** The second list of elements. */
+  protected final List<? extends E> second;
+
+  /**
+   * Constructs view of two concatenated lists.
+   *
+   * @param first the first list of elements.
+   * @param second the second list of elements.
+   */
+  public ConcatenatedList(List<? extends E> first, List<? extends E> second) {
+    this.first = first;
+    this.second = second;
+  }
+
+  /**
+   * Returns view of two concatenated lists. If some of given lists is empty, the other list is
+   * returned directly without creation of the view.
+   *
+   * @param first the first list of elements.
+   * @param second the second list of elements.
+   * @return View of two concatenated lists.
+   */
+  @SuppressWarnings("unchecked")
+  public static <E> List<E> concat(List<? extends E> first, List<? extends E> second) {
+    if (first.isEmpty()) {
+      return (List<E>)second;
+    }
+
+    if (second.isEmpty()) {
+      return (List<E>)first;
+    }
+
+    return new ConcatenatedList<E>(first, second);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public E get(int index) {
+    int size = first.size();
+    return (index < size) ? first.get(index) : second.get(index - size);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    return first.size() + second.size();
+  }
+}
@@ -0,0 +1,85 @@
+package cz.zcu.kiv.jop.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import cz.zcu.kiv.jop.property.Property;
+
+/**
+ * Thread-safe cache of values (plans) computed for properties. The cache is intended for results of
+ * an analysis of property annotations which are same for all invocations for the same property and
+ * which can be computed only once and then reused.
+ * <p>
+ * Only properties which are declared in some class (their declaring class is not
+ * <code>null</code>) are cached. The virtual properties are usually created only for single
+ * invocation so caching of them would only increase the memory consumption.
+ *
+ * @author Mr.FrAnTA
+ * @since 1.0.0
+ *
+ * @param <V> Class type of cached values.
+ */
+public class PropertyCache<V> {
+
+  /** Map of cached values. */
+  protected final ConcurrentMap<Property<?>, V> cache = new ConcurrentHashMap<Property<?>, V>();
+
+  /**
+   * Returns information whether the value for given property can be cached.
+   *
+   * @param property the property to check.
+   * @return <code>true</code> if the value for given property can be cached; <code>false</code>
+   *         otherwise.
+   */
+  public boolean isCacheable(Property<?> property) {
+    return property != null && property.getDeclaringClass() != null;
+  }
+
+  /**
+   * Returns cached value for given property.
+   *
+   * @param property the property for which will be returned cached value.
+   * @return Cached value for given property or <code>null</code> if there is no cached value.
+   */
+  public V get(Property<?> property) {
+    if (!isCacheable(property)) {
+      return null;
+    }
+
+    return cache.get(property);
+  }
+
+  /**
+   * Stores given value for given property into cache (if the property is cacheable). If there
+   * already is some value for given property, the cached value is kept and returned.
+   *
+   * @param property the property for which will be stored given value.
+   * @param value the value to store.
+   * @return The value which is stored in cache for given property (or given value if the property is
+   *         not cacheable).
+   */
+  public V put(Property<?> property, V value) {
+    if (!isCacheable(property) || value == null) {
+      return value;
+    }
+
+    V cached = cache.putIfAbsent(property, value);
+    return (cached == null) ? value : cached;
+  }
+
+  /**
+   * Returns number of cached values.
+   *
+   * @return Number of cached values.
+   */
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * Removes all cached values.
+   */
+  public void clear() {
+    cache.clear();
+  }
+}
@@ -0,0 +1,51 @@
+package cz.zcu.kiv.jop.annotation.generator.number;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Implementation of annotation {@link BinomialGenerator}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class BinomialGeneratorImpl implements BinomialGenerator {
+
+  /** The value of parameter trials. */
+  private final int trials;
+  /** The value of parameter probability. */
+  private final double probability;
+
+  /**
+   * Constructs the annotation.
+   *
+   * @param trials trials of annotation.
+   * @param probability probability of annotation.
+   */
+  public BinomialGeneratorImpl(int trials, double probability) {
+    this.trials = trials;
+    this.probability = probability;
+  }
+
+  /**
+   * Returns type of annotation (this class).
+   *
+   * @return type of annotation.
+   */
+  public Class<? extends Annotation> annotationType() {
+    return getClass();
+  }
+
+  /**
+   * @return The value of parameter trials.
+   */
+  public int trials() {
+    return trials;
+  }
+
+  /**
+   * @return The value of parameter probability.
+   */
+  public double probability() {
+    return probability;
+  }
+
+}
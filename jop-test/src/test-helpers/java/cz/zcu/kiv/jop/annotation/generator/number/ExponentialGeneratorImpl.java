@@ -0,0 +1,40 @@
+package cz.zcu.kiv.jop.annotation.generator.number;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Implementation of annotation {@link ExponentialGenerator}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class ExponentialGeneratorImpl implements ExponentialGenerator {
+
+  /** The value of parameter rate. */
+  private final double rate;
+
+  /**
+   * Constructs the annotation.
+   *
+   * @param rate rate of annotation.
+   */
+  public ExponentialGeneratorImpl(double rate) {
+    this.rate = rate;
+  }
+
+  /**
+   * Returns type of annotation (this class).
+   *
+   * @return type of annotation.
+   */
+  public Class<? extends Annotation> annotationType() {
+    return getClass();
+  }
+
+  /**
+   * @return The value of parameter rate.
+   */
+  public double rate() {
+    return rate;
+  }
+
+}
@@ -0,0 +1,51 @@
+package cz.zcu.kiv.jop.annotation.generator.number;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Implementation of annotation {@link GaussianGenerator}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class GaussianGeneratorImpl implements GaussianGenerator {
+
+  /** The value of parameter mean. */
+  private final double mean;
+  /** The value of parameter variance. */
+  private final double variance;
+
+  /**
+   * Constructs the annotation.
+   *
+   * @param mean mean of annotation.
+   * @param variance variance of annotation.
+   */
+  public GaussianGeneratorImpl(double mean, double variance) {
+    this.mean = mean;
+    this.variance = variance;
+  }
+
+  /**
+   * Returns type of annotation (this class).
+   *
+   * @return type of annotation.
+   */
+  public Class<? extends Annotation> annotationType() {
+    return getClass();
+  }
+
+  /**
+   * @return The value of parameter mean.
+   */
+  public double mean() {
+    return mean;
+  }
+
+  /**
+   * @return The value of parameter variance.
+   */
+  public double variance() {
+    return variance;
+  }
+
+}
@@ -0,0 +1,40 @@
+package cz.zcu.kiv.jop.annotation.generator.number;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Implementation of annotation {@link PoissonGenerator}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class PoissonGeneratorImpl implements PoissonGenerator {
+
+  /** The value of parameter mean. */
+  private final double mean;
+
+  /**
+   * Constructs the annotation.
+   *
+   * @param mean mean of annotation.
+   */
+  public PoissonGeneratorImpl(double mean) {
+    this.mean = mean;
+  }
+
+  /**
+   * Returns type of annotation (this class).
+   *
+   * @return type of annotation.
+   */
+  public Class<? extends Annotation> annotationType() {
+    return getClass();
+  }
+
+  /**
+   * @return The value of parameter mean.
+   */
+  public double mean() {
+    return mean;
+  }
+
+}
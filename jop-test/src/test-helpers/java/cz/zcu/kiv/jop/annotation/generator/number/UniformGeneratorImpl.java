@@ -0,0 +1,51 @@
+package cz.zcu.kiv.jop.annotation.generator.number;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Implementation of annotation {@link UniformGenerator}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class UniformGeneratorImpl implements UniformGenerator {
+
+  /** The value of parameter min. */
+  private final double min;
+  /** The value of parameter max. */
+  private final double max;
+
+  /**
+   * Constructs the annotation.
+   *
+   * @param min min of annotation.
+   * @param max max of annotation.
+   */
+  public UniformGeneratorImpl(double min, double max) {
+    this.min = min;
+    this.max = max;
+  }
+
+  /**
+   * Returns type of annotation (this class).
+   *
+   * @return type of annotation.
+   */
+  public Class<? extends Annotation> annotationType() {
+    return getClass();
+  }
+
+  /**
+   * @return The value of parameter min.
+   */
+  public double min() {
+    return min;
+  }
+
+  /**
+   * @return The value of parameter max.
+   */
+  public double max() {
+    return max;
+  }
+
+}
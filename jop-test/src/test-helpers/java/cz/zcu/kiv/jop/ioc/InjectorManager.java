@@ -13,7 +13,7 @@ public class InjectorManager implements InjectorProvider {
   protected final ThreadLocal<Injector> injectors = new ThreadLocal<Injector>();
 
   /** Singleton instance of this this class. */
-  private static InjectorManager instance;
+  private static volatile InjectorManager instance;
 
   /** Constructs singleton instance of this class. */
   private InjectorManager() {
@@ -59,10 +59,16 @@ public class InjectorManager implements InjectorProvider {
    * @return Singleton instance of injector provider.
    */
   public static InjectorProvider getInstance() {
-    if (instance == null) {
-      instance = new InjectorManager();
+    InjectorManager injectorManager = instance;
+    if (injectorManager == null) {
+      synchronized (InjectorManager.class) {
+        injectorManager = instance;
+        if (injectorManager == null) {
+          instance = injectorManager = new InjectorManager();
+        }
+      }
     }
 
-    return instance;
+    return injectorManager;
   }
 }
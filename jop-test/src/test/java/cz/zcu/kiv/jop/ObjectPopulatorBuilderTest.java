@@ -0,0 +1,174 @@
+package cz.zcu.kiv.jop;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.inject.AbstractModule;
+
+import cz.zcu.kiv.jop.annotation.generator.number.DiscreteUniformGenerator;
+
+/**
+ * Test of class {@link ObjectPopulatorBuilder}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class ObjectPopulatorBuilderTest {
+
+  /**
+   * Test of method {@link ObjectPopulatorBuilder#build} which has to build independent populators.
+   */
+  @Test
+  public void testBuild() throws ObjectPopulatorException {
+    /*----- Preparation -----*/
+    ObjectPopulatorBuilder builder = new ObjectPopulatorBuilder().setSeed(42L);
+
+    /*----- Execution -----*/
+    ObjectPopulator populator1 = builder.build();
+    ObjectPopulator populator2 = builder.build();
+
+    /*----- Verify -----*/
+    Assert.assertNotSame(populator1, populator2);
+    Assert.assertEquals(Long.valueOf(42L), populator1.getSeed());
+
+    populator1.setSeed(7L);
+    Assert.assertEquals(Long.valueOf(42L), populator2.getSeed());
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorBuilder#build} which has to build populators which generate
+   * the same objects for the same seed.
+   */
+  @Test
+  public void testBuildSeeded() throws ObjectPopulatorException {
+    /*----- Preparation -----*/
+    ObjectPopulatorBuilder builder = new ObjectPopulatorBuilder().setSeed(42L).setParallelism(2);
+
+    /*----- Execution -----*/
+    List<MockObject> objects1 = builder.build().populate(MockObject.class, 10);
+    List<MockObject> objects2 = builder.build().populateInParallel(MockObject.class, 10);
+
+    /*----- Verify -----*/
+    Assert.assertEquals(10, objects2.size());
+    boolean populated = false;
+    for (int i = 0; i < objects1.size(); i++) {
+      Assert.assertEquals(objects1.get(i).getValue(), objects2.get(i).getValue());
+      populated |= (objects1.get(i).getValue() != 0);
+    }
+    Assert.assertTrue(populated);
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorBuilder#build} for lazy bootstrap which has to build
+   * populator which generates the same objects as populator with eager bootstrap.
+   */
+  @Test
+  public void testBuildLazy() throws ObjectPopulatorException {
+    /*----- Preparation -----*/
+    ObjectPopulatorBuilder builder = new ObjectPopulatorBuilder().setSeed(42L);
+
+    /*----- Execution -----*/
+    List<MockObject> objects1 = builder.build().populate(MockObject.class, 10);
+    List<MockObject> objects2 = builder.setLazyBootstrap(true).build().populate(MockObject.class, 10);
+
+    /*----- Verify -----*/
+    for (int i = 0; i < objects1.size(); i++) {
+      Assert.assertEquals(objects1.get(i).getValue(), objects2.get(i).getValue());
+    }
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorBuilder#build} which has to build populators which share
+   * the worker threads for parallel population, so each built populator doesn't start its own
+   * threads.
+   */
+  @Test
+  public void testBuildSharesWorkerThreads() throws ObjectPopulatorException {
+    /*----- Preparation -----*/
+    int processors = Runtime.getRuntime().availableProcessors();
+    ObjectPopulatorBuilder builder = new ObjectPopulatorBuilder().setParallelism(2);
+    int threadsCount = getWorkerThreadsCount();
+
+    /*----- Execution -----*/
+    for (int i = 0; i <= processors; i++) {
+      builder.build().populateInParallel(MockObject.class, 10);
+    }
+
+    /*----- Verify -----*/
+    Assert.assertTrue(getWorkerThreadsCount() - threadsCount <= processors);
+  }
+
+  /**
+   * Returns number of alive worker threads of worker pools.
+   *
+   * @return Number of alive worker threads.
+   */
+  private static int getWorkerThreadsCount() {
+    int count = 0;
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.isAlive() && thread.getName().startsWith("jop-worker-")) {
+        count++;
+      }
+    }
+
+    return count;
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorBuilder#addModule} which has to override core bindings.
+   */
+  @Test
+  public void testAddModule() throws ObjectPopulatorException {
+    /*----- Preparation -----*/
+    final ObjectPopulator mockPopulator = new ObjectPopulatorImpl();
+    ObjectPopulatorBuilder builder = new ObjectPopulatorBuilder().addModule(new AbstractModule() {
+      @Override
+      protected void configure() {
+        bind(ObjectPopulator.class).toInstance(mockPopulator);
+      }
+    });
+
+    /*----- Execution & Verify -----*/
+    Assert.assertSame(mockPopulator, builder.build());
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorBuilder#setParallelism} for invalid number of threads.
+   * Expected {@link IllegalArgumentException}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testSetParallelismForInvalid() {
+    new ObjectPopulatorBuilder().setParallelism(0);
+  }
+
+  /**
+   * Mock object for population.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class MockObject {
+
+    /** Populated value. */
+    @DiscreteUniformGenerator(min = 0, max = 1000000)
+    private int value;
+
+    /**
+     * Returns populated value.
+     *
+     * @return Populated value.
+     */
+    public int getValue() {
+      return value;
+    }
+
+    /**
+     * Sets populated value.
+     *
+     * @param value the value to set.
+     */
+    public void setValue(int value) {
+      this.value = value;
+    }
+  }
+}
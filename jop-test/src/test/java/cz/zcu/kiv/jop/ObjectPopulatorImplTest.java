@@ -0,0 +1,498 @@
+package cz.zcu.kiv.jop;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.inject.AbstractModule;
+
+import cz.zcu.kiv.jop.annotation.generator.number.DiscreteUniformGenerator;
+import cz.zcu.kiv.jop.session.GlobalPopulatingSession;
+import cz.zcu.kiv.jop.session.PopulatingSession;
+
+/**
+ * Test of class {@link ObjectPopulatorImpl}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class ObjectPopulatorImplTest {
+
+  /** Parallelism of tested populators. */
+  private static final int PARALLELISM = 2;
+
+  /**
+   * Creates new populator with parallelism {@value #PARALLELISM} and with fixed seed, so the
+   * populators created by this method generate the same objects.
+   *
+   * @return Created populator.
+   * @throws ObjectPopulatorException If the populator cannot be created.
+   */
+  private static ObjectPopulator createPopulator() throws ObjectPopulatorException {
+    return new ObjectPopulatorBuilder().setSeed(42L).setParallelism(PARALLELISM).build();
+  }
+
+  /**
+   * Checks that given objects have the same values in the same order.
+   *
+   * @param expected the expected objects.
+   * @param actual the actual objects.
+   */
+  private static void assertSameValues(List<MockObject> expected, List<MockObject> actual) {
+    Assert.assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      Assert.assertEquals(expected.get(i).getValue(), actual.get(i).getValue());
+    }
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorImpl#populateInParallel} which has to return instances in
+   * the same order as the sequential population (the instances are split into many chunks).
+   */
+  @Test
+  public void testPopulateInParallel() throws ObjectPopulatorException {
+    /*----- Preparation -----*/
+    int count = PARALLELISM * ObjectPopulatorImpl.CHUNKS_PER_WORKER * 10 + 3;
+
+    /*----- Execution -----*/
+    List<MockObject> expected = createPopulator().populate(MockObject.class, count);
+    List<MockObject> objects = createPopulator().populateInParallel(MockObject.class, count);
+
+    /*----- Verify -----*/
+    assertSameValues(expected, objects);
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorImpl#populateInParallel} for single instance.
+   */
+  @Test
+  public void testPopulateInParallelForSingleInstance() throws ObjectPopulatorException {
+    /*----- Execution -----*/
+    List<MockObject> expected = createPopulator().populate(MockObject.class, 1);
+    List<MockObject> objects = createPopulator().populateInParallel(MockObject.class, 1);
+
+    /*----- Verify -----*/
+    assertSameValues(expected, objects);
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorImpl#populateInParallel} for number of instances which is
+   * lower than number of chunks (each chunk contains one instance).
+   */
+  @Test
+  public void testPopulateInParallelForFewInstances() throws ObjectPopulatorException {
+    /*----- Preparation -----*/
+    int count = PARALLELISM * ObjectPopulatorImpl.CHUNKS_PER_WORKER - 1;
+
+    /*----- Execution -----*/
+    List<MockObject> expected = createPopulator().populate(MockObject.class, count);
+    List<MockObject> objects = createPopulator().populateInParallel(MockObject.class, count);
+
+    /*----- Verify -----*/
+    assertSameValues(expected, objects);
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorImpl#populateInParallel} for zero instances. Expected
+   * exception {@link ObjectPopulatorException}.
+   */
+  @Test(expected = ObjectPopulatorException.class)
+  public void testPopulateInParallelForZeroInstances() throws ObjectPopulatorException {
+    createPopulator().populateInParallel(MockObject.class, 0);
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorImpl#populateSingleInParallel} which has to return
+   * instances in the same order as the sequential population.
+   */
+  @Test
+  public void testPopulateSingleInParallel() throws ObjectPopulatorException {
+    /*----- Preparation -----*/
+    int count = PARALLELISM * ObjectPopulatorImpl.CHUNKS_PER_WORKER + 1;
+
+    /*----- Execution -----*/
+    List<MockObject> expected = createPopulator().populateSingle(MockObject.class, count);
+    List<MockObject> objects = createPopulator().populateSingleInParallel(MockObject.class, count);
+
+    /*----- Verify -----*/
+    assertSameValues(expected, objects);
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorImpl#populateInParallel} for class whose construction
+   * fails. The exception of population has to be propagated to the caller.
+   */
+  @Test
+  public void testPopulateInParallelForFailure() throws ObjectPopulatorException {
+    /*----- Preparation -----*/
+    ObjectPopulator populator = createPopulator();
+
+    /*----- Execution & Verify -----*/
+    try {
+      populator.populateInParallel(FailingObject.class, 10);
+      Assert.fail("Expected ObjectPopulatorException");
+    }
+    catch (ObjectPopulatorException exc) {
+      Assert.assertTrue(hasCause(exc, FailingObject.FAILURE_MESSAGE));
+    }
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorImpl#populateIterable} which has to populate the instances
+   * lazily (during iteration).
+   */
+  @Test
+  public void testPopulateIterableIsLazy() throws ObjectPopulatorException {
+    /*----- Preparation -----*/
+    ObjectPopulator populator = createPopulator();
+    int created = CountingObject.CREATED.get();
+
+    /*----- Execution & Verify -----*/
+    Iterable<CountingObject> iterable = populator.populateIterable(CountingObject.class, 3);
+    Iterator<CountingObject> iterator = iterable.iterator();
+    Assert.assertEquals(created, CountingObject.CREATED.get());
+
+    Assert.assertTrue(iterator.hasNext());
+    Assert.assertNotNull(iterator.next());
+    Assert.assertEquals(created + 1, CountingObject.CREATED.get());
+
+    iterator.next();
+    iterator.next();
+    Assert.assertFalse(iterator.hasNext());
+    Assert.assertEquals(created + 3, CountingObject.CREATED.get());
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorImpl#populateIterable} which cannot retain the populated
+   * instances in global session (unlike the method {@link ObjectPopulatorImpl#populate}).
+   */
+  @Test
+  public void testPopulateIterableDoesNotRetain() throws ObjectPopulatorException {
+    /*----- Preparation -----*/
+    final PopulatingSession session = new GlobalPopulatingSession();
+    ObjectPopulator populator = new ObjectPopulatorBuilder().addModule(new AbstractModule() {
+      @Override
+      protected void configure() {
+        bind(PopulatingSession.class).toInstance(session);
+      }
+    }).build();
+    Object instance = populator.populate(MockObject.class);
+
+    /*----- Execution -----*/
+    int count = 0;
+    for (MockObject object : populator.populateIterable(MockObject.class, 5)) {
+      Assert.assertNotNull(object);
+      count++;
+    }
+
+    /*----- Verify -----*/
+    Assert.assertEquals(5, count);
+    Assert.assertEquals(1, session.getPopulatedInstances().size());
+    Assert.assertSame(instance, session.getPopulatedInstances().get(0));
+  }
+
+  /**
+   * Test of method {@link Iterator#remove()} of iterator returned by method
+   * {@link ObjectPopulatorImpl#populateIterable}. Expected exception
+   * {@link UnsupportedOperationException}.
+   */
+  @Test(expected = UnsupportedOperationException.class)
+  public void testPopulateIterableRemove() throws ObjectPopulatorException {
+    /*----- Preparation -----*/
+    Iterator<MockObject> iterator = createPopulator().populateIterable(MockObject.class, 2).iterator();
+    iterator.next();
+
+    /*----- Execution -----*/
+    iterator.remove();
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorImpl#populateIterable} for class whose construction fails.
+   * The exception of population has to be propagated from the iterator together with its cause.
+   */
+  @Test
+  public void testPopulateIterableForFailure() throws ObjectPopulatorException {
+    /*----- Preparation -----*/
+    Iterator<FailingObject> iterator = createPopulator().populateIterable(FailingObject.class, 2).iterator();
+
+    /*----- Execution & Verify -----*/
+    try {
+      iterator.next();
+      Assert.fail("Expected ObjectPopulatorRuntimeException");
+    }
+    catch (ObjectPopulatorRuntimeException exc) {
+      Assert.assertTrue(exc.getCause() instanceof ObjectPopulatorException);
+      Assert.assertEquals(exc.getCause().getMessage(), exc.getMessage());
+      Assert.assertTrue(hasCause(exc, FailingObject.FAILURE_MESSAGE));
+    }
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorImpl#populateIterable} for zero instances. Expected
+   * exception {@link ObjectPopulatorException}.
+   */
+  @Test(expected = ObjectPopulatorException.class)
+  public void testPopulateIterableForZeroInstances() throws ObjectPopulatorException {
+    createPopulator().populateIterable(MockObject.class, 0);
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorImpl#populate(Class, long, PopulationSink)} which has to
+   * pass the batches to the sink in the same order as the sequential population.
+   */
+  @Test
+  public void testPopulateIntoSink() throws ObjectPopulatorException {
+    /*----- Preparation -----*/
+    int count = PARALLELISM * 10 + 3;
+    CollectingSink<MockObject> sink = new CollectingSink<MockObject>(4);
+
+    /*----- Execution -----*/
+    List<MockObject> expected = createPopulator().populate(MockObject.class, count);
+    createPopulator().populate(MockObject.class, count, sink);
+
+    /*----- Verify -----*/
+    assertSameValues(expected, sink.objects);
+    Assert.assertEquals((count + 3) / 4, sink.batches);
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorImpl#populate(Class, long, PopulationSink)} which can
+   * populate at most {@value #PARALLELISM} batches ahead of the (slow) sink.
+   */
+  @Test
+  public void testPopulateIntoSinkIsBounded() throws ObjectPopulatorException {
+    /*----- Preparation -----*/
+    final int batchSize = 5;
+    final int created = CountingObject.CREATED.get();
+    final AtomicInteger maxAhead = new AtomicInteger();
+    PopulationSink<CountingObject> sink = new CollectingSink<CountingObject>(batchSize) {
+      @Override
+      public void accept(List<? extends CountingObject> batch) throws Exception {
+        super.accept(batch);
+        int ahead = CountingObject.CREATED.get() - created - objects.size();
+        maxAhead.set(Math.max(maxAhead.get(), ahead));
+        Thread.sleep(5L);
+      }
+    };
+
+    /*----- Execution -----*/
+    createPopulator().populate(CountingObject.class, 20 * batchSize, sink);
+
+    /*----- Verify -----*/
+    Assert.assertEquals(created + 20 * batchSize, CountingObject.CREATED.get());
+    Assert.assertTrue("Populated " + maxAhead.get() + " instances ahead", maxAhead.get() <= PARALLELISM * batchSize);
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorImpl#populate(Class, long, PopulationSink)} for sink which
+   * fails. The population has to be stopped and the pending batches cancelled.
+   */
+  @Test
+  public void testPopulateIntoFailingSink() throws Exception {
+    /*----- Preparation -----*/
+    final int batchSize = 5;
+    int created = CountingObject.CREATED.get();
+    PopulationSink<CountingObject> sink = new CollectingSink<CountingObject>(batchSize) {
+      @Override
+      public void accept(List<? extends CountingObject> batch) throws Exception {
+        throw new IllegalStateException("Sink failed");
+      }
+    };
+
+    /*----- Execution & Verify -----*/
+    try {
+      createPopulator().populate(CountingObject.class, 100 * batchSize, sink);
+      Assert.fail("Expected ObjectPopulatorException");
+    }
+    catch (ObjectPopulatorException exc) {
+      Assert.assertEquals("Sink failed", exc.getCause().getMessage());
+    }
+
+    // the batch which may be populated when the sink failed has to be finished
+    Thread.sleep(100L);
+    Assert.assertTrue(CountingObject.CREATED.get() - created <= PARALLELISM * batchSize);
+  }
+
+  /**
+   * Test of method {@link ObjectPopulatorImpl#populate(Class, long, PopulationSink)} invoked by
+   * interrupted thread. The population has to be stopped and the interrupted status of thread has
+   * to be kept.
+   */
+  @Test
+  public void testPopulateIntoSinkForInterruptedThread() throws ObjectPopulatorException {
+    /*----- Preparation -----*/
+    ObjectPopulator populator = createPopulator();
+    CollectingSink<BlockingObject> sink = new CollectingSink<BlockingObject>(1);
+    BlockingObject.release = new CountDownLatch(1);
+
+    /*----- Execution & Verify -----*/
+    Thread.currentThread().interrupt();
+    try {
+      populator.populate(BlockingObject.class, 10, sink);
+      Assert.fail("Expected ObjectPopulatorException");
+    }
+    catch (ObjectPopulatorException exc) {
+      Assert.assertTrue(exc.getCause() instanceof InterruptedException);
+      Assert.assertTrue(Thread.interrupted());
+    }
+    finally {
+      Thread.interrupted();
+      BlockingObject.release.countDown();
+    }
+
+    Assert.assertTrue(sink.objects.isEmpty());
+  }
+
+  /**
+   * Returns information whether the given exception or some of its causes has given message.
+   *
+   * @param exc the checked exception.
+   * @param message the searched message.
+   * @return <code>true</code> if the exception or some of its causes has given message;
+   *         <code>false</code> otherwise.
+   */
+  private static boolean hasCause(Throwable exc, String message) {
+    for (Throwable cause = exc; cause != null; cause = cause.getCause()) {
+      if (message.equals(cause.getMessage())) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Mock object for population.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class MockObject {
+
+    /** Populated value. */
+    @DiscreteUniformGenerator(min = 0, max = 1000000)
+    private int value;
+
+    /**
+     * Returns populated value.
+     *
+     * @return Populated value.
+     */
+    public int getValue() {
+      return value;
+    }
+
+    /**
+     * Sets populated value.
+     *
+     * @param value the value to set.
+     */
+    public void setValue(int value) {
+      this.value = value;
+    }
+  }
+
+  /**
+   * Mock object which counts its created instances.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class CountingObject {
+
+    /** Number of created instances. */
+    public static final AtomicInteger CREATED = new AtomicInteger();
+
+    /**
+     * Constructs object and increments the number of created instances.
+     */
+    public CountingObject() {
+      CREATED.incrementAndGet();
+    }
+  }
+
+  /**
+   * Mock object whose construction waits until it's released (or interrupted).
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class BlockingObject {
+
+    /** Latch which releases the construction of objects. */
+    public static volatile CountDownLatch release = new CountDownLatch(0);
+
+    /**
+     * Constructs object - waits until the construction is released (at most 10 seconds).
+     */
+    public BlockingObject() {
+      try {
+        release.await(10L, TimeUnit.SECONDS);
+      }
+      catch (InterruptedException exc) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Mock object whose construction always fails.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class FailingObject {
+
+    /** Message of exception thrown by constructor. */
+    public static final String FAILURE_MESSAGE = "Construction failed";
+
+    /**
+     * Constructs object - always throws exception.
+     */
+    public FailingObject() {
+      throw new IllegalStateException(FAILURE_MESSAGE);
+    }
+  }
+
+  /**
+   * Sink which collects all accepted objects.
+   *
+   * @author Mr.FrAnTA
+   *
+   * @param <T> Class type of accepted objects.
+   */
+  private static class CollectingSink<T> implements PopulationSink<T> {
+
+    /** The number of objects in one batch. */
+    private final int batchSize;
+    /** The accepted objects. */
+    protected final List<T> objects = new ArrayList<T>();
+    /** The number of accepted batches. */
+    protected int batches;
+
+    /**
+     * Constructs sink.
+     *
+     * @param batchSize the number of objects in one batch.
+     */
+    public CollectingSink(int batchSize) {
+      this.batchSize = batchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int getBatchSize() {
+      return batchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void accept(List<? extends T> batch) throws Exception {
+      objects.addAll(batch);
+      batches++;
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package cz.zcu.kiv.jop;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.annotation.generator.number.DiscreteUniformGenerator;
+import cz.zcu.kiv.jop.annotation.generator.number.GaussianGenerator;
+import cz.zcu.kiv.jop.annotation.generator.string.RandomString;
+
+/**
+ * Simple benchmark of startup of {@link ObjectPopulator} which measures the time to the first
+ * populated object - the time of building of new populator (including construction of its
+ * injector) and population of one object. The eager bootstrap is compared with the lazy bootstrap
+ * (see {@link ObjectPopulatorBuilder#setLazyBootstrap(boolean)}).
+ * <p>
+ * The first round of each mode in fresh JVM includes loading of classes, so it's printed
+ * separately; it corresponds to the startup of short-lived application. The benchmark only prints
+ * the measured times, so its test is ignored by the build and it has to be run manually (by its
+ * test or by its {@link #main} method). The mode (<code>eager</code> or <code>lazy</code>) and the
+ * number of rounds may be given as program arguments. The debug logging of tests slows down the
+ * population, so for representative results it should be disabled (for example by system property
+ * <code>log4j.configuration</code>).
+ *
+ * @author Mr.FrAnTA
+ */
+public class StartupBenchmarkTest {
+
+  /** Default number of measured rounds. */
+  private static final int DEFAULT_ROUNDS = 50;
+
+  /**
+   * Populated object.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class Person {
+
+    /** The name of person. */
+    @RandomString({"Alice", "Bob", "Carol"})
+    private String name;
+    /** The age of person. */
+    @DiscreteUniformGenerator(min = 18, max = 99)
+    private int age;
+    /** The height of person. */
+    @GaussianGenerator(mean = 175, variance = 49)
+    private double height;
+
+    /**
+     * Sets the name of person.
+     *
+     * @param name the name to set.
+     */
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    /**
+     * Sets the age of person.
+     *
+     * @param age the age to set.
+     */
+    public void setAge(int age) {
+      this.age = age;
+    }
+
+    /**
+     * Sets the height of person.
+     *
+     * @param height the height to set.
+     */
+    public void setHeight(double height) {
+      this.height = height;
+    }
+
+    /**
+     * Returns a string representation of person.
+     *
+     * @return String representation of person.
+     */
+    @Override
+    public String toString() {
+      return name + " (" + age + ", " + height + ")";
+    }
+  }
+
+  /**
+   * Builds new populator and populates one object. Returns the elapsed time in nanoseconds.
+   *
+   * @param lazyBootstrap information whether the populator will be bootstrapped lazily.
+   * @return Elapsed time in nanoseconds.
+   * @throws ObjectPopulatorException If some error occurs during population.
+   */
+  private static long firstObject(boolean lazyBootstrap) throws ObjectPopulatorException {
+    long start = System.nanoTime();
+    ObjectPopulator populator = new ObjectPopulatorBuilder().setLazyBootstrap(lazyBootstrap).build();
+    Person person = populator.populate(Person.class);
+    long elapsed = System.nanoTime() - start;
+
+    if (person == null) {
+      throw new IllegalStateException("No object was populated");
+    }
+
+    return elapsed;
+  }
+
+  /**
+   * Measures given number of rounds for given mode and prints the results.
+   *
+   * @param lazyBootstrap information whether the populator will be bootstrapped lazily.
+   * @param rounds the number of measured rounds.
+   * @throws ObjectPopulatorException If some error occurs during population.
+   */
+  private static void measure(boolean lazyBootstrap, int rounds) throws ObjectPopulatorException {
+    String mode = lazyBootstrap ? "lazy" : "eager";
+    long first = firstObject(lazyBootstrap);
+    System.out.printf("%5s first round: %,8d us%n", mode, first / 1000L);
+
+    long total = 0;
+    for (int i = 0; i < rounds; i++) {
+      total += firstObject(lazyBootstrap);
+    }
+    System.out.printf("%5s next rounds: %,8d us (average of %d rounds)%n", mode, total / rounds / 1000L, rounds);
+  }
+
+  /**
+   * Runs the benchmark for both modes with default number of rounds.
+   */
+  @Test
+  @Ignore(value = "Benchmark has to be run manually")
+  public void testStartup() throws ObjectPopulatorException {
+    main(new String[0]);
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the mode - <code>eager</code> or <code>lazy</code> (optional; by default are
+   *          measured both modes) and the number of measured rounds (optional).
+   * @throws ObjectPopulatorException If some error occurs during population.
+   */
+  public static void main(String[] args) throws ObjectPopulatorException {
+    String mode = (args.length > 0) ? args[0] : null;
+    int rounds = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+
+    if (mode == null || mode.equals("eager")) {
+      measure(false, rounds);
+    }
+    if (mode == null || mode.equals("lazy")) {
+      measure(true, rounds);
+    }
+  }
+}
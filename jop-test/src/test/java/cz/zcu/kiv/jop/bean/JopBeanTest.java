@@ -0,0 +1,73 @@
+package cz.zcu.kiv.jop.bean;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.property.Property;
+
+/**
+ * Test of class {@link JopBean}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class JopBeanTest {
+
+  /**
+   * Test of method {@link JopBean#getDeclaredProperties()} which has to return the same (cached)
+   * properties for all beans of the same class.
+   */
+  @Test
+  public void testGetDeclaredPropertiesForSameClass() {
+    /*----- Execution -----*/
+    List<Property<?>> properties1 = new JopBean(new FirstObject()).getDeclaredProperties();
+    List<Property<?>> properties2 = new JopBean(new FirstObject()).getDeclaredProperties();
+
+    /*----- Verify -----*/
+    Assert.assertEquals(1, properties1.size());
+    Assert.assertSame(properties1.get(0), properties2.get(0));
+  }
+
+  /**
+   * Test of method {@link JopBean#getDeclaredProperties()} for classes with property of the same
+   * name. The cached properties of one class cannot be returned for the other class.
+   */
+  @Test
+  public void testGetDeclaredPropertiesForDifferentClasses() {
+    /*----- Execution -----*/
+    Property<?> property1 = new JopBean(new FirstObject()).getDeclaredProperty("value");
+    Property<?> property2 = new JopBean(new SecondObject()).getDeclaredProperty("value");
+    Property<?> property3 = new JopBean(new FirstObject()).getDeclaredProperty("value");
+
+    /*----- Verify -----*/
+    Assert.assertFalse(property1.equals(property2));
+    Assert.assertEquals(FirstObject.class, property1.getDeclaringClass());
+    Assert.assertEquals(int.class, property1.getType());
+    Assert.assertEquals(SecondObject.class, property2.getDeclaringClass());
+    Assert.assertEquals(String.class, property2.getType());
+    Assert.assertSame(property1, property3);
+  }
+
+  /**
+   * The first mock object with property <code>value</code>.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class FirstObject {
+
+    /** The value of object. */
+    protected int value;
+  }
+
+  /**
+   * The second mock object with property <code>value</code> of different type.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class SecondObject {
+
+    /** The value of object. */
+    protected String value;
+  }
+}
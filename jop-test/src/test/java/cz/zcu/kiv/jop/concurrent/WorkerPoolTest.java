@@ -0,0 +1,195 @@
+package cz.zcu.kiv.jop.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test of class {@link WorkerPool}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class WorkerPoolTest {
+
+  /** Tested worker pool. */
+  private WorkerPool workerPool;
+
+  /**
+   * Preparation of worker pool for tests.
+   */
+  @Before
+  public void setUp() {
+    workerPool = new WorkerPool(4);
+  }
+
+  /**
+   * Shut down of worker pool after tests.
+   */
+  @After
+  public void tearDown() {
+    workerPool.shutdown();
+  }
+
+  /**
+   * Test of constructor of {@link WorkerPool} for invalid parallelism.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructorForInvalidParallelism() {
+    new WorkerPool(0);
+  }
+
+  /**
+   * Test of method {@link WorkerPool#invokeAll} which has to return results in the same order as
+   * the tasks were given.
+   */
+  @Test
+  public void testInvokeAllKeepsOrder() throws Exception {
+    /*----- Preparation -----*/
+    List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+    for (int i = 0; i < 100; i++) {
+      tasks.add(new IndexTask(i));
+    }
+
+    /*----- Execution -----*/
+    List<Integer> results = workerPool.invokeAll(tasks);
+
+    /*----- Verify -----*/
+    Assert.assertEquals(100, results.size());
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(Integer.valueOf(i), results.get(i));
+    }
+  }
+
+  /**
+   * Test of method {@link WorkerPool#invokeAll} for tasks which invoke another tasks. The nested
+   * tasks have to be executed in the thread of outer task.
+   */
+  @Test
+  public void testInvokeAllForNestedTasks() throws Exception {
+    /*----- Preparation -----*/
+    List<Callable<Boolean>> tasks = new ArrayList<Callable<Boolean>>();
+    for (int i = 0; i < 8; i++) {
+      tasks.add(new Callable<Boolean>() {
+        public Boolean call() throws Exception {
+          final Thread outerThread = Thread.currentThread();
+          List<Callable<Boolean>> nestedTasks = new ArrayList<Callable<Boolean>>();
+          for (int j = 0; j < 4; j++) {
+            nestedTasks.add(new Callable<Boolean>() {
+              public Boolean call() {
+                return Thread.currentThread() == outerThread;
+              }
+            });
+          }
+
+          for (Boolean sameThread : workerPool.invokeAll(nestedTasks)) {
+            if (!sameThread) {
+              return false;
+            }
+          }
+
+          return workerPool.isWorkerThread();
+        }
+      });
+    }
+
+    /*----- Execution -----*/
+    List<Boolean> results = workerPool.invokeAll(tasks);
+
+    /*----- Verify -----*/
+    for (Boolean result : results) {
+      Assert.assertTrue(result);
+    }
+    Assert.assertFalse(workerPool.isWorkerThread());
+  }
+
+  /**
+   * Test of method {@link WorkerPool#invokeAll} for task which throws an exception.
+   */
+  @Test(expected = ExecutionException.class)
+  public void testInvokeAllForFailingTask() throws Exception {
+    /*----- Preparation -----*/
+    List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+    tasks.add(new IndexTask(0));
+    tasks.add(new Callable<Integer>() {
+      public Integer call() throws Exception {
+        throw new IllegalStateException("Failing task");
+      }
+    });
+
+    /*----- Execution -----*/
+    workerPool.invokeAll(tasks);
+  }
+
+  /**
+   * Test of method {@link WorkerPool#addThreadCleanup} whose cleanup has to be run by worker thread
+   * at the end of each task (but not at the end of nested tasks).
+   */
+  @Test
+  public void testAddThreadCleanup() throws Exception {
+    /*----- Preparation -----*/
+    final List<Thread> cleanedThreads = Collections.synchronizedList(new ArrayList<Thread>());
+    workerPool.addThreadCleanup(new Runnable() {
+      public void run() {
+        cleanedThreads.add(Thread.currentThread());
+      }
+    });
+
+    List<Callable<Thread>> tasks = new ArrayList<Callable<Thread>>();
+    for (int i = 0; i < 4; i++) {
+      tasks.add(new Callable<Thread>() {
+        public Thread call() throws Exception {
+          List<Callable<Integer>> nestedTasks = new ArrayList<Callable<Integer>>();
+          nestedTasks.add(new IndexTask(0));
+          nestedTasks.add(new IndexTask(1));
+          workerPool.invokeAll(nestedTasks);
+
+          return Thread.currentThread();
+        }
+      });
+    }
+
+    /*----- Execution -----*/
+    List<Thread> threads = workerPool.invokeAll(tasks);
+
+    /*----- Verify -----*/
+    Assert.assertEquals(4, cleanedThreads.size());
+    for (Thread thread : threads) {
+      Assert.assertTrue(cleanedThreads.contains(thread));
+    }
+    Assert.assertFalse(cleanedThreads.contains(Thread.currentThread()));
+  }
+
+  /**
+   * Task which returns given index.
+   *
+   * @author Mr.FrAnTA
+   */
+  private static class IndexTask implements Callable<Integer> {
+
+    /** The index to return. */
+    private final int index;
+
+    /**
+     * Constructs task.
+     *
+     * @param index the index to return.
+     */
+    public IndexTask(int index) {
+      this.index = index;
+    }
+
+    /**
+     * @return The index given in constructor.
+     */
+    public Integer call() {
+      return index;
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package cz.zcu.kiv.jop.construction;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of class {@link AllocationConstructionStrategy}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class AllocationConstructionStrategyTest {
+
+  /**
+   * Test of method {@link AllocationConstructionStrategy#constructObject} which has to allocate
+   * instance without invocation of constructor and field initializers.
+   */
+  @Test
+  public void testConstructObject() throws ConstructionStrategyException {
+    /*----- Preparation -----*/
+    AllocationConstructionStrategy strategy = new AllocationConstructionStrategy();
+
+    /*----- Execution -----*/
+    MockObject mockObject = strategy.constructObject(MockObject.class, null);
+
+    /*----- Verify -----*/
+    Assert.assertNotNull(mockObject);
+    Assert.assertEquals(0, mockObject.value);
+    Assert.assertNull(mockObject.name);
+  }
+
+  /**
+   * Test of method {@link AllocationConstructionStrategy#constructObject} for abstract class.
+   */
+  @Test(expected = ConstructionStrategyException.class)
+  public void testConstructObjectForAbstract() throws ConstructionStrategyException {
+    new AllocationConstructionStrategy().constructObject(AbstractMockObject.class, null);
+  }
+
+  /**
+   * Mock object with constructor which cannot be invoked.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class MockObject {
+
+    /** Value set by constructor. */
+    protected int value;
+    /** Value set by initializer. */
+    protected String name = "name";
+
+    /**
+     * Constructs mock object.
+     *
+     * @param value the value.
+     */
+    public MockObject(int value) {
+      throw new IllegalStateException("Constructor cannot be invoked");
+    }
+  }
+
+  /**
+   * Abstract mock object.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static abstract class AbstractMockObject {
+    // nothing to do
+  }
+}
@@ -0,0 +1,115 @@
+package cz.zcu.kiv.jop.construction;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.context.PopulatingContext;
+import cz.zcu.kiv.jop.property.Property;
+import cz.zcu.kiv.jop.property.Setter;
+import cz.zcu.kiv.jop.strategy.PopulatingStrategyException;
+import cz.zcu.kiv.jop.strategy.PopulatingStrategyInvoker;
+
+/**
+ * Test of class {@link ConstructionStrategyImpl}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class ConstructionStrategyImplTest {
+
+  /**
+   * Test of method {@link ConstructionStrategyImpl#constructObject} for class whose constructor
+   * takes array of the same type. The array is set into holder of value of (shared) property of
+   * parameter before it's filled by nested construction of the same class (in the same way as by
+   * array value populator), so the nested construction cannot affect the value of outer
+   * construction.
+   */
+  @Test
+  public void testConstructObjectForReentrantConstruction() throws ConstructionStrategyException {
+    /*----- Preparation -----*/
+    ConstructionStrategyImpl strategy = new ConstructionStrategyImpl();
+    strategy.setPopulatingStrategyInvoker(new NestingPopulatingStrategyInvoker(strategy));
+
+    /*----- Execution -----*/
+    Node node = strategy.constructObject(Node.class, null);
+
+    /*----- Verify -----*/
+    Assert.assertNotNull(node.children);
+    Assert.assertEquals(1, node.children.length);
+    Assert.assertNotNull(node.children[0]);
+    Assert.assertNull(node.children[0].children);
+  }
+
+  /**
+   * Invoker of populating strategies which populates the property of parameter by array with one
+   * element. The element is constructed by given construction strategy (only in the first level of
+   * nesting).
+   *
+   * @author Mr.FrAnTA
+   */
+  private static class NestingPopulatingStrategyInvoker implements PopulatingStrategyInvoker {
+
+    /** The construction strategy for construction of elements of array. */
+    private final ConstructionStrategy strategy;
+    /** The current level of nesting. */
+    private int depth;
+
+    /**
+     * Constructs invoker of populating strategies.
+     *
+     * @param strategy the construction strategy for construction of elements of array.
+     */
+    public NestingPopulatingStrategyInvoker(ConstructionStrategy strategy) {
+      this.strategy = strategy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isAnnotationPresent(Property<?> property) {
+      return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public void applyStrategy(Property<?> property, PopulatingContext context) throws PopulatingStrategyException {
+      if (depth > 0) {
+        return; // nested node has no children
+      }
+
+      depth++;
+      try {
+        Node[] children = new Node[1];
+        ((Setter<Object>)property.getSetter()).set(context.getCurrentObject(), children);
+        children[0] = strategy.constructObject(Node.class, context);
+      }
+      catch (Exception exc) {
+        throw new PopulatingStrategyException(exc);
+      }
+      finally {
+        depth--;
+      }
+    }
+  }
+
+  /**
+   * Node of tree whose constructor takes array of children nodes.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class Node {
+
+    /** Children nodes. */
+    protected final Node[] children;
+
+    /**
+     * Constructs node of tree.
+     *
+     * @param children the children nodes.
+     */
+    public Node(Node[] children) {
+      this.children = children;
+    }
+  }
+}
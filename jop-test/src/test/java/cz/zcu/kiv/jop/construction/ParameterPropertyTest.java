@@ -0,0 +1,93 @@
+package cz.zcu.kiv.jop.construction;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.property.PropertyAccessException;
+
+/**
+ * Test of class {@link ParameterProperty}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class ParameterPropertyTest {
+
+  /**
+   * Test of methods {@link ParameterProperty#equals} and {@link ParameterProperty#hashCode} which
+   * have to compare member and index of parameter.
+   */
+  @Test
+  public void testEqualsAndHashCode() throws Exception {
+    /*----- Preparation -----*/
+    Constructor<?> constructor = MockObject.class.getConstructor(int.class, int.class);
+    ParameterProperty<Integer> property1 = new ParameterProperty<Integer>(constructor, 0, int.class, new Annotation[0]);
+    ParameterProperty<Integer> property2 = new ParameterProperty<Integer>(constructor, 0, int.class, new Annotation[0]);
+    ParameterProperty<Integer> property3 = new ParameterProperty<Integer>(constructor, 1, int.class, new Annotation[0]);
+
+    /*----- Verify -----*/
+    Assert.assertEquals(property1, property2);
+    Assert.assertEquals(property1.hashCode(), property2.hashCode());
+    Assert.assertFalse(property1.equals(property3));
+    Assert.assertEquals(MockObject.class, property1.getDeclaringClass());
+  }
+
+  /**
+   * Test of getter and setter of {@link ParameterProperty} which have to store the value into given
+   * holder of value, so each holder has its own value. The default value is returned after the value
+   * was removed.
+   */
+  @Test
+  public void testGetAndSet() throws Exception {
+    /*----- Preparation -----*/
+    Constructor<?> constructor = MockObject.class.getConstructor(int.class, int.class);
+    ParameterProperty<Integer> property = new ParameterProperty<Integer>(constructor, 0, int.class, new Annotation[0]);
+    ParameterProperty.ValueHolder valueHolder = property.createValueHolder();
+    ParameterProperty.ValueHolder otherValueHolder = property.createValueHolder();
+
+    /*----- Execution -----*/
+    property.getSetter().set(valueHolder, 42);
+
+    /*----- Verify -----*/
+    Assert.assertEquals(Integer.valueOf(42), property.getGetter().get(valueHolder));
+    Assert.assertEquals(Integer.valueOf(0), property.getGetter().get(otherValueHolder));
+
+    /*----- Execution & Verify -----*/
+    property.getSetter().set(valueHolder, null);
+    Assert.assertEquals(Integer.valueOf(0), property.getGetter().get(valueHolder));
+  }
+
+  /**
+   * Test of getter of {@link ParameterProperty} for owner which is not holder of value. Expected
+   * exception {@link PropertyAccessException}.
+   */
+  @Test(expected = PropertyAccessException.class)
+  public void testGetForIncorrectOwner() throws Exception {
+    /*----- Preparation -----*/
+    Constructor<?> constructor = MockObject.class.getConstructor(int.class, int.class);
+    ParameterProperty<Integer> property = new ParameterProperty<Integer>(constructor, 0, int.class, new Annotation[0]);
+
+    /*----- Execution -----*/
+    property.getGetter().get(null);
+  }
+
+  /**
+   * Mock object with constructor for tests.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class MockObject {
+
+    /**
+     * Constructs mock object.
+     *
+     * @param a the first parameter.
+     * @param b the second parameter.
+     */
+    public MockObject(int a, int b) {
+      // nothing to do
+    }
+  }
+}
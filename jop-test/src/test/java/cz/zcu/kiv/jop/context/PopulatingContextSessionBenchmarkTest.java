@@ -0,0 +1,106 @@
+package cz.zcu.kiv.jop.context;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.bean.Bean;
+import cz.zcu.kiv.jop.session.InstanceRegistry;
+
+/**
+ * Simple benchmark of {@link PopulatingContextSessionImpl} which simulates population of graphs of
+ * objects by {@link DefaultPopulatingContext}. Each node of graph is enqueued as dependency (which
+ * checks whether the node was already populated), then it's dequeued and stored into session and
+ * finally the previous node is enqueued again (which is refused because it's already populated).
+ * <p>
+ * The time per node should be (nearly) same for all sizes of graph - the population has to scale
+ * linearly with size of graph. The benchmark only prints the measured times, so its test is ignored
+ * by the build and it has to be run manually (by its test or by its {@link #main} method). The
+ * sizes of graphs may be given as program arguments.
+ *
+ * @author Mr.FrAnTA
+ */
+public class PopulatingContextSessionBenchmarkTest {
+
+  /** Default sizes of populated graphs. */
+  private static final int[] DEFAULT_SIZES = {125000, 250000, 500000, 1000000};
+  /** Number of warm up rounds. */
+  private static final int WARM_UP_ROUNDS = 3;
+
+  /**
+   * Node of populated graph.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class Node {
+
+    /** The parent node. */
+    public Node parent;
+  }
+
+  /**
+   * Populates graph of given size and returns the elapsed time in nanoseconds.
+   *
+   * @param size the size of populated graph.
+   * @return Elapsed time in nanoseconds.
+   */
+  private static long populateGraph(int size) {
+    DefaultPopulatingContext context = new DefaultPopulatingContext(new InstanceRegistry());
+    PopulatingQueue queue = context.getPopulatingQueue();
+    PopulatingContextSession session = context.getSession();
+
+    long start = System.nanoTime();
+    Node previous = null;
+    for (int i = 0; i < size; i++) {
+      Node node = new Node();
+      node.parent = previous;
+
+      if (!context.populate(node)) {
+        throw new IllegalStateException("New node was refused");
+      }
+
+      Bean bean = queue.dequeue();
+      session.addPopulatedInstance(bean.getInstance());
+
+      if (previous != null && context.populate(previous)) {
+        throw new IllegalStateException("Already populated node was enqueued");
+      }
+
+      previous = node;
+    }
+
+    return System.nanoTime() - start;
+  }
+
+  /**
+   * Runs the benchmark with default sizes of graphs.
+   */
+  @Test
+  @Ignore(value = "Benchmark has to be run manually")
+  public void testPopulateGraph() {
+    main(new String[0]);
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the sizes of populated graphs (optional).
+   */
+  public static void main(String[] args) {
+    int[] sizes = DEFAULT_SIZES;
+    if (args.length > 0) {
+      sizes = new int[args.length];
+      for (int i = 0; i < args.length; i++) {
+        sizes[i] = Integer.parseInt(args[i]);
+      }
+    }
+
+    for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+      populateGraph(sizes[0]);
+    }
+
+    for (int size : sizes) {
+      long elapsed = populateGraph(size);
+      System.out.printf("%,10d nodes: %,8d ms (%,6d ns/node)%n", size, elapsed / 1000000L, elapsed / size);
+    }
+  }
+}
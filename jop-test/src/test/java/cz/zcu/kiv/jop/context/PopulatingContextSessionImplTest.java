@@ -0,0 +1,119 @@
+package cz.zcu.kiv.jop.context;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of class {@link PopulatingContextSessionImpl}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class PopulatingContextSessionImplTest {
+
+  /**
+   * Test of method {@link PopulatingContextSessionImpl#contains} which has to find only the added
+   * instances and has to agree with the registry of populated instances.
+   */
+  @Test
+  public void testContains() {
+    /*----- Preparation -----*/
+    PopulatingContextSessionImpl session = new PopulatingContextSessionImpl();
+    Object instance1 = new Object();
+    Object instance2 = new Object();
+
+    /*----- Execution -----*/
+    session.addPopulatedInstance(instance1);
+    session.addPopulatedInstance(instance2);
+
+    /*----- Verify -----*/
+    Assert.assertTrue(session.contains(instance1));
+    Assert.assertTrue(session.contains(instance2));
+    Assert.assertFalse(session.contains(new Object()));
+    Assert.assertFalse(session.contains(null));
+    Assert.assertEquals(Arrays.asList(instance1, instance2), session.getPopulatedInstances());
+  }
+
+  /**
+   * Test of method {@link PopulatingContextSessionImpl#contains} for distinct objects which are
+   * equal by method {@link Object#equals(Object)}. The session has to compare the objects by their
+   * identity.
+   */
+  @Test
+  public void testContainsForEqualObjects() {
+    /*----- Preparation -----*/
+    PopulatingContextSessionImpl session = new PopulatingContextSessionImpl();
+    String instance1 = new String("value");
+    String instance2 = new String("value");
+
+    /*----- Execution -----*/
+    session.addPopulatedInstance(instance1);
+
+    /*----- Verify -----*/
+    Assert.assertTrue(session.contains(instance1));
+    Assert.assertFalse(session.contains(instance2));
+
+    /*----- Execution -----*/
+    session.addPopulatedInstance(instance2);
+
+    /*----- Verify -----*/
+    Assert.assertTrue(session.contains(instance2));
+    Assert.assertEquals(2, session.getPopulatedInstances().size());
+    Assert.assertSame(instance1, session.getPopulatedInstances(String.class).get(0));
+    Assert.assertSame(instance2, session.getPopulatedInstances(String.class).get(1));
+  }
+
+  /**
+   * Test of method {@link PopulatingContextSessionImpl#contains} for added <code>null</code> value.
+   */
+  @Test
+  public void testContainsForNull() {
+    /*----- Preparation -----*/
+    PopulatingContextSessionImpl session = new PopulatingContextSessionImpl();
+
+    /*----- Execution -----*/
+    session.addPopulatedInstance(null);
+
+    /*----- Verify -----*/
+    Assert.assertTrue(session.contains(null));
+    Assert.assertEquals(1, session.getPopulatedInstances().size());
+  }
+
+  /**
+   * Test of method {@link PopulatingContextSessionImpl#contains} for each instance in the registry
+   * of populated instances. The session has to contain exactly the instances from the registry and
+   * it cannot contain their equal copies.
+   */
+  @Test
+  public void testContainsAgreesWithRegistry() {
+    /*----- Preparation -----*/
+    PopulatingContextSessionImpl session = new PopulatingContextSessionImpl();
+    Object[] objects = new Object[100];
+    for (int i = 0; i < objects.length; i++) {
+      objects[i] = new Integer(i / 2); // each added object has equal but distinct neighbour
+    }
+
+    /*----- Execution -----*/
+    for (int i = 0; i < objects.length; i += 2) {
+      session.addPopulatedInstance(objects[i]);
+    }
+
+    /*----- Verify -----*/
+    Assert.assertEquals(objects.length / 2, session.getPopulatedInstances().size());
+    for (Object instance : session.getPopulatedInstances()) {
+      Assert.assertTrue(session.contains(instance));
+    }
+    for (int i = 1; i < objects.length; i += 2) {
+      Assert.assertFalse(session.contains(objects[i]));
+    }
+  }
+
+  /**
+   * Test of method {@link PopulatingContextSessionImpl#clear} which is not allowed.
+   */
+  @Test(expected = UnsupportedOperationException.class)
+  public void testClear() {
+    new PopulatingContextSessionImpl().clear();
+  }
+}
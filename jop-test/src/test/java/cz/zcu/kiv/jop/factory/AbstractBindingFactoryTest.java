@@ -0,0 +1,82 @@
+package cz.zcu.kiv.jop.factory;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.factory.binding.BindingException;
+
+/**
+ * Test of abstract class {@link AbstractBindingFactory}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class AbstractBindingFactoryTest {
+
+  /**
+   * Test of method {@link AbstractBindingFactory#createInstance(Annotation)} for factory which is
+   * configured lazily (during the first creation of instance) and whose configuration fails. Each
+   * creation of instance has to configure the factory again and report the error of configuration.
+   */
+  @Test
+  public void testCreateInstanceForFailedLazyConfiguration() throws Exception {
+    /*----- Preparation -----*/
+    FailingBindingFactory factory = new FailingBindingFactory();
+    Annotation annotation = Annotated.class.getAnnotation(MockAnnotation.class);
+
+    /*----- Execution & Verify -----*/
+    for (int i = 1; i <= 2; i++) {
+      try {
+        factory.createInstance(annotation);
+        Assert.fail("Expected FactoryException");
+      }
+      catch (FactoryException exc) {
+        Assert.assertEquals("Configuration failed", exc.getCause().getMessage());
+      }
+      Assert.assertEquals(i, factory.configurations);
+    }
+  }
+
+  /**
+   * Mock annotation for bindings.
+   *
+   * @author Mr.FrAnTA
+   */
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target(ElementType.TYPE)
+  public static @interface MockAnnotation {}
+
+  /**
+   * Class annotated by mock annotation.
+   *
+   * @author Mr.FrAnTA
+   */
+  @MockAnnotation
+  public static class Annotated {}
+
+  /**
+   * Binding factory whose configuration binds the mock annotation and then fails.
+   *
+   * @author Mr.FrAnTA
+   */
+  private static class FailingBindingFactory extends AbstractBindingFactory<Runnable> {
+
+    /** Number of configurations of factory. */
+    private int configurations;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void configure() throws BindingException {
+      configurations++;
+      bind(MockAnnotation.class);
+      throw new BindingException("Configuration failed");
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package cz.zcu.kiv.jop.factory;
+
+import javax.inject.Singleton;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.AbstractContextTest;
+import cz.zcu.kiv.jop.ioc.ContextUnitSupport;
+
+/**
+ * Test of abstract class {@link AbstractFactory}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class AbstractFactoryTest extends AbstractContextTest {
+
+  /** Tested factory. */
+  private MockFactory mockFactory;
+
+  /**
+   * Test of method {@link AbstractFactory#createInstance} for <code>null</code> class type.
+   * Expected {@link FactoryException}.
+   */
+  @Test(expected = FactoryException.class)
+  public void testCreateInstanceForNull() throws FactoryException {
+    mockFactory.createInstance(null);
+  }
+
+  /**
+   * Test of method {@link AbstractFactory#createInstance} which has to create new instances of
+   * unscoped class by cached provider.
+   */
+  @Test
+  public void testCreateInstance() throws FactoryException {
+    /*----- Execution -----*/
+    Runnable instance1 = mockFactory.createInstance(MockRunnable.class);
+    Runnable instance2 = mockFactory.createInstance(MockRunnable.class);
+
+    /*----- Verify -----*/
+    Assert.assertTrue(instance1 instanceof MockRunnable);
+    Assert.assertTrue(instance2 instanceof MockRunnable);
+    Assert.assertNotSame(instance1, instance2);
+    Assert.assertEquals(1, mockFactory.providers.size());
+  }
+
+  /**
+   * Test of method {@link AbstractFactory#createInstance} which has to respect the scope of given
+   * class.
+   */
+  @Test
+  public void testCreateInstanceForSingleton() throws FactoryException {
+    /*----- Execution -----*/
+    Runnable instance1 = mockFactory.createInstance(SingletonMockRunnable.class);
+    Runnable instance2 = mockFactory.createInstance(SingletonMockRunnable.class);
+
+    /*----- Verify -----*/
+    Assert.assertSame(instance1, instance2);
+  }
+
+  /**
+   * Test of method {@link AbstractFactory#createInstance} for class which cannot be created.
+   * Expected {@link FactoryException}.
+   */
+  @Test(expected = FactoryException.class)
+  public void testCreateInstanceForFailingConstructor() throws FactoryException {
+    mockFactory.createInstance(FailingMockRunnable.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void prepareInstances() {
+    mockFactory = new MockFactory();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected ContextUnitSupport createUnitTestContext() {
+    return new ContextUnitSupport();
+  }
+
+  /**
+   * Mock factory of runnable objects.
+   *
+   * @author Mr.FrAnTA
+   */
+  private static class MockFactory extends AbstractFactory<Runnable> {
+    // nothing to do
+  }
+
+  /**
+   * Mock runnable object.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class MockRunnable implements Runnable {
+
+    /**
+     * Does nothing.
+     */
+    public void run() {
+      // nothing to do
+    }
+  }
+
+  /**
+   * Mock runnable object in singleton scope.
+   *
+   * @author Mr.FrAnTA
+   */
+  @Singleton
+  public static class SingletonMockRunnable extends MockRunnable {
+    // nothing to do
+  }
+
+  /**
+   * Mock runnable object which cannot be constructed.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class FailingMockRunnable extends MockRunnable {
+
+    /**
+     * Constructor which always fails.
+     */
+    public FailingMockRunnable() {
+      throw new IllegalStateException("Cannot be constructed");
+    }
+  }
+}
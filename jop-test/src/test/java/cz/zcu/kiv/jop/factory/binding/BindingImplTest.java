@@ -0,0 +1,183 @@
+package cz.zcu.kiv.jop.factory.binding;
+
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.AbstractContextTest;
+import cz.zcu.kiv.jop.annotation.Constructor;
+import cz.zcu.kiv.jop.ioc.ContextUnitSupport;
+
+/**
+ * Test of class {@link BindingImpl}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class BindingImplTest extends AbstractContextTest {
+
+  /**
+   * Test of method {@link BindingImpl#getInstance} for binding of provider which has to return
+   * instance from provider for each call.
+   */
+  @Test
+  public void testGetInstanceForProvider() throws BindingException {
+    /*----- Preparation -----*/
+    CountingProvider provider = new CountingProvider();
+    BindingImpl<Runnable> binding = new BindingImpl<Runnable>(Constructor.class, provider, false);
+
+    /*----- Execution -----*/
+    Runnable instance1 = binding.getInstance();
+    Runnable instance2 = binding.getInstance();
+
+    /*----- Verify -----*/
+    Assert.assertNotSame(instance1, instance2);
+    Assert.assertEquals(2, provider.count);
+    Assert.assertNull(binding.getType());
+  }
+
+  /**
+   * Test of method {@link BindingImpl#getInstance} for singleton binding of provider which has to
+   * use provider only once.
+   */
+  @Test
+  public void testGetInstanceForSingletonProvider() throws BindingException {
+    /*----- Preparation -----*/
+    CountingProvider provider = new CountingProvider();
+    BindingImpl<Runnable> binding = new BindingImpl<Runnable>(Constructor.class, provider, true);
+
+    /*----- Execution -----*/
+    Runnable instance1 = binding.getInstance();
+    Runnable instance2 = binding.getInstance();
+
+    /*----- Verify -----*/
+    Assert.assertSame(instance1, instance2);
+    Assert.assertEquals(1, provider.count);
+  }
+
+  /**
+   * Test of method {@link BindingImpl#getInstance} for binding of <code>null</code> provider.
+   * Expected {@link BindingException}.
+   */
+  @Test(expected = BindingException.class)
+  public void testGetInstanceForNullProvider() throws BindingException {
+    new BindingImpl<Runnable>(Constructor.class, (Provider<Runnable>)null, false).getInstance();
+  }
+
+  /**
+   * Test of method {@link BindingImpl#getInstance} for binding of type which has to return new
+   * instance for each call.
+   */
+  @Test
+  public void testGetInstanceForType() throws BindingException {
+    /*----- Preparation -----*/
+    BindingImpl<Runnable> binding = new BindingImpl<Runnable>(Constructor.class, MockRunnable.class);
+
+    /*----- Execution -----*/
+    Runnable instance1 = binding.getInstance();
+    Runnable instance2 = binding.getInstance();
+
+    /*----- Verify -----*/
+    Assert.assertTrue(instance1 instanceof MockRunnable);
+    Assert.assertNotSame(instance1, instance2);
+    Assert.assertFalse(binding.isSingleton());
+  }
+
+  /**
+   * Test of method {@link BindingImpl#getInstance} for binding of constructor which has to return
+   * new instance for each call.
+   */
+  @Test
+  public void testGetInstanceForConstructor() throws Exception {
+    /*----- Preparation -----*/
+    BindingImpl<Runnable> binding = new BindingImpl<Runnable>(Constructor.class, MockRunnable.class.getDeclaredConstructor());
+
+    /*----- Execution -----*/
+    Runnable instance1 = binding.getInstance();
+    Runnable instance2 = binding.getInstance();
+
+    /*----- Verify -----*/
+    Assert.assertTrue(instance1 instanceof MockRunnable);
+    Assert.assertNotSame(instance1, instance2);
+  }
+
+  /**
+   * Test of method {@link BindingImpl#isSingleton} for type annotated by {@link Singleton}
+   * annotation which cannot be changed by method {@link BindingImpl#setSingleton}.
+   */
+  @Test
+  public void testIsSingletonForAnnotatedType() throws BindingException {
+    /*----- Preparation -----*/
+    BindingImpl<Runnable> binding = new BindingImpl<Runnable>(Constructor.class, SingletonMockRunnable.class, false);
+
+    /*----- Execution -----*/
+    binding.setSingleton(false);
+
+    /*----- Verify -----*/
+    Assert.assertTrue(binding.isSingleton());
+    Assert.assertSame(binding.getInstance(), binding.getInstance());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void prepareInstances() {
+    // nothing to prepare
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected ContextUnitSupport createUnitTestContext() {
+    return new ContextUnitSupport();
+  }
+
+  /**
+   * Provider of runnable objects which counts provided instances.
+   *
+   * @author Mr.FrAnTA
+   */
+  private static class CountingProvider implements Provider<Runnable> {
+
+    /** Number of provided instances. */
+    private int count;
+
+    /**
+     * Returns new runnable object.
+     *
+     * @return New runnable object.
+     */
+    public Runnable get() {
+      count++;
+      return new MockRunnable();
+    }
+  }
+
+  /**
+   * Mock runnable object.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class MockRunnable implements Runnable {
+
+    /**
+     * Does nothing.
+     */
+    public void run() {
+      // nothing to do
+    }
+  }
+
+  /**
+   * Mock runnable object in singleton scope.
+   *
+   * @author Mr.FrAnTA
+   */
+  @Singleton
+  public static class SingletonMockRunnable extends MockRunnable {
+    // nothing to do
+  }
+}
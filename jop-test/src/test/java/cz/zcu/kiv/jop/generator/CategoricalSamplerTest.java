@@ -0,0 +1,79 @@
+package cz.zcu.kiv.jop.generator;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.mock.RandomMock;
+
+/**
+ * Test of class {@link CategoricalSampler}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class CategoricalSamplerTest {
+
+  /**
+   * Test of constructor {@link CategoricalSampler} for null values. Expected exception
+   * {@link ValueGeneratorException}.
+   */
+  @Test(expected = ValueGeneratorException.class)
+  public void testConstructorForNullValues() throws ValueGeneratorException {
+    new CategoricalSampler<String>(null, null);
+  }
+
+  /**
+   * Test of constructor {@link CategoricalSampler} for negative probability. Expected exception
+   * {@link ValueGeneratorException}.
+   */
+  @Test(expected = ValueGeneratorException.class)
+  public void testConstructorForNegativeProbability() throws ValueGeneratorException {
+    new CategoricalSampler<String>(new String[] {"a", "b"}, new double[] {0.5, -0.5});
+  }
+
+  /**
+   * Test of method {@link CategoricalSampler#sample} which has to return same values as the linear
+   * search in method {@link CategoricalGenerator#getValue(Random, Object[], double[])} for values
+   * with equal probabilities.
+   */
+  @Test
+  public void testSampleForEqualProbabilities() throws ValueGeneratorException {
+    /*----- Preparation -----*/
+    String[] values = new String[] {"a", "b", "c", "d"};
+    CategoricalSampler<String> sampler = new CategoricalSampler<String>(values, null);
+    RandomMock random = new RandomMock(0.0);
+
+    /*----- Execution & Verify -----*/
+    for (double value : new double[] {0.0, 0.1, 0.25, 0.3, 0.5, 0.75, 0.8, 0.999}) {
+      random.setValue(value);
+      Assert.assertEquals(CategoricalGenerator.getValue(random, values, null), sampler.sample(random));
+    }
+  }
+
+  /**
+   * Test of method {@link CategoricalSampler#sample} which has to sample values with given
+   * probabilities and which never returns value with zero probability.
+   */
+  @Test
+  public void testSampleForProbabilities() throws ValueGeneratorException {
+    /*----- Preparation -----*/
+    Integer[] values = new Integer[] {0, 1, 2, 3};
+    double[] probabilities = new double[] {0.1, 0.0, 0.6, 0.3};
+    CategoricalSampler<Integer> sampler = new CategoricalSampler<Integer>(values, probabilities);
+    Random random = new Random(42L);
+    int[] counts = new int[values.length];
+
+    /*----- Execution -----*/
+    int samples = 100000;
+    for (int i = 0; i < samples; i++) {
+      counts[sampler.sample(random)]++;
+    }
+
+    /*----- Verify -----*/
+    Assert.assertEquals(0, counts[1]);
+    for (int i = 0; i < values.length; i++) {
+      Assert.assertEquals(probabilities[i], (double)counts[i] / samples, 0.01);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package cz.zcu.kiv.jop.generator;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.annotation.generator.number.DiscreteUniformGenerator;
+import cz.zcu.kiv.jop.bean.JopBean;
+import cz.zcu.kiv.jop.ioc.ContextUnitSupport;
+import cz.zcu.kiv.jop.ioc.guice.CoreModule;
+import cz.zcu.kiv.jop.property.Property;
+
+/**
+ * Test of class {@link ValueGeneratorInvokerImpl}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class ValueGeneratorInvokerImplTest {
+
+  /** Support of jUnit context. */
+  private ContextUnitSupport contextUnitSupport;
+  /** Tested invoker of value generators. */
+  private ValueGeneratorInvokerImpl valueGeneratorInvoker;
+
+  /**
+   * Preparation of invoker for tests.
+   */
+  @Before
+  public void setUp() {
+    contextUnitSupport = new ContextUnitSupport(new CoreModule());
+    valueGeneratorInvoker = (ValueGeneratorInvokerImpl)contextUnitSupport.createInjector().getInstance(ValueGeneratorInvoker.class);
+  }
+
+  /**
+   * Cleanup after tests.
+   */
+  @After
+  public void tearDown() {
+    contextUnitSupport.dispose();
+  }
+
+  /**
+   * Test of method {@link ValueGeneratorInvokerImpl#getValue} which has to reuse the cached plan of
+   * value generator for all properties of the same class (even for properties of different beans).
+   */
+  @Test
+  public void testGetValueReusesPlan() throws ValueGeneratorException {
+    /*----- Preparation -----*/
+    Property<?> property1 = new JopBean(new FirstObject()).getDeclaredProperty("value");
+    Property<?> property2 = new JopBean(new FirstObject()).getDeclaredProperty("value");
+
+    /*----- Execution -----*/
+    Object value1 = valueGeneratorInvoker.getValue(property1);
+    Object value2 = valueGeneratorInvoker.getValue(property2);
+
+    /*----- Verify -----*/
+    Assert.assertEquals(Integer.valueOf(FirstObject.VALUE), value1);
+    Assert.assertEquals(Integer.valueOf(FirstObject.VALUE), value2);
+    Assert.assertEquals(1, valueGeneratorInvoker.generatorPlans.size());
+    Assert.assertSame(valueGeneratorInvoker.getGeneratorPlan(property1), valueGeneratorInvoker.getGeneratorPlan(property2));
+  }
+
+  /**
+   * Test of method {@link ValueGeneratorInvokerImpl#getValue} for properties of different classes
+   * with the same name and type but with different annotations. Each property has to use its own
+   * plan of value generator.
+   */
+  @Test
+  public void testGetValueForDifferentClasses() throws ValueGeneratorException {
+    /*----- Preparation -----*/
+    Property<?> property1 = new JopBean(new FirstObject()).getDeclaredProperty("value");
+    Property<?> property2 = new JopBean(new SecondObject()).getDeclaredProperty("value");
+
+    /*----- Execution & Verify -----*/
+    for (int i = 0; i < 3; i++) {
+      Assert.assertEquals(Integer.valueOf(FirstObject.VALUE), valueGeneratorInvoker.getValue(property1));
+      Assert.assertEquals(Integer.valueOf(SecondObject.VALUE), valueGeneratorInvoker.getValue(property2));
+    }
+    Assert.assertEquals(2, valueGeneratorInvoker.generatorPlans.size());
+  }
+
+  /**
+   * The first mock object whose property has always the same value.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class FirstObject {
+
+    /** The generated value. */
+    public static final int VALUE = 1;
+
+    /** The value of object. */
+    @DiscreteUniformGenerator(min = VALUE, max = VALUE)
+    protected int value;
+  }
+
+  /**
+   * The second mock object whose property has the same name and type as property of
+   * {@link FirstObject} but different value.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class SecondObject {
+
+    /** The generated value. */
+    public static final int VALUE = 2;
+
+    /** The value of object. */
+    @DiscreteUniformGenerator(min = VALUE, max = VALUE)
+    protected int value;
+  }
+}
@@ -161,6 +161,38 @@ public class RandomBooleanGeneratorTest extends AbstractContextTest {
     Assert.assertArrayEquals(expected, values);
   }
 
+  /**
+   * Test of method {@link RandomBooleanGenerator#fill} which has to obtain the random generator
+   * only once for all filled values.
+   */
+  @Test
+  public void testFill() throws ValueGeneratorException {
+    /*----- Preparation -----*/
+    final RandomBoolean randomBoolean = new RandomBooleanImpl(0.5);
+    Object[] values = new Object[12];
+
+    /*----- Expectations -----*/
+    // @formatter:off
+    Object[] expected = new Object[] {
+        null, Boolean.TRUE, Boolean.TRUE, Boolean.TRUE, Boolean.TRUE, Boolean.TRUE,
+        Boolean.TRUE, Boolean.TRUE, Boolean.TRUE, Boolean.TRUE, Boolean.TRUE, null
+    };
+    // @formatter:on
+
+    mockery.checking(new Expectations() {
+      {
+        exactly(1).of(getInstance(RandomGeneratorSession.class)).getRandomGenerator(with(equal(randomBoolean)));
+        will(new ReturnRandomAction());
+      }
+    });
+
+    /*----- Execution -----*/
+    randomBooleanGenerator.fill(randomBoolean, values, 1, 10);
+
+    /*----- Verify -----*/
+    Assert.assertArrayEquals(expected, values);
+  }
+
   // ------------------------------ helpers ------------------------------------
 
   /**
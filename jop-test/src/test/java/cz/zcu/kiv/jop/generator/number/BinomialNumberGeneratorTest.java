@@ -0,0 +1,199 @@
+package cz.zcu.kiv.jop.generator.number;
+
+import java.util.Random;
+
+import org.jmock.Expectations;
+import org.jmock.Mockery;
+import org.junit.Assert;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.AbstractContextTest;
+import cz.zcu.kiv.jop.annotation.generator.number.BinomialGenerator;
+import cz.zcu.kiv.jop.annotation.generator.number.BinomialGeneratorImpl;
+import cz.zcu.kiv.jop.generator.ValueGeneratorException;
+import cz.zcu.kiv.jop.ioc.ContextUnitSupport;
+import cz.zcu.kiv.jop.ioc.guice.MockModule;
+import cz.zcu.kiv.jop.session.RandomGeneratorSession;
+
+/**
+ * Test of class {@link BinomialNumberGenerator}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class BinomialNumberGeneratorTest extends AbstractContextTest {
+
+  /**
+   * Test of method {@link BinomialNumberGenerator#getValue} for <code>null</code> parameters.
+   * Expected {@link ValueGeneratorException}.
+   */
+  @Test(expected = ValueGeneratorException.class)
+  public void testGetValueForNullParams() throws ValueGeneratorException {
+    binomialNumberGenerator.getValue(null);
+  }
+
+  /**
+   * Test of method {@link BinomialNumberGenerator#getValue} for given annotation with zero number
+   * of trials. Expected {@link ValueGeneratorException}.
+   */
+  @Test(expected = ValueGeneratorException.class)
+  public void testGetValueForZeroTrials() throws ValueGeneratorException {
+    binomialNumberGenerator.getValue(new BinomialGeneratorImpl(0, 0.5));
+  }
+
+  /**
+   * Test of method {@link BinomialNumberGenerator#getValue} for given annotation with zero
+   * probability. Expected {@link ValueGeneratorException}.
+   */
+  @Test(expected = ValueGeneratorException.class)
+  public void testGetValueForZeroProbability() throws ValueGeneratorException {
+    binomialNumberGenerator.getValue(new BinomialGeneratorImpl(10, 0.0));
+  }
+
+  /**
+   * Test of method {@link BinomialNumberGenerator#getValue} for given annotation with probability
+   * equal to one. Expected {@link ValueGeneratorException}.
+   */
+  @Test(expected = ValueGeneratorException.class)
+  public void testGetValueForUnitProbability() throws ValueGeneratorException {
+    binomialNumberGenerator.getValue(new BinomialGeneratorImpl(10, 1.0));
+  }
+
+  /**
+   * Test of method {@link BinomialNumberGenerator#getSampler} which has to create the sampler only
+   * once for the same parameters.
+   */
+  @Test
+  public void testGetSampler() throws ValueGeneratorException {
+    /*----- Preparation -----*/
+    BinomialGenerator params = new BinomialGeneratorImpl(10, 0.5);
+
+    /*----- Execution & Verify -----*/
+    Assert.assertSame(binomialNumberGenerator.getSampler(params), binomialNumberGenerator.getSampler(params));
+    Assert.assertNotSame(binomialNumberGenerator.getSampler(params), binomialNumberGenerator.getSampler(new BinomialGeneratorImpl(10, 0.5)));
+  }
+
+  /**
+   * Test of method {@link BinomialNumberGenerator#fill} for small mean (values generated by
+   * inversion method) which has to generate values with mean <code>n * p</code> and variance
+   * <code>n * p * (1 - p)</code>.
+   */
+  @Test
+  public void testFillForMomentsOfSmallMean() throws ValueGeneratorException {
+    checkMoments(20, 0.3);
+  }
+
+  /**
+   * Test of method {@link BinomialNumberGenerator#fill} for large mean and probability greater than
+   * 0.5 (values generated by BTRS method for mirrored probability) which has to generate values with
+   * mean <code>n * p</code> and variance <code>n * p * (1 - p)</code>.
+   */
+  @Test
+  public void testFillForMomentsOfLargeMean() throws ValueGeneratorException {
+    checkMoments(1000, 0.7);
+  }
+
+  // ------------------------------ helpers ------------------------------------
+
+  /**
+   * Generates values with binomial distribution for given parameters and checks their range, mean
+   * and variance.
+   *
+   * @param trials the number of trials.
+   * @param probability the probability of success.
+   * @throws ValueGeneratorException If some error occurs during generating of values.
+   */
+  private void checkMoments(int trials, double probability) throws ValueGeneratorException {
+    /*----- Preparation -----*/
+    final BinomialGenerator params = new BinomialGeneratorImpl(trials, probability);
+    expectRandomGenerator(params);
+    int[] values = new int[100000];
+    double expectedMean = trials * probability;
+    double expectedVariance = expectedMean * (1.0 - probability);
+
+    /*----- Execution -----*/
+    binomialNumberGenerator.fill(params, values, 0, values.length);
+
+    /*----- Verify -----*/
+    double mean = 0.0;
+    for (int i = 0; i < values.length; i++) {
+      Assert.assertTrue(values[i] >= 0 && values[i] <= trials);
+      mean += values[i];
+    }
+    mean /= values.length;
+
+    double variance = 0.0;
+    for (int i = 0; i < values.length; i++) {
+      variance += (values[i] - mean) * (values[i] - mean);
+    }
+    variance /= values.length - 1;
+
+    Assert.assertEquals(expectedMean, mean, 0.01 * expectedMean);
+    Assert.assertEquals(expectedVariance, variance, 0.03 * expectedVariance);
+  }
+
+  /**
+   * Prepares expectation of random generator session which returns seeded random generator for
+   * given parameters.
+   *
+   * @param params the parameters of number value generator.
+   */
+  private void expectRandomGenerator(final BinomialGenerator params) {
+    mockery.checking(new Expectations() {
+      {
+        allowing(getInstance(RandomGeneratorSession.class)).getRandomGenerator(with(equal(params)));
+        will(returnValue(new Random(42L)));
+      }
+    });
+  }
+
+  // ------------------------------ context ------------------------------------
+
+  /** Tested number generator. */
+  private BinomialNumberGenerator binomialNumberGenerator;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void prepareInstances() {
+    // prepare testing instance
+    binomialNumberGenerator = injector.getInstance(BinomialNumberGenerator.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected ContextUnitSupport createUnitTestContext() {
+    // @formatter:off
+    return new ContextUnitSupport(
+        new BinomialNumberGeneratorModule(mockery)
+    );
+    // @formatter:on
+  }
+
+  /**
+   * Google Guice module for context of this test.
+   *
+   * @author Mr.FrAnTA
+   */
+  private class BinomialNumberGeneratorModule extends MockModule {
+    /**
+     * Constructs module with given mockery.
+     *
+     * @param mockery the mockery which will be used for mocking.
+     */
+    public BinomialNumberGeneratorModule(Mockery mockery) {
+      super(mockery);
+    }
+
+    /**
+     * Configures mocked bindings.
+     */
+    @Override
+    protected void configure() {
+      bindMock(RandomGeneratorSession.class);
+    }
+  }
+
+}
@@ -0,0 +1,165 @@
+package cz.zcu.kiv.jop.generator.number;
+
+import java.util.Random;
+
+import org.jmock.Expectations;
+import org.jmock.Mockery;
+import org.junit.Assert;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.AbstractContextTest;
+import cz.zcu.kiv.jop.annotation.generator.number.ExponentialGenerator;
+import cz.zcu.kiv.jop.annotation.generator.number.ExponentialGeneratorImpl;
+import cz.zcu.kiv.jop.generator.ValueGeneratorException;
+import cz.zcu.kiv.jop.ioc.ContextUnitSupport;
+import cz.zcu.kiv.jop.ioc.guice.MockModule;
+import cz.zcu.kiv.jop.session.RandomGeneratorSession;
+
+/**
+ * Test of class {@link ExponentialNumberGenerator}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class ExponentialNumberGeneratorTest extends AbstractContextTest {
+
+  /**
+   * Test of method {@link ExponentialNumberGenerator#getValue} for <code>null</code> parameters.
+   * Expected {@link ValueGeneratorException}.
+   */
+  @Test(expected = ValueGeneratorException.class)
+  public void testGetValueForNullParams() throws ValueGeneratorException {
+    exponentialNumberGenerator.getValue(null);
+  }
+
+  /**
+   * Test of method {@link ExponentialNumberGenerator#getValue} for given annotation with zero rate.
+   * Expected {@link ValueGeneratorException}.
+   */
+  @Test(expected = ValueGeneratorException.class)
+  public void testGetValueForZeroRate() throws ValueGeneratorException {
+    exponentialNumberGenerator.getValue(new ExponentialGeneratorImpl(0.0));
+  }
+
+  /**
+   * Test of method {@link ExponentialNumberGenerator#getValue} for given annotation with negative
+   * rate. Expected {@link ValueGeneratorException}.
+   */
+  @Test(expected = ValueGeneratorException.class)
+  public void testGetValueForNegativeRate() throws ValueGeneratorException {
+    exponentialNumberGenerator.getValue(new ExponentialGeneratorImpl(-1.0));
+  }
+
+  /**
+   * Test of method {@link ExponentialNumberGenerator#getSampler} which has to create the sampler
+   * only once for the same parameters.
+   */
+  @Test
+  public void testGetSampler() throws ValueGeneratorException {
+    /*----- Preparation -----*/
+    ExponentialGenerator params = new ExponentialGeneratorImpl(1.0);
+
+    /*----- Execution & Verify -----*/
+    Assert.assertSame(exponentialNumberGenerator.getSampler(params), exponentialNumberGenerator.getSampler(params));
+    Assert.assertNotSame(exponentialNumberGenerator.getSampler(params), exponentialNumberGenerator.getSampler(new ExponentialGeneratorImpl(1.0)));
+  }
+
+  /**
+   * Test of method {@link ExponentialNumberGenerator#fill} which has to generate non-negative
+   * values with mean <code>1 / rate</code> and variance <code>1 / rate^2</code>.
+   */
+  @Test
+  public void testFillForMoments() throws ValueGeneratorException {
+    /*----- Preparation -----*/
+    final ExponentialGenerator params = new ExponentialGeneratorImpl(0.5);
+    expectRandomGenerator(params);
+    double[] values = new double[100000];
+
+    /*----- Execution -----*/
+    exponentialNumberGenerator.fill(params, values, 0, values.length);
+
+    /*----- Verify -----*/
+    double mean = 0.0;
+    for (int i = 0; i < values.length; i++) {
+      Assert.assertTrue(values[i] >= 0.0);
+      mean += values[i];
+    }
+    mean /= values.length;
+
+    double variance = 0.0;
+    for (int i = 0; i < values.length; i++) {
+      variance += (values[i] - mean) * (values[i] - mean);
+    }
+    variance /= values.length - 1;
+
+    Assert.assertEquals(2.0, mean, 0.05);
+    Assert.assertEquals(4.0, variance, 0.2);
+  }
+
+  // ------------------------------ helpers ------------------------------------
+
+  /**
+   * Prepares expectation of random generator session which returns seeded random generator for
+   * given parameters.
+   *
+   * @param params the parameters of number value generator.
+   */
+  private void expectRandomGenerator(final ExponentialGenerator params) {
+    mockery.checking(new Expectations() {
+      {
+        allowing(getInstance(RandomGeneratorSession.class)).getRandomGenerator(with(equal(params)));
+        will(returnValue(new Random(42L)));
+      }
+    });
+  }
+
+  // ------------------------------ context ------------------------------------
+
+  /** Tested number generator. */
+  private ExponentialNumberGenerator exponentialNumberGenerator;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void prepareInstances() {
+    // prepare testing instance
+    exponentialNumberGenerator = injector.getInstance(ExponentialNumberGenerator.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected ContextUnitSupport createUnitTestContext() {
+    // @formatter:off
+    return new ContextUnitSupport(
+        new ExponentialNumberGeneratorModule(mockery)
+    );
+    // @formatter:on
+  }
+
+  /**
+   * Google Guice module for context of this test.
+   *
+   * @author Mr.FrAnTA
+   */
+  private class ExponentialNumberGeneratorModule extends MockModule {
+    /**
+     * Constructs module with given mockery.
+     *
+     * @param mockery the mockery which will be used for mocking.
+     */
+    public ExponentialNumberGeneratorModule(Mockery mockery) {
+      super(mockery);
+    }
+
+    /**
+     * Configures mocked bindings.
+     */
+    @Override
+    protected void configure() {
+      bindMock(RandomGeneratorSession.class);
+    }
+  }
+
+}
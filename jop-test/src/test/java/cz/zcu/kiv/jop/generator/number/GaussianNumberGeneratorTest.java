@@ -0,0 +1,171 @@
+package cz.zcu.kiv.jop.generator.number;
+
+import java.util.Random;
+
+import org.jmock.Expectations;
+import org.jmock.Mockery;
+import org.junit.Assert;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.AbstractContextTest;
+import cz.zcu.kiv.jop.annotation.generator.number.GaussianGenerator;
+import cz.zcu.kiv.jop.annotation.generator.number.GaussianGeneratorImpl;
+import cz.zcu.kiv.jop.generator.ValueGeneratorException;
+import cz.zcu.kiv.jop.ioc.ContextUnitSupport;
+import cz.zcu.kiv.jop.ioc.guice.MockModule;
+import cz.zcu.kiv.jop.session.RandomGeneratorSession;
+
+/**
+ * Test of class {@link GaussianNumberGenerator}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class GaussianNumberGeneratorTest extends AbstractContextTest {
+
+  /**
+   * Test of method {@link GaussianNumberGenerator#getValue} for <code>null</code> parameters.
+   * Expected {@link ValueGeneratorException}.
+   */
+  @Test(expected = ValueGeneratorException.class)
+  public void testGetValueForNullParams() throws ValueGeneratorException {
+    gaussianNumberGenerator.getValue(null);
+  }
+
+  /**
+   * Test of method {@link GaussianNumberGenerator#getValue} for given annotation with negative
+   * variance. Expected {@link ValueGeneratorException}.
+   */
+  @Test(expected = ValueGeneratorException.class)
+  public void testGetValueForNegativeVariance() throws ValueGeneratorException {
+    gaussianNumberGenerator.getValue(new GaussianGeneratorImpl(0.0, -1.0));
+  }
+
+  /**
+   * Test of method {@link GaussianNumberGenerator#getDoubleValue} for zero variance which has to
+   * return always the mean.
+   */
+  @Test
+  public void testGetDoubleValueForZeroVariance() throws ValueGeneratorException {
+    /*----- Preparation -----*/
+    final GaussianGenerator params = new GaussianGeneratorImpl(2.5, 0.0);
+    expectRandomGenerator(params);
+
+    /*----- Execution & Verify -----*/
+    for (int i = 0; i < 10; i++) {
+      Assert.assertEquals(2.5, gaussianNumberGenerator.getDoubleValue(params), 0.0);
+    }
+  }
+
+  /**
+   * Test of method {@link GaussianNumberGenerator#getSampler} which has to create the sampler only
+   * once for the same parameters.
+   */
+  @Test
+  public void testGetSampler() throws ValueGeneratorException {
+    /*----- Preparation -----*/
+    GaussianGenerator params = new GaussianGeneratorImpl(0.0, 1.0);
+
+    /*----- Execution & Verify -----*/
+    Assert.assertSame(gaussianNumberGenerator.getSampler(params), gaussianNumberGenerator.getSampler(params));
+    Assert.assertNotSame(gaussianNumberGenerator.getSampler(params), gaussianNumberGenerator.getSampler(new GaussianGeneratorImpl(0.0, 1.0)));
+  }
+
+  /**
+   * Test of method {@link GaussianNumberGenerator#fill} which has to generate values with mean and
+   * standard deviation (parameter variance) of given parameters.
+   */
+  @Test
+  public void testFillForMoments() throws ValueGeneratorException {
+    /*----- Preparation -----*/
+    final GaussianGenerator params = new GaussianGeneratorImpl(3.0, 2.0);
+    expectRandomGenerator(params);
+    double[] values = new double[100000];
+
+    /*----- Execution -----*/
+    gaussianNumberGenerator.fill(params, values, 0, values.length);
+
+    /*----- Verify -----*/
+    double mean = 0.0;
+    for (int i = 0; i < values.length; i++) {
+      mean += values[i];
+    }
+    mean /= values.length;
+
+    double variance = 0.0;
+    for (int i = 0; i < values.length; i++) {
+      variance += (values[i] - mean) * (values[i] - mean);
+    }
+    variance /= values.length - 1;
+
+    Assert.assertEquals(3.0, mean, 0.05);
+    Assert.assertEquals(2.0, Math.sqrt(variance), 0.05);
+  }
+
+  // ------------------------------ helpers ------------------------------------
+
+  /**
+   * Prepares expectation of random generator session which returns seeded random generator for
+   * given parameters.
+   *
+   * @param params the parameters of number value generator.
+   */
+  private void expectRandomGenerator(final GaussianGenerator params) {
+    mockery.checking(new Expectations() {
+      {
+        allowing(getInstance(RandomGeneratorSession.class)).getRandomGenerator(with(equal(params)));
+        will(returnValue(new Random(42L)));
+      }
+    });
+  }
+
+  // ------------------------------ context ------------------------------------
+
+  /** Tested number generator. */
+  private GaussianNumberGenerator gaussianNumberGenerator;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void prepareInstances() {
+    // prepare testing instance
+    gaussianNumberGenerator = injector.getInstance(GaussianNumberGenerator.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected ContextUnitSupport createUnitTestContext() {
+    // @formatter:off
+    return new ContextUnitSupport(
+        new GaussianNumberGeneratorModule(mockery)
+    );
+    // @formatter:on
+  }
+
+  /**
+   * Google Guice module for context of this test.
+   *
+   * @author Mr.FrAnTA
+   */
+  private class GaussianNumberGeneratorModule extends MockModule {
+    /**
+     * Constructs module with given mockery.
+     *
+     * @param mockery the mockery which will be used for mocking.
+     */
+    public GaussianNumberGeneratorModule(Mockery mockery) {
+      super(mockery);
+    }
+
+    /**
+     * Configures mocked bindings.
+     */
+    @Override
+    protected void configure() {
+      bindMock(RandomGeneratorSession.class);
+    }
+  }
+
+}
@@ -0,0 +1,184 @@
+package cz.zcu.kiv.jop.generator.number;
+
+import java.util.Random;
+
+import org.jmock.Expectations;
+import org.jmock.Mockery;
+import org.junit.Assert;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.AbstractContextTest;
+import cz.zcu.kiv.jop.annotation.generator.number.PoissonGenerator;
+import cz.zcu.kiv.jop.annotation.generator.number.PoissonGeneratorImpl;
+import cz.zcu.kiv.jop.generator.ValueGeneratorException;
+import cz.zcu.kiv.jop.ioc.ContextUnitSupport;
+import cz.zcu.kiv.jop.ioc.guice.MockModule;
+import cz.zcu.kiv.jop.session.RandomGeneratorSession;
+
+/**
+ * Test of class {@link PoissonNumberGenerator}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class PoissonNumberGeneratorTest extends AbstractContextTest {
+
+  /**
+   * Test of method {@link PoissonNumberGenerator#getValue} for <code>null</code> parameters.
+   * Expected {@link ValueGeneratorException}.
+   */
+  @Test(expected = ValueGeneratorException.class)
+  public void testGetValueForNullParams() throws ValueGeneratorException {
+    poissonNumberGenerator.getValue(null);
+  }
+
+  /**
+   * Test of method {@link PoissonNumberGenerator#getValue} for given annotation with zero mean.
+   * Expected {@link ValueGeneratorException}.
+   */
+  @Test(expected = ValueGeneratorException.class)
+  public void testGetValueForZeroMean() throws ValueGeneratorException {
+    poissonNumberGenerator.getValue(new PoissonGeneratorImpl(0.0));
+  }
+
+  /**
+   * Test of method {@link PoissonNumberGenerator#getValue} for given annotation with negative mean.
+   * Expected {@link ValueGeneratorException}.
+   */
+  @Test(expected = ValueGeneratorException.class)
+  public void testGetValueForNegativeMean() throws ValueGeneratorException {
+    poissonNumberGenerator.getValue(new PoissonGeneratorImpl(-1.0));
+  }
+
+  /**
+   * Test of method {@link PoissonNumberGenerator#getSampler} which has to create the sampler only
+   * once for the same parameters.
+   */
+  @Test
+  public void testGetSampler() throws ValueGeneratorException {
+    /*----- Preparation -----*/
+    PoissonGenerator params = new PoissonGeneratorImpl(1.0);
+
+    /*----- Execution & Verify -----*/
+    Assert.assertSame(poissonNumberGenerator.getSampler(params), poissonNumberGenerator.getSampler(params));
+    Assert.assertNotSame(poissonNumberGenerator.getSampler(params), poissonNumberGenerator.getSampler(new PoissonGeneratorImpl(1.0)));
+  }
+
+  /**
+   * Test of method {@link PoissonNumberGenerator#fill} for small mean (values generated by
+   * multiplication method) which has to generate values with mean and variance equal to given mean.
+   */
+  @Test
+  public void testFillForMomentsOfSmallMean() throws ValueGeneratorException {
+    checkMoments(4.0);
+  }
+
+  /**
+   * Test of method {@link PoissonNumberGenerator#fill} for large mean (values generated by PTRS
+   * method) which has to generate values with mean and variance equal to given mean.
+   */
+  @Test
+  public void testFillForMomentsOfLargeMean() throws ValueGeneratorException {
+    checkMoments(50.0);
+  }
+
+  // ------------------------------ helpers ------------------------------------
+
+  /**
+   * Generates values with Poisson distribution for given mean and checks their mean and variance.
+   *
+   * @param expectedMean the mean of Poisson distribution.
+   * @throws ValueGeneratorException If some error occurs during generating of values.
+   */
+  private void checkMoments(double expectedMean) throws ValueGeneratorException {
+    /*----- Preparation -----*/
+    final PoissonGenerator params = new PoissonGeneratorImpl(expectedMean);
+    expectRandomGenerator(params);
+    int[] values = new int[100000];
+
+    /*----- Execution -----*/
+    poissonNumberGenerator.fill(params, values, 0, values.length);
+
+    /*----- Verify -----*/
+    double mean = 0.0;
+    for (int i = 0; i < values.length; i++) {
+      Assert.assertTrue(values[i] >= 0);
+      mean += values[i];
+    }
+    mean /= values.length;
+
+    double variance = 0.0;
+    for (int i = 0; i < values.length; i++) {
+      variance += (values[i] - mean) * (values[i] - mean);
+    }
+    variance /= values.length - 1;
+
+    Assert.assertEquals(expectedMean, mean, 0.01 * expectedMean);
+    Assert.assertEquals(expectedMean, variance, 0.03 * expectedMean);
+  }
+
+  /**
+   * Prepares expectation of random generator session which returns seeded random generator for
+   * given parameters.
+   *
+   * @param params the parameters of number value generator.
+   */
+  private void expectRandomGenerator(final PoissonGenerator params) {
+    mockery.checking(new Expectations() {
+      {
+        allowing(getInstance(RandomGeneratorSession.class)).getRandomGenerator(with(equal(params)));
+        will(returnValue(new Random(42L)));
+      }
+    });
+  }
+
+  // ------------------------------ context ------------------------------------
+
+  /** Tested number generator. */
+  private PoissonNumberGenerator poissonNumberGenerator;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void prepareInstances() {
+    // prepare testing instance
+    poissonNumberGenerator = injector.getInstance(PoissonNumberGenerator.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected ContextUnitSupport createUnitTestContext() {
+    // @formatter:off
+    return new ContextUnitSupport(
+        new PoissonNumberGeneratorModule(mockery)
+    );
+    // @formatter:on
+  }
+
+  /**
+   * Google Guice module for context of this test.
+   *
+   * @author Mr.FrAnTA
+   */
+  private class PoissonNumberGeneratorModule extends MockModule {
+    /**
+     * Constructs module with given mockery.
+     *
+     * @param mockery the mockery which will be used for mocking.
+     */
+    public PoissonNumberGeneratorModule(Mockery mockery) {
+      super(mockery);
+    }
+
+    /**
+     * Configures mocked bindings.
+     */
+    @Override
+    protected void configure() {
+      bindMock(RandomGeneratorSession.class);
+    }
+  }
+
+}
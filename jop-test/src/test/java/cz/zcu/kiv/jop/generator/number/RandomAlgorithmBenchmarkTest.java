@@ -0,0 +1,120 @@
+package cz.zcu.kiv.jop.generator.number;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.annotation.generator.number.GaussianGenerator;
+import cz.zcu.kiv.jop.annotation.generator.number.GaussianGeneratorImpl;
+import cz.zcu.kiv.jop.annotation.generator.number.UniformGenerator;
+import cz.zcu.kiv.jop.annotation.generator.number.UniformGeneratorImpl;
+import cz.zcu.kiv.jop.generator.ValueGeneratorException;
+import cz.zcu.kiv.jop.random.RandomAlgorithm;
+import cz.zcu.kiv.jop.session.ThreadLocalRandomGeneratorSessionImpl;
+
+/**
+ * Simple benchmark which compares throughput of {@link UniformNumberGenerator} and
+ * {@link GaussianNumberGenerator} for all algorithms of random generators ({@link RandomAlgorithm}).
+ * The generators use {@link ThreadLocalRandomGeneratorSessionImpl} with the tested algorithm.
+ * <p>
+ * The benchmark only prints the measured times, so its test is ignored by the build and it has to
+ * be run manually (by its test or by its {@link #main} method). The number of generated values may
+ * be given as program argument.
+ *
+ * @author Mr.FrAnTA
+ */
+public class RandomAlgorithmBenchmarkTest {
+
+  /** Default number of generated values. */
+  private static final int DEFAULT_COUNT = 10000000;
+  /** Number of warm up rounds. */
+  private static final int WARM_UP_ROUNDS = 3;
+
+  /** Parameters of uniform generator. */
+  private static final UniformGenerator UNIFORM_PARAMS = new UniformGeneratorImpl(-10.0, 10.0);
+  /** Parameters of Gaussian generator. */
+  private static final GaussianGenerator GAUSSIAN_PARAMS = new GaussianGeneratorImpl(0.0, 1.0);
+
+  /** Sink for generated values which prevents elimination of generating. */
+  private static double sink;
+
+  /**
+   * Generates given number of values by uniform generator and returns the elapsed time in
+   * nanoseconds.
+   *
+   * @param generator the tested generator.
+   * @param count the number of generated values.
+   * @return Elapsed time in nanoseconds.
+   * @throws ValueGeneratorException If generating of value failed.
+   */
+  private static long generateUniform(UniformNumberGenerator generator, int count) throws ValueGeneratorException {
+    long start = System.nanoTime();
+    for (int i = 0; i < count; i++) {
+      sink += generator.getDoubleValue(UNIFORM_PARAMS);
+    }
+
+    return System.nanoTime() - start;
+  }
+
+  /**
+   * Generates given number of values by Gaussian generator and returns the elapsed time in
+   * nanoseconds.
+   *
+   * @param generator the tested generator.
+   * @param count the number of generated values.
+   * @return Elapsed time in nanoseconds.
+   * @throws ValueGeneratorException If generating of value failed.
+   */
+  private static long generateGaussian(GaussianNumberGenerator generator, int count) throws ValueGeneratorException {
+    long start = System.nanoTime();
+    for (int i = 0; i < count; i++) {
+      sink += generator.getDoubleValue(GAUSSIAN_PARAMS);
+    }
+
+    return System.nanoTime() - start;
+  }
+
+  /**
+   * Runs the benchmark with default number of generated values.
+   */
+  @Test
+  @Ignore(value = "Benchmark has to be run manually")
+  public void testThroughput() throws ValueGeneratorException {
+    main(new String[0]);
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the number of generated values (optional).
+   * @throws ValueGeneratorException If generating of value failed.
+   */
+  public static void main(String[] args) throws ValueGeneratorException {
+    int count = DEFAULT_COUNT;
+    if (args.length > 0) {
+      count = Integer.parseInt(args[0]);
+    }
+
+    for (RandomAlgorithm algorithm : RandomAlgorithm.values()) {
+      ThreadLocalRandomGeneratorSessionImpl session = new ThreadLocalRandomGeneratorSessionImpl(42L);
+      session.setRandomAlgorithm(algorithm);
+
+      UniformNumberGenerator uniform = new UniformNumberGenerator();
+      uniform.setRandomGeneratorSession(session);
+      GaussianNumberGenerator gaussian = new GaussianNumberGenerator();
+      gaussian.setRandomGeneratorSession(session);
+
+      for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+        generateUniform(uniform, count / 10);
+        generateGaussian(gaussian, count / 10);
+      }
+
+      long uniformElapsed = generateUniform(uniform, count);
+      long gaussianElapsed = generateGaussian(gaussian, count);
+      System.out.printf("%-25s uniform: %,10.1f Mops/s   gaussian: %,10.1f Mops/s%n", algorithm, count * 1000.0 / uniformElapsed, count * 1000.0 / gaussianElapsed);
+    }
+
+    if (sink == 0) {
+      System.out.println(); // never happens, uses the sink
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package cz.zcu.kiv.jop.generator.number;
+
+import java.util.Random;
+
+import org.jmock.Expectations;
+import org.jmock.Mockery;
+import org.jmock.api.Invocation;
+import org.jmock.lib.action.CustomAction;
+import org.junit.Assert;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.AbstractContextTest;
+import cz.zcu.kiv.jop.annotation.generator.number.UniformGenerator;
+import cz.zcu.kiv.jop.annotation.generator.number.UniformGeneratorImpl;
+import cz.zcu.kiv.jop.generator.ValueGeneratorException;
+import cz.zcu.kiv.jop.ioc.ContextUnitSupport;
+import cz.zcu.kiv.jop.ioc.guice.MockModule;
+import cz.zcu.kiv.jop.session.RandomGeneratorSession;
+
+/**
+ * Test of class {@link UniformNumberGenerator}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class UniformNumberGeneratorTest extends AbstractContextTest {
+
+  /**
+   * Test of method {@link UniformNumberGenerator#fill} for given annotation with minimum greater
+   * than maximum. Expected {@link ValueGeneratorException}.
+   */
+  @Test(expected = ValueGeneratorException.class)
+  public void testFillForInvalidBounds() throws ValueGeneratorException {
+    uniformNumberGenerator.fill(new UniformGeneratorImpl(1.0, 0.0), new double[10], 0, 10);
+  }
+
+  /**
+   * Test of method {@link UniformNumberGenerator#fill} for same minimum and maximum which has to
+   * fill given part of array by constant value without using of random generator.
+   */
+  @Test
+  public void testFillForSameBounds() throws ValueGeneratorException {
+    /*----- Preparation -----*/
+    double[] values = new double[5];
+
+    /*----- Execution -----*/
+    uniformNumberGenerator.fill(new UniformGeneratorImpl(2.5, 2.5), values, 1, 3);
+
+    /*----- Verify -----*/
+    Assert.assertArrayEquals(new double[] {0.0, 2.5, 2.5, 2.5, 0.0}, values, 0.0);
+  }
+
+  /**
+   * Test of method {@link UniformNumberGenerator#fill} which has to fill the array by the same
+   * values as values returned by repeated invocations of method
+   * {@link UniformNumberGenerator#getDoubleValue}.
+   */
+  @Test
+  public void testFill() throws ValueGeneratorException {
+    /*----- Preparation -----*/
+    final int count = 100;
+    final UniformGenerator params = new UniformGeneratorImpl(-5.0, 10.0);
+    final ReturnRandomAction action = new ReturnRandomAction();
+
+    /*----- Expectations -----*/
+    mockery.checking(new Expectations() {
+      {
+        allowing(getInstance(RandomGeneratorSession.class)).getRandomGenerator(with(equal(params)));
+        will(action);
+      }
+    });
+
+    /*----- Execution -----*/
+    action.random = new Random(42L);
+    double[] expected = new double[count];
+    for (int i = 0; i < count; i++) {
+      expected[i] = uniformNumberGenerator.getDoubleValue(params);
+    }
+
+    action.random = new Random(42L);
+    double[] values = new double[count];
+    uniformNumberGenerator.fill(params, values, 0, count);
+
+    /*----- Verify -----*/
+    Assert.assertArrayEquals(expected, values, 0.0);
+    for (int i = 0; i < count; i++) {
+      Assert.assertTrue(values[i] >= -5.0 && values[i] <= 10.0);
+    }
+  }
+
+  // ------------------------------ helpers ------------------------------------
+
+  /**
+   * Mock of action which returns the actually set random generator.
+   *
+   * @author Mr.FrAnTA
+   */
+  private static class ReturnRandomAction extends CustomAction {
+
+    /** The returned random generator. */
+    private Random random;
+
+    /**
+     * Constructs the action.
+     */
+    public ReturnRandomAction() {
+      super("returns random generator");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Object invoke(Invocation invocation) throws Throwable {
+      return random;
+    }
+  }
+
+  // ------------------------------ context ------------------------------------
+
+  /** Tested number generator. */
+  private UniformNumberGenerator uniformNumberGenerator;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void prepareInstances() {
+    // prepare testing instance
+    uniformNumberGenerator = injector.getInstance(UniformNumberGenerator.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected ContextUnitSupport createUnitTestContext() {
+    // @formatter:off
+    return new ContextUnitSupport(
+        new UniformNumberGeneratorModule(mockery)
+    );
+    // @formatter:on
+  }
+
+  /**
+   * Google Guice module for context of this test.
+   *
+   * @author Mr.FrAnTA
+   */
+  private class UniformNumberGeneratorModule extends MockModule {
+    /**
+     * Constructs module with given mockery.
+     *
+     * @param mockery the mockery which will be used for mocking.
+     */
+    public UniformNumberGeneratorModule(Mockery mockery) {
+      super(mockery);
+    }
+
+    /**
+     * Configures mocked bindings.
+     */
+    @Override
+    protected void configure() {
+      bindMock(RandomGeneratorSession.class);
+    }
+  }
+
+}
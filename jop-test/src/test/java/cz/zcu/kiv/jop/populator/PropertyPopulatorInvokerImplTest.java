@@ -0,0 +1,141 @@
+package cz.zcu.kiv.jop.populator;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.annotation.generator.number.DiscreteUniformGenerator;
+import cz.zcu.kiv.jop.annotation.populator.NumberValue;
+import cz.zcu.kiv.jop.annotation.populator.PropertyPopulatorsOrder;
+import cz.zcu.kiv.jop.annotation.populator.StringValue;
+import cz.zcu.kiv.jop.bean.JopBean;
+import cz.zcu.kiv.jop.ioc.ContextUnitSupport;
+import cz.zcu.kiv.jop.ioc.guice.CoreModule;
+import cz.zcu.kiv.jop.property.Property;
+import cz.zcu.kiv.jop.property.PropertyException;
+
+/**
+ * Test of class {@link PropertyPopulatorInvokerImpl}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class PropertyPopulatorInvokerImplTest {
+
+  /** Support of jUnit context. */
+  private ContextUnitSupport contextUnitSupport;
+  /** Tested invoker of property populators. */
+  private PropertyPopulatorInvokerImpl propertyPopulatorInvoker;
+
+  /**
+   * Preparation of invoker for tests.
+   */
+  @Before
+  public void setUp() {
+    contextUnitSupport = new ContextUnitSupport(new CoreModule());
+    propertyPopulatorInvoker = (PropertyPopulatorInvokerImpl)contextUnitSupport.createInjector().getInstance(PropertyPopulatorInvoker.class);
+  }
+
+  /**
+   * Cleanup after tests.
+   */
+  @After
+  public void tearDown() {
+    contextUnitSupport.dispose();
+  }
+
+  /**
+   * Test of method {@link PropertyPopulatorInvokerImpl#invokeNextPopulator(Property, Class)} which
+   * has to reuse the cached link of chain of property populators and which has to return value of
+   * each invocation.
+   */
+  @Test
+  public void testInvokeNextPopulatorReusesChainedProperty() throws PropertyPopulatorException {
+    /*----- Preparation -----*/
+    Property<?> property = new JopBean(new MockObject()).getDeclaredProperty("number");
+
+    /*----- Execution -----*/
+    Number value1 = propertyPopulatorInvoker.invokeNextPopulator(property, Number.class);
+    Number value2 = propertyPopulatorInvoker.invokeNextPopulator(property, Number.class);
+
+    /*----- Verify -----*/
+    Assert.assertEquals(Integer.valueOf(MockObject.VALUE), value1);
+    Assert.assertEquals(Integer.valueOf(MockObject.VALUE), value2);
+    Assert.assertEquals(1, propertyPopulatorInvoker.chainedProperties.size());
+    Assert.assertSame(propertyPopulatorInvoker.getChainedProperty(property, Number.class), propertyPopulatorInvoker.getChainedProperty(property, Number.class));
+  }
+
+  /**
+   * Test of method {@link PropertyPopulatorInvokerImpl#getChainedProperty} for link of chain and
+   * for next link of this chain which have the same type but different annotations. The links
+   * cannot be equal and they have to have their own plans of property populators.
+   */
+  @Test
+  public void testGetChainedPropertyForNextLink() throws PropertyPopulatorException {
+    /*----- Preparation -----*/
+    Property<?> property = new JopBean(new MockObject()).getDeclaredProperty("string");
+
+    /*----- Execution -----*/
+    ChainedProperty<Integer> chainedProperty = propertyPopulatorInvoker.getChainedProperty(property, Integer.class);
+    ChainedProperty<Integer> nextChainedProperty = propertyPopulatorInvoker.getChainedProperty(chainedProperty, Integer.class);
+
+    /*----- Verify -----*/
+    Assert.assertFalse(chainedProperty.equals(nextChainedProperty));
+    Assert.assertEquals(property.getAnnotation(NumberValue.class), propertyPopulatorInvoker.getPopulatorPlan(chainedProperty).getParams());
+    Assert.assertNull(propertyPopulatorInvoker.getPopulatorPlan(nextChainedProperty).getParams());
+  }
+
+  /**
+   * Test of method {@link PropertyPopulatorInvokerImpl#getPopulatorPlan} for two chained properties
+   * with the same parent property and type but with different order of annotations. The properties
+   * cannot share the cached plan of property populator nor the value.
+   */
+  @Test
+  public void testGetPopulatorPlanForDifferentChainedAnnotations() throws PropertyPopulatorException, PropertyException {
+    /*----- Preparation -----*/
+    Property<?> property = new JopBean(new MockObject()).getDeclaredProperty("string");
+    Annotation numberValue = property.getAnnotation(NumberValue.class);
+    Annotation stringValue = property.getAnnotation(StringValue.class);
+
+    ChainedProperty<Integer> chainedProperty1 = new ChainedProperty<Integer>(property, Integer.class, Arrays.asList(numberValue, stringValue));
+    ChainedProperty<Integer> chainedProperty2 = new ChainedProperty<Integer>(property, Integer.class, Arrays.asList(stringValue, numberValue));
+    ChainedProperty.ValueHolder valueHolder1 = chainedProperty1.createValueHolder();
+    ChainedProperty.ValueHolder valueHolder2 = chainedProperty2.createValueHolder();
+
+    /*----- Execution -----*/
+    chainedProperty1.getSetter().set(valueHolder1, 1);
+    chainedProperty2.getSetter().set(valueHolder2, 2);
+
+    /*----- Verify -----*/
+    Assert.assertFalse(chainedProperty1.equals(chainedProperty2));
+    Assert.assertEquals(numberValue, propertyPopulatorInvoker.getPopulatorPlan(chainedProperty1).getParams());
+    Assert.assertEquals(stringValue, propertyPopulatorInvoker.getPopulatorPlan(chainedProperty2).getParams());
+    Assert.assertEquals(Integer.valueOf(1), chainedProperty1.getGetter().get(valueHolder1));
+    Assert.assertEquals(Integer.valueOf(2), chainedProperty2.getGetter().get(valueHolder2));
+  }
+
+  /**
+   * Mock object whose properties are annotated by chains of property populators.
+   *
+   * @author Mr.FrAnTA
+   */
+  public static class MockObject {
+
+    /** The generated value. */
+    public static final int VALUE = 5;
+
+    /** The number property with one chained property populator. */
+    @NumberValue
+    @DiscreteUniformGenerator(min = VALUE, max = VALUE)
+    protected int number;
+
+    /** The string property with two chained property populators. */
+    @StringValue
+    @NumberValue
+    @PropertyPopulatorsOrder({StringValue.class, NumberValue.class})
+    protected String string;
+  }
+}
@@ -148,6 +148,24 @@ public class AbstractPropertyTest {
     Assert.assertEquals(MockObject.class.getDeclaredField(MockObject.PROPERTY4), property4);
   }
 
+  /**
+   * Test of methods {@link AbstractProperty#equals(Object)} and {@link AbstractProperty#hashCode()}
+   * which have to be usable as keys for caches of properties.
+   */
+  @Test
+  public void testEqualsAndHashCode() {
+    AbstractPropertyMock<?> property = new AbstractPropertyMock<Object>(MockObject.class, "property1");
+    AbstractPropertyMock<?> sameProperty = new AbstractPropertyMock<Object>(MockObject.class, "property1");
+
+    Assert.assertEquals(property, sameProperty);
+    Assert.assertEquals(property.hashCode(), sameProperty.hashCode());
+
+    Assert.assertFalse(property.equals(new AbstractPropertyMock<Object>(MockObject.class, "property2")));
+    Assert.assertFalse(property.equals(new AbstractPropertyMock<Object>(MockSuperObject.class, "property1")));
+    Assert.assertFalse(property.equals(new DirectAccessProperty<Object>(MockObject.class, "property1")));
+    Assert.assertFalse(property.equals(null));
+  }
+
 
   /**
    * Mock object for abstract property.
@@ -0,0 +1,154 @@
+package cz.zcu.kiv.jop.property;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of class {@link FastAccessProperty}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class FastAccessPropertyTest {
+
+  /**
+   * Test of method {@link FastAccessProperty#getGetter} for non-existing field.
+   */
+  @Test(expected = GetterNotFoundException.class)
+  public void testGetGetterForNonExisting() throws Exception {
+    FastAccessProperty<Object> property = new FastAccessProperty<Object>(MockObject.class, "property");
+    property.getGetter();
+  }
+
+  /**
+   * Test of method {@link FastAccessProperty#getSetter} for final field.
+   */
+  @Test(expected = SetterNotFoundException.class)
+  public void testGetSetterForFinal() throws Exception {
+    FastAccessProperty<Object> property = new FastAccessProperty<Object>(MockObject.class, MockObject.PROPERTY3);
+    property.getSetter();
+  }
+
+  /**
+   * Test of getter and setter of {@link FastAccessProperty} for property of primitive type.
+   */
+  @Test
+  public void testGetAndSetPrimitive() throws Exception {
+    /*----- Preparation -----*/
+    FastAccessProperty<Integer> property = new FastAccessProperty<Integer>(MockObject.class, MockObject.PROPERTY2);
+    MockObject mockObject = new MockObject();
+
+    /*----- Execution & Verify -----*/
+    property.getSetter().set(mockObject, 42);
+    Assert.assertEquals(42, mockObject.getProperty2());
+    Assert.assertEquals(Integer.valueOf(42), property.getGetter().get(mockObject));
+  }
+
+  /**
+   * Test of methods {@link FastAccessProperty#getGetter} and {@link FastAccessProperty#getSetter}
+   * which have to return the getter and setter accessing the field by its offset (if the unsafe is
+   * available in current JVM).
+   */
+  @Test
+  public void testGetGetterAndSetterForFastAccess() throws Exception {
+    /*----- Preparation -----*/
+    FastAccessProperty<Integer> property = new FastAccessProperty<Integer>(MockObject.class, MockObject.PROPERTY2);
+
+    /*----- Execution & Verify -----*/
+    Assert.assertTrue(UnsafeFieldAccessor.isAvailable());
+    Assert.assertTrue(property.getGetter() instanceof FastAccessProperty.FastGetter);
+    Assert.assertTrue(property.getSetter() instanceof FastAccessProperty.FastSetter);
+  }
+
+  /**
+   * Test of setter of {@link FastAccessProperty} for value which has to be widened (it has to
+   * behave as the setter of {@link DirectAccessProperty}).
+   */
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void testSetWidenedPrimitive() throws Exception {
+    /*----- Preparation -----*/
+    FastAccessProperty property = new FastAccessProperty<Integer>(MockObject.class, MockObject.PROPERTY2);
+    MockObject mockObject = new MockObject();
+
+    /*----- Execution -----*/
+    property.getSetter().set(mockObject, Short.valueOf((short)7));
+
+    /*----- Verify -----*/
+    Assert.assertEquals(7, mockObject.getProperty2());
+  }
+
+  /**
+   * Test of setter of {@link FastAccessProperty} for value of incorrect type. Expected
+   * {@link PropertyAccessException}.
+   */
+  @Test(expected = PropertyAccessException.class)
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void testSetIncorrectValue() throws Exception {
+    FastAccessProperty property = new FastAccessProperty<String>(MockObject.class, MockObject.PROPERTY4);
+    property.getSetter().set(new MockObject(), Integer.valueOf(1));
+  }
+
+  /**
+   * Test of setter of {@link FastAccessProperty} for null value and property of primitive type.
+   * Expected {@link PropertyAccessException}.
+   */
+  @Test(expected = PropertyAccessException.class)
+  public void testSetNullToPrimitive() throws Exception {
+    FastAccessProperty<Integer> property = new FastAccessProperty<Integer>(MockObject.class, MockObject.PROPERTY2);
+    property.getSetter().set(new MockObject(), null);
+  }
+
+  /**
+   * Test of getter of {@link FastAccessProperty} for incorrect owner. Expected
+   * {@link PropertyAccessException}.
+   */
+  @Test(expected = PropertyAccessException.class)
+  public void testGetForIncorrectOwner() throws Exception {
+    FastAccessProperty<String> property = new FastAccessProperty<String>(MockObject.class, MockObject.PROPERTY4);
+    property.getGetter().get(new Object());
+  }
+
+  /**
+   * Test of getter and setter of {@link FastAccessProperty} for property of object type.
+   */
+  @Test
+  public void testGetAndSetObject() throws Exception {
+    /*----- Preparation -----*/
+    FastAccessProperty<String> property = new FastAccessProperty<String>(MockObject.class, MockObject.PROPERTY4);
+    MockObject mockObject = new MockObject();
+
+    /*----- Execution & Verify -----*/
+    property.getSetter().set(mockObject, "value");
+    Assert.assertEquals("value", property.getGetter().get(mockObject));
+
+    property.getSetter().set(mockObject, null);
+    Assert.assertNull(property.getGetter().get(mockObject));
+  }
+
+  /**
+   * Test of primitive setter of {@link FastAccessProperty} for value of primitive type.
+   */
+  @Test
+  public void testSetPrimitiveWithoutWrapping() throws Exception {
+    /*----- Preparation -----*/
+    FastAccessProperty<Integer> property = new FastAccessProperty<Integer>(MockObject.class, MockObject.PROPERTY2);
+    MockObject mockObject = new MockObject();
+
+    /*----- Execution -----*/
+    PrimitiveSetter<Integer> setter = (PrimitiveSetter<Integer>)property.getSetter();
+    setter.setInt(mockObject, 11);
+
+    /*----- Verify -----*/
+    Assert.assertEquals(11, mockObject.getProperty2());
+  }
+
+  /**
+   * Test of primitive setter of {@link FastAccessProperty} for value which would require narrowing
+   * primitive conversion. Expected {@link PropertyAccessException}.
+   */
+  @Test(expected = PropertyAccessException.class)
+  public void testSetPrimitiveWithNarrowing() throws Exception {
+    FastAccessProperty<Integer> property = new FastAccessProperty<Integer>(MockObject.class, MockObject.PROPERTY2);
+    ((PrimitiveSetter<Integer>)property.getSetter()).setDouble(new MockObject(), 1.5);
+  }
+}
@@ -0,0 +1,56 @@
+package cz.zcu.kiv.jop.random;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of class {@link BinomialSampler}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class BinomialSamplerTest {
+
+  /**
+   * Test of constructor {@link BinomialSampler} for invalid probability. Expected exception
+   * {@link IllegalArgumentException}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructorForInvalidProbability() {
+    new BinomialSampler(10, 1.0);
+  }
+
+  /**
+   * Test of method {@link BinomialSampler#sample} for small and large means (both methods of
+   * sampler) and for probabilities greater than 0.5 which has to generate values with given mean
+   * and variance.
+   */
+  @Test
+  public void testSample() {
+    int[] trials = new int[] {10, 20, 100, 1000, 1000};
+    double[] probabilities = new double[] {0.3, 0.9, 0.5, 0.05, 0.75};
+    for (int t = 0; t < trials.length; t++) {
+      /*----- Preparation -----*/
+      BinomialSampler sampler = new BinomialSampler(trials[t], probabilities[t]);
+      Random random = new Random(42L);
+      double expectedMean = trials[t] * probabilities[t];
+      double expectedVariance = expectedMean * (1.0 - probabilities[t]);
+
+      /*----- Execution -----*/
+      int samples = 100000;
+      double sum = 0, sumOfSquares = 0;
+      for (int i = 0; i < samples; i++) {
+        int value = sampler.sample(random);
+        Assert.assertTrue(value >= 0 && value <= trials[t]);
+        sum += value;
+        sumOfSquares += (double)value * value;
+      }
+
+      /*----- Verify -----*/
+      double mean = sum / samples;
+      Assert.assertEquals(expectedMean, mean, expectedMean * 0.01);
+      Assert.assertEquals(expectedVariance, sumOfSquares / samples - mean * mean, expectedVariance * 0.03);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package cz.zcu.kiv.jop.random;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of class {@link ExponentialSampler}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class ExponentialSamplerTest {
+
+  /**
+   * Test of constructor {@link ExponentialSampler} for zero rate. Expected exception
+   * {@link IllegalArgumentException}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructorForZeroRate() {
+    new ExponentialSampler(0.0);
+  }
+
+  /**
+   * Test of method {@link ExponentialSampler#sample} which has to generate non-negative values
+   * with mean and tail of exponential distribution.
+   */
+  @Test
+  public void testSample() {
+    /*----- Preparation -----*/
+    ExponentialSampler sampler = new ExponentialSampler(2.0);
+    Random random = new Random(42L);
+
+    /*----- Execution -----*/
+    int samples = 200000;
+    double sum = 0;
+    int tail = 0;
+    for (int i = 0; i < samples; i++) {
+      double value = sampler.sample(random);
+      Assert.assertTrue(value >= 0.0);
+      sum += value;
+      if (value > 1.5) {
+        tail++;
+      }
+    }
+
+    /*----- Verify -----*/
+    Assert.assertEquals(0.5, sum / samples, 0.005);
+    Assert.assertEquals(Math.exp(-3.0), (double)tail / samples, 0.003);
+  }
+}
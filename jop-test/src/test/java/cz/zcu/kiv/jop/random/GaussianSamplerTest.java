@@ -0,0 +1,53 @@
+package cz.zcu.kiv.jop.random;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of class {@link GaussianSampler}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class GaussianSamplerTest {
+
+  /**
+   * Test of constructor {@link GaussianSampler} for negative standard deviation. Expected exception
+   * {@link IllegalArgumentException}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructorForNegativeStandardDeviation() {
+    new GaussianSampler(0.0, -1.0);
+  }
+
+  /**
+   * Test of method {@link GaussianSampler#sample} which has to generate values with given mean and
+   * standard deviation.
+   */
+  @Test
+  public void testSample() {
+    /*----- Preparation -----*/
+    GaussianSampler sampler = new GaussianSampler(5.0, 2.0);
+    Random random = new Random(42L);
+
+    /*----- Execution -----*/
+    int samples = 200000;
+    double sum = 0, sumOfSquares = 0;
+    int tail = 0;
+    for (int i = 0; i < samples; i++) {
+      double value = sampler.sample(random);
+      sum += value;
+      sumOfSquares += value * value;
+      if (Math.abs(value - 5.0) > 2.0 * 2.0) {
+        tail++;
+      }
+    }
+
+    /*----- Verify -----*/
+    double mean = sum / samples;
+    Assert.assertEquals(5.0, mean, 0.02);
+    Assert.assertEquals(2.0, Math.sqrt(sumOfSquares / samples - mean * mean), 0.02);
+    Assert.assertEquals(0.0455, (double)tail / samples, 0.003); // outside of 2 sigma
+  }
+}
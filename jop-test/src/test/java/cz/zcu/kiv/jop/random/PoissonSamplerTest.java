@@ -0,0 +1,51 @@
+package cz.zcu.kiv.jop.random;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of class {@link PoissonSampler}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class PoissonSamplerTest {
+
+  /**
+   * Test of constructor {@link PoissonSampler} for negative mean. Expected exception
+   * {@link IllegalArgumentException}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructorForNegativeMean() {
+    new PoissonSampler(-1.0);
+  }
+
+  /**
+   * Test of method {@link PoissonSampler#sample} for small and large means (both methods of
+   * sampler) which has to generate values with given mean and variance.
+   */
+  @Test
+  public void testSample() {
+    for (double expected : new double[] {0.5, 4.0, 10.0, 250.0}) {
+      /*----- Preparation -----*/
+      PoissonSampler sampler = new PoissonSampler(expected);
+      Random random = new Random(42L);
+
+      /*----- Execution -----*/
+      int samples = 100000;
+      double sum = 0, sumOfSquares = 0;
+      for (int i = 0; i < samples; i++) {
+        int value = sampler.sample(random);
+        Assert.assertTrue(value >= 0);
+        sum += value;
+        sumOfSquares += (double)value * value;
+      }
+
+      /*----- Verify -----*/
+      double mean = sum / samples;
+      Assert.assertEquals(expected, mean, expected * 0.01 + 0.01);
+      Assert.assertEquals(expected, sumOfSquares / samples - mean * mean, expected * 0.03 + 0.01);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package cz.zcu.kiv.jop.random;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of random generators created by {@link RandomAlgorithm}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class RandomAlgorithmTest {
+
+  /**
+   * Test of method {@link RandomAlgorithm#createRandom} which creates random generators which
+   * generate same values for same seed.
+   */
+  @Test
+  public void testCreateRandomForSameSeed() {
+    for (RandomAlgorithm algorithm : RandomAlgorithm.values()) {
+      /*----- Preparation -----*/
+      Random random1 = algorithm.createRandom(42L);
+      Random random2 = algorithm.createRandom(42L);
+
+      /*----- Execution & Verify -----*/
+      for (int i = 0; i < 100; i++) {
+        Assert.assertEquals(algorithm.name(), random1.nextLong(), random2.nextLong());
+      }
+    }
+  }
+
+  /**
+   * Test of method {@link Random#setSeed} of created random generators which restarts the sequence
+   * of generated values.
+   */
+  @Test
+  public void testSetSeed() {
+    for (RandomAlgorithm algorithm : RandomAlgorithm.values()) {
+      /*----- Preparation -----*/
+      Random random = algorithm.createRandom(42L);
+      long value = random.nextLong();
+      double gaussian = random.nextGaussian();
+
+      /*----- Execution -----*/
+      random.setSeed(42L);
+
+      /*----- Verify -----*/
+      Assert.assertEquals(algorithm.name(), value, random.nextLong());
+      Assert.assertEquals(algorithm.name(), gaussian, random.nextGaussian(), 0.0);
+    }
+  }
+
+  /**
+   * Test of ranges of values generated by created random generators.
+   */
+  @Test
+  public void testRanges() {
+    for (RandomAlgorithm algorithm : RandomAlgorithm.values()) {
+      /*----- Preparation -----*/
+      Random random = algorithm.createRandom(42L);
+
+      /*----- Execution & Verify -----*/
+      double sum = 0;
+      for (int i = 0; i < 10000; i++) {
+        double value = random.nextDouble();
+        Assert.assertTrue(algorithm.name(), value >= 0.0 && value < 1.0);
+        sum += value;
+
+        float floatValue = random.nextFloat();
+        Assert.assertTrue(algorithm.name(), floatValue >= 0.0f && floatValue < 1.0f);
+
+        int intValue = random.nextInt(10);
+        Assert.assertTrue(algorithm.name(), intValue >= 0 && intValue < 10);
+      }
+      Assert.assertEquals(algorithm.name(), 0.5, sum / 10000, 0.02);
+    }
+  }
+
+  /**
+   * Test of values generated by {@link SplitMix64Random} which have to be same as values of the
+   * reference implementation of algorithm.
+   */
+  @Test
+  public void testSplitMix64Random() {
+    /*----- Preparation -----*/
+    Random random = new SplitMix64Random(0L);
+
+    /*----- Execution & Verify -----*/
+    Assert.assertEquals(0xe220a8397b1dcdafL, random.nextLong());
+    Assert.assertEquals(0x6e789e6aa1b965f4L, random.nextLong());
+    Assert.assertEquals(0x06c45d188009454fL, random.nextLong());
+  }
+}
@@ -0,0 +1,168 @@
+package cz.zcu.kiv.jop.session;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of session class {@link BoundedPopulatingSession}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class BoundedPopulatingSessionTest {
+
+  /**
+   * Test of constructor {@link BoundedPopulatingSession} for invalid capacity. Expected exception
+   * {@link IllegalArgumentException}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructorForInvalidCapacity() {
+    new BoundedPopulatingSession(0, EvictionPolicy.FIFO);
+  }
+
+  /**
+   * Test of eviction of the oldest instance for {@link EvictionPolicy#FIFO} policy.
+   */
+  @Test
+  public void testAddPopulatedInstanceForFifo() {
+    /*----- Preparation -----*/
+    BoundedPopulatingSession session = new BoundedPopulatingSession(2, EvictionPolicy.FIFO);
+
+    /*----- Execution -----*/
+    session.addPopulatedInstance("a");
+    session.addPopulatedInstance("b");
+    session.addPopulatedInstance("a");
+    session.addPopulatedInstance("c");
+
+    /*----- Verify -----*/
+    Assert.assertEquals(Arrays.asList("b", "c"), session.getPopulatedInstances());
+    Assert.assertEquals(1, session.getStatistics().getEvictedCount());
+  }
+
+  /**
+   * Test of eviction of the least recently used instance for {@link EvictionPolicy#LRU} policy.
+   */
+  @Test
+  public void testAddPopulatedInstanceForLru() {
+    /*----- Preparation -----*/
+    BoundedPopulatingSession session = new BoundedPopulatingSession(2, EvictionPolicy.LRU);
+
+    /*----- Execution -----*/
+    session.addPopulatedInstance("a");
+    session.addPopulatedInstance("b");
+    session.addPopulatedInstance("a");
+    session.addPopulatedInstance("c");
+
+    /*----- Verify -----*/
+    Assert.assertEquals(Arrays.asList("a", "c"), session.getPopulatedInstances());
+  }
+
+  /**
+   * Test of capacity of session for {@link EvictionPolicy#RANDOM} policy.
+   */
+  @Test
+  public void testAddPopulatedInstanceForRandom() {
+    /*----- Preparation -----*/
+    BoundedPopulatingSession session = new BoundedPopulatingSession(10, EvictionPolicy.RANDOM);
+
+    /*----- Execution -----*/
+    for (int i = 0; i < 100; i++) {
+      session.addPopulatedInstance(Integer.valueOf(i));
+    }
+
+    /*----- Verify -----*/
+    Assert.assertEquals(10, session.getPopulatedInstances().size());
+    Assert.assertEquals(90, session.getStatistics().getEvictedCount());
+  }
+
+  /**
+   * Test of method {@link BoundedPopulatingSession#getSnapshot()} which checks that the registry of
+   * stored instances is not rebuilt after adding of instances and eviction of the oldest instance.
+   */
+  @Test
+  public void testGetSnapshotForFifo() {
+    /*----- Preparation -----*/
+    BoundedPopulatingSession session = new BoundedPopulatingSession(2, EvictionPolicy.FIFO);
+    session.addPopulatedInstance("a");
+    PopulatingSession snapshot = session.getSnapshot();
+    InstanceRegistry registry = session.getRegistry();
+
+    /*----- Execution -----*/
+    session.addPopulatedInstance("b");
+    session.addPopulatedInstance("c");
+    PopulatingSession next = session.getSnapshot();
+
+    /*----- Verify -----*/
+    Assert.assertSame(registry, session.getRegistry());
+    Assert.assertEquals(Arrays.asList("a"), snapshot.getPopulatedInstances());
+    Assert.assertEquals(Arrays.asList("b", "c"), next.getPopulatedInstances());
+    Assert.assertEquals(Arrays.asList("b", "c"), next.getPopulatedInstances(String.class));
+  }
+
+  /**
+   * Test of eviction for {@link EvictionPolicy#LRU} policy after lookup of instances in snapshot.
+   * The instance obtained from found instances is used, so it's not evicted and the registry of
+   * stored instances is not rebuilt.
+   */
+  @Test
+  public void testAddPopulatedInstanceForLruAfterLookup() {
+    /*----- Preparation -----*/
+    BoundedPopulatingSession session = new BoundedPopulatingSession(2, EvictionPolicy.LRU);
+    session.addPopulatedInstance("a");
+    session.addPopulatedInstance("b");
+    PopulatingSession snapshot = session.getSnapshot();
+    InstanceRegistry registry = session.getRegistry();
+
+    /*----- Execution -----*/
+    Assert.assertEquals("a", snapshot.getPopulatedInstances(String.class).get(0));
+    session.addPopulatedInstance("c");
+
+    /*----- Verify -----*/
+    Assert.assertSame(registry, session.getRegistry());
+    Assert.assertEquals(Arrays.asList("a", "c"), session.getPopulatedInstances());
+    Assert.assertEquals(Arrays.asList("a", "c"), session.getSnapshot().getPopulatedInstances(String.class));
+    Assert.assertEquals(Arrays.asList("a", "b"), snapshot.getPopulatedInstances());
+  }
+
+  /**
+   * Test of eviction for {@link EvictionPolicy#FIFO} policy after lookup of instances in snapshot.
+   * The usage of instances is not recorded, so the oldest instance is evicted.
+   */
+  @Test
+  public void testAddPopulatedInstanceForFifoAfterLookup() {
+    /*----- Preparation -----*/
+    BoundedPopulatingSession session = new BoundedPopulatingSession(2, EvictionPolicy.FIFO);
+    session.addPopulatedInstance("a");
+    session.addPopulatedInstance("b");
+
+    /*----- Execution -----*/
+    Assert.assertEquals("a", session.getSnapshot().getPopulatedInstances(String.class).get(0));
+    session.addPopulatedInstance("c");
+
+    /*----- Verify -----*/
+    Assert.assertEquals(Arrays.asList("b", "c"), session.getPopulatedInstances());
+  }
+
+  /**
+   * Test of statistics of searches in snapshot of session.
+   */
+  @Test
+  public void testGetStatistics() {
+    /*----- Preparation -----*/
+    BoundedPopulatingSession session = new BoundedPopulatingSession(10, EvictionPolicy.LRU);
+    session.addPopulatedInstance("a");
+
+    /*----- Execution -----*/
+    PopulatingSession snapshot = session.getSnapshot();
+    snapshot.getPopulatedInstances(String.class);
+    snapshot.getPopulatedInstances(Integer.class);
+
+    /*----- Verify -----*/
+    PopulatingSessionStatistics statistics = session.getStatistics();
+    Assert.assertSame(snapshot, session.getSnapshot()); // cached snapshot
+    Assert.assertEquals(1, statistics.getSnapshotCount());
+    Assert.assertEquals(2, statistics.getLookupCount());
+    Assert.assertEquals(0.5, statistics.getHitRate(), 0.0);
+  }
+}
@@ -0,0 +1,69 @@
+package cz.zcu.kiv.jop.session;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of session class {@link GlobalPopulatingSession}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class GlobalPopulatingSessionTest {
+
+  /**
+   * Test of method {@link GlobalPopulatingSession#getPopulatedInstances()} which returns immutable
+   * view of stored instances which is not affected by next changes of session.
+   */
+  @Test
+  public void testGetPopulatedInstances() {
+    /*----- Preparation -----*/
+    GlobalPopulatingSession session = new GlobalPopulatingSession();
+    session.addPopulatedInstance("a");
+
+    /*----- Execution -----*/
+    List<Object> instances = session.getPopulatedInstances();
+    session.addPopulatedInstance(Integer.valueOf(1));
+    session.clear();
+
+    /*----- Verify -----*/
+    Assert.assertEquals(Arrays.asList("a"), instances);
+    Assert.assertTrue(session.getPopulatedInstances().isEmpty());
+  }
+
+  /**
+   * Test of method {@link GlobalPopulatingSession#getPopulatedInstances(Class)} which returns
+   * immutable view of stored instances of given type which is not affected by next changes of
+   * session.
+   */
+  @Test
+  public void testGetPopulatedInstancesForType() {
+    /*----- Preparation -----*/
+    GlobalPopulatingSession session = new GlobalPopulatingSession();
+    session.addPopulatedInstance("a");
+    session.addPopulatedInstance(Integer.valueOf(1));
+
+    /*----- Execution -----*/
+    List<Object> instances = session.getPopulatedInstances(String.class);
+    session.addPopulatedInstance("b");
+
+    /*----- Verify -----*/
+    Assert.assertEquals(Arrays.asList("a"), instances);
+    Assert.assertEquals(Arrays.asList("a", "b"), session.getPopulatedInstances(CharSequence.class));
+  }
+
+  /**
+   * Test of method {@link GlobalPopulatingSession#getPopulatedInstances()} which returns list which
+   * cannot be modified. Expected exception {@link UnsupportedOperationException}.
+   */
+  @Test(expected = UnsupportedOperationException.class)
+  public void testGetPopulatedInstancesIsReadOnly() {
+    /*----- Preparation -----*/
+    GlobalPopulatingSession session = new GlobalPopulatingSession();
+
+    /*----- Execution -----*/
+    session.getPopulatedInstances().add("a");
+  }
+}
@@ -0,0 +1,221 @@
+package cz.zcu.kiv.jop.session;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of class {@link InstanceRegistry}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class InstanceRegistryTest {
+
+  /**
+   * Test of method {@link InstanceRegistry#getInstances(Class)} for instances registered before
+   * creation of index.
+   */
+  @Test
+  public void testGetInstancesBeforeIndexing() {
+    /*----- Preparation -----*/
+    Integer number = Integer.valueOf(1);
+    Long longNumber = Long.valueOf(2L);
+    InstanceRegistry registry = new InstanceRegistry(Arrays.<Object>asList("a", number, null, longNumber));
+
+    /*----- Execution -----*/
+    List<Object> numbers = registry.getInstances(Number.class);
+
+    /*----- Verify -----*/
+    Assert.assertEquals(Arrays.<Object>asList(number, longNumber), numbers);
+    Assert.assertEquals(4, registry.size());
+  }
+
+  /**
+   * Test of method {@link InstanceRegistry#getInstances(Class)} for instances registered after
+   * creation of index.
+   */
+  @Test
+  public void testGetInstancesAfterIndexing() {
+    /*----- Preparation -----*/
+    InstanceRegistry registry = new InstanceRegistry();
+    registry.add("a");
+
+    /*----- Execution -----*/
+    List<Object> strings = registry.getInstances(CharSequence.class);
+    registry.add(Integer.valueOf(1));
+    registry.add("b");
+
+    /*----- Verify -----*/
+    Assert.assertEquals(Arrays.asList("a"), strings); // returned list is not affected
+    Assert.assertEquals(Arrays.asList("a", "b"), registry.getInstances(CharSequence.class));
+    Assert.assertEquals(Arrays.asList(Integer.valueOf(1)), registry.getInstances(int.class));
+  }
+
+  /**
+   * Test of method {@link InstanceRegistry#getSnapshot()} which checks that the snapshot is not
+   * affected by next changes of registry.
+   */
+  @Test
+  public void testGetSnapshot() {
+    /*----- Preparation -----*/
+    InstanceRegistry registry = new InstanceRegistry();
+    registry.add("a");
+    registry.add(Integer.valueOf(1));
+
+    /*----- Execution -----*/
+    PopulatingSession snapshot = registry.getSnapshot();
+    registry.add("b");
+    registry.clear();
+    registry.add("c");
+
+    /*----- Verify -----*/
+    Assert.assertEquals(Arrays.<Object>asList("a", Integer.valueOf(1)), snapshot.getPopulatedInstances());
+    Assert.assertEquals(Arrays.asList("a"), snapshot.getPopulatedInstances(String.class));
+    Assert.assertEquals(Arrays.asList("c"), registry.getInstances());
+  }
+
+  /**
+   * Test of reading of snapshot whose instances of given type were already indexed. The reading
+   * cannot wait for the lock of registry which is held by another thread.
+   */
+  @Test(timeout = 10000)
+  public void testGetSnapshotForLockedRegistry() throws InterruptedException {
+    /*----- Preparation -----*/
+    final InstanceRegistry registry = new InstanceRegistry(Arrays.<Object>asList("a", Integer.valueOf(1)));
+    PopulatingSession snapshot = registry.getSnapshot();
+    snapshot.getPopulatedInstances(String.class); // creates index
+    final CountDownLatch locked = new CountDownLatch(1);
+    final CountDownLatch finished = new CountDownLatch(1);
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        synchronized (registry) {
+          locked.countDown();
+          try {
+            finished.await();
+          }
+          catch (InterruptedException exc) {
+            // finishes
+          }
+        }
+      }
+    };
+    thread.start();
+    locked.await();
+
+    /*----- Execution & Verify -----*/
+    try {
+      Assert.assertEquals(Arrays.asList("a"), snapshot.getPopulatedInstances(String.class));
+      Assert.assertEquals(Arrays.<Object>asList("a", Integer.valueOf(1)), snapshot.getPopulatedInstances());
+    }
+    finally {
+      finished.countDown();
+      thread.join();
+    }
+  }
+
+  /**
+   * Test of reading of snapshot during concurrent adding of instances into registry (which causes
+   * growing of arrays of registry). The snapshot has to contain only the original instances.
+   */
+  @Test
+  public void testGetSnapshotForConcurrentAdding() throws InterruptedException {
+    /*----- Preparation -----*/
+    final InstanceRegistry registry = new InstanceRegistry(Arrays.<Object>asList("a", Integer.valueOf(1)));
+    PopulatingSession snapshot = registry.getSnapshot();
+    snapshot.getPopulatedInstances(Integer.class); // creates index
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        for (int i = 0; i < 100000; i++) {
+          registry.add(Integer.valueOf(i));
+        }
+      }
+    };
+
+    /*----- Execution & Verify -----*/
+    thread.start();
+    while (thread.isAlive()) {
+      Assert.assertEquals(Arrays.<Object>asList(Integer.valueOf(1)), snapshot.getPopulatedInstances(Integer.class));
+      Assert.assertEquals(2, snapshot.getPopulatedInstances().size());
+    }
+    thread.join();
+
+    Assert.assertEquals(100001, registry.getInstances(Integer.class).size());
+  }
+
+  /**
+   * Test of method {@link InstanceRegistry#removeOldest()} which checks that the removed instances
+   * are skipped by lists and indexes (even after compaction of registry) and that the snapshot is
+   * not affected.
+   */
+  @Test
+  public void testRemoveOldest() {
+    /*----- Preparation -----*/
+    InstanceRegistry registry = new InstanceRegistry();
+    registry.add("a");
+    registry.add(Integer.valueOf(1));
+    registry.add("b");
+    registry.add("c");
+    registry.getInstances(String.class); // creates index
+    PopulatingSession snapshot = registry.getSnapshot();
+
+    /*----- Execution -----*/
+    registry.removeOldest();
+    List<Object> strings = registry.getInstances(String.class);
+    registry.removeOldest();
+    registry.removeOldest(); // compacts registry
+    registry.add("d");
+
+    /*----- Verify -----*/
+    Assert.assertEquals(Arrays.asList("b", "c"), strings);
+    Assert.assertEquals(Arrays.asList("c", "d"), registry.getInstances());
+    Assert.assertEquals(Arrays.asList("c", "d"), registry.getInstances(String.class));
+    Assert.assertEquals(2, registry.size());
+    Assert.assertEquals(Arrays.asList("a", "b", "c"), snapshot.getPopulatedInstances(String.class));
+  }
+
+  /**
+   * Test of method {@link InstanceRegistry#removeOldest()} for empty registry. Expected exception
+   * {@link IllegalStateException}.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testRemoveOldestForEmptyRegistry() {
+    new InstanceRegistry().removeOldest();
+  }
+
+  /**
+   * Test of method {@link InstanceRegistry#getInstances(Class)} for registry created over snapshot
+   * of another registry.
+   */
+  @Test
+  public void testGetInstancesWithBase() {
+    /*----- Preparation -----*/
+    InstanceRegistry base = new InstanceRegistry(Arrays.<Object>asList("a", Integer.valueOf(1)));
+    InstanceRegistry registry = new InstanceRegistry(base.getSnapshot());
+    base.add("b");
+
+    /*----- Execution -----*/
+    registry.add("c");
+
+    /*----- Verify -----*/
+    Assert.assertEquals(Arrays.asList("a", "c"), registry.getInstances(String.class));
+    Assert.assertEquals(3, registry.size());
+  }
+
+  /**
+   * Test of method {@link InstanceRegistry#getInstances(Class)} which checks that the returned list
+   * is read-only. Expected exception {@link UnsupportedOperationException}.
+   */
+  @Test(expected = UnsupportedOperationException.class)
+  public void testGetInstancesIsReadOnly() {
+    /*----- Preparation -----*/
+    InstanceRegistry registry = new InstanceRegistry();
+
+    /*----- Execution & Verify -----*/
+    registry.getInstances(String.class).add("a");
+  }
+}
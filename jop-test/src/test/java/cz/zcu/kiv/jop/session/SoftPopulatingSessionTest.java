@@ -0,0 +1,67 @@
+package cz.zcu.kiv.jop.session;
+
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of session class {@link SoftPopulatingSession}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class SoftPopulatingSessionTest {
+
+  /**
+   * Test of method {@link SoftPopulatingSession#addPopulatedInstance} which stores soft references
+   * to instances.
+   */
+  @Test
+  public void testAddPopulatedInstance() {
+    /*----- Preparation -----*/
+    SoftPopulatingSession session = new SoftPopulatingSession();
+
+    /*----- Execution -----*/
+    session.addPopulatedInstance("a");
+    session.addPopulatedInstance("b");
+
+    /*----- Verify -----*/
+    Assert.assertEquals(2, session.references.size());
+    for (Reference<Object> reference : session.references) {
+      Assert.assertTrue(reference instanceof SoftReference);
+    }
+    Assert.assertEquals(Arrays.asList("a", "b"), session.getPopulatedInstances());
+  }
+
+  /**
+   * Test of eviction of instance whose reference was cleared (as by garbage collector when the
+   * memory is running low). The instance is removed from session and from its next snapshots and
+   * it's counted as evicted one.
+   */
+  @Test
+  public void testGetSnapshotAfterClearedReference() {
+    /*----- Preparation -----*/
+    SoftPopulatingSession session = new SoftPopulatingSession();
+    session.addPopulatedInstance("a");
+    session.addPopulatedInstance("b");
+    PopulatingSession snapshot = session.getSnapshot();
+
+    /*----- Execution -----*/
+    Reference<Object> reference = session.references.iterator().next();
+    reference.clear();
+    reference.enqueue();
+    PopulatingSession next = session.getSnapshot();
+
+    /*----- Verify -----*/
+    Assert.assertEquals(Arrays.asList("a", "b"), snapshot.getPopulatedInstances());
+    Assert.assertEquals(Arrays.asList("b"), next.getPopulatedInstances());
+    Assert.assertEquals(Arrays.asList("b"), next.getPopulatedInstances(String.class));
+    PopulatingSessionStatistics statistics = session.getStatistics();
+    Assert.assertEquals(1, statistics.getSize());
+    Assert.assertEquals(2, statistics.getAddedCount());
+    Assert.assertEquals(1, statistics.getEvictedCount());
+    Assert.assertEquals(2, statistics.getSnapshotCount());
+  }
+}
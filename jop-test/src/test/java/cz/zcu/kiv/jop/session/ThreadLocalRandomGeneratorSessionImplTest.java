@@ -0,0 +1,274 @@
+package cz.zcu.kiv.jop.session;
+
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import cz.zcu.kiv.jop.annotation.Foo;
+import cz.zcu.kiv.jop.annotation.FooImpl;
+import cz.zcu.kiv.jop.annotation.generator.bool.RandomBooleanImpl;
+import cz.zcu.kiv.jop.concurrent.WorkerPool;
+import cz.zcu.kiv.jop.random.RandomAlgorithm;
+
+/**
+ * Test of session class {@link ThreadLocalRandomGeneratorSessionImpl}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class ThreadLocalRandomGeneratorSessionImplTest {
+
+  /**
+   * Test of method {@link ThreadLocalRandomGeneratorSessionImpl#getRandomGenerator} which returns
+   * same random generator for same annotation type in the same thread.
+   */
+  @Test
+  public void testGetRandomGeneratorForSameThread() {
+    /*----- Preparation -----*/
+    ThreadLocalRandomGeneratorSessionImpl session = new ThreadLocalRandomGeneratorSessionImpl();
+
+    /*----- Execution & Verify -----*/
+    Random rand = session.getRandomGenerator(new FooImpl(0));
+    Assert.assertSame(rand, session.getRandomGenerator(new FooImpl(0)));
+    Assert.assertNotSame(rand, session.getRandomGenerator(new RandomBooleanImpl(0.5)));
+  }
+
+  /**
+   * Test of method {@link ThreadLocalRandomGeneratorSessionImpl#getRandomGenerator} which returns
+   * different random generators for different threads.
+   */
+  @Test
+  public void testGetRandomGeneratorForDifferentThreads() throws Exception {
+    /*----- Preparation -----*/
+    final ThreadLocalRandomGeneratorSessionImpl session = new ThreadLocalRandomGeneratorSessionImpl();
+    final Random[] other = new Random[1];
+
+    /*----- Execution -----*/
+    Random rand = session.getRandomGenerator(new FooImpl(0));
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        other[0] = session.getRandomGenerator(new FooImpl(0));
+      }
+    };
+    thread.start();
+    thread.join();
+
+    /*----- Verify -----*/
+    Assert.assertNotNull(other[0]);
+    Assert.assertNotSame(rand, other[0]);
+  }
+
+  /**
+   * Test of method {@link ThreadLocalRandomGeneratorSessionImpl#setWorkerPool} which registers
+   * release of stream of worker thread at the end of each task, so the next task executed by the
+   * same worker thread obtains new random generators.
+   */
+  @Test
+  public void testSetWorkerPool() throws Exception {
+    /*----- Preparation -----*/
+    final ThreadLocalRandomGeneratorSessionImpl session = new ThreadLocalRandomGeneratorSessionImpl();
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    WorkerPool workerPool = new WorkerPool();
+    workerPool.setExecutorService(executorService, 2);
+    Callable<Random> task = new Callable<Random>() {
+      public Random call() {
+        return session.getRandomGenerator(new FooImpl(0));
+      }
+    };
+
+    /*----- Execution -----*/
+    session.setWorkerPool(workerPool);
+    try {
+      Random rand1 = workerPool.submit(task).get();
+      Random rand2 = workerPool.submit(task).get();
+
+      /*----- Verify -----*/
+      Assert.assertNotSame(rand1, rand2);
+    }
+    finally {
+      executorService.shutdown();
+    }
+  }
+
+  /**
+   * Test of method {@link ThreadLocalRandomGeneratorSessionImpl#setRandomGenerator} which sets
+   * random generator shared by all threads.
+   */
+  @Test
+  public void testSetRandomGeneratorForAllThreads() throws Exception {
+    /*----- Preparation -----*/
+    final ThreadLocalRandomGeneratorSessionImpl session = new ThreadLocalRandomGeneratorSessionImpl();
+    final Random[] other = new Random[1];
+    Random random = new Random();
+
+    /*----- Execution -----*/
+    session.getRandomGenerator(new FooImpl(0)); // cached for current thread
+    session.setRandomGenerator(new FooImpl(0), random);
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        other[0] = session.getRandomGenerator(new FooImpl(0));
+      }
+    };
+    thread.start();
+    thread.join();
+
+    /*----- Verify -----*/
+    Assert.assertSame(random, session.getRandomGenerator(new FooImpl(0)));
+    Assert.assertSame(random, other[0]);
+  }
+
+  /**
+   * Test of method {@link ThreadLocalRandomGeneratorSessionImpl#getRandomGenerator} after change of
+   * random generator for another annotation type. The random generator of current thread has to
+   * continue in its sequence (it cannot be replaced by new one which would replay the sequence).
+   */
+  @Test
+  public void testGetRandomGeneratorAfterChangeOfOtherType() {
+    /*----- Preparation -----*/
+    ThreadLocalRandomGeneratorSessionImpl session = new ThreadLocalRandomGeneratorSessionImpl(42L);
+
+    /*----- Execution -----*/
+    Random rand = session.getRandomGenerator(new RandomBooleanImpl(0.5));
+    long value1 = rand.nextLong();
+    session.setRandomGenerator(new FooImpl(0), new Random(1));
+    session.setRandomAlgorithm(Foo.class, RandomAlgorithm.XOROSHIRO_128_PLUS_PLUS);
+    session.clear();
+    long value2 = session.getRandomGenerator(new RandomBooleanImpl(0.5)).nextLong();
+
+    /*----- Verify -----*/
+    Assert.assertSame(rand, session.getRandomGenerator(new RandomBooleanImpl(0.5)));
+    Assert.assertTrue(value1 != value2);
+  }
+
+  /**
+   * Test of method {@link ThreadLocalRandomGeneratorSessionImpl#getRandomGenerator} after the
+   * shared random generator was set and removed. The new random generator of current thread cannot
+   * replay the sequence of the previous one.
+   */
+  @Test
+  public void testGetRandomGeneratorAfterRemovalOfShared() {
+    /*----- Preparation -----*/
+    ThreadLocalRandomGeneratorSessionImpl session = new ThreadLocalRandomGeneratorSessionImpl(42L);
+
+    /*----- Execution -----*/
+    Random rand = session.getRandomGenerator(new FooImpl(0));
+    long value1 = rand.nextLong();
+    session.setRandomGenerator(new FooImpl(0), new Random(1));
+    session.getRandomGenerator(new FooImpl(0));
+    session.setRandomGenerator(new FooImpl(0), null);
+    Random newRand = session.getRandomGenerator(new FooImpl(0));
+
+    /*----- Verify -----*/
+    Assert.assertNotSame(rand, newRand);
+    Assert.assertTrue(value1 != newRand.nextLong());
+  }
+
+  /**
+   * Test of method {@link ThreadLocalRandomGeneratorSessionImpl#getRandomGenerator} which returns
+   * reproducible random generators for sessions with same seed.
+   */
+  @Test
+  public void testGetRandomGeneratorForSameSeed() {
+    /*----- Preparation -----*/
+    ThreadLocalRandomGeneratorSessionImpl session1 = new ThreadLocalRandomGeneratorSessionImpl(42L);
+    ThreadLocalRandomGeneratorSessionImpl session2 = new ThreadLocalRandomGeneratorSessionImpl(42L);
+
+    /*----- Execution & Verify -----*/
+    Random rand1 = session1.getRandomGenerator(new FooImpl(0));
+    Random rand2 = session2.getRandomGenerator(new FooImpl(0));
+    for (int i = 0; i < 10; i++) {
+      Assert.assertEquals(rand1.nextLong(), rand2.nextLong());
+    }
+  }
+
+  /**
+   * Test of method {@link ThreadLocalRandomGeneratorSessionImpl#beginStream} which switches random
+   * generators to the seeded stream which doesn't depend on the session and on the thread.
+   */
+  @Test
+  public void testBeginStream() throws Exception {
+    /*----- Preparation -----*/
+    final ThreadLocalRandomGeneratorSessionImpl session = new ThreadLocalRandomGeneratorSessionImpl();
+    final long[] other = new long[1];
+
+    /*----- Execution -----*/
+    Random rand = session.getRandomGenerator(new FooImpl(0));
+    session.beginStream(42L, 7L);
+    long value = session.getRandomGenerator(new FooImpl(0)).nextLong();
+    session.endStream();
+
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        ThreadLocalRandomGeneratorSessionImpl otherSession = new ThreadLocalRandomGeneratorSessionImpl();
+        otherSession.getRandomGenerator(new FooImpl(0)).nextLong(); // doesn't affect the stream
+        otherSession.beginStream(42L, 7L);
+        other[0] = otherSession.getRandomGenerator(new FooImpl(0)).nextLong();
+        otherSession.endStream();
+      }
+    };
+    thread.start();
+    thread.join();
+
+    /*----- Verify -----*/
+    Assert.assertEquals(value, other[0]);
+    Assert.assertSame(rand, session.getRandomGenerator(new FooImpl(0)));
+  }
+
+  /**
+   * Test of method {@link ThreadLocalRandomGeneratorSessionImpl#beginStream} which creates new
+   * random generators for each stream.
+   */
+  @Test
+  public void testBeginStreamForDifferentStreams() {
+    /*----- Preparation -----*/
+    ThreadLocalRandomGeneratorSessionImpl session = new ThreadLocalRandomGeneratorSessionImpl();
+
+    /*----- Execution -----*/
+    session.beginStream(42L, 0L);
+    long value1 = session.getRandomGenerator(new FooImpl(0)).nextLong();
+    session.beginStream(42L, 1L);
+    long value2 = session.getRandomGenerator(new FooImpl(0)).nextLong();
+    session.beginStream(42L, 0L);
+    long value3 = session.getRandomGenerator(new FooImpl(0)).nextLong();
+    session.endStream();
+
+    /*----- Verify -----*/
+    Assert.assertTrue(value1 != value2);
+    Assert.assertEquals(value1, value3);
+  }
+
+  /**
+   * Test of method {@link ThreadLocalRandomGeneratorSessionImpl#isStreamActive} which has to return
+   * information whether the current thread generates values in seeded stream.
+   */
+  @Test
+  public void testIsStreamActive() throws InterruptedException {
+    /*----- Preparation -----*/
+    final ThreadLocalRandomGeneratorSessionImpl session = new ThreadLocalRandomGeneratorSessionImpl();
+    final boolean[] otherThread = new boolean[1];
+
+    /*----- Execution & Verify -----*/
+    Assert.assertFalse(session.isStreamActive());
+    session.beginStream(42L, 0L);
+    Assert.assertTrue(session.isStreamActive());
+
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        otherThread[0] = session.isStreamActive();
+      }
+    };
+    thread.start();
+    thread.join();
+    Assert.assertFalse(otherThread[0]);
+
+    session.endStream();
+    Assert.assertFalse(session.isStreamActive());
+  }
+}
@@ -0,0 +1,55 @@
+package cz.zcu.kiv.jop.session;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of session class {@link TransientPopulatingSession}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class TransientPopulatingSessionTest {
+
+  /**
+   * Test of method {@link TransientPopulatingSession#addPopulatedInstance} which discards the added
+   * instances.
+   */
+  @Test
+  public void testAddPopulatedInstance() {
+    /*----- Preparation -----*/
+    TransientPopulatingSession session = new TransientPopulatingSession();
+
+    /*----- Execution -----*/
+    session.addPopulatedInstance("a");
+
+    /*----- Verify -----*/
+    Assert.assertTrue(session.getPopulatedInstances().isEmpty());
+    Assert.assertTrue(session.getPopulatedInstances(String.class).isEmpty());
+    Assert.assertTrue(session.getSnapshot().getPopulatedInstances().isEmpty());
+  }
+
+  /**
+   * Test of methods of {@link TransientPopulatingSession} with backing session whose instances are
+   * visible but which is not changed by the session.
+   */
+  @Test
+  public void testGetPopulatedInstancesWithBackingSession() {
+    /*----- Preparation -----*/
+    GlobalPopulatingSession backingSession = new GlobalPopulatingSession();
+    backingSession.addPopulatedInstance("a");
+    backingSession.addPopulatedInstance(Integer.valueOf(1));
+    TransientPopulatingSession session = new TransientPopulatingSession(backingSession.getSnapshot());
+
+    /*----- Execution -----*/
+    session.addPopulatedInstance("b");
+    session.clear();
+
+    /*----- Verify -----*/
+    Assert.assertEquals(Arrays.<Object>asList("a", Integer.valueOf(1)), session.getPopulatedInstances());
+    Assert.assertEquals(Arrays.asList("a"), session.getPopulatedInstances(String.class));
+    Assert.assertEquals(Arrays.asList("a"), session.getSnapshot().getPopulatedInstances(String.class));
+    Assert.assertEquals(2, backingSession.getPopulatedInstances().size());
+  }
+}
@@ -0,0 +1,148 @@
+package cz.zcu.kiv.jop.session;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of session class {@link WeakPopulatingSession}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class WeakPopulatingSessionTest {
+
+  /** Maximal number of attempts to reclaim instances by garbage collector. */
+  private static final int GC_ATTEMPTS = 100;
+
+  /**
+   * Runs garbage collector until the given number of instances is evicted from session (or until
+   * the maximal number of attempts is reached).
+   *
+   * @param session the session whose instances should be reclaimed.
+   * @param evictedCount the expected number of evicted instances.
+   */
+  private static void collectGarbage(WeakPopulatingSession session, long evictedCount) throws InterruptedException {
+    for (int i = 0; i < GC_ATTEMPTS && session.getStatistics().getEvictedCount() < evictedCount; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+  }
+
+  /**
+   * Test of method {@link WeakPopulatingSession#addPopulatedInstance} for <code>null</code>
+   * instance which is ignored.
+   */
+  @Test
+  public void testAddPopulatedInstanceForNull() {
+    /*----- Preparation -----*/
+    WeakPopulatingSession session = new WeakPopulatingSession();
+
+    /*----- Execution -----*/
+    session.addPopulatedInstance(null);
+
+    /*----- Verify -----*/
+    Assert.assertTrue(session.getPopulatedInstances().isEmpty());
+    Assert.assertEquals(0, session.getStatistics().getAddedCount());
+  }
+
+  /**
+   * Test of method {@link WeakPopulatingSession#getPopulatedInstances()} after reclaiming of
+   * instance by garbage collector. The reclaimed instance is removed from session and it's counted
+   * as evicted one.
+   */
+  @Test
+  public void testGetPopulatedInstancesAfterGarbageCollection() throws InterruptedException {
+    /*----- Preparation -----*/
+    WeakPopulatingSession session = new WeakPopulatingSession();
+    Object instance = new Object();
+    session.addPopulatedInstance(instance);
+    session.addPopulatedInstance(new Object());
+
+    /*----- Execution -----*/
+    collectGarbage(session, 1);
+
+    /*----- Verify -----*/
+    Assert.assertEquals(Arrays.asList(instance), session.getPopulatedInstances());
+    PopulatingSessionStatistics statistics = session.getStatistics();
+    Assert.assertEquals(1, statistics.getSize());
+    Assert.assertEquals(2, statistics.getAddedCount());
+    Assert.assertEquals(1, statistics.getEvictedCount());
+  }
+
+  /**
+   * Test of method {@link WeakPopulatingSession#getSnapshot()}. The snapshot keeps strong
+   * references to instances, so they cannot be reclaimed while the snapshot is used. The snapshot
+   * created after reclaiming of instances contains only the remaining instances.
+   */
+  @Test
+  public void testGetSnapshotAfterGarbageCollection() throws InterruptedException {
+    /*----- Preparation -----*/
+    WeakPopulatingSession session = new WeakPopulatingSession();
+    Object instance = new Object();
+    session.addPopulatedInstance(instance);
+    session.addPopulatedInstance(new Object());
+    PopulatingSession snapshot = session.getSnapshot();
+
+    /*----- Execution & Verify -----*/
+    collectGarbage(session, 1);
+    Assert.assertEquals(0, session.getStatistics().getEvictedCount());
+    Assert.assertEquals(2, snapshot.getPopulatedInstances(Object.class).size());
+
+    snapshot = null; // releases strong references
+    collectGarbage(session, 1);
+
+    snapshot = session.getSnapshot();
+    Assert.assertEquals(Arrays.asList(instance), snapshot.getPopulatedInstances());
+    Assert.assertEquals(Arrays.asList(instance), snapshot.getPopulatedInstances(Object.class));
+    PopulatingSessionStatistics statistics = session.getStatistics();
+    Assert.assertEquals(1, statistics.getEvictedCount());
+    Assert.assertEquals(2, statistics.getSnapshotCount());
+  }
+
+  /**
+   * Test of statistics of searches in snapshots of session.
+   */
+  @Test
+  public void testGetStatistics() {
+    /*----- Preparation -----*/
+    WeakPopulatingSession session = new WeakPopulatingSession();
+    String instance = "a";
+    session.addPopulatedInstance(instance);
+
+    /*----- Execution -----*/
+    PopulatingSession snapshot = session.getSnapshot();
+    snapshot.getPopulatedInstances(String.class);
+    snapshot.getPopulatedInstances(Integer.class);
+    session.getSnapshot().getPopulatedInstances(String.class);
+
+    /*----- Verify -----*/
+    PopulatingSessionStatistics statistics = session.getStatistics();
+    Assert.assertEquals(1, statistics.getSize());
+    Assert.assertEquals(1, statistics.getAddedCount());
+    Assert.assertEquals(0, statistics.getEvictedCount());
+    Assert.assertEquals(2, statistics.getSnapshotCount()); // snapshots are not cached
+    Assert.assertEquals(3, statistics.getLookupCount());
+    Assert.assertEquals(2, statistics.getHitCount());
+  }
+
+  /**
+   * Test of method {@link WeakPopulatingSession#clear()}.
+   */
+  @Test
+  public void testClear() {
+    /*----- Preparation -----*/
+    WeakPopulatingSession session = new WeakPopulatingSession();
+    String instance = "a";
+    session.addPopulatedInstance(instance);
+    PopulatingSession snapshot = session.getSnapshot();
+
+    /*----- Execution -----*/
+    session.clear();
+
+    /*----- Verify -----*/
+    Assert.assertTrue(session.getPopulatedInstances().isEmpty());
+    Assert.assertTrue(session.getSnapshot().getPopulatedInstances(String.class).isEmpty());
+    Assert.assertEquals(Arrays.asList(instance), snapshot.getPopulatedInstances());
+  }
+}
@@ -204,6 +204,20 @@ public class AnnotationUtilsTest {
     Assert.assertArrayEquals(annotations, AnnotationUtils.getAnnotatedAnnotations(clazz, Marker.class));
   }
 
+  /**
+   * Test of method {@link AnnotationUtils#getAnnotatedAnnotations} for repeated calls. The returned
+   * arrays cannot be shared, so the modification of returned array cannot affect the next results.
+   */
+  @Test
+  public void testGetAnnotatedAnnotationsForRepeatedCalls() {
+    Class<?> clazz = getClass();
+    Annotation[] annotations = AnnotationUtils.getAnnotatedAnnotations(clazz, Marker.class);
+    annotations[0] = null;
+
+    Assert.assertArrayEquals(new Annotation[] {clazz.getAnnotation(Bar.class)}, AnnotationUtils.getAnnotatedAnnotations(clazz, Marker.class));
+    Assert.assertTrue(AnnotationUtils.isAnnotatedAnnotationPresent(clazz, Marker.class));
+  }
+
   // ---- Test of method getAnnotationProxy ------------------------------------
 
   @ComplexAnnotation
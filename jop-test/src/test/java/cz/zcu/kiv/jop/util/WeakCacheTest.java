@@ -0,0 +1,82 @@
+package cz.zcu.kiv.jop.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of class {@link WeakCache}.
+ *
+ * @author Mr.FrAnTA
+ */
+public class WeakCacheTest {
+
+  /** Maximal number of attempts to reclaim keys by garbage collector. */
+  private static final int GC_ATTEMPTS = 100;
+
+  /**
+   * Test of method {@link WeakCache#put} which has to keep the already cached value.
+   */
+  @Test
+  public void testPut() {
+    /*----- Preparation -----*/
+    WeakCache<Class<?>, String> cache = new WeakCache<Class<?>, String>();
+
+    /*----- Execution & Verify -----*/
+    Assert.assertNull(cache.get(String.class));
+    Assert.assertEquals("first", cache.put(String.class, "first"));
+    Assert.assertEquals("first", cache.put(String.class, "second"));
+    Assert.assertEquals("first", cache.get(String.class));
+    Assert.assertNull(cache.get(Integer.class));
+    Assert.assertEquals(1, cache.size());
+  }
+
+  /**
+   * Test of method {@link WeakCache#put} for <code>null</code> value. Expected exception
+   * {@link IllegalArgumentException}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testPutForNullValue() {
+    new WeakCache<Class<?>, String>().put(String.class, null);
+  }
+
+  /**
+   * Test of method {@link WeakCache#size} which has to decrease when the key is reclaimed by garbage
+   * collector.
+   */
+  @Test
+  public void testSizeForReclaimedKey() throws InterruptedException {
+    /*----- Preparation -----*/
+    WeakCache<Object, String> cache = new WeakCache<Object, String>();
+    Object key = new Object();
+    cache.put(key, "value");
+    cache.put(String.class, "value");
+
+    /*----- Execution -----*/
+    key = null;
+    for (int i = 0; i < GC_ATTEMPTS && cache.size() > 1; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    /*----- Verify -----*/
+    Assert.assertEquals(1, cache.size());
+    Assert.assertEquals("value", cache.get(String.class));
+  }
+
+  /**
+   * Test of method {@link WeakCache#clear} which removes all cached values.
+   */
+  @Test
+  public void testClear() {
+    /*----- Preparation -----*/
+    WeakCache<Class<?>, String> cache = new WeakCache<Class<?>, String>();
+    cache.put(String.class, "value");
+
+    /*----- Execution -----*/
+    cache.clear();
+
+    /*----- Verify -----*/
+    Assert.assertEquals(0, cache.size());
+    Assert.assertNull(cache.get(String.class));
+  }
+}